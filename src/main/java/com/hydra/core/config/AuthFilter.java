@@ -1,6 +1,11 @@
 package com.hydra.core.config;
 
+import com.hydra.core.exceptions.InvalidTokenException;
+import com.hydra.core.security.AuthenticatedToken;
 import com.hydra.core.security.JwtService;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TokenRevocationList;
 import com.hydra.core.utils.ValidationUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -21,6 +28,8 @@ import java.util.List;
 public class AuthFilter extends OncePerRequestFilter {
 
 	private final JwtService jwtService;
+	private final MembershipVersions membershipVersions;
+	private final TokenRevocationList revocationList;
 
 	@Value("${public.token}")
 	private String publicToken;
@@ -42,12 +51,36 @@ public class AuthFilter extends OncePerRequestFilter {
 
 		String token = authorizationHeader.substring(7).trim();
 
-		if (ValidationUtils.notEmpty(token) && jwtService.validateToken(token)) {
-			jwtService.parseTokenToUser(token);
-			filterChain.doFilter(request, response);
-		} else {
+		AuthenticatedToken authenticated;
+		try {
+			authenticated = jwtService.authenticate(token);
+		} catch (InvalidTokenException _) {
+			response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+			return;
+		}
+
+		// Revogação checada em memória (filtro + conjunto exato), sem ir ao banco
+		if (revocationList.isRevoked(authenticated.tokenId())) {
+			response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+			return;
+		}
+
+		// Papéis do token só valem se os vínculos do usuário não mudaram desde a emissão; o cliente renova o token
+		TeamAccess teamAccess = authenticated.teamAccess();
+		if (!membershipVersions.isCurrent(teamAccess.userId(), teamAccess.membershipVersion())) {
+			response.setHeader("WWW-Authenticate",
+					"Bearer error=\"invalid_token\", error_description=\"membership_changed\"");
 			response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+			return;
 		}
+
+		// Token verificado uma única vez; controllers recebem o usuário e os papéis via @AuthenticatedUser
+		UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+				authenticated.user(), null, List.of());
+		authentication.setDetails(teamAccess);
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+
+		filterChain.doFilter(request, response);
 	}
 
 	@Override
@@ -58,6 +91,8 @@ public class AuthFilter extends OncePerRequestFilter {
 		publicPaths.add("/actuator/health");
 		publicPaths.add("/auth/login");
 		publicPaths.add("/auth/register");
+		publicPaths.add("/auth/refresh");
+		publicPaths.add("/auth/availability");
 
 		if (publicPaths.contains(path))
 			return true;
@@ -46,7 +46,9 @@ public class SecurityConfig {
 		configuration.setAllowedOriginPatterns(List.of("*"));
 		configuration.setAllowedMethods(Arrays.asList("HEAD", "GET", "POST", "PUT", "DELETE", "PATCH"));
 		configuration.setAllowCredentials(false);
-		configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type", "Accept"));
+		configuration.setAllowedHeaders(
+				Arrays.asList("Authorization", "Cache-Control", "Content-Type", "Accept", "If-None-Match"));
+		configuration.setExposedHeaders(List.of("ETag", "Content-Disposition"));
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", configuration);
 		return source;
@@ -0,0 +1,44 @@
+package com.hydra.core.config;
+
+import com.hydra.core.security.AuthenticatedUserArgumentResolver;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+	private final AuthenticatedUserArgumentResolver authenticatedUserArgumentResolver;
+	private final EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Open-in-view fora de /auth: nessas rotas o EntityManager da requisição seguraria a conexão do primeiro SELECT até
+	 * o fim da resposta, inclusive durante a espera pelo BCrypt. Nas demais continua como o padrão do Spring Boot
+	 * ({@code spring.jpa.open-in-view=false} desliga só o registro automático).
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+		interceptor.setEntityManagerFactory(entityManagerFactory);
+		registry.addWebRequestInterceptor(interceptor).excludePathPatterns("/auth/**");
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(authenticatedUserArgumentResolver);
+	}
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.addFirst(new WorkoutJsonResponseConverter());
+	}
+
+}
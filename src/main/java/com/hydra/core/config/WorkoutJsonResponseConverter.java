@@ -0,0 +1,48 @@
+package com.hydra.core.config;
+
+import com.hydra.core.models.WorkoutJsonResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Escreve um {@link WorkoutJsonResponse} copiando o JSON já codificado dos treinos direto para a resposta, sem passar
+ * pelo Jackson. Só escrita.
+ */
+public class WorkoutJsonResponseConverter extends AbstractHttpMessageConverter<WorkoutJsonResponse> {
+
+	public WorkoutJsonResponseConverter() {
+		super(MediaType.APPLICATION_JSON);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return WorkoutJsonResponse.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected WorkoutJsonResponse readInternal(Class<? extends WorkoutJsonResponse> clazz,
+			HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("WorkoutJsonResponse é só de escrita", inputMessage);
+	}
+
+	@Override
+	protected Long getContentLength(WorkoutJsonResponse response, MediaType contentType) {
+		return response.contentLength();
+	}
+
+	@Override
+	protected void writeInternal(WorkoutJsonResponse response, HttpOutputMessage outputMessage) throws IOException {
+		response.writeTo(outputMessage.getBody());
+	}
+
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,4 +23,11 @@ public class AdminController {
 		return adminService.getAllUsers();
 	}
 
+	// Backfill/correção dos rollups de carga; responde quando todos os times terminarem
+	@PostMapping("training-load/rebuild")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ResponseDto> rebuildTrainingLoad() {
+		return adminService.rebuildTrainingLoad();
+	}
+
 }
\ No newline at end of file
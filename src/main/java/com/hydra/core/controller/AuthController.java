@@ -1,16 +1,18 @@
 package com.hydra.core.controller;
 
 import com.hydra.core.dtos.LoginDto;
+import com.hydra.core.dtos.RefreshTokenDto;
 import com.hydra.core.dtos.ResponseDto;
 import com.hydra.core.dtos.UserDto;
+import com.hydra.core.security.AuthenticatedUser;
+import com.hydra.core.security.LoginRateLimiter;
 import com.hydra.core.service.AuthService;
+import com.hydra.core.service.IdentityAvailabilityService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +20,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
 	private final AuthService userService;
+	private final IdentityAvailabilityService identityAvailabilityService;
+	private final LoginRateLimiter loginRateLimiter;
 
 	@PostMapping("register")
 	public ResponseEntity<ResponseDto> registerUser(@Valid @RequestBody UserDto userDto) {
@@ -25,8 +29,33 @@ public class AuthController {
 	}
 
 	@PostMapping("login")
-	public ResponseEntity<ResponseDto> loginUser(@RequestBody LoginDto userDto) {
-		return userService.loginUser(userDto);
+	public ResponseEntity<ResponseDto> loginUser(@RequestBody LoginDto userDto, HttpServletRequest request) {
+		// Barra excesso de tentativas antes de consultar o banco e comparar o hash. Atrás do balanceador, o remoteAddr já é
+		// o IP do cliente, resolvido pelo RemoteIpValve (server.forward-headers-strategy)
+		loginRateLimiter.acquire(userDto.login(), request.getRemoteAddr());
+		ResponseEntity<ResponseDto> response = userService.loginUser(userDto);
+
+		// Só falhas contam para o limite da conta
+		if (response.getStatusCode().is2xxSuccessful())
+			loginRateLimiter.loginSucceeded(userDto.login());
+		return response;
+	}
+
+	@PostMapping("refresh")
+	public ResponseEntity<ResponseDto> refreshToken(@RequestBody RefreshTokenDto dto) {
+		return userService.refreshToken(dto);
+	}
+
+	@PostMapping("logout")
+	public ResponseEntity<ResponseDto> logout(@AuthenticatedUser UserDto user,
+			@RequestBody(required = false) RefreshTokenDto dto) {
+		return userService.logout(user.token(), dto);
+	}
+
+	@GetMapping("availability")
+	public ResponseEntity<ResponseDto> checkAvailability(@RequestParam(required = false) String email,
+			@RequestParam(required = false) String username) {
+		return identityAvailabilityService.checkAvailability(email, username);
 	}
 
 }
\ No newline at end of file
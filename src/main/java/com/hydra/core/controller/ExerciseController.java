@@ -5,7 +5,7 @@ import com.hydra.core.dtos.ExerciseDto;
 import com.hydra.core.dtos.ResponseDto;
 import com.hydra.core.dtos.UserDto;
 import com.hydra.core.enums.MuscleGroup;
-import com.hydra.core.security.JwtService;
+import com.hydra.core.security.AuthenticatedUser;
 import com.hydra.core.service.ExerciseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,15 +21,11 @@ public class ExerciseController {
 	private static final String EXERCISES_FOUND_MESSAGE = "Exercícios encontrados com sucesso";
 
 	private final ExerciseService exerciseService;
-	private final JwtService jwtService;
 
 	@GetMapping
 	public ResponseEntity<ResponseDto> searchExercises(@RequestParam(required = false) String query,
 			@RequestParam(required = false) MuscleGroup muscleGroup,
-			@RequestHeader("Authorization") String authorization) {
-
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
+			@AuthenticatedUser UserDto user) {
 
 		List<ExerciseDto> exercises = exerciseService.searchExercises(query, muscleGroup, user.id());
 
@@ -39,10 +35,7 @@ public class ExerciseController {
 
 	@PostMapping
 	public ResponseEntity<ResponseDto> createCustomExercise(@RequestBody CreateExerciseDto dto,
-			@RequestHeader("Authorization") String authorization) {
-
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
+			@AuthenticatedUser UserDto user) {
 
 		ExerciseDto exercise = exerciseService.createCustomExercise(dto, user.id());
 
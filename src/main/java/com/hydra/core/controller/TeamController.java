@@ -3,11 +3,17 @@ package com.hydra.core.controller;
 import com.hydra.core.dtos.CreateTeamDto;
 import com.hydra.core.dtos.ResponseDto;
 import com.hydra.core.dtos.TeamInviteRequestDto;
+import com.hydra.core.dtos.UserDto;
+import com.hydra.core.security.AuthenticatedUser;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.security.TeamAccess;
 import com.hydra.core.service.InviteService;
 import com.hydra.core.service.TeamService;
+import com.hydra.core.service.TeamVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
 
@@ -18,46 +24,56 @@ public class TeamController {
 
 	private final InviteService inviteService;
 	private final TeamService teamService;
+	private final TeamVersions teamVersions;
 
 	@PostMapping("create")
-	public ResponseEntity<ResponseDto> createTeam(@RequestHeader("Authorization") String authorization,
+	public ResponseEntity<ResponseDto> createTeam(@AuthenticatedUser UserDto user,
 			@RequestBody CreateTeamDto dto) {
-		return teamService.createTeam(authorization, dto);
+		return teamService.createTeam(user.id(), dto);
 	}
 
 	@GetMapping("{teamId}/users")
-	public ResponseEntity<ResponseDto> getTeamUsers(@RequestHeader("Authorization") String authorization,
-			@PathVariable String teamId) {
-		return teamService.getTeamUsers(authorization, teamId);
+	public ResponseEntity<ResponseDto> getTeamUsers(@AuthenticatedUser TeamAccess access,
+			@PathVariable String teamId, WebRequest request) {
+		// 304 lendo só a versão do time; quem não é membro segue para o serviço e recebe o erro de sempre
+		if (access.isMember(teamId) && request.checkNotModified(teamVersions.eTag(teamId)))
+			return null;
+
+		return teamService.getTeamUsers(access, teamId);
 	}
 
 	@GetMapping("/{teamId}")
-	public ResponseEntity<ResponseDto> getTeamDetails(@RequestHeader("Authorization") String authorization,
-			@PathVariable String teamId) {
-		return teamService.getTeamDetails(authorization, teamId);
+	public ResponseEntity<ResponseDto> getTeamDetails(@AuthenticatedUser TeamAccess access,
+			@PathVariable String teamId, WebRequest request) {
+		// Os detalhes trazem o papel de quem pede, então ele também entra na ETag
+		TeamRole role = access.roleIn(teamId);
+		if (role != null && request.checkNotModified(teamVersions.eTag(teamId, role.name())))
+			return null;
+
+		return teamService.getTeamDetails(access, teamId);
 	}
 
 	@GetMapping("main")
-	public ResponseEntity<ResponseDto> getMainTeamOfUser(@RequestHeader("Authorization") String authorization) {
-		return teamService.getMainTeamOfUser(authorization);
+	public ResponseEntity<ResponseDto> getMainTeamOfUser(@AuthenticatedUser UserDto user) {
+		return teamService.getMainTeamOfUser(user.id());
 	}
 
 	@PostMapping("{teamId}/invite")
-	public ResponseEntity<ResponseDto> generateInviteToken(@RequestHeader("Authorization") String authorization,
+	public ResponseEntity<ResponseDto> generateInviteToken(@AuthenticatedUser UserDto user,
 			@PathVariable String teamId, @RequestBody TeamInviteRequestDto request) {
-		return inviteService.createInviteToken(authorization, teamId, request);
+		return inviteService.createInviteToken(user.id(), teamId, request);
 	}
 
 	@PostMapping("invite/accept/{inviteToken}")
-	public ResponseEntity<ResponseDto> acceptInviteToken(@RequestHeader("Authorization") String authorization,
+	public ResponseEntity<ResponseDto> acceptInviteToken(@AuthenticatedUser UserDto user,
 			@PathVariable String inviteToken) {
-		return inviteService.acceptInviteToken(authorization, inviteToken);
+		return inviteService.acceptInviteToken(user.id(), inviteToken);
 	}
 
 	@PostMapping("invite/send-email/{inviteToken}")
-	public ResponseEntity<ResponseDto> sendInviteTokenByEmail(@RequestHeader("Authorization") String authorization,
+	public ResponseEntity<ResponseDto> sendInviteTokenByEmail(@AuthenticatedUser UserDto user,
 			@PathVariable String inviteToken) throws IOException {
-		return inviteService.sendInviteTokenByEmail(authorization, inviteToken);
+		return inviteService.sendInviteTokenByEmail(user.id(), inviteToken);
 	}
 
 }
\ No newline at end of file
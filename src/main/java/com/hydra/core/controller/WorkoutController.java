@@ -1,12 +1,36 @@
 package com.hydra.core.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.hydra.core.dtos.*;
-import com.hydra.core.security.JwtService;
+import com.hydra.core.enums.WorkoutExportFormat;
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.models.CachedWorkoutJson;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.models.WorkoutJsonPage;
+import com.hydra.core.models.WorkoutJsonResponse;
+import com.hydra.core.models.WorkoutQuery;
+import com.hydra.core.security.AuthenticatedUser;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.service.TeamVersions;
+import com.hydra.core.service.TrainingLoadService;
+import com.hydra.core.service.WorkoutBulkService;
+import com.hydra.core.service.WorkoutExportService;
 import com.hydra.core.service.WorkoutService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -14,17 +38,19 @@ import java.util.List;
 @RequestMapping("/api/workouts")
 public class WorkoutController {
 
+	private static final String TEAM_WORKOUTS_FOUND_MESSAGE = "Treinos do time encontrados com sucesso!";
+
 	private final WorkoutService workoutService;
-	private final JwtService jwtService;
+	private final WorkoutBulkService workoutBulkService;
+	private final TeamVersions teamVersions;
+	private final TrainingLoadService trainingLoadService;
+	private final WorkoutExportService workoutExportService;
 
 	@PostMapping("/weightlifting")
 	public ResponseEntity<ResponseDto> createWeightliftingWorkout(@RequestBody CreateWeightliftingWorkoutDto dto,
-			@RequestHeader("Authorization") String authorization) {
-
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
+			@AuthenticatedUser TeamAccess access) {
 
-		WorkoutDto workout = workoutService.createWeightliftingWorkout(dto, user.id());
+		WorkoutDto workout = workoutService.createWeightliftingWorkout(dto, access);
 
 		ResponseDto response = new ResponseDto("Treino de musculação criado com sucesso!", workout);
 		return ResponseEntity.ok(response);
@@ -32,12 +58,9 @@ public class WorkoutController {
 
 	@PostMapping("/running")
 	public ResponseEntity<ResponseDto> createRunningWorkout(@RequestBody CreateRunningWorkoutDto dto,
-			@RequestHeader("Authorization") String authorization) {
+			@AuthenticatedUser TeamAccess access) {
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
-
-		WorkoutDto workout = workoutService.createRunningWorkout(dto, user.id());
+		WorkoutDto workout = workoutService.createRunningWorkout(dto, access);
 
 		ResponseDto response = new ResponseDto("Treino de corrida criado com sucesso!", workout);
 		return ResponseEntity.ok(response);
@@ -45,47 +68,138 @@ public class WorkoutController {
 
 	@PostMapping("/swimming")
 	public ResponseEntity<ResponseDto> createSwimmingWorkout(@RequestBody CreateSwimmingWorkoutDto dto,
-			@RequestHeader("Authorization") String authorization) {
-
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
+			@AuthenticatedUser TeamAccess access) {
 
-		WorkoutDto workout = workoutService.createSwimmingWorkout(dto, user.id());
+		WorkoutDto workout = workoutService.createSwimmingWorkout(dto, access);
 
 		ResponseDto response = new ResponseDto("Treino de natação criado com sucesso!", workout);
 		return ResponseEntity.ok(response);
 	}
 
+	// Corpo lido direto do stream, item a item, em vez de desserializar a lista inteira com @RequestBody
+	@PostMapping(value = "/team/{teamId}/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ResponseDto> createWorkoutsInBulk(@PathVariable String teamId, HttpServletRequest request,
+			@AuthenticatedUser TeamAccess access) throws IOException {
+
+		List<BulkWorkoutResultDto> results = workoutBulkService.createWorkouts(teamId, request.getInputStream(),
+				access);
+
+		ResponseDto response = new ResponseDto("Lote de treinos processado!", results);
+		return ResponseEntity.ok(response);
+	}
+
+	@PostMapping("/team/{teamId}/clone")
+	public ResponseEntity<ResponseDto> cloneWorkouts(@PathVariable String teamId, @RequestBody CloneWorkoutsDto dto,
+			@AuthenticatedUser TeamAccess access) {
+
+		List<ClonedWorkoutDto> clones = workoutService.cloneWorkouts(teamId, dto, access);
+
+		ResponseDto response = new ResponseDto("Treinos copiados com sucesso!", clones);
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/team/{teamId}")
-	public ResponseEntity<ResponseDto> getTeamWorkouts(@PathVariable String teamId) {
+	public ResponseEntity<?> getTeamWorkouts(@PathVariable String teamId,
+			@RequestParam(required = false) WorkoutModality modality,
+			@RequestParam(required = false) WorkoutIntensity intensity,
+			@RequestParam(required = false) String createdBy,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit,
+			@RequestParam(defaultValue = "full") String view, @AuthenticatedUser TeamAccess access,
+			WebRequest request) {
+
+		// Filtros e cursor fazem parte da URL, então a versão do time basta como ETag; 304 lendo só a versão do time
+		if (access.isMember(teamId) && request.checkNotModified(teamVersions.eTag(teamId)))
+			return null;
+
+		WorkoutQuery query = new WorkoutQuery(teamId, modality, intensity, createdBy, from, to,
+				cursor != null ? WorkoutCursor.decode(cursor) : null, limit);
+
+		// view=summary: só os campos das telas de lista, a quantidade de itens e as métricas de cada treino
+		if ("summary".equalsIgnoreCase(view)) {
+			WorkoutPageDto<WorkoutSummaryDto> page = workoutService.getTeamWorkoutSummaries(query, access);
+			return ResponseEntity.ok(new ResponseDto(TEAM_WORKOUTS_FOUND_MESSAGE, page));
+		}
+
+		// Treinos completos saem do cache de JSON, escritos pelo WorkoutJsonResponseConverter
+		WorkoutJsonPage page = workoutService.getTeamWorkoutsJson(query, access);
+		return ResponseEntity.ok(WorkoutJsonResponse.page(TEAM_WORKOUTS_FOUND_MESSAGE, page));
+	}
+
+	/**
+	 * Todos os treinos do time (com os mesmos filtros da listagem) num arquivo NDJSON ou CSV, escrito enquanto é lido
+	 * do banco.
+	 */
+	@GetMapping("/team/{teamId}/export")
+	public ResponseEntity<StreamingResponseBody> exportTeamWorkouts(@PathVariable String teamId,
+			@RequestParam(required = false) WorkoutModality modality,
+			@RequestParam(required = false) WorkoutIntensity intensity,
+			@RequestParam(required = false) String createdBy,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(defaultValue = "NDJSON") WorkoutExportFormat format,
+			@AuthenticatedUser TeamAccess access) {
+
+		WorkoutQuery query = new WorkoutQuery(teamId, modality, intensity, createdBy, from, to, null, 0);
+		StreamingResponseBody body = workoutExportService.exportTeamWorkouts(query, format, access);
+
+		ContentDisposition attachment = ContentDisposition.attachment()
+														  .filename("treinos-" + teamId + "." + format.getExtension())
+														  .build();
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+							 .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString()).body(body);
+	}
+
+	// month no formato yyyy-MM
+	@GetMapping("/team/{teamId}/calendar")
+	public ResponseEntity<ResponseDto> getTeamCalendar(@PathVariable String teamId, @RequestParam YearMonth month,
+			@AuthenticatedUser TeamAccess access) {
 
-		List<WorkoutDto> workouts = workoutService.getTeamWorkouts(teamId);
+		WorkoutCalendarDto calendar = workoutService.getTeamCalendar(teamId, month, access);
 
-		ResponseDto response = new ResponseDto("Treinos do time encontrados com sucesso!", workouts);
+		ResponseDto response = new ResponseDto("Calendário do time recuperado com sucesso!", calendar);
+		return ResponseEntity.ok(response);
+	}
+
+	// Datas em qualquer dia da semana; a resposta vai da semana de from até a de to
+	@GetMapping("/team/{teamId}/load")
+	public ResponseEntity<ResponseDto> getTeamTrainingLoad(@PathVariable String teamId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@AuthenticatedUser TeamAccess access) {
+
+		TrainingLoadDto load = trainingLoadService.getTeamLoad(teamId, from, to, access);
+
+		ResponseDto response = new ResponseDto("Carga de treino do time recuperada com sucesso!", load);
 		return ResponseEntity.ok(response);
 	}
 
 	@GetMapping("/{workoutId}")
-	public ResponseEntity<ResponseDto> getWorkout(@PathVariable String workoutId,
-			@RequestHeader("Authorization") String authorization) {
+	public ResponseEntity<WorkoutJsonResponse> getWorkout(@PathVariable String workoutId,
+			@AuthenticatedUser TeamAccess access) {
+
+		CachedWorkoutJson workout = workoutService.getWorkoutJson(workoutId, access);
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
+		return ResponseEntity.ok(WorkoutJsonResponse.single("Treino encontrado com sucesso!", workout));
+	}
+
+	@PatchMapping(value = "/{workoutId}", consumes = { "application/merge-patch+json",
+			MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<ResponseDto> patchWorkout(@PathVariable String workoutId, @RequestBody JsonNode patch,
+			@AuthenticatedUser TeamAccess access) {
 
-		WorkoutDto workout = workoutService.getWorkoutById(workoutId, user.id());
+		WorkoutDto workout = workoutService.patchWorkout(workoutId, patch, access);
 
-		ResponseDto response = new ResponseDto("Treino encontrado com sucesso!", workout);
+		ResponseDto response = new ResponseDto("Treino atualizado com sucesso!", workout);
 		return ResponseEntity.ok(response);
 	}
 
 	@DeleteMapping("/{workoutId}")
 	public ResponseEntity<ResponseDto> deleteWorkout(@PathVariable String workoutId,
-			@RequestHeader("Authorization") String authorization) {
-
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto user = jwtService.parseTokenToUser(token);
+			@AuthenticatedUser TeamAccess access) {
 
-		workoutService.deleteWorkout(workoutId, user.id());
+		workoutService.deleteWorkout(workoutId, access);
 
 		ResponseDto response = new ResponseDto("Treino deletado com sucesso!", true);
 		return ResponseEntity.ok(response);
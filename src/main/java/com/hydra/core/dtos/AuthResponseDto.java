@@ -1,5 +1,5 @@
 package com.hydra.core.dtos;
 
-public record AuthResponseDto(String userId, String token) {
+public record AuthResponseDto(String userId, String token, String refreshToken) {
 
-}
\ No newline at end of file
+}
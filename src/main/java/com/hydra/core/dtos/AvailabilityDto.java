@@ -0,0 +1,8 @@
+package com.hydra.core.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityDto(Boolean emailAvailable, Boolean usernameAvailable) {
+
+}
@@ -0,0 +1,20 @@
+package com.hydra.core.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado de um item da criação em lote, na posição em que veio na lista. {@code workoutId} só vem nos itens salvos
+ * e {@code error} só nos rejeitados.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkWorkoutResultDto(int index, boolean success, String workoutId, String error) {
+
+	public static BulkWorkoutResultDto created(int index, String workoutId) {
+		return new BulkWorkoutResultDto(index, true, workoutId, null);
+	}
+
+	public static BulkWorkoutResultDto failed(int index, String error) {
+		return new BulkWorkoutResultDto(index, false, null, error);
+	}
+
+}
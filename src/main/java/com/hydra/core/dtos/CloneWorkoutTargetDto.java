@@ -0,0 +1,10 @@
+package com.hydra.core.dtos;
+
+import java.time.LocalDate;
+
+/**
+ * {@code teamId} nulo mantém o time de origem; {@code scheduledDate} tem precedência sobre {@code shiftDays}.
+ */
+public record CloneWorkoutTargetDto(String teamId, LocalDate scheduledDate, Integer shiftDays) {
+
+}
@@ -0,0 +1,7 @@
+package com.hydra.core.dtos;
+
+import java.util.List;
+
+public record CloneWorkoutsDto(List<String> workoutIds, List<CloneWorkoutTargetDto> targets) {
+
+}
@@ -0,0 +1,7 @@
+package com.hydra.core.dtos;
+
+import java.time.LocalDate;
+
+public record ClonedWorkoutDto(String sourceId, String workoutId, String teamId, LocalDate scheduledDate) {
+
+}
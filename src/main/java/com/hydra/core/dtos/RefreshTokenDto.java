@@ -0,0 +1,5 @@
+package com.hydra.core.dtos;
+
+public record RefreshTokenDto(String refreshToken) {
+
+}
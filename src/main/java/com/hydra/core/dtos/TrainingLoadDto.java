@@ -0,0 +1,11 @@
+package com.hydra.core.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Carga planejada do time entre as semanas de {@code from} e {@code to}, uma linha por semana e modalidade com treinos.
+ */
+public record TrainingLoadDto(String teamId, LocalDate from, LocalDate to, List<TrainingLoadWeekDto> weeks) {
+
+}
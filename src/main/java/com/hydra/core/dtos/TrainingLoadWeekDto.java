@@ -0,0 +1,12 @@
+package com.hydra.core.dtos;
+
+import com.hydra.core.enums.WorkoutModality;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// week no formato ISO (2025-W11); weekStart é a segunda-feira da semana
+public record TrainingLoadWeekDto(String week, LocalDate weekStart, WorkoutModality modality, int workouts,
+								  BigDecimal tonnageKg, long distanceMeters, long durationSeconds) {
+
+}
@@ -0,0 +1,11 @@
+package com.hydra.core.dtos;
+
+import com.hydra.core.enums.WorkoutModality;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record WorkoutCalendarDayDto(LocalDate date, Map<WorkoutModality, Long> workoutsByModality,
+									long totalDurationMinutes) {
+
+}
@@ -0,0 +1,11 @@
+package com.hydra.core.dtos;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Agregado mensal do calendário do time. Só aparecem os dias com ao menos um treino agendado.
+ */
+public record WorkoutCalendarDto(String teamId, YearMonth month, List<WorkoutCalendarDayDto> days) {
+
+}
@@ -25,6 +25,7 @@ public record WorkoutDto(
 	List<WorkoutExerciseDto> exercises,
 	List<WorkoutRunningSegmentDto> runningSegments,
 	List<WorkoutSwimmingSetDto> swimmingSets,
+	WorkoutMetricsDto metrics,
 	LocalDateTime createdAt,
 	LocalDateTime updatedAt
 ) {
@@ -0,0 +1,30 @@
+package com.hydra.core.dtos;
+
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Um treino na exportação (uma linha do NDJSON/CSV): colunas do treino e métricas, sem exercícios/segmentos/sets.
+ */
+public record WorkoutExportRowDto(
+	String id,
+	String title,
+	String description,
+	WorkoutModality modality,
+	LocalDate scheduledDate,
+	LocalTime scheduledTime,
+	Integer durationMinutes,
+	WorkoutIntensity intensity,
+	String notes,
+	String createdById,
+	String createdByName,
+	int itemCount,
+	WorkoutMetricsDto metrics,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+}
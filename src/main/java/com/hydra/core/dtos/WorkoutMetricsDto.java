@@ -0,0 +1,14 @@
+package com.hydra.core.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * Métricas derivadas do treino, gravadas na própria linha do treino a cada escrita.
+ */
+public record WorkoutMetricsDto(
+	int totalSets,
+	BigDecimal totalTonnageKg,
+	int totalDistanceMeters,
+	int estimatedDurationSeconds
+) {
+}
@@ -0,0 +1,11 @@
+package com.hydra.core.dtos;
+
+import java.util.List;
+
+/**
+ * Uma página da listagem de treinos, completa ({@link WorkoutDto}) ou resumida ({@link WorkoutSummaryDto}).
+ * {@code nextCursor} é nulo na última página.
+ */
+public record WorkoutPageDto<T>(List<T> workouts, String nextCursor) {
+
+}
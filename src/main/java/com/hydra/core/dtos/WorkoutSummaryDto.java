@@ -0,0 +1,24 @@
+package com.hydra.core.dtos;
+
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Resumo do treino para listagens: sem a árvore de exercícios/segmentos/sets, só a quantidade de itens e as métricas
+ * já gravadas no treino.
+ */
+public record WorkoutSummaryDto(
+	String id,
+	String title,
+	WorkoutModality modality,
+	LocalDate scheduledDate,
+	LocalTime scheduledTime,
+	Integer durationMinutes,
+	WorkoutIntensity intensity,
+	long itemCount,
+	WorkoutMetricsDto metrics
+) {
+}
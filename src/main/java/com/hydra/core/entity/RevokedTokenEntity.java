@@ -0,0 +1,27 @@
+package com.hydra.core.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "revoked_tokens", indexes = { @Index(columnList = "revoked_at"), @Index(columnList = "expires_at") })
+public class RevokedTokenEntity {
+
+	@Id
+	@Column(name = "jti", nullable = false, length = 36, updatable = false)
+	private String jti;
+
+	@Column(name = "user_id", nullable = false, length = 36)
+	private String userId;
+
+	// O registro só precisa existir até o token expirar; depois disso a assinatura já o recusa
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(name = "revoked_at", nullable = false)
+	private LocalDateTime revokedAt;
+
+}
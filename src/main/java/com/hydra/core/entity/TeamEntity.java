@@ -1,8 +1,9 @@
 package com.hydra.core.entity;
 
-import com.hydra.core.enums.TeamRole;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -40,6 +41,9 @@ public class TeamEntity {
 	@JoinColumn(name = "created_by", nullable = false, updatable = false)
 	private UserEntity createdBy;
 
+	// Fora do equals/hashCode/toString: senão qualquer log ou comparação carrega todos os membros
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@OneToMany(mappedBy = "team", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
 	private List<TeamMemberEntity> members = new ArrayList<>();
 
@@ -60,32 +64,4 @@ public class TeamEntity {
 		updatedAt = LocalDateTime.now();
 	}
 
-	// Métodos helper úteis
-	public List<UserEntity> getCoaches() {
-		return members.stream().filter(m -> m.getRole() == TeamRole.COACH || m.getRole() == TeamRole.OWNER)
-					  .map(TeamMemberEntity::getUser).toList();
-	}
-
-	public List<UserEntity> getAthletes() {
-		return members.stream().filter(m -> m.getRole() == TeamRole.ATHLETE).map(TeamMemberEntity::getUser).toList();
-	}
-
-	public List<UserEntity> getOwners() {
-		return members.stream().filter(m -> m.getRole() == TeamRole.OWNER).map(TeamMemberEntity::getUser).toList();
-	}
-
-	public boolean isOwner(UserEntity user) {
-		return members.stream()
-					  .anyMatch(m -> m.getUser().getId().equals(user.getId()) && m.getRole() == TeamRole.OWNER);
-	}
-
-	public boolean isCoach(UserEntity user) {
-		return members.stream().anyMatch(m -> m.getUser().getId()
-											   .equals(user.getId()) && (m.getRole() == TeamRole.COACH || m.getRole() == TeamRole.OWNER));
-	}
-
-	public boolean isMember(UserEntity user) {
-		return members.stream().anyMatch(m -> m.getUser().getId().equals(user.getId()));
-	}
-
 }
\ No newline at end of file
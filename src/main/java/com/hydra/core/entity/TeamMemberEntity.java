@@ -16,11 +16,11 @@ public class TeamMemberEntity {
 	@Column(name = "id", nullable = false, unique = true, length = 36, updatable = false)
 	private String id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "team_id", nullable = false)
 	private TeamEntity team;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
 	private UserEntity user;
 
@@ -28,7 +28,7 @@ public class TeamMemberEntity {
 	@Column(nullable = false, length = 20)
 	private TeamRole role;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "invited_by")
 	private UserEntity invitedBy;
 
@@ -0,0 +1,60 @@
+package com.hydra.core.entity;
+
+import com.hydra.core.enums.WorkoutModality;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Linha do rollup semanal de carga planejada. Só leitura pela aplicação: as linhas são somadas/subtraídas em SQL por
+ * {@code TrainingLoadRepositoryCustomImpl}.
+ */
+@Data
+@Entity
+@Table(name = "team_weekly_load")
+@IdClass(TeamWeeklyLoadEntity.Key.class)
+public class TeamWeeklyLoadEntity {
+
+	@Id
+	@Column(name = "team_id", length = 36)
+	private String teamId;
+
+	// Segunda-feira da semana ISO
+	@Id
+	@Column(name = "week_start")
+	private LocalDate weekStart;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private WorkoutModality modality;
+
+	@Column(nullable = false)
+	private int workouts;
+
+	@Column(name = "tonnage_kg", nullable = false, precision = 14, scale = 2)
+	private BigDecimal tonnageKg;
+
+	@Column(name = "distance_meters", nullable = false)
+	private long distanceMeters;
+
+	@Column(name = "duration_seconds", nullable = false)
+	private long durationSeconds;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private String teamId;
+		private LocalDate weekStart;
+		private WorkoutModality modality;
+
+	}
+
+}
@@ -10,8 +10,9 @@ import java.util.List;
 
 @Data
 @Entity
-@Table(name = "users", indexes = { @Index(columnList = "email"), @Index(columnList = "username") })
-@JsonIgnoreProperties({ "teamMemberships", "password" })
+@Table(name = "users", indexes = { @Index(columnList = "email_normalized", unique = true),
+		@Index(columnList = "username_normalized", unique = true) })
+@JsonIgnoreProperties({ "teamMemberships", "password", "emailNormalized", "usernameNormalized" })
 public class UserEntity {
 
 	@Id
@@ -31,21 +32,51 @@ public class UserEntity {
 	@Column(nullable = false)
 	private String password;
 
+	// Cópias em minúsculas de email/username, mantidas pelos callbacks de persistência, para buscas por índice
+	@Column(name = "email_normalized", nullable = false, length = 100)
+	private String emailNormalized;
+
+	@Column(name = "username_normalized", nullable = false, length = 50)
+	private String usernameNormalized;
+
 	@OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
 	private List<TeamMemberEntity> teamMemberships;
 
 	private LocalDateTime updatedAt;
 	private LocalDateTime createdAt;
 
+	/**
+	 * Troca só A-Z por a-z, a mesma regra do {@code translate} de V005: {@code toLowerCase} e o {@code lower()} do
+	 * Postgres dependem de locale/collation e divergem fora do ASCII. Letras acentuadas ficam como foram digitadas.
+	 */
+	public static String normalizeIdentity(String identity) {
+		if (identity == null)
+			return null;
+
+		char[] chars = identity.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			if (chars[i] >= 'A' && chars[i] <= 'Z')
+				chars[i] = (char) (chars[i] + ('a' - 'A'));
+		}
+		return new String(chars);
+	}
+
 	@PrePersist
 	private void prePersist() {
 		updatedAt = LocalDateTime.now();
 		createdAt = LocalDateTime.now();
+		normalizeIdentities();
 	}
 
 	@PreUpdate
 	private void preUpdate() {
 		updatedAt = LocalDateTime.now();
+		normalizeIdentities();
+	}
+
+	private void normalizeIdentities() {
+		emailNormalized = normalizeIdentity(email);
+		usernameNormalized = normalizeIdentity(username);
 	}
 
 	public List<TeamEntity> getTeamsAsCoach() {
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -76,6 +77,23 @@ public class WorkoutEntity {
 	@Builder.Default
 	private List<WorkoutSwimmingSetEntity> swimmingSets = new ArrayList<>();
 
+	// Métricas derivadas dos filhos, calculadas na escrita (WorkoutMetrics)
+	@Column(name = "item_count", nullable = false)
+	private int itemCount;
+
+	@Column(name = "total_sets", nullable = false)
+	private int totalSets;
+
+	@Column(name = "total_tonnage_kg", nullable = false, precision = 12, scale = 2)
+	@Builder.Default
+	private BigDecimal totalTonnageKg = BigDecimal.ZERO;
+
+	@Column(name = "total_distance_meters", nullable = false)
+	private int totalDistanceMeters;
+
+	@Column(name = "estimated_duration_seconds", nullable = false)
+	private int estimatedDurationSeconds;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -0,0 +1,17 @@
+package com.hydra.core.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum WorkoutExportFormat {
+
+	NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	WorkoutExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+}
@@ -2,6 +2,7 @@ package com.hydra.core.exceptions;
 
 import com.hydra.core.dtos.ResponseDto;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -20,6 +21,13 @@ public class CustomExceptionsHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
 	}
 
+	@ExceptionHandler({ InvalidCursorException.class, InvalidBulkPayloadException.class,
+			InvalidPatchException.class, InvalidDateRangeException.class })
+	public ResponseEntity<ResponseDto> handleBadRequest(RuntimeException ex) {
+		ResponseDto response = new ResponseDto(ex.getMessage());
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+	}
+
 	@ExceptionHandler({ UnauthorizedException.class, InvalidTokenException.class })
 	public ResponseEntity<ResponseDto> handleUnauthorized(RuntimeException ex) {
 		ResponseDto response = new ResponseDto(ex.getMessage());
@@ -39,4 +47,25 @@ public class CustomExceptionsHandler {
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
 	}
 
+	@ExceptionHandler(PasswordHashingBusyException.class)
+	public ResponseEntity<ResponseDto> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+		ResponseDto response = new ResponseDto(ex.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+							 .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(response);
+	}
+
+	@ExceptionHandler(WorkoutExportBusyException.class)
+	public ResponseEntity<ResponseDto> handleWorkoutExportBusy(WorkoutExportBusyException ex) {
+		ResponseDto response = new ResponseDto(ex.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+							 .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(response);
+	}
+
+	@ExceptionHandler(LoginRateLimitedException.class)
+	public ResponseEntity<ResponseDto> handleLoginRateLimited(LoginRateLimitedException ex) {
+		ResponseDto response = new ResponseDto(ex.getMessage());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+							 .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(response);
+	}
+
 }
\ No newline at end of file
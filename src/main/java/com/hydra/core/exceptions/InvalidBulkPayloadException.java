@@ -0,0 +1,9 @@
+package com.hydra.core.exceptions;
+
+public class InvalidBulkPayloadException extends RuntimeException {
+
+	public InvalidBulkPayloadException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.hydra.core.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+	public InvalidCursorException() {
+		super("Cursor de paginação inválido!");
+	}
+
+}
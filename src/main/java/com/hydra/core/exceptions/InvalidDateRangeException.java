@@ -0,0 +1,9 @@
+package com.hydra.core.exceptions;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+	public InvalidDateRangeException(String message) {
+		super(message);
+	}
+
+}
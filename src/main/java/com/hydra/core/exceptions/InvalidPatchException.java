@@ -0,0 +1,9 @@
+package com.hydra.core.exceptions;
+
+public class InvalidPatchException extends RuntimeException {
+
+	public InvalidPatchException(String message) {
+		super(message);
+	}
+
+}
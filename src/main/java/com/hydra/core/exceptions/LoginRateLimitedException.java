@@ -0,0 +1,15 @@
+package com.hydra.core.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class LoginRateLimitedException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public LoginRateLimitedException(long retryAfterSeconds) {
+		super("Muitas tentativas de login, tente novamente em instantes!");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.hydra.core.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public PasswordHashingBusyException(long retryAfterSeconds) {
+		super("Servidor ocupado, tente novamente em instantes!");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+}
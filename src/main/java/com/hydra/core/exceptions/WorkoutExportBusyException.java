@@ -0,0 +1,15 @@
+package com.hydra.core.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class WorkoutExportBusyException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public WorkoutExportBusyException(long retryAfterSeconds) {
+		super("Muitas exportações em andamento, tente novamente em instantes!");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+}
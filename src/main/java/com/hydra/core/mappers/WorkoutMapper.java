@@ -4,6 +4,9 @@ import com.hydra.core.dtos.*;
 import com.hydra.core.entity.*;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class WorkoutMapper {
 
@@ -11,24 +14,59 @@ public class WorkoutMapper {
 		if (entity == null)
 			return null;
 
+		return toDto(entity, entity.getExercises().stream().map(e -> toExerciseDto(e, e.getSets())).toList(),
+				entity.getRunningSegments(), entity.getSwimmingSets());
+	}
+
+	/**
+	 * Monta o DTO com os filhos já carregados em lote, sem tocar nas coleções lazy da entidade.
+	 */
+	public WorkoutDto toDto(WorkoutEntity entity, List<WorkoutExerciseEntity> exercises,
+			Map<String, List<WorkoutExerciseSetEntity>> setsByExerciseId,
+			List<WorkoutRunningSegmentEntity> runningSegments, List<WorkoutSwimmingSetEntity> swimmingSets) {
+		if (entity == null)
+			return null;
+
+		return toDto(entity, exercises.stream().map(e -> toExerciseDto(e,
+				setsByExerciseId.getOrDefault(e.getId(), List.of()))).toList(), runningSegments, swimmingSets);
+	}
+
+	private WorkoutDto toDto(WorkoutEntity entity, List<WorkoutExerciseDto> exercises,
+			List<WorkoutRunningSegmentEntity> runningSegments, List<WorkoutSwimmingSetEntity> swimmingSets) {
 		return new WorkoutDto(entity.getId(), entity.getTeam() != null ? entity.getTeam().getId() : null,
 				entity.getTeam() != null ? entity.getTeam().getName() : null,
 				entity.getCreatedBy() != null ? entity.getCreatedBy().getId() : null,
 				entity.getCreatedBy() != null ? entity.getCreatedBy().getName() : null, entity.getTitle(),
 				entity.getDescription(), entity.getModality(), entity.getScheduledDate(), entity.getScheduledTime(),
+				entity.getDurationMinutes(), entity.getIntensity(), entity.getNotes(), exercises,
+				runningSegments.stream().map(this::toRunningSegmentDto).toList(),
+				swimmingSets.stream().map(this::toSwimmingSetDto).toList(),
+				toMetricsDto(entity), entity.getCreatedAt(), entity.getUpdatedAt());
+	}
+
+	/**
+	 * Linha da exportação: só colunas do próprio treino e o criador, sem tocar nos filhos.
+	 */
+	public WorkoutExportRowDto toExportRow(WorkoutEntity entity) {
+		return new WorkoutExportRowDto(entity.getId(), entity.getTitle(), entity.getDescription(),
+				entity.getModality(), entity.getScheduledDate(), entity.getScheduledTime(),
 				entity.getDurationMinutes(), entity.getIntensity(), entity.getNotes(),
-				entity.getExercises().stream().map(this::toExerciseDto).toList(),
-				entity.getRunningSegments().stream().map(this::toRunningSegmentDto).toList(),
-				entity.getSwimmingSets().stream().map(this::toSwimmingSetDto).toList(), entity.getCreatedAt(),
-				entity.getUpdatedAt());
+				entity.getCreatedBy() != null ? entity.getCreatedBy().getId() : null,
+				entity.getCreatedBy() != null ? entity.getCreatedBy().getName() : null, entity.getItemCount(),
+				toMetricsDto(entity), entity.getCreatedAt(), entity.getUpdatedAt());
+	}
+
+	private WorkoutMetricsDto toMetricsDto(WorkoutEntity entity) {
+		return new WorkoutMetricsDto(entity.getTotalSets(), entity.getTotalTonnageKg(),
+				entity.getTotalDistanceMeters(), entity.getEstimatedDurationSeconds());
 	}
 
-	private WorkoutExerciseDto toExerciseDto(WorkoutExerciseEntity entity) {
+	private WorkoutExerciseDto toExerciseDto(WorkoutExerciseEntity entity, List<WorkoutExerciseSetEntity> sets) {
 		return new WorkoutExerciseDto(entity.getId(),
 				entity.getExercise() != null ? entity.getExercise().getId() : null,
 				entity.getExercise() != null ? entity.getExercise().getName() : null, entity.getOrderIndex(),
 				entity.getTechnique(), entity.getRestBetweenSetsSeconds(), entity.getNotes(),
-				entity.getSets().stream().map(this::toExerciseSetDto).toList());
+				sets.stream().map(this::toExerciseSetDto).toList());
 	}
 
 	private WorkoutExerciseSetDto toExerciseSetDto(WorkoutExerciseSetEntity entity) {
@@ -48,4 +86,4 @@ public class WorkoutMapper {
 				entity.getTargetPaceSeconds(), entity.getRestSeconds(), entity.getEquipment(), entity.getNotes());
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.hydra.core.models;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * JSON já codificado de um {@code WorkoutDto}, com o time (para a autorização) e a posição do treino no keyset (para o
+ * cursor da listagem). Os bytes das entradas do cache ficam fora do heap, num segmento nativo; o segmento é liberado
+ * quando deixa de ser referenciado, então uma entrada descartada do cache continua válida para quem ainda a escreve.
+ */
+public final class CachedWorkoutJson {
+
+	private static final int WRITE_CHUNK = 8 * 1024;
+
+	private final String teamId;
+	private final WorkoutCursor cursor;
+	private final MemorySegment json;
+
+	private CachedWorkoutJson(String teamId, WorkoutCursor cursor, MemorySegment json) {
+		this.teamId = teamId;
+		this.cursor = cursor;
+		this.json = json;
+	}
+
+	public static CachedWorkoutJson offHeap(String teamId, WorkoutCursor cursor, byte[] json) {
+		MemorySegment segment = Arena.ofAuto().allocate(json.length);
+		MemorySegment.copy(json, 0, segment, ValueLayout.JAVA_BYTE, 0, json.length);
+		return new CachedWorkoutJson(teamId, cursor, segment);
+	}
+
+	// Para o que não vai para o cache: evita copiar para fora do heap bytes que serão descartados logo em seguida
+	public static CachedWorkoutJson onHeap(String teamId, WorkoutCursor cursor, byte[] json) {
+		return new CachedWorkoutJson(teamId, cursor, MemorySegment.ofArray(json));
+	}
+
+	public String teamId() {
+		return teamId;
+	}
+
+	public WorkoutCursor cursor() {
+		return cursor;
+	}
+
+	public long size() {
+		return json.byteSize();
+	}
+
+	public boolean isOffHeap() {
+		return json.isNative();
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		byte[] buffer = new byte[(int) Math.min(size(), WRITE_CHUNK)];
+		for (long offset = 0; offset < size(); offset += buffer.length) {
+			int length = (int) Math.min(buffer.length, size() - offset);
+			MemorySegment.copy(json, ValueLayout.JAVA_BYTE, offset, buffer, 0, length);
+			out.write(buffer, 0, length);
+		}
+	}
+
+}
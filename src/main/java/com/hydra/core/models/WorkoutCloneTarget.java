@@ -0,0 +1,17 @@
+package com.hydra.core.models;
+
+import java.time.LocalDate;
+
+/**
+ * Destino de uma cópia de treinos: o time e a data, fixa ({@code scheduledDate}) ou relativa à data do treino de
+ * origem ({@code shiftDays}). Treinos sem data continuam sem data quando a data é relativa.
+ */
+public record WorkoutCloneTarget(String teamId, LocalDate scheduledDate, int shiftDays) {
+
+	public LocalDate dateFor(LocalDate sourceDate) {
+		if (scheduledDate != null)
+			return scheduledDate;
+		return sourceDate != null ? sourceDate.plusDays(shiftDays) : null;
+	}
+
+}
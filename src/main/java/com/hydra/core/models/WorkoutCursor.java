@@ -0,0 +1,48 @@
+package com.hydra.core.models;
+
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição do último treino de uma página na ordem (data, hora, id) decrescente. Datas e horas nulas entram como
+ * {@link #NO_DATE}/{@link #NO_TIME}, os mesmos valores do COALESCE da consulta e dos índices.
+ */
+public record WorkoutCursor(LocalDate scheduledDate, LocalTime scheduledTime, String id) {
+
+	public static final LocalDate NO_DATE = LocalDate.of(1, 1, 1);
+	public static final LocalTime NO_TIME = LocalTime.MIDNIGHT;
+
+	public static WorkoutCursor of(WorkoutEntity workout) {
+		return of(workout.getScheduledDate(), workout.getScheduledTime(), workout.getId());
+	}
+
+	public static WorkoutCursor of(LocalDate scheduledDate, LocalTime scheduledTime, String id) {
+		return new WorkoutCursor(scheduledDate != null ? scheduledDate : NO_DATE,
+				scheduledTime != null ? scheduledTime : NO_TIME, id);
+	}
+
+	public String encode() {
+		String raw = scheduledDate + "|" + scheduledTime + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static WorkoutCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", 3);
+			if (parts.length != 3 || parts[2].isBlank())
+				throw new InvalidCursorException();
+
+			return new WorkoutCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), parts[2]);
+		} catch (IllegalArgumentException | DateTimeParseException _) {
+			throw new InvalidCursorException();
+		}
+	}
+
+}
@@ -0,0 +1,10 @@
+package com.hydra.core.models;
+
+import java.util.List;
+
+/**
+ * Página da listagem de treinos com o JSON já codificado de cada treino; {@code nextCursor} é nulo na última página.
+ */
+public record WorkoutJsonPage(List<CachedWorkoutJson> workouts, String nextCursor) {
+
+}
@@ -0,0 +1,65 @@
+package com.hydra.core.models;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Corpo de resposta no mesmo formato de um {@code ResponseDto} com um {@code WorkoutDto} ou um
+ * {@code WorkoutPageDto}, montado em volta do JSON já codificado dos treinos. Só o envelope é gerado a cada requisição;
+ * os treinos são copiados direto do cache para a resposta.
+ */
+public final class WorkoutJsonResponse {
+
+	private static final byte[] SUCCESS_SUFFIX = ",\"success\":true}".getBytes(StandardCharsets.UTF_8);
+
+	private final byte[] prefix;
+	private final List<CachedWorkoutJson> workouts;
+	private final byte[] suffix;
+
+	private WorkoutJsonResponse(byte[] prefix, List<CachedWorkoutJson> workouts, byte[] suffix) {
+		this.prefix = prefix;
+		this.workouts = workouts;
+		this.suffix = suffix;
+	}
+
+	public static WorkoutJsonResponse single(String message, CachedWorkoutJson workout) {
+		return new WorkoutJsonResponse(utf8("{\"message\":" + quote(message) + ",\"data\":"), List.of(workout),
+				SUCCESS_SUFFIX);
+	}
+
+	public static WorkoutJsonResponse page(String message, WorkoutJsonPage page) {
+		String nextCursor = page.nextCursor() != null ? quote(page.nextCursor()) : "null";
+		return new WorkoutJsonResponse(utf8("{\"message\":" + quote(message) + ",\"data\":{\"workouts\":["),
+				page.workouts(), utf8("],\"nextCursor\":" + nextCursor + "},\"success\":true}"));
+	}
+
+	public long contentLength() {
+		long length = prefix.length + suffix.length + Math.max(workouts.size() - 1, 0);
+		for (CachedWorkoutJson workout : workouts)
+			length += workout.size();
+		return length;
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(prefix);
+		for (int i = 0; i < workouts.size(); i++) {
+			if (i > 0)
+				out.write(',');
+			workouts.get(i).writeTo(out);
+		}
+		out.write(suffix);
+	}
+
+	private static String quote(String value) {
+		return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"";
+	}
+
+	private static byte[] utf8(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
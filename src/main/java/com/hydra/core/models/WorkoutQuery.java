@@ -0,0 +1,22 @@
+package com.hydra.core.models;
+
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros da listagem de treinos de um time. Filtros nulos não restringem; {@code after} é a posição a partir da qual
+ * a página começa (exclusiva).
+ */
+public record WorkoutQuery(String teamId, WorkoutModality modality, WorkoutIntensity intensity, String createdBy,
+						   LocalDate from, LocalDate to, WorkoutCursor after, int limit) {
+
+	public static final int DEFAULT_LIMIT = 20;
+	public static final int MAX_LIMIT = 100;
+
+	public WorkoutQuery {
+		limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+	}
+
+}
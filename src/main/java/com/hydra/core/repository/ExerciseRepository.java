@@ -26,4 +26,7 @@ public interface ExerciseRepository extends JpaRepository<ExerciseEntity, String
 	@Query("SELECT e FROM ExerciseEntity e WHERE e.isCustom = false OR e.createdBy.id = :userId ORDER BY e.name ASC")
 	List<ExerciseEntity> findByIsCustomFalseOrCreatedById(@Param("userId") String userId);
 
-}
\ No newline at end of file
+	// Catálogo global, carregado inteiro pelo ExerciseCatalog
+	List<ExerciseEntity> findByIsCustomFalse();
+
+}
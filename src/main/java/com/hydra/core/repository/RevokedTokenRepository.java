@@ -0,0 +1,51 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+	@Query("SELECT r.jti AS jti, r.expiresAt AS expiresAt FROM RevokedTokenEntity r WHERE r.expiresAt > :now")
+	List<RevokedTokenView> findActive(@Param("now") LocalDateTime now);
+
+	@Query("""
+			SELECT r.jti AS jti, r.expiresAt AS expiresAt FROM RevokedTokenEntity r
+			WHERE r.revokedAt >= :since AND r.expiresAt > :now
+			""")
+	List<RevokedTokenView> findActiveRevokedSince(@Param("since") LocalDateTime since,
+			@Param("now") LocalDateTime now);
+
+	// Entre usos concorrentes do mesmo token, só um insere a linha
+	@Modifying
+	@Transactional
+	@Query(value = """
+			INSERT INTO revoked_tokens (jti, user_id, expires_at, revoked_at)
+			VALUES (:jti, :userId, :expiresAt, :revokedAt)
+			ON CONFLICT (jti) DO NOTHING
+			""", nativeQuery = true)
+	int insertIfAbsent(@Param("jti") String jti, @Param("userId") String userId,
+			@Param("expiresAt") LocalDateTime expiresAt, @Param("revokedAt") LocalDateTime revokedAt);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+
+	interface RevokedTokenView {
+
+		String getJti();
+
+		LocalDateTime getExpiresAt();
+
+	}
+
+}
@@ -3,11 +3,13 @@ package com.hydra.core.repository;
 import com.hydra.core.entity.TeamEntity;
 import com.hydra.core.entity.TeamMemberEntity;
 import com.hydra.core.entity.UserEntity;
+import com.hydra.core.enums.TeamRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,17 +22,50 @@ public interface TeamMemberRepository extends JpaRepository<TeamMemberEntity, St
 
 	TeamMemberEntity findFirstByUserOrderByJoinedAtAsc(UserEntity user);
 
-	@Query(value = """
-			SELECT * FROM team_members 
-			WHERE team_id = :teamId 
-			ORDER BY 
-			    CASE role 
-			        WHEN 'OWNER' THEN 1 
-			        WHEN 'COACH' THEN 2 
-			        WHEN 'ATHLETE' THEN 3 
+	// Usuário e quem convidou vêm no mesmo SELECT, já que a listagem mostra os dois
+	@Query("""
+			SELECT m FROM TeamMemberEntity m
+			JOIN FETCH m.user
+			LEFT JOIN FETCH m.invitedBy
+			WHERE m.team.id = :teamId
+			ORDER BY
+			    CASE m.role
+			        WHEN com.hydra.core.enums.TeamRole.OWNER THEN 1
+			        WHEN com.hydra.core.enums.TeamRole.COACH THEN 2
+			        WHEN com.hydra.core.enums.TeamRole.ATHLETE THEN 3
 			    END,
-			    joined_at ASC
-			""", nativeQuery = true)
+			    m.joinedAt ASC
+			""")
 	List<TeamMemberEntity> findAllByTeamOrderedByRole(@Param("teamId") String teamId);
 
+	// Checagens de vínculo sem carregar a coleção de membros do time (idx_team_members_role / unique team_id+user_id)
+	boolean existsByTeamIdAndUserId(String teamId, String userId);
+
+	boolean existsByTeamIdAndUserIdAndRoleIn(String teamId, String userId, Collection<TeamRole> roles);
+
+	@Query("SELECT m.role FROM TeamMemberEntity m WHERE m.team.id = :teamId AND m.user.id = :userId")
+	Optional<TeamRole> findRoleByTeamIdAndUserId(@Param("teamId") String teamId, @Param("userId") String userId);
+
+	@Query("SELECT m.team.id AS teamId, m.role AS role FROM TeamMemberEntity m WHERE m.user.id = :userId")
+	List<TeamRoleView> findRolesByUserId(@Param("userId") String userId);
+
+	@Query("SELECT m.user.id AS userId, m.role AS role FROM TeamMemberEntity m WHERE m.team.id = :teamId")
+	List<MemberRoleView> findMemberRolesByTeamId(@Param("teamId") String teamId);
+
+	interface TeamRoleView {
+
+		String getTeamId();
+
+		TeamRole getRole();
+
+	}
+
+	interface MemberRoleView {
+
+		String getUserId();
+
+		TeamRole getRole();
+
+	}
+
 }
\ No newline at end of file
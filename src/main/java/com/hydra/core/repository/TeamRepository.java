@@ -2,9 +2,28 @@ package com.hydra.core.repository;
 
 import com.hydra.core.entity.TeamEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<TeamEntity, String> {
 
+	@Query("SELECT t.id FROM TeamEntity t")
+	List<String> findAllIds();
+
+	// teams.version não é mapeada na entidade: um save() do time não pode sobrescrever um incremento concorrente
+	@Query(value = "SELECT version FROM teams WHERE id = :teamId", nativeQuery = true)
+	Optional<Long> findVersionById(@Param("teamId") String teamId);
+
+	@Modifying(flushAutomatically = true)
+	@Transactional
+	@Query(value = "UPDATE teams SET version = version + 1 WHERE id = :teamId", nativeQuery = true)
+	int incrementVersion(@Param("teamId") String teamId);
+
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.entity.TeamWeeklyLoadEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TrainingLoadRepository
+		extends JpaRepository<TeamWeeklyLoadEntity, TeamWeeklyLoadEntity.Key>, TrainingLoadRepositoryCustom {
+
+	// Uma leitura pela chave primária; semanas que ficaram zeradas depois de remoções não aparecem
+	@Query("""
+			SELECT l FROM TeamWeeklyLoadEntity l
+			WHERE l.teamId = :teamId AND l.weekStart BETWEEN :from AND :to AND l.workouts > 0
+			ORDER BY l.weekStart, l.modality
+			""")
+	List<TeamWeeklyLoadEntity> findTeamWeeks(@Param("teamId") String teamId, @Param("from") LocalDate from,
+			@Param("to") LocalDate to);
+
+}
@@ -0,0 +1,22 @@
+package com.hydra.core.repository;
+
+import java.util.Collection;
+
+public interface TrainingLoadRepositoryCustom {
+
+	/**
+	 * Soma a carga dos treinos (já gravados, com filhos) às semanas deles. Chamar na mesma transação da escrita.
+	 */
+	void addWorkouts(Collection<String> workoutIds);
+
+	/**
+	 * Subtrai a carga dos treinos das semanas deles; chamar antes de remover ou alterar os treinos.
+	 */
+	void subtractWorkouts(Collection<String> workoutIds);
+
+	/**
+	 * Recalcula do zero todas as semanas do time a partir dos treinos.
+	 */
+	void rebuildTeam(String teamId);
+
+}
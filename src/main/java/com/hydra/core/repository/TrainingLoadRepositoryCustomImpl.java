@@ -0,0 +1,102 @@
+package com.hydra.core.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.Collection;
+import java.util.Map;
+
+class TrainingLoadRepositoryCustomImpl implements TrainingLoadRepositoryCustom {
+
+	// Carga de cada treino com data; as subconsultas usam os índices por workout_id das tabelas filhas
+	private static final String WORKOUT_LOADS = """
+			SELECT w.team_id, CAST(date_trunc('week', w.scheduled_date) AS date) AS week_start, w.modality,
+			       COALESCE((SELECT SUM(s.reps * s.weight)
+			                 FROM workout_exercises e
+			                 JOIN workout_exercise_sets s ON s.workout_exercise_id = e.id
+			                 WHERE e.workout_id = w.id), 0) AS tonnage_kg,
+			       COALESCE((SELECT SUM(r.distance_meters) FROM workout_running_segments r WHERE r.workout_id = w.id), 0)
+			     + COALESCE((SELECT SUM(CAST(s.distance_meters AS bigint) * s.repetitions)
+			                 FROM workout_swimming_sets s
+			                 WHERE s.workout_id = w.id), 0) AS distance_meters,
+			       COALESCE((SELECT SUM(r.duration_seconds) FROM workout_running_segments r WHERE r.workout_id = w.id),
+			                0) AS duration_seconds
+			FROM workouts w
+			WHERE w.scheduled_date IS NOT NULL AND %s
+			""";
+
+	// Soma (ou subtrai, com :sign = -1) a carga agrupada às linhas existentes; UPSERT é atômico por linha
+	private static final String APPLY_LOADS = """
+			WITH loads AS (%s)
+			INSERT INTO team_weekly_load AS l (team_id, week_start, modality, workouts, tonnage_kg, distance_meters,
+			                                   duration_seconds)
+			SELECT team_id, week_start, modality, :sign * COUNT(*), :sign * SUM(tonnage_kg), :sign * SUM(distance_meters),
+			       :sign * SUM(duration_seconds)
+			FROM loads
+			GROUP BY team_id, week_start, modality
+			ON CONFLICT (team_id, week_start, modality) DO UPDATE
+			SET workouts         = l.workouts + EXCLUDED.workouts,
+			    tonnage_kg       = l.tonnage_kg + EXCLUDED.tonnage_kg,
+			    distance_meters  = l.distance_meters + EXCLUDED.distance_meters,
+			    duration_seconds = l.duration_seconds + EXCLUDED.duration_seconds
+			""";
+
+	/*
+	 * Trava por time, até o fim da transação, compartilhada entre os deltas e o rebuild: um rebuild nunca roda no meio
+	 * de uma escrita ainda não commitada do mesmo time (que somaria em cima do total recalculado, ou seria apagada por
+	 * ele). Times em ordem para duas escritas em vários times não se travarem mutuamente.
+	 */
+	private static final String LOCK_TEAMS = """
+			SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('team_weekly_load:' || t.team_id))
+			                      FROM (%s ORDER BY team_id) t) locks
+			""";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void addWorkouts(Collection<String> workoutIds) {
+		apply(workoutIds, 1);
+	}
+
+	@Override
+	public void subtractWorkouts(Collection<String> workoutIds) {
+		apply(workoutIds, -1);
+	}
+
+	@Override
+	public void rebuildTeam(String teamId) {
+		Map<String, Object> params = Map.of("teamId", teamId);
+
+		lock("SELECT CAST(:teamId AS varchar) AS team_id", params);
+		execute("DELETE FROM team_weekly_load WHERE team_id = :teamId", params);
+		execute(APPLY_LOADS.formatted(WORKOUT_LOADS.formatted("w.team_id = :teamId")),
+				Map.of("teamId", teamId, "sign", 1));
+	}
+
+	private void apply(Collection<String> workoutIds, int sign) {
+		if (workoutIds.isEmpty())
+			return;
+
+		// Os treinos e filhos pendentes no contexto precisam estar no banco para entrar na conta
+		entityManager.flush();
+
+		lock("SELECT DISTINCT team_id FROM workouts WHERE id IN (:ids)", Map.of("ids", workoutIds));
+		execute(APPLY_LOADS.formatted(WORKOUT_LOADS.formatted("w.id IN (:ids)")),
+				Map.of("ids", workoutIds, "sign", sign));
+	}
+
+	private void lock(String teamIdsSql, Map<String, Object> params) {
+		Query nativeQuery = entityManager.createNativeQuery(LOCK_TEAMS.formatted(teamIdsSql));
+		params.forEach(nativeQuery::setParameter);
+		nativeQuery.getSingleResult();
+	}
+
+	private void execute(String sql, Map<String, Object> params) {
+		Query nativeQuery = entityManager.createNativeQuery(sql);
+		params.forEach(nativeQuery::setParameter);
+		nativeQuery.executeUpdate();
+	}
+
+}
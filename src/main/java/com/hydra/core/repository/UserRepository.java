@@ -2,15 +2,62 @@ package com.hydra.core.repository;
 
 import com.hydra.core.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, String> {
 
-	Optional<UserEntity> findByEmailOrUsername(String email, String username);
+	Optional<UserEntity> findByEmailNormalized(String emailNormalized);
 
-	Optional<UserEntity> findByEmailIgnoreCaseOrUsernameIgnoreCase(String email, String username);
+	Optional<UserEntity> findByUsernameNormalized(String usernameNormalized);
+
+	boolean existsByEmailNormalized(String emailNormalized);
+
+	boolean existsByUsernameNormalized(String usernameNormalized);
+
+	@Query("SELECT u.emailNormalized AS emailNormalized, u.usernameNormalized AS usernameNormalized FROM UserEntity u")
+	Stream<IdentityView> streamAllIdentities();
+
+	@Query("SELECT u.emailNormalized AS emailNormalized, u.usernameNormalized AS usernameNormalized FROM UserEntity u "
+			+ "WHERE u.createdAt >= :since")
+	List<IdentityView> findIdentitiesCreatedSince(@Param("since") LocalDateTime since);
+
+	/**
+	 * Busca por email ou username sem diferenciar maiúsculas. Cada tentativa é um seek num índice único; começa pelo
+	 * email quando o login tem cara de email, evitando o OR entre colunas que impede o uso dos índices.
+	 */
+	default Optional<UserEntity> findByLogin(String login) {
+		String normalized = UserEntity.normalizeIdentity(login);
+		if (normalized == null)
+			return Optional.empty();
+
+		if (normalized.indexOf('@') >= 0)
+			return findByEmailNormalized(normalized).or(() -> findByUsernameNormalized(normalized));
+		return findByUsernameNormalized(normalized).or(() -> findByEmailNormalized(normalized));
+	}
+
+	// Só troca o hash se ele não mudou desde o login (ex.: troca de senha concorrente)
+	@Modifying
+	@Transactional
+	@Query("UPDATE UserEntity u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+	int updatePasswordIfUnchanged(@Param("id") String id, @Param("oldHash") String oldHash,
+			@Param("newHash") String newHash);
+
+	interface IdentityView {
+
+		String getEmailNormalized();
+
+		String getUsernameNormalized();
+
+	}
 
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.hydra.core.repository;
 
 import com.hydra.core.entity.WorkoutExerciseEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +14,14 @@ public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise
 
 	List<WorkoutExerciseEntity> findByWorkoutIdOrderByOrderIndexAsc(String workoutId);
 
+	@Query("""
+			SELECT we FROM WorkoutExerciseEntity we
+			JOIN FETCH we.exercise
+			WHERE we.workout.id IN :workoutIds
+			ORDER BY we.orderIndex ASC
+			""")
+	List<WorkoutExerciseEntity> findWithExerciseByWorkoutIdIn(@Param("workoutIds") Collection<String> workoutIds);
+
 	List<WorkoutExerciseEntity> findByExerciseId(String exerciseId);
 
 	boolean existsByWorkoutIdAndExerciseId(String workoutId, String exerciseId);
@@ -4,6 +4,7 @@ import com.hydra.core.entity.WorkoutExerciseSetEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +12,8 @@ public interface WorkoutExerciseSetRepository extends JpaRepository<WorkoutExerc
 
 	List<WorkoutExerciseSetEntity> findByWorkoutExerciseIdOrderBySetNumberAsc(String workoutExerciseId);
 
+	List<WorkoutExerciseSetEntity> findByWorkoutExerciseIdInOrderBySetNumberAsc(Collection<String> workoutExerciseIds);
+
 	void deleteByWorkoutExerciseId(String workoutExerciseId);
 
 }
\ No newline at end of file
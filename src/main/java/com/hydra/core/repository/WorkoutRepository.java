@@ -1,14 +1,75 @@
 package com.hydra.core.repository;
 
 import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.enums.WorkoutModality;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface WorkoutRepository extends JpaRepository<WorkoutEntity, String> {
+public interface WorkoutRepository extends JpaRepository<WorkoutEntity, String>, WorkoutRepositoryCustom {
 
-	List<WorkoutEntity> findByTeamIdOrderByScheduledDateDesc(String teamId);
+	// Time e criador vêm no mesmo SELECT; os filhos são buscados em lote pelo WorkoutTreeLoader
+	@Query("SELECT w FROM WorkoutEntity w JOIN FETCH w.team JOIN FETCH w.createdBy WHERE w.id IN :ids")
+	List<WorkoutEntity> findWithTeamAndCreatorByIdIn(@Param("ids") Collection<String> ids);
 
-}
\ No newline at end of file
+	// Só o necessário para validar a origem de uma cópia, sem carregar o treino
+	@Query("SELECT w.id AS id, w.team.id AS teamId, w.scheduledDate AS scheduledDate FROM WorkoutEntity w WHERE w.id IN :ids")
+	List<ScheduleView> findSchedulesByIdIn(@Param("ids") Collection<String> ids);
+
+	@Query("SELECT w.id AS id, w.team.id AS teamId, w.scheduledDate AS scheduledDate FROM WorkoutEntity w WHERE w.id = :id")
+	Optional<ScheduleView> findScheduleById(@Param("id") String id);
+
+	/**
+	 * Remove o treino num DELETE só, sem carregar a árvore: exercícios, séries, segmentos e sets saem pelo
+	 * {@code ON DELETE CASCADE} das tabelas filhas (V003). O {@code delete(entity)} do JPA, ao contrário, carrega e apaga
+	 * cada filho separadamente.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM WorkoutEntity w WHERE w.id = :id")
+	int bulkDeleteById(@Param("id") String id);
+
+	boolean existsByScheduledDateIsNotNull();
+
+	// Uma linha por (dia, modalidade); treinos sem data ficam de fora do calendário
+	@Query("""
+			SELECT w.scheduledDate AS scheduledDate, w.modality AS modality, COUNT(w) AS workoutCount,
+			       COALESCE(SUM(w.durationMinutes), 0) AS totalDurationMinutes
+			FROM WorkoutEntity w
+			WHERE w.team.id = :teamId AND w.scheduledDate BETWEEN :from AND :to
+			GROUP BY w.scheduledDate, w.modality
+			ORDER BY w.scheduledDate
+			""")
+	List<CalendarDayView> findCalendarDays(@Param("teamId") String teamId, @Param("from") LocalDate from,
+			@Param("to") LocalDate to);
+
+	interface CalendarDayView {
+
+		LocalDate getScheduledDate();
+
+		WorkoutModality getModality();
+
+		long getWorkoutCount();
+
+		long getTotalDurationMinutes();
+
+	}
+
+	interface ScheduleView {
+
+		String getId();
+
+		String getTeamId();
+
+		LocalDate getScheduledDate();
+
+	}
+
+}
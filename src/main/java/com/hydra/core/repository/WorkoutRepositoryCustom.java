@@ -0,0 +1,72 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.dtos.WorkoutSummaryDto;
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.models.WorkoutCloneTarget;
+import com.hydra.core.models.WorkoutQuery;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface WorkoutRepositoryCustom {
+
+	/**
+	 * Ids da página de treinos do time, na ordem (data, hora, id) decrescente. Busca até {@code limit} ids.
+	 */
+	List<String> findTeamWorkoutIds(WorkoutQuery query, int limit);
+
+	/**
+	 * A mesma página de {@link #findTeamWorkoutIds}, com o {@code updated_at} de cada treino, para conferir se o JSON
+	 * guardado em memória ainda corresponde ao banco.
+	 */
+	List<WorkoutRevision> findTeamWorkoutRevisions(WorkoutQuery query, int limit);
+
+	/**
+	 * A mesma página de {@link #findTeamWorkoutIds}, em uma única consulta que já traz as colunas do resumo, a
+	 * quantidade de itens (exercícios, segmentos ou sets) e as métricas de cada treino.
+	 */
+	List<WorkoutSummaryDto> findTeamWorkoutSummaries(WorkoutQuery query, int limit);
+
+	/**
+	 * Todos os treinos do time com os filtros de {@code query} (cursor e limite são ignorados), na ordem da listagem e
+	 * com o criador carregado. As linhas vêm de um cursor do banco, {@code fetchSize} por vez; precisa de uma transação
+	 * aberta e deve ser fechado por quem chama.
+	 */
+	Stream<WorkoutEntity> streamTeamWorkouts(WorkoutQuery query, int fetchSize);
+
+	/**
+	 * Copia os treinos {@code sourceIds}, com exercícios, séries, segmentos e sets, para cada um dos destinos, sem
+	 * carregar nada na aplicação: um INSERT ... SELECT por tabela. A cópia do registro de origem X para o destino de
+	 * índice i recebe o id {@link #cloneId(String, String, int) cloneId(batchId, X, i)}, o que liga cada filho ao seu
+	 * novo pai sem tabela de mapeamento.
+	 */
+	void cloneWorkouts(String batchId, Collection<String> sourceIds, List<WorkoutCloneTarget> targets,
+			String createdBy);
+
+	/**
+	 * UUID formado pelo MD5 de {@code "batchId:sourceId:targetIndex"}; o SQL de {@link #cloneWorkouts} faz a mesma
+	 * conta com {@code md5(...)::uuid}.
+	 */
+	static String cloneId(String batchId, String sourceId, int targetIndex) {
+		try {
+			MessageDigest md5 = MessageDigest.getInstance("MD5");
+			String hex = HexFormat.of().formatHex(
+					md5.digest((batchId + ":" + sourceId + ":" + targetIndex).getBytes(StandardCharsets.UTF_8)));
+			return hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16) + "-" + hex.substring(
+					16, 20) + "-" + hex.substring(20);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("MD5 indisponível", e);
+		}
+	}
+
+	record WorkoutRevision(String id, LocalDateTime updatedAt) {
+
+	}
+
+}
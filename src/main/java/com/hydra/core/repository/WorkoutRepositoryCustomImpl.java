@@ -0,0 +1,271 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.dtos.WorkoutMetricsDto;
+import com.hydra.core.dtos.WorkoutSummaryDto;
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.models.WorkoutCloneTarget;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.models.WorkoutQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class WorkoutRepositoryCustomImpl implements WorkoutRepositoryCustom {
+
+	// Mesmas expressões dos índices idx_workouts_team_*_schedule (V007); se mudarem aqui, os índices deixam de servir
+	private static final String SCHEDULED_DATE = "COALESCE(w.scheduled_date, DATE '0001-01-01')";
+	private static final String SCHEDULED_TIME = "COALESCE(w.scheduled_time, TIME '00:00:00')";
+
+	// Mesma conta de WorkoutRepositoryCustom.cloneId, sobre a coluna de id de origem e o índice do destino (t.idx)
+	private static final String CLONE_ID = "CAST(CAST(md5(:batchId || ':' || %s || ':' || t.idx) AS uuid) AS varchar)";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * SQL montado só com os filtros informados, para o planejador escolher o índice certo em cada combinação (com
+	 * {@code :param IS NULL OR ...} o plano genérico acabaria ignorando os índices por modalidade/criador). A página
+	 * começa direto na posição do cursor, então a página N custa o mesmo que a primeira.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<String> findTeamWorkoutIds(WorkoutQuery query, int limit) {
+		Map<String, Object> params = new HashMap<>();
+		String sql = "SELECT w.id FROM workouts w" + pageClauses(query, limit, params);
+
+		Query nativeQuery = entityManager.createNativeQuery(sql, String.class);
+		params.forEach(nativeQuery::setParameter);
+		return nativeQuery.getResultList();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<WorkoutRevision> findTeamWorkoutRevisions(WorkoutQuery query, int limit) {
+		Map<String, Object> params = new HashMap<>();
+		String sql = "SELECT w.id, w.updated_at FROM workouts w" + pageClauses(query, limit, params);
+
+		NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+		nativeQuery.addScalar("id", String.class).addScalar("updated_at", LocalDateTime.class);
+		params.forEach(nativeQuery::setParameter);
+
+		return nativeQuery.getResultList().stream()
+						  .map(row -> new WorkoutRevision((String) row[0], (LocalDateTime) row[1])).toList();
+	}
+
+	/**
+	 * Mesma página de {@link #findTeamWorkoutIds}, já com as colunas do resumo. Contagem e métricas são colunas do
+	 * próprio treino, gravadas na escrita: nenhuma tabela filha entra na consulta.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<WorkoutSummaryDto> findTeamWorkoutSummaries(WorkoutQuery query, int limit) {
+		Map<String, Object> params = new HashMap<>();
+		String sql = """
+				SELECT w.id, w.title, w.modality, w.scheduled_date, w.scheduled_time, w.duration_minutes, w.intensity,
+				       w.item_count, w.total_sets, w.total_tonnage_kg, w.total_distance_meters,
+				       w.estimated_duration_seconds
+				FROM workouts w""" + pageClauses(query, limit, params);
+
+		NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+		nativeQuery.addScalar("id", String.class).addScalar("title", String.class)
+				   .addScalar("modality", String.class).addScalar("scheduled_date", LocalDate.class)
+				   .addScalar("scheduled_time", LocalTime.class).addScalar("duration_minutes", Integer.class)
+				   .addScalar("intensity", String.class).addScalar("item_count", Integer.class)
+				   .addScalar("total_sets", Integer.class).addScalar("total_tonnage_kg", BigDecimal.class)
+				   .addScalar("total_distance_meters", Integer.class)
+				   .addScalar("estimated_duration_seconds", Integer.class);
+		params.forEach(nativeQuery::setParameter);
+
+		return nativeQuery.getResultList().stream().map(row -> new WorkoutSummaryDto((String) row[0],
+				(String) row[1], WorkoutModality.valueOf((String) row[2]), (LocalDate) row[3], (LocalTime) row[4],
+				(Integer) row[5], row[6] != null ? WorkoutIntensity.valueOf((String) row[6]) : null,
+				(Integer) row[7], new WorkoutMetricsDto((Integer) row[8], (BigDecimal) row[9], (Integer) row[10],
+				(Integer) row[11]))).toList();
+	}
+
+	/**
+	 * JPQL com os mesmos filtros e a mesma ordem de {@link #pageClauses}: datas e horas nulas valem
+	 * {@link WorkoutCursor#NO_DATE}/{@link WorkoutCursor#NO_TIME}, então a exportação sai na ordem da listagem, inclusive
+	 * nos empates de hora. O stream do Hibernate é um cursor forward-only: com o fetch size, o driver do Postgres traz
+	 * só um lote por vez, em vez do resultado inteiro. Somente leitura, as entidades não guardam snapshot para dirty
+	 * checking.
+	 */
+	@Override
+	public Stream<WorkoutEntity> streamTeamWorkouts(WorkoutQuery query, int fetchSize) {
+		Map<String, Object> params = new HashMap<>();
+		StringBuilder jpql = new StringBuilder(
+				"SELECT w FROM WorkoutEntity w JOIN FETCH w.createdBy WHERE w.team.id = :teamId");
+		params.put("teamId", query.teamId());
+		params.put("noDate", WorkoutCursor.NO_DATE);
+		params.put("noTime", WorkoutCursor.NO_TIME);
+
+		if (query.modality() != null) {
+			jpql.append(" AND w.modality = :modality");
+			params.put("modality", query.modality());
+		}
+		if (query.intensity() != null) {
+			jpql.append(" AND w.intensity = :intensity");
+			params.put("intensity", query.intensity());
+		}
+		if (query.createdBy() != null) {
+			jpql.append(" AND w.createdBy.id = :createdBy");
+			params.put("createdBy", query.createdBy());
+		}
+		if (query.from() != null) {
+			jpql.append(" AND COALESCE(w.scheduledDate, :noDate) >= :from");
+			params.put("from", query.from());
+		}
+		if (query.to() != null) {
+			jpql.append(" AND COALESCE(w.scheduledDate, :noDate) <= :to");
+			params.put("to", query.to());
+		}
+
+		jpql.append(" ORDER BY COALESCE(w.scheduledDate, :noDate) DESC, COALESCE(w.scheduledTime, :noTime) DESC,")
+			.append(" w.id DESC");
+
+		TypedQuery<WorkoutEntity> typedQuery = entityManager.createQuery(jpql.toString(), WorkoutEntity.class)
+															.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+															.setHint(HibernateHints.HINT_READ_ONLY, true);
+		params.forEach(typedQuery::setParameter);
+		return typedQuery.getResultStream();
+	}
+
+	private static String pageClauses(WorkoutQuery query, int limit, Map<String, Object> params) {
+		StringBuilder sql = new StringBuilder(" WHERE w.team_id = :teamId");
+		params.put("teamId", query.teamId());
+
+		if (query.modality() != null) {
+			sql.append(" AND w.modality = :modality");
+			params.put("modality", query.modality().name());
+		}
+		if (query.intensity() != null) {
+			sql.append(" AND w.intensity = :intensity");
+			params.put("intensity", query.intensity().name());
+		}
+		if (query.createdBy() != null) {
+			sql.append(" AND w.created_by = :createdBy");
+			params.put("createdBy", query.createdBy());
+		}
+		if (query.from() != null) {
+			sql.append(" AND ").append(SCHEDULED_DATE).append(" >= :from");
+			params.put("from", query.from());
+		}
+		if (query.to() != null) {
+			sql.append(" AND ").append(SCHEDULED_DATE).append(" <= :to");
+			params.put("to", query.to());
+		}
+		if (query.after() != null) {
+			sql.append(" AND (").append(SCHEDULED_DATE).append(", ").append(SCHEDULED_TIME)
+			   .append(", w.id) < (:afterDate, :afterTime, :afterId)");
+			params.put("afterDate", query.after().scheduledDate());
+			params.put("afterTime", query.after().scheduledTime());
+			params.put("afterId", query.after().id());
+		}
+
+		sql.append(" ORDER BY ").append(SCHEDULED_DATE).append(" DESC, ").append(SCHEDULED_TIME)
+		   .append(" DESC, w.id DESC LIMIT :limit");
+		params.put("limit", limit);
+		return sql.toString();
+	}
+
+	@Override
+	public void cloneWorkouts(String batchId, Collection<String> sourceIds, List<WorkoutCloneTarget> targets,
+			String createdBy) {
+		Map<String, Object> params = new HashMap<>(Map.of("batchId", batchId, "sourceIds", sourceIds));
+		params.put("createdBy", createdBy);
+
+		// Um destino por linha; a data fixa, quando houver, prevalece sobre o deslocamento
+		StringBuilder values = new StringBuilder();
+		for (int i = 0; i < targets.size(); i++) {
+			WorkoutCloneTarget target = targets.get(i);
+			values.append(i == 0 ? "" : ", ").append("(").append(i).append(", :team").append(i).append(", ")
+				  .append(target.scheduledDate() != null ? "CAST(:date" + i + " AS date)" : "CAST(NULL AS date)")
+				  .append(", :shift").append(i).append(")");
+			params.put("team" + i, target.teamId());
+			params.put("shift" + i, target.shiftDays());
+			if (target.scheduledDate() != null)
+				params.put("date" + i, target.scheduledDate());
+		}
+
+		execute("""
+				INSERT INTO workouts (id, team_id, created_by, title, description, modality, scheduled_date,
+				                      scheduled_time, duration_minutes, intensity, notes, item_count, total_sets,
+				                      total_tonnage_kg, total_distance_meters, estimated_duration_seconds, created_at,
+				                      updated_at)
+				SELECT %s, t.team_id, :createdBy, w.title, w.description, w.modality,
+				       COALESCE(t.scheduled_date, w.scheduled_date + t.shift_days), w.scheduled_time,
+				       w.duration_minutes, w.intensity, w.notes, w.item_count, w.total_sets, w.total_tonnage_kg,
+				       w.total_distance_meters, w.estimated_duration_seconds, LOCALTIMESTAMP, LOCALTIMESTAMP
+				FROM workouts w
+				CROSS JOIN (VALUES %s) AS t(idx, team_id, scheduled_date, shift_days)
+				WHERE w.id IN (:sourceIds)
+				""".formatted(CLONE_ID.formatted("w.id"), values), params);
+
+		// Os filhos só precisam do índice do destino para calcular o id do novo pai
+		Map<String, Object> childParams = Map.of("batchId", batchId, "sourceIds", sourceIds, "lastTarget",
+				targets.size() - 1);
+
+		execute("""
+				INSERT INTO workout_exercises (id, workout_id, exercise_id, order_index, technique,
+				                               rest_between_sets_seconds, notes, created_at)
+				SELECT %s, %s, e.exercise_id, e.order_index, e.technique, e.rest_between_sets_seconds, e.notes,
+				       LOCALTIMESTAMP
+				FROM workout_exercises e
+				CROSS JOIN generate_series(0, :lastTarget) AS t(idx)
+				WHERE e.workout_id IN (:sourceIds)
+				""".formatted(CLONE_ID.formatted("e.id"), CLONE_ID.formatted("e.workout_id")), childParams);
+
+		execute("""
+				INSERT INTO workout_exercise_sets (id, workout_exercise_id, set_number, reps, weight, rpe, rest_seconds,
+				                                   notes)
+				SELECT %s, %s, s.set_number, s.reps, s.weight, s.rpe, s.rest_seconds, s.notes
+				FROM workout_exercise_sets s
+				JOIN workout_exercises e ON e.id = s.workout_exercise_id
+				CROSS JOIN generate_series(0, :lastTarget) AS t(idx)
+				WHERE e.workout_id IN (:sourceIds)
+				""".formatted(CLONE_ID.formatted("s.id"), CLONE_ID.formatted("s.workout_exercise_id")), childParams);
+
+		execute("""
+				INSERT INTO workout_running_segments (id, workout_id, order_index, segment_type, distance_meters,
+				                                      duration_seconds, target_pace, target_pace_seconds, intensity,
+				                                      notes)
+				SELECT %s, %s, r.order_index, r.segment_type, r.distance_meters, r.duration_seconds, r.target_pace,
+				       r.target_pace_seconds, r.intensity, r.notes
+				FROM workout_running_segments r
+				CROSS JOIN generate_series(0, :lastTarget) AS t(idx)
+				WHERE r.workout_id IN (:sourceIds)
+				""".formatted(CLONE_ID.formatted("r.id"), CLONE_ID.formatted("r.workout_id")), childParams);
+
+		execute("""
+				INSERT INTO workout_swimming_sets (id, workout_id, order_index, stroke, distance_meters, repetitions,
+				                                   target_time, target_pace_seconds, rest_seconds, equipment, notes)
+				SELECT %s, %s, s.order_index, s.stroke, s.distance_meters, s.repetitions, s.target_time,
+				       s.target_pace_seconds, s.rest_seconds, s.equipment, s.notes
+				FROM workout_swimming_sets s
+				CROSS JOIN generate_series(0, :lastTarget) AS t(idx)
+				WHERE s.workout_id IN (:sourceIds)
+				""".formatted(CLONE_ID.formatted("s.id"), CLONE_ID.formatted("s.workout_id")), childParams);
+	}
+
+	private void execute(String sql, Map<String, Object> params) {
+		Query nativeQuery = entityManager.createNativeQuery(sql);
+		params.forEach(nativeQuery::setParameter);
+		nativeQuery.executeUpdate();
+	}
+
+}
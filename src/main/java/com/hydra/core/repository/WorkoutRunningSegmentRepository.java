@@ -4,6 +4,7 @@ import com.hydra.core.entity.WorkoutRunningSegmentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +12,8 @@ public interface WorkoutRunningSegmentRepository extends JpaRepository<WorkoutRu
 
 	List<WorkoutRunningSegmentEntity> findByWorkoutIdOrderByOrderIndexAsc(String workoutId);
 
+	List<WorkoutRunningSegmentEntity> findByWorkoutIdInOrderByOrderIndexAsc(Collection<String> workoutIds);
+
 	void deleteByWorkoutId(String workoutId);
 
 }
\ No newline at end of file
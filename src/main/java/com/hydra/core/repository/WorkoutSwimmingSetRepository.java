@@ -4,6 +4,7 @@ import com.hydra.core.entity.WorkoutSwimmingSetEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +12,8 @@ public interface WorkoutSwimmingSetRepository extends JpaRepository<WorkoutSwimm
 
 	List<WorkoutSwimmingSetEntity> findByWorkoutIdOrderByOrderIndexAsc(String workoutId);
 
+	List<WorkoutSwimmingSetEntity> findByWorkoutIdInOrderByOrderIndexAsc(Collection<String> workoutIds);
+
 	void deleteByWorkoutId(String workoutId);
 
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.hydra.core.security;
+
+import com.hydra.core.dtos.UserDto;
+
+import java.time.Instant;
+
+/**
+ * Resultado da verificação de um access token. {@code tokenId} (jti) e {@code expiresAt} permitem revogar o token antes
+ * de expirar; tokens antigos, sem jti, podem vir com {@code tokenId} nulo.
+ */
+public record AuthenticatedToken(UserDto user, TeamAccess teamAccess, String tokenId, Instant expiresAt) {
+
+}
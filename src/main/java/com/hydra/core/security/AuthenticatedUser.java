@@ -0,0 +1,17 @@
+package com.hydra.core.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.*;
+
+/**
+ * Injeta no controller o {@link com.hydra.core.dtos.UserDto} autenticado pelo {@code AuthFilter}, sem reprocessar o
+ * header Authorization. Em parâmetros do tipo {@link TeamAccess}, injeta os papéis do usuário lidos do token.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Parameter(hidden = true)
+public @interface AuthenticatedUser {
+
+}
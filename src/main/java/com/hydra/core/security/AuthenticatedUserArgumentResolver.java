@@ -0,0 +1,42 @@
+package com.hydra.core.security;
+
+import com.hydra.core.dtos.UserDto;
+import com.hydra.core.exceptions.UnauthorizedException;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		Class<?> type = parameter.getParameterType();
+		return parameter.hasParameterAnnotation(AuthenticatedUser.class) && (UserDto.class.isAssignableFrom(type)
+				|| TeamAccess.class.isAssignableFrom(type));
+	}
+
+	@Override
+	public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+			@NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+		if (authentication == null || !(authentication.getPrincipal() instanceof UserDto user))
+			throw new UnauthorizedException("Token ausente ou inválido");
+
+		if (TeamAccess.class.isAssignableFrom(parameter.getParameterType())) {
+			if (!(authentication.getDetails() instanceof TeamAccess teamAccess))
+				throw new UnauthorizedException("Token ausente ou inválido");
+			return teamAccess;
+		}
+
+		return user;
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.hydra.core.security;
+
+import com.hydra.core.utils.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Escolhe o maior custo do BCrypt cuja mediana de tempo de hash cabe no orçamento de latência do login, medindo no
+ * próprio hardware em que a aplicação sobe.
+ */
+final class BCryptCostCalibrator {
+
+	static final int SAMPLES = 5;
+	private static final String CALIBRATION_PASSWORD = "calibracao-de-custo";
+
+	private final IntToLongFunction hashNanos;
+
+	BCryptCostCalibrator() {
+		this(cost -> {
+			String salt = BCrypt.gensalt(cost);
+			long start = System.nanoTime();
+			BCrypt.hashpw(CALIBRATION_PASSWORD, salt);
+			return System.nanoTime() - start;
+		});
+	}
+
+	BCryptCostCalibrator(IntToLongFunction hashNanos) {
+		this.hashNanos = hashNanos;
+	}
+
+	int calibrate(int minCost, int maxCost, Duration budget) {
+		long budgetNanos = budget.toNanos();
+
+		// Aquece o JIT antes de medir
+		hashNanos.applyAsLong(minCost);
+
+		// Cada ponto de custo dobra o trabalho: estima a partir do custo mínimo e confirma medindo
+		long base = medianNanos(minCost);
+		int cost = minCost;
+		while (cost < maxCost && base << (cost + 1 - minCost) <= budgetNanos) {
+			cost++;
+		}
+
+		while (cost > minCost && medianNanos(cost) > budgetNanos) {
+			cost--;
+		}
+
+		return cost;
+	}
+
+	private long medianNanos(int cost) {
+		long[] samples = new long[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			samples[i] = hashNanos.applyAsLong(cost);
+		}
+		Arrays.sort(samples);
+		return samples[SAMPLES / 2];
+	}
+
+}
@@ -4,32 +4,60 @@ import com.hydra.core.dtos.InviteTokenDto;
 import com.hydra.core.dtos.UserDto;
 import com.hydra.core.enums.TeamRole;
 import com.hydra.core.exceptions.InvalidTokenException;
-import com.hydra.core.exceptions.UnauthorizedException;
 import com.hydra.core.utils.ValidationUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtService {
 
+	private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+	private static final Duration DEFAULT_ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+	private static final Duration DEFAULT_REFRESH_TOKEN_TTL = Duration.ofDays(30);
+
+	private static final String TYPE_CLAIM = "typ";
+	private static final String ACCESS_TYPE = "access";
+	private static final String REFRESH_TYPE = "refresh";
+	private static final String TEAMS_CLAIM = "teams";
+	private static final String MEMBERSHIP_VERSION_CLAIM = "mv";
+
+	// Tokens sem a claim de versão (emitidos antes dela existir) nunca são considerados atuais
+	private static final long UNKNOWN_MEMBERSHIP_VERSION = -1;
+
 	private final SecretKey jwtSecret;
 	private final String baseUrl;
+	private final Duration accessTokenTtl;
+	private final Duration refreshTokenTtl;
 	private final JwtParser jwtParser;
 	private final Clock clock;
+	private final VerifiedTokenCache verifiedTokens;
+
+	JwtService(String secret, String baseUrl) {
+		this(secret, baseUrl, DEFAULT_ACCESS_TOKEN_TTL, DEFAULT_REFRESH_TOKEN_TTL);
+	}
 
+	@Autowired
 	JwtService( //
 			@Value("${jwt.secret}") String secret, //
-			@Value("${app.base-url}") String baseUrl //
+			@Value("${app.base-url}") String baseUrl, //
+			@Value("${jwt.access-token-ttl:15m}") Duration accessTokenTtl, //
+			@Value("${jwt.refresh-token-ttl:30d}") Duration refreshTokenTtl //
 	) {
 		if (ValidationUtils.isEmpty(secret)) {
 			throw new IllegalStateException("JWT secret is required");
@@ -37,60 +65,91 @@ public class JwtService {
 
 		this.jwtSecret = Keys.hmacShaKeyFor(secret.getBytes());
 		this.baseUrl = baseUrl;
+		this.accessTokenTtl = accessTokenTtl;
+		this.refreshTokenTtl = refreshTokenTtl;
 
 		this.jwtParser = Jwts.parser().verifyWith(jwtSecret).build();
 		this.clock = Clock.systemUTC();
+		this.verifiedTokens = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE, clock);
 	}
 
-	public String extractTokenFromHeader(String authorizationHeader) {
-		if (ValidationUtils.isEmpty(authorizationHeader))
-			throw new UnauthorizedException("Token ausente ou inválido");
+	/**
+	 * Gera o access token de curta duração. Os papéis do usuário em cada time vão nas claims (códigos de uma letra, para
+	 * manter o header pequeno), junto com a versão dos vínculos em que foram lidos.
+	 */
+	public String generateToken(String userId, String username, String email, String name,
+			Map<String, TeamRole> teamRoles, long membershipVersion) {
+		Map<String, String> teams = new LinkedHashMap<>();
+		teamRoles.forEach((teamId, role) -> teams.put(teamId, roleCode(role)));
 
-		String prefix = "Bearer ";
-		if (!authorizationHeader.startsWith(prefix))
-			throw new UnauthorizedException("Token ausente ou inválido");
-
-		return authorizationHeader.substring(prefix.length()).trim();
-	}
-
-	public String generateToken(String userId, String username, String email, String name) {
 		return Jwts.builder() //
+				   .id(UUID.randomUUID().toString()) //
 				   .subject(username) //
+				   .claim(TYPE_CLAIM, ACCESS_TYPE) //
 				   .claim("userId", userId) //
 				   .claim("username", username) //
 				   .claim("email", email) //
 				   .claim("name", name) //
-				   .expiration(Date.from(clock.instant().plus(Duration.ofHours(6)))) //
+				   .claim(TEAMS_CLAIM, teams) //
+				   .claim(MEMBERSHIP_VERSION_CLAIM, membershipVersion) //
+				   .expiration(Date.from(clock.instant().plus(accessTokenTtl))) //
 				   .signWith(this.jwtSecret) //
 				   .compact();
 	}
 
-	public boolean validateToken(String token) {
-		if (ValidationUtils.isEmpty(token))
-			return false;
+	public String generateRefreshToken(String userId) {
+		return Jwts.builder() //
+				   .id(UUID.randomUUID().toString()) //
+				   .subject(userId) //
+				   .claim(TYPE_CLAIM, REFRESH_TYPE) //
+				   .expiration(Date.from(clock.instant().plus(refreshTokenTtl))) //
+				   .signWith(this.jwtSecret) //
+				   .compact();
+	}
 
-		try {
-			jwtParser.parseSignedClaims(token).getPayload();
-			return true;
-		} catch (JwtException | IllegalArgumentException _) {
-			return false;
-		}
+	/**
+	 * Valida a assinatura e o tipo do refresh token. A checagem de revogação fica com quem chama.
+	 */
+	public RefreshTokenClaims parseRefreshToken(String refreshToken) {
+		if (ValidationUtils.isEmpty(refreshToken))
+			throw new InvalidTokenException();
+
+		Claims payload = parseClaims(refreshToken);
+
+		if (!REFRESH_TYPE.equals(payload.get(TYPE_CLAIM, String.class)) || ValidationUtils.isEmpty(
+				payload.getSubject()))
+			throw new InvalidTokenException();
+
+		return new RefreshTokenClaims(payload.getSubject(), payload.getId(), toInstant(payload.getExpiration()));
 	}
 
-	public UserDto parseTokenToUser(String token) {
-		try {
-			Claims payload = jwtParser.parseSignedClaims(token).getPayload();
+	/**
+	 * Verifica a assinatura do token no máximo uma vez enquanto ele for válido: verificações seguintes do mesmo token
+	 * são servidas pelo cache de claims já verificadas.
+	 */
+	public AuthenticatedToken authenticate(String token) {
+		if (ValidationUtils.isEmpty(token))
+			throw new InvalidTokenException();
 
-			String userId = payload.get("userId", String.class);
+		AuthenticatedToken cached = verifiedTokens.get(token);
+		if (cached != null)
+			return cached;
 
-			if (ValidationUtils.isEmpty(userId))
-				throw new InvalidTokenException();
+		Claims payload = parseClaims(token);
 
-			return new UserDto(userId, token, payload.get("username", String.class), payload.get("name", String.class),
-					payload.get("email", String.class), null);
-		} catch (Exception _) {
+		// Refresh tokens só servem para /auth/refresh
+		if (REFRESH_TYPE.equals(payload.get(TYPE_CLAIM, String.class)))
 			throw new InvalidTokenException();
-		}
+
+		UserDto user = toUser(payload, token);
+		Instant expiresAt = toInstant(payload.getExpiration());
+		AuthenticatedToken authenticated = new AuthenticatedToken(user, toTeamAccess(payload, user.id()),
+				payload.getId(), expiresAt);
+
+		if (expiresAt != null)
+			verifiedTokens.put(token, authenticated, expiresAt);
+
+		return authenticated;
 	}
 
 	public String generateTeamInviteUrl(String teamId, String athleteId, String coachId, TeamRole role) {
@@ -124,4 +183,61 @@ public class JwtService {
 		return new InviteTokenDto(teamId, athleteId, coachId, role);
 	}
 
+	private Claims parseClaims(String token) {
+		try {
+			return jwtParser.parseSignedClaims(token).getPayload();
+		} catch (Exception _) {
+			throw new InvalidTokenException();
+		}
+	}
+
+	private TeamAccess toTeamAccess(Claims payload, String userId) {
+		try {
+			Map<String, TeamRole> roles = new HashMap<>();
+			Map<?, ?> teams = payload.get(TEAMS_CLAIM, Map.class);
+			if (teams != null)
+				teams.forEach((teamId, code) -> roles.put(teamId.toString(), roleFromCode(code.toString())));
+
+			Number version = payload.get(MEMBERSHIP_VERSION_CLAIM, Number.class);
+			return new TeamAccess(userId, roles, version != null ? version.longValue() : UNKNOWN_MEMBERSHIP_VERSION);
+		} catch (JwtException | IllegalArgumentException _) {
+			throw new InvalidTokenException();
+		}
+	}
+
+	private static Instant toInstant(Date date) {
+		return date != null ? date.toInstant() : null;
+	}
+
+	private static String roleCode(TeamRole role) {
+		return switch (role) {
+			case OWNER -> "O";
+			case COACH -> "C";
+			case ATHLETE -> "A";
+		};
+	}
+
+	private static TeamRole roleFromCode(String code) {
+		return switch (code) {
+			case "O" -> TeamRole.OWNER;
+			case "C" -> TeamRole.COACH;
+			case "A" -> TeamRole.ATHLETE;
+			default -> throw new IllegalArgumentException("Papel desconhecido no token: " + code);
+		};
+	}
+
+	private UserDto toUser(Claims payload, String token) {
+		try {
+			String userId = payload.get("userId", String.class);
+
+			if (ValidationUtils.isEmpty(userId))
+				throw new InvalidTokenException();
+
+			return new UserDto(userId, token, payload.get("username", String.class), payload.get("name", String.class),
+					payload.get("email", String.class), null);
+		} catch (JwtException _) {
+			throw new InvalidTokenException();
+		}
+	}
+
 }
\ No newline at end of file
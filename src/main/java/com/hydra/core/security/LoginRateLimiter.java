@@ -0,0 +1,152 @@
+package com.hydra.core.security;
+
+import com.hydra.core.entity.UserEntity;
+import com.hydra.core.exceptions.LoginRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limita as tentativas de login por login normalizado e por IP com token buckets, antes de qualquer consulta ao banco
+ * ou comparação BCrypt. Tentativas recusadas saem com {@link LoginRateLimitedException} (429 + Retry-After).
+ * <p>
+ * Cada bucket é um único {@link AtomicLong} com o instante em que ele volta a ficar cheio (GCRA): a recarga é
+ * calculada na hora da consulta e o consumo é um compare-and-set, sem locks nem thread de recarga. Buckets cheios são
+ * equivalentes a buckets novos e são descartados periodicamente.
+ */
+@Component
+public class LoginRateLimiter {
+
+	private final Clock clock;
+	private final Limit accountLimit;
+	private final Limit ipLimit;
+
+	@Autowired
+	LoginRateLimiter( //
+			@Value("${security.login-rate-limit.account.burst:5}") int accountBurst, //
+			@Value("${security.login-rate-limit.account.refill-period:1m}") Duration accountRefillPeriod, //
+			@Value("${security.login-rate-limit.ip.burst:20}") int ipBurst, //
+			@Value("${security.login-rate-limit.ip.refill-period:3s}") Duration ipRefillPeriod, //
+			MeterRegistry meterRegistry //
+	) {
+		this(Clock.systemUTC(), accountBurst, accountRefillPeriod, ipBurst, ipRefillPeriod, meterRegistry);
+	}
+
+	LoginRateLimiter(Clock clock, int accountBurst, Duration accountRefillPeriod, int ipBurst,
+			Duration ipRefillPeriod, MeterRegistry meterRegistry) {
+		this.clock = clock;
+		this.accountLimit = new Limit("account", accountBurst, accountRefillPeriod, meterRegistry);
+		this.ipLimit = new Limit("ip", ipBurst, ipRefillPeriod, meterRegistry);
+	}
+
+	/**
+	 * Consome uma tentativa do IP e uma do login; tentativas barradas pelo IP não gastam a cota da conta. A da conta é
+	 * devolvida quando o login dá certo ({@link #loginSucceeded}), então só falhas esgotam o limite da conta.
+	 * <p>
+	 * O limite por conta é o que segura senhas testadas a partir de muitos IPs, e tem um custo: falhas vindas de
+	 * qualquer IP, inclusive de um único IP dentro do seu próprio limite, bloqueiam também o dono da conta até a
+	 * recarga ({@code security.login-rate-limit.account.refill-period} por tentativa).
+	 */
+	public void acquire(String login, String clientIp) {
+		long now = clock.millis();
+
+		long waitMillis = ipLimit.tryAcquire(clientIp != null ? clientIp : "", now);
+		if (waitMillis == 0)
+			waitMillis = accountLimit.tryAcquire(accountKey(login), now);
+
+		if (waitMillis > 0)
+			throw new LoginRateLimitedException(Math.max(1, (waitMillis + 999) / 1000));
+	}
+
+	/**
+	 * Devolve a tentativa que {@link #acquire} reservou na conta. A do IP continua gasta.
+	 */
+	public void loginSucceeded(String login) {
+		accountLimit.release(accountKey(login), clock.millis());
+	}
+
+	@Scheduled(fixedDelayString = "${security.login-rate-limit.eviction-interval:5m}",
+			initialDelayString = "${security.login-rate-limit.eviction-interval:5m}")
+	public void evictIdle() {
+		long now = clock.millis();
+		accountLimit.evictIdle(now);
+		ipLimit.evictIdle(now);
+	}
+
+	int bucketCount() {
+		return accountLimit.buckets.size() + ipLimit.buckets.size();
+	}
+
+	private static String accountKey(String login) {
+		String normalized = UserEntity.normalizeIdentity(login);
+		return normalized != null ? normalized.strip() : "";
+	}
+
+	private static final class Limit {
+
+		private final long intervalMillis;
+		private final long toleranceMillis;
+		private final Counter rejected;
+		// Instante (ms) em que o bucket volta a ficar cheio; o ConcurrentHashMap já distribui as chaves em bins
+		// independentes, então buckets diferentes nunca disputam a mesma posição de memória
+		private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+		private Limit(String scope, int burst, Duration refillPeriod, MeterRegistry meterRegistry) {
+			if (burst <= 0 || refillPeriod.isNegative() || refillPeriod.isZero())
+				throw new IllegalArgumentException("Limite de login inválido para " + scope);
+
+			this.intervalMillis = refillPeriod.toMillis();
+			this.toleranceMillis = intervalMillis * burst;
+			this.rejected = Counter.builder("auth.login_rate_limit.rejected").tag("scope", scope)
+								   .register(meterRegistry);
+			Gauge.builder("auth.login_rate_limit.buckets", buckets, Map::size).tag("scope", scope)
+				 .register(meterRegistry);
+		}
+
+		/**
+		 * @return 0 se a tentativa foi liberada, ou quantos ms faltam para o próximo token
+		 */
+		private long tryAcquire(String key, long now) {
+			AtomicLong bucket = buckets.get(key);
+			if (bucket == null)
+				bucket = buckets.computeIfAbsent(key, _ -> new AtomicLong(now));
+
+			while (true) {
+				long fullAt = bucket.get();
+				long next = Math.max(fullAt, now) + intervalMillis;
+				long excess = next - now - toleranceMillis;
+
+				if (excess > 0) {
+					rejected.increment();
+					return excess;
+				}
+
+				if (bucket.compareAndSet(fullAt, next))
+					return 0;
+			}
+		}
+
+		private void release(String key, long now) {
+			AtomicLong bucket = buckets.get(key);
+			if (bucket != null)
+				bucket.accumulateAndGet(now, (fullAt, time) -> Math.max(time, fullAt - intervalMillis));
+		}
+
+		// Quem pegou o bucket logo antes da remoção ainda consome dele; no pior caso a chave ganha uma tentativa a mais
+		private void evictIdle(long now) {
+			buckets.values().removeIf(bucket -> bucket.get() <= now);
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.hydra.core.security;
+
+import com.hydra.core.utils.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instante (em microssegundos) da última mudança nos vínculos de cada usuário com times, conhecida por este nó. O access
+ * token carrega o instante em que foi emitido; um token emitido antes da última mudança deixa de ser aceito até ser
+ * renovado.
+ * <p>
+ * As versões são instantes do relógio, comparáveis entre nós: um token emitido em qualquer nó depois da mudança vale em
+ * todos, e um nó que não soube da mudança (outro nó, ou este depois de um restart) apenas aceita os tokens antigos até
+ * expirarem ({@code jwt.access-token-ttl}), como aceitaria sem esta checagem. Diferenças de relógio entre nós só atrasam
+ * a renovação pelo tamanho da diferença.
+ */
+@Component
+public class MembershipVersions {
+
+	private final Map<String, Long> changedAt = new ConcurrentHashMap<>();
+	private final Clock clock;
+
+	MembershipVersions() {
+		this(Clock.systemUTC());
+	}
+
+	MembershipVersions(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Versão para um token emitido agora: o instante atual, nunca abaixo da última mudança conhecida do usuário.
+	 */
+	public long current(String userId) {
+		return Math.max(now(), changedAt.getOrDefault(userId, 0L));
+	}
+
+	/**
+	 * Recusa só o que este nó sabe estar desatualizado: tokens emitidos antes da última mudança registrada aqui.
+	 */
+	public boolean isCurrent(String userId, long version) {
+		return version >= changedAt.getOrDefault(userId, 0L);
+	}
+
+	/**
+	 * Registra a mudança nos vínculos do usuário. Dentro de uma transação, só depois do commit: assim um refresh
+	 * concorrente que ainda leu os papéis antigos sai com uma versão anterior à mudança e é recusado.
+	 */
+	public void bump(String userId) {
+		TransactionUtils.afterCommit(
+				() -> changedAt.merge(userId, now(), (previous, now) -> Math.max(now, previous + 1)));
+	}
+
+	private long now() {
+		return ChronoUnit.MICROS.between(Instant.EPOCH, clock.instant());
+	}
+
+}
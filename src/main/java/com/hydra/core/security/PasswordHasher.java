@@ -0,0 +1,158 @@
+package com.hydra.core.security;
+
+import com.hydra.core.exceptions.PasswordHashingBusyException;
+import com.hydra.core.utils.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Executa o BCrypt num pool fixo dimensionado pela quantidade de CPUs, com fila limitada. Quando a fila enche, a
+ * requisição é rejeitada na hora com {@link PasswordHashingBusyException} (503 + Retry-After) em vez de ocupar mais
+ * threads do Tomcat com hashing.
+ * <p>
+ * O custo do BCrypt é calibrado na subida para o maior valor que cabe no orçamento de latência do login
+ * ({@code security.password-hashing.target-latency}), a não ser que {@code security.password-hashing.cost} seja
+ * fixado. Hashes com custo menor são refeitos em segundo plano no próximo login bem-sucedido; custos maiores ficam
+ * como estão, para que nós calibrados com valores diferentes não reescrevam o hash um do outro a cada login.
+ */
+@Component
+public class PasswordHasher {
+
+	private final ThreadPoolExecutor executor;
+	private final long retryAfterSeconds;
+	private final int cost;
+	private final Timer hashTimer;
+	private final Timer verifyTimer;
+	private final Counter rejectedCounter;
+	private final Counter rehashedCounter;
+	private final Counter rehashSkippedCounter;
+	private final Counter rehashFailedCounter;
+
+	@Autowired
+	PasswordHasher( //
+			@Value("${security.password-hashing.threads:0}") int threads, //
+			@Value("${security.password-hashing.queue-capacity:64}") int queueCapacity, //
+			@Value("${security.password-hashing.retry-after-seconds:2}") long retryAfterSeconds, //
+			@Value("${security.password-hashing.cost:0}") int cost, //
+			@Value("${security.password-hashing.target-latency:150ms}") Duration targetLatency, //
+			@Value("${security.password-hashing.min-cost:10}") int minCost, //
+			@Value("${security.password-hashing.max-cost:16}") int maxCost, //
+			MeterRegistry meterRegistry //
+	) {
+		this(threads, queueCapacity, retryAfterSeconds,
+				cost > 0 ? cost : new BCryptCostCalibrator().calibrate(minCost, maxCost, targetLatency), meterRegistry);
+	}
+
+	PasswordHasher(int threads, int queueCapacity, long retryAfterSeconds, int cost, MeterRegistry meterRegistry) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("password-hash-", 0).daemon()
+																.factory(), new ThreadPoolExecutor.AbortPolicy());
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.cost = cost;
+
+		Gauge.builder("auth.password_hashing.queue.size", executor, e -> e.getQueue().size())
+			 .description("Tarefas de hashing aguardando um worker").register(meterRegistry);
+		Gauge.builder("auth.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+			 .description("Workers de hashing ocupados").register(meterRegistry);
+		Gauge.builder("auth.password_hashing.cost", this, PasswordHasher::getCost)
+			 .description("Custo (log2 das rodadas) usado em novos hashes").register(meterRegistry);
+
+		this.hashTimer = Timer.builder("auth.password_hashing.duration").tag("operation", "hash")
+							  .register(meterRegistry);
+		this.verifyTimer = Timer.builder("auth.password_hashing.duration").tag("operation", "verify")
+								.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("auth.password_hashing.rejected").register(meterRegistry);
+		this.rehashedCounter = Counter.builder("auth.password_hashing.rehash").tag("result", "done")
+									  .register(meterRegistry);
+		this.rehashSkippedCounter = Counter.builder("auth.password_hashing.rehash").tag("result", "skipped")
+										   .register(meterRegistry);
+		this.rehashFailedCounter = Counter.builder("auth.password_hashing.rehash").tag("result", "failed")
+										  .register(meterRegistry);
+	}
+
+	public int getCost() {
+		return cost;
+	}
+
+	public String hash(String password) {
+		return submit(() -> hashTimer.recordCallable(() -> hashWithCurrentCost(password)));
+	}
+
+	public boolean matches(String password, String hashed) {
+		Boolean matches = submit(() -> verifyTimer.recordCallable(() -> BCrypt.checkpw(password, hashed)));
+		return Boolean.TRUE.equals(matches);
+	}
+
+	// Só sobe o custo: hash de um nó mais rápido (ou de custo fixado maior) continua valendo aqui
+	public boolean needsRehash(String hashed) {
+		return BCrypt.cost(hashed) < cost;
+	}
+
+	/**
+	 * Refaz o hash com o custo atual sem bloquear quem chamou. É só aproveitamento de folga: se já houver fila, o
+	 * rehash é descartado e fica para o próximo login.
+	 */
+	public void rehashInBackground(String password, Consumer<String> onRehashed) {
+		if (!executor.getQueue().isEmpty()) {
+			rehashSkippedCounter.increment();
+			return;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					onRehashed.accept(hashTimer.record(() -> hashWithCurrentCost(password)));
+					rehashedCounter.increment();
+				} catch (RuntimeException _) {
+					rehashFailedCounter.increment();
+				}
+			});
+		} catch (RejectedExecutionException _) {
+			rehashSkippedCounter.increment();
+		}
+	}
+
+	<T> T submit(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException _) {
+			rejectedCounter.increment();
+			throw new PasswordHashingBusyException(retryAfterSeconds);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Hashing de senha interrompido", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			throw new IllegalStateException("Falha no hashing de senha", e.getCause());
+		}
+	}
+
+	private String hashWithCurrentCost(String password) {
+		return BCrypt.hashpw(password, BCrypt.gensalt(cost));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.hydra.core.security;
+
+import java.time.Instant;
+
+public record RefreshTokenClaims(String userId, String tokenId, Instant expiresAt) {
+
+}
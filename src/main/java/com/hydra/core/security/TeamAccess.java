@@ -0,0 +1,31 @@
+package com.hydra.core.security;
+
+import com.hydra.core.enums.TeamRole;
+
+import java.util.Map;
+
+/**
+ * Papéis do usuário autenticado em cada time, lidos das claims do access token. Permite autorizar sem consultar
+ * team_members; a versão de membros garante que o mapa não está desatualizado (ver {@link MembershipVersions}). Os
+ * serviços checam pelo {@link TeamAuthorization}, que confirma as negativas no banco.
+ */
+public record TeamAccess(String userId, Map<String, TeamRole> roles, long membershipVersion) {
+
+	public TeamAccess {
+		roles = Map.copyOf(roles);
+	}
+
+	public TeamRole roleIn(String teamId) {
+		return teamId == null ? null : roles.get(teamId);
+	}
+
+	public boolean isMember(String teamId) {
+		return roleIn(teamId) != null;
+	}
+
+	public boolean canManage(String teamId) {
+		TeamRole role = roleIn(teamId);
+		return role == TeamRole.OWNER || role == TeamRole.COACH;
+	}
+
+}
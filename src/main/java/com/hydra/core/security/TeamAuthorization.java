@@ -0,0 +1,51 @@
+package com.hydra.core.security;
+
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checagens de acesso a times a partir das claims do token ({@link TeamAccess}). Quando as claims negam o acesso, a
+ * resposta é confirmada em {@code team_members} antes de virar erro: um time criado ou um convite aceito depois da
+ * emissão do token, em qualquer nó, já vale na requisição seguinte. As claims só atrasam perdas de acesso (até a
+ * renovação do token), nunca concessões.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamAuthorization {
+
+	private static final Set<TeamRole> MANAGERS = EnumSet.of(TeamRole.OWNER, TeamRole.COACH);
+
+	private final TeamMemberRepository teamMemberRepository;
+
+	/**
+	 * @return o papel do usuário no time, ou {@code null} se ele não for membro
+	 */
+	public TeamRole roleIn(TeamAccess access, String teamId) {
+		TeamRole role = access.roleIn(teamId);
+		if (role != null || teamId == null)
+			return role;
+
+		return teamMemberRepository.findRoleByTeamIdAndUserId(teamId, access.userId()).orElse(null);
+	}
+
+	public boolean isMember(TeamAccess access, String teamId) {
+		if (access.isMember(teamId))
+			return true;
+
+		return teamId != null && teamMemberRepository.existsByTeamIdAndUserId(teamId, access.userId());
+	}
+
+	public boolean canManage(TeamAccess access, String teamId) {
+		if (access.canManage(teamId))
+			return true;
+
+		return teamId != null && teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(teamId, access.userId(),
+				MANAGERS);
+	}
+
+}
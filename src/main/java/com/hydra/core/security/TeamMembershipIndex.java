@@ -0,0 +1,186 @@
+package com.hydra.core.security;
+
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.repository.TeamMemberRepository;
+import com.hydra.core.utils.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória dos papéis de cada usuário em cada time, para checagens de permissão que não têm o token do
+ * usuário à mão (ex.: o professor que gera um convite). Cada time é carregado do banco no primeiro acesso e depois
+ * mantido pelas escritas desta instância ({@link #teamCreated}, {@link #memberAdded}).
+ * <p>
+ * Escritas feitas em outro nó não chegam aqui: cada time expira após {@code teams.membership-index.ttl}, e uma
+ * resposta negativa vinda da memória é confirmada no banco antes de virar 403. Assim a memória só atrasa perdas de
+ * acesso, nunca concessões.
+ * <p>
+ * Cada time guarda um vetor ordenado de ids e outro de papéis, substituídos por cópia a cada escrita. Leituras não
+ * bloqueiam e custam uma busca binária.
+ */
+@Component
+public class TeamMembershipIndex {
+
+	private static final TeamRole[] ROLES = TeamRole.values();
+	private static final Set<TeamRole> MANAGERS = EnumSet.of(TeamRole.OWNER, TeamRole.COACH);
+
+	private final TeamMemberRepository teamMemberRepository;
+	private final Clock clock;
+	private final long ttlMillis;
+	private final Map<String, Roster> rosters = new ConcurrentHashMap<>();
+	// Avança a cada escrita; um carregamento que cruzou uma escrita não é guardado, pois pode ter lido o estado anterior
+	private final AtomicLong writes = new AtomicLong();
+	private final Counter hits;
+	private final Counter misses;
+
+	@Autowired
+	TeamMembershipIndex(TeamMemberRepository teamMemberRepository, //
+			@Value("${teams.membership-index.ttl:5m}") Duration ttl, //
+			MeterRegistry meterRegistry //
+	) {
+		this(teamMemberRepository, Clock.systemUTC(), ttl, meterRegistry);
+	}
+
+	TeamMembershipIndex(TeamMemberRepository teamMemberRepository, Clock clock, Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.teamMemberRepository = teamMemberRepository;
+		this.clock = clock;
+		this.ttlMillis = ttl.toMillis();
+		this.hits = Counter.builder("teams.membership_index.lookups").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("teams.membership_index.lookups").tag("result", "miss").register(meterRegistry);
+		Gauge.builder("teams.membership_index.teams", rosters, Map::size).register(meterRegistry);
+	}
+
+	public boolean canManage(String teamId, String userId) {
+		if (teamId == null || userId == null)
+			return false;
+
+		long now = clock.millis();
+		Roster roster = cached(teamId, now);
+		if (roster == null) {
+			misses.increment();
+			return MANAGERS.contains(load(teamId, now).roleOf(userId));
+		}
+
+		if (MANAGERS.contains(roster.roleOf(userId))) {
+			hits.increment();
+			return true;
+		}
+
+		// Time já em memória: confirma só este usuário pela consulta indexada, sem recarregar o time inteiro
+		misses.increment();
+		return teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(teamId, userId, MANAGERS);
+	}
+
+	/**
+	 * Registra um time recém-criado com o dono como único membro. Dentro de uma transação, só vale após o commit.
+	 */
+	public void teamCreated(String teamId, String ownerId) {
+		TransactionUtils.afterCommit(() -> {
+			writes.incrementAndGet();
+			rosters.put(teamId, new Roster(new String[] { ownerId }, new byte[] { (byte) TeamRole.OWNER.ordinal() },
+					clock.millis() + ttlMillis));
+		});
+	}
+
+	/**
+	 * Adiciona (ou atualiza) o papel de um membro. Times ainda não carregados continuam de fora e serão lidos do banco
+	 * já com o novo membro. Dentro de uma transação, só vale após o commit.
+	 */
+	public void memberAdded(String teamId, String userId, TeamRole role) {
+		TransactionUtils.afterCommit(() -> {
+			writes.incrementAndGet();
+			rosters.computeIfPresent(teamId, (_, roster) -> roster.with(userId, role));
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${teams.membership-index.ttl:5m}",
+			initialDelayString = "${teams.membership-index.ttl:5m}")
+	public void evictExpired() {
+		long now = clock.millis();
+		rosters.values().removeIf(roster -> roster.expiresAt() <= now);
+	}
+
+	int size() {
+		return rosters.size();
+	}
+
+	// Só a memória, sem ir ao banco
+	TeamRole cachedRole(String teamId, String userId) {
+		Roster roster = cached(teamId, clock.millis());
+		return roster != null ? roster.roleOf(userId) : null;
+	}
+
+	private Roster cached(String teamId, long now) {
+		Roster roster = rosters.get(teamId);
+		return roster != null && roster.expiresAt() > now ? roster : null;
+	}
+
+	private Roster load(String teamId, long now) {
+		long writesBefore = writes.get();
+		Roster loaded = Roster.of(teamMemberRepository.findMemberRolesByTeamId(teamId), now + ttlMillis);
+
+		// Checagem e troca atômicas: uma escrita que chegar depois é aplicada sobre o time recém-carregado
+		rosters.compute(teamId, (_, current) -> writes.get() == writesBefore ? loaded : current);
+		return loaded;
+	}
+
+	private record Roster(String[] userIds, byte[] roles, long expiresAt) {
+
+		static Roster of(List<TeamMemberRepository.MemberRoleView> members, long expiresAt) {
+			TeamMemberRepository.MemberRoleView[] sorted = members.toArray(TeamMemberRepository.MemberRoleView[]::new);
+			Arrays.sort(sorted, Comparator.comparing(TeamMemberRepository.MemberRoleView::getUserId));
+
+			String[] sortedIds = new String[sorted.length];
+			byte[] sortedRoles = new byte[sorted.length];
+			for (int i = 0; i < sorted.length; i++) {
+				sortedIds[i] = sorted[i].getUserId();
+				sortedRoles[i] = (byte) sorted[i].getRole().ordinal();
+			}
+			return new Roster(sortedIds, sortedRoles, expiresAt);
+		}
+
+		TeamRole roleOf(String userId) {
+			int position = Arrays.binarySearch(userIds, userId);
+			return position >= 0 ? ROLES[roles[position]] : null;
+		}
+
+		Roster with(String userId, TeamRole role) {
+			int position = Arrays.binarySearch(userIds, userId);
+			if (position >= 0) {
+				byte[] updatedRoles = roles.clone();
+				updatedRoles[position] = (byte) role.ordinal();
+				return new Roster(userIds, updatedRoles, expiresAt);
+			}
+
+			int insertAt = -position - 1;
+			String[] newIds = new String[userIds.length + 1];
+			byte[] newRoles = new byte[roles.length + 1];
+			System.arraycopy(userIds, 0, newIds, 0, insertAt);
+			System.arraycopy(roles, 0, newRoles, 0, insertAt);
+			newIds[insertAt] = userId;
+			newRoles[insertAt] = (byte) role.ordinal();
+			System.arraycopy(userIds, insertAt, newIds, insertAt + 1, userIds.length - insertAt);
+			System.arraycopy(roles, insertAt, newRoles, insertAt + 1, roles.length - insertAt);
+			return new Roster(newIds, newRoles, expiresAt);
+		}
+
+	}
+
+}
@@ -0,0 +1,178 @@
+package com.hydra.core.security;
+
+import com.hydra.core.entity.RevokedTokenEntity;
+import com.hydra.core.repository.RevokedTokenRepository;
+import com.hydra.core.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tokens revogados antes de expirar (logout). O registro fica no banco até a expiração do token; cada nó mantém em
+ * memória um filtro de Bloom e o conjunto exato dos ids (jti) ainda válidos, e busca no banco só as revogações novas.
+ * <p>
+ * A consulta em {@link #isRevoked(String)} nunca vai ao banco: quase todo token cai fora do filtro, e os "talvez" são
+ * resolvidos no conjunto exato.
+ */
+@Component
+public class TokenRevocationList implements SmartInitializingSingleton {
+
+	private final RevokedTokenRepository repository;
+	private final Clock clock;
+	private final long expectedRevocations;
+	private final double falsePositiveRate;
+	// Revogações de outros nós podem chegar com atraso de até um ciclo; a janela relê esse intervalo a cada sync
+	private final Duration syncOverlap;
+	private final Counter filterAnswers;
+	private final Counter exactAnswers;
+
+	private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+	private volatile BloomFilter filter;
+	private long filterCapacity;
+	private volatile Instant lastSync;
+
+	@Autowired
+	TokenRevocationList(RevokedTokenRepository repository, //
+			@Value("${security.revocation.expected-revocations:10000}") long expectedRevocations, //
+			@Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate, //
+			@Value("${security.revocation.sync-interval:30s}") Duration syncInterval, //
+			MeterRegistry meterRegistry //
+	) {
+		this(repository, Clock.systemDefaultZone(), expectedRevocations, falsePositiveRate, syncInterval,
+				meterRegistry);
+	}
+
+	TokenRevocationList(RevokedTokenRepository repository, Clock clock, long expectedRevocations,
+			double falsePositiveRate, Duration syncInterval, MeterRegistry meterRegistry) {
+		this.repository = repository;
+		this.clock = clock;
+		this.expectedRevocations = expectedRevocations;
+		this.falsePositiveRate = falsePositiveRate;
+		this.syncOverlap = syncInterval.multipliedBy(2).plusMinutes(1);
+		this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+		this.filterCapacity = expectedRevocations;
+		this.filterAnswers = Counter.builder("auth.token_revocation.lookups").tag("source", "filter")
+									.register(meterRegistry);
+		this.exactAnswers = Counter.builder("auth.token_revocation.lookups").tag("source", "exact")
+								   .register(meterRegistry);
+		Gauge.builder("auth.token_revocation.size", revoked, Map::size).register(meterRegistry);
+	}
+
+	/**
+	 * Carrega as revogações vigentes antes do servidor web começar a aceitar requisições, para que nenhum token revogado
+	 * passe logo após a subida.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		Instant now = clock.instant();
+		repository.findActive(toLocal(now)).forEach(view -> add(view.getJti(), toInstant(view.getExpiresAt())));
+		lastSync = now;
+	}
+
+	public boolean isRevoked(String tokenId) {
+		if (tokenId == null)
+			return false;
+
+		if (!filter.mightContain(tokenId)) {
+			filterAnswers.increment();
+			return false;
+		}
+
+		exactAnswers.increment();
+		return revoked.containsKey(tokenId);
+	}
+
+	public void revoke(String tokenId, String userId, Instant expiresAt) {
+		Instant now = clock.instant();
+		if (tokenId == null || expiresAt == null || !expiresAt.isAfter(now))
+			return;
+
+		RevokedTokenEntity entity = new RevokedTokenEntity();
+		entity.setJti(tokenId);
+		entity.setUserId(userId);
+		entity.setExpiresAt(toLocal(expiresAt));
+		entity.setRevokedAt(toLocal(now));
+		repository.save(entity);
+
+		add(tokenId, expiresAt);
+	}
+
+	/**
+	 * Revoga um token de uso único (o refresh token, ao ser trocado por um par novo).
+	 *
+	 * @return {@code false} se o token já tinha sido usado, neste ou em outro nó, ou já expirou
+	 */
+	public boolean consume(String tokenId, String userId, Instant expiresAt) {
+		Instant now = clock.instant();
+		if (tokenId == null || expiresAt == null || !expiresAt.isAfter(now))
+			return false;
+
+		boolean first = repository.insertIfAbsent(tokenId, userId, toLocal(expiresAt), toLocal(now)) == 1;
+		add(tokenId, expiresAt);
+		return first;
+	}
+
+	/**
+	 * Traz as revogações feitas em outros nós e descarta as que já expiraram. O filtro de Bloom não remove itens, então
+	 * é reconstruído quando algo expira.
+	 */
+	@Scheduled(fixedDelayString = "${security.revocation.sync-interval:30s}",
+			initialDelayString = "${security.revocation.sync-interval:30s}")
+	public void sync() {
+		Instant now = clock.instant();
+		Instant since = (lastSync != null ? lastSync : now).minus(syncOverlap);
+
+		repository.findActiveRevokedSince(toLocal(since), toLocal(now))
+				  .forEach(view -> add(view.getJti(), toInstant(view.getExpiresAt())));
+		lastSync = now;
+
+		if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now)))
+			rebuildFilter();
+
+		repository.deleteExpired(toLocal(now));
+	}
+
+	int size() {
+		return revoked.size();
+	}
+
+	// Escritas raras (logout/sync) são serializadas com a reconstrução do filtro; leituras não bloqueiam. O id entra no
+	// conjunto antes do filtro, então quem vê o bit no filtro também encontra o id no conjunto.
+	private synchronized void add(String tokenId, Instant expiresAt) {
+		revoked.put(tokenId, expiresAt);
+		filter.put(tokenId);
+
+		// Acima da capacidade a taxa de falsos positivos sobe; reconstrói com folga
+		if (revoked.size() > filterCapacity)
+			rebuildFilter();
+	}
+
+	private synchronized void rebuildFilter() {
+		long capacity = Math.max(expectedRevocations, revoked.size() * 2L);
+		BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+		revoked.keySet().forEach(rebuilt::put);
+		filter = rebuilt;
+		filterCapacity = capacity;
+	}
+
+	private LocalDateTime toLocal(Instant instant) {
+		return LocalDateTime.ofInstant(instant, clock.getZone());
+	}
+
+	private Instant toInstant(LocalDateTime dateTime) {
+		return dateTime.atZone(clock.getZone()).toInstant();
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.hydra.core.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache limitado de tokens já verificados, indexado pelo SHA-256 do token. Cada entrada expira junto com o token, então
+ * um token revogado pela expiração nunca é servido a partir daqui.
+ */
+final class VerifiedTokenCache {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final int maxSize;
+	private final Clock clock;
+
+	VerifiedTokenCache(int maxSize, Clock clock) {
+		this.maxSize = maxSize;
+		this.clock = clock;
+	}
+
+	AuthenticatedToken get(String token) {
+		String key = digest(token);
+		Entry entry = entries.get(key);
+
+		if (entry == null)
+			return null;
+
+		if (!entry.expiresAt().isAfter(clock.instant())) {
+			entries.remove(key, entry);
+			return null;
+		}
+
+		return entry.token();
+	}
+
+	void put(String token, AuthenticatedToken authenticated, Instant expiresAt) {
+		if (expiresAt == null || !expiresAt.isAfter(clock.instant()))
+			return;
+
+		if (entries.size() >= maxSize)
+			evict();
+
+		entries.put(digest(token), new Entry(authenticated, expiresAt));
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private void evict() {
+		Instant now = clock.instant();
+		entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+
+		// Ainda cheio: descarta entradas arbitrárias até abrir espaço
+		Iterator<String> keys = entries.keySet().iterator();
+		while (entries.size() >= maxSize && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	private static String digest(String token) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 indisponível", e);
+		}
+	}
+
+	private record Entry(AuthenticatedToken token, Instant expiresAt) {
+
+	}
+
+}
@@ -1,9 +1,11 @@
 package com.hydra.core.service;
 
 import com.hydra.core.dtos.ResponseDto;
+import com.hydra.core.dtos.TrainingLoadRebuildDto;
 import com.hydra.core.entity.UserEntity;
 import com.hydra.core.mappers.UserMapper;
 import com.hydra.core.repository.UserRepository;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -13,9 +15,11 @@ import java.util.List;
 public class AdminService {
 
 	private final UserRepository userRepository;
+	private final TrainingLoadRebuilder trainingLoadRebuilder;
 
-	public AdminService(UserRepository userRepository) {
+	public AdminService(UserRepository userRepository, TrainingLoadRebuilder trainingLoadRebuilder) {
 		this.userRepository = userRepository;
+		this.trainingLoadRebuilder = trainingLoadRebuilder;
 	}
 
 	public ResponseEntity<ResponseDto> getAllUsers() {
@@ -28,4 +32,14 @@ public class AdminService {
 		return ResponseEntity.ok(responseDto);
 	}
 
+	public ResponseEntity<ResponseDto> rebuildTrainingLoad() {
+		TrainingLoadRebuildDto result = trainingLoadRebuilder.rebuildAll();
+
+		if (result == null)
+			return ResponseEntity.status(HttpStatus.CONFLICT)
+								 .body(new ResponseDto("Já existe um recálculo da carga de treino em andamento!"));
+
+		return ResponseEntity.ok(new ResponseDto("Carga de treino recalculada!", result));
+	}
+
 }
\ No newline at end of file
@@ -3,57 +3,79 @@ package com.hydra.core.service;
 import com.hydra.core.config.ModelMapperConfig;
 import com.hydra.core.dtos.AuthResponseDto;
 import com.hydra.core.dtos.LoginDto;
+import com.hydra.core.dtos.RefreshTokenDto;
 import com.hydra.core.dtos.ResponseDto;
 import com.hydra.core.dtos.UserDto;
 import com.hydra.core.entity.UserEntity;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.exceptions.InvalidTokenException;
+import com.hydra.core.repository.TeamMemberRepository;
 import com.hydra.core.repository.UserRepository;
+import com.hydra.core.security.AuthenticatedToken;
 import com.hydra.core.security.JwtService;
-import com.hydra.core.utils.BCrypt;
-import jakarta.transaction.Transactional;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.PasswordHasher;
+import com.hydra.core.security.RefreshTokenClaims;
+import com.hydra.core.security.TokenRevocationList;
+import com.hydra.core.utils.ValidationUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class AuthService {
 
 	private final UserRepository userRepository;
+	private final TeamMemberRepository teamMemberRepository;
 	private final JwtService jwtService;
+	private final MembershipVersions membershipVersions;
+	private final TokenRevocationList revocationList;
+	private final PasswordHasher passwordHasher;
+	private final IdentityAvailabilityService identityAvailability;
 	private final ModelMapper mapper;
 
-	AuthService(UserRepository userRepository, JwtService jwtService, ModelMapperConfig modelMapperConfig) {
+	AuthService(UserRepository userRepository, TeamMemberRepository teamMemberRepository, JwtService jwtService,
+			MembershipVersions membershipVersions, TokenRevocationList revocationList, PasswordHasher passwordHasher,
+			IdentityAvailabilityService identityAvailability, ModelMapperConfig modelMapperConfig) {
 		this.userRepository = userRepository;
+		this.teamMemberRepository = teamMemberRepository;
 		this.jwtService = jwtService;
+		this.membershipVersions = membershipVersions;
+		this.revocationList = revocationList;
+		this.passwordHasher = passwordHasher;
+		this.identityAvailability = identityAvailability;
 		this.mapper = modelMapperConfig.modelMapper();
 	}
 
-	@Transactional
+	/**
+	 * Sem transação em volta: cada leitura/escrita no banco é curta e nenhuma conexão fica presa enquanto o hash espera
+	 * na fila do {@link PasswordHasher}.
+	 */
 	public ResponseEntity<ResponseDto> registerUser(UserDto userDto) {
 		ResponseDto responseDto = new ResponseDto();
-		Optional<UserEntity> existingUser = userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(userDto.email(),
-				userDto.username());
-
-		if (existingUser.isPresent()) {
-			String message = existingUser.get().getEmail().equalsIgnoreCase(userDto.email())
-					? "O email já está em uso!"
-					: "O nome de usuário já está em uso!";
+		String message = null;
+		if (userRepository.existsByEmailNormalized(UserEntity.normalizeIdentity(userDto.email())))
+			message = "O email já está em uso!";
+		else if (userRepository.existsByUsernameNormalized(UserEntity.normalizeIdentity(userDto.username())))
+			message = "O nome de usuário já está em uso!";
 
+		if (message != null) {
 			responseDto.setMessage(message);
 			responseDto.setSuccess(false);
 			return ResponseEntity.badRequest().body(responseDto);
 		}
 
 		UserEntity userEntity = mapper.map(userDto, UserEntity.class);
-		userEntity.setPassword(BCrypt.hashpw(userDto.password()));
+		userEntity.setPassword(passwordHasher.hash(userDto.password()));
 
 		userRepository.save(userEntity);
+		identityAvailability.register(userEntity.getEmail(), userEntity.getUsername());
 
-		String jwtToken = jwtService.generateToken(userEntity.getId(), userEntity.getUsername(), userEntity.getEmail(),
-				userEntity.getName());
-
-		AuthResponseDto authResponseDto = new AuthResponseDto(userEntity.getId(), jwtToken);
+		AuthResponseDto authResponseDto = issueTokens(userEntity);
 
 		responseDto.setMessage("User registered successfully");
 		responseDto.setData(authResponseDto);
@@ -62,10 +84,13 @@ public class AuthService {
 		return ResponseEntity.ok(responseDto);
 	}
 
-	@Transactional
+	/**
+	 * Como no cadastro, sem transação: o usuário é lido, a conexão volta ao pool e só então a senha é verificada. O
+	 * rehash, quando houver, é um UPDATE na sua própria transação curta.
+	 */
 	public ResponseEntity<ResponseDto> loginUser(LoginDto userDto) {
 		ResponseDto responseDto = new ResponseDto();
-		Optional<UserEntity> userOpt = userRepository.findByEmailOrUsername(userDto.login(), userDto.login());
+		Optional<UserEntity> userOpt = userRepository.findByLogin(userDto.login());
 
 		if (userOpt.isEmpty()) {
 			responseDto.setMessage("Usuário ou senha inválidos");
@@ -74,16 +99,21 @@ public class AuthService {
 		}
 
 		UserEntity userEntity = userOpt.get();
-		if (!BCrypt.checkpw(userDto.password(), userEntity.getPassword())) {
+		if (!passwordHasher.matches(userDto.password(), userEntity.getPassword())) {
 			responseDto.setMessage("Usuário ou senha inválidos");
 			responseDto.setSuccess(false);
 			return ResponseEntity.status(401).body(responseDto);
 		}
 
-		String jwtToken = jwtService.generateToken(userEntity.getId(), userEntity.getUsername(), userEntity.getEmail(),
-				userEntity.getName());
+		// Custo abaixo do calibrado para este nó: atualiza o hash em segundo plano
+		if (passwordHasher.needsRehash(userEntity.getPassword())) {
+			String userId = userEntity.getId();
+			String oldHash = userEntity.getPassword();
+			passwordHasher.rehashInBackground(userDto.password(),
+					newHash -> userRepository.updatePasswordIfUnchanged(userId, oldHash, newHash));
+		}
 
-		AuthResponseDto authResponseDto = new AuthResponseDto(userEntity.getId(), jwtToken);
+		AuthResponseDto authResponseDto = issueTokens(userEntity);
 
 		responseDto.setMessage("Login successful");
 		responseDto.setData(authResponseDto);
@@ -92,4 +122,71 @@ public class AuthService {
 		return ResponseEntity.ok(responseDto);
 	}
 
+	/**
+	 * Emite um novo access token a partir do refresh token, relendo os papéis do usuário nos times. É o caminho do
+	 * cliente quando o access token expira ou é recusado por mudança nos vínculos.
+	 * <p>
+	 * O refresh token é de uso único: é revogado antes de emitir o par novo, e uma segunda troca do mesmo token (um
+	 * token vazado, ou duas renovações concorrentes) é recusada.
+	 */
+	public ResponseEntity<ResponseDto> refreshToken(RefreshTokenDto dto) {
+		RefreshTokenClaims claims = jwtService.parseRefreshToken(dto != null ? dto.refreshToken() : null);
+		if (revocationList.isRevoked(claims.tokenId()))
+			throw new InvalidTokenException();
+
+		String userId = claims.userId();
+		UserEntity userEntity = userRepository.findById(userId).orElseThrow(InvalidTokenException::new);
+
+		if (!revocationList.consume(claims.tokenId(), userId, claims.expiresAt()))
+			throw new InvalidTokenException();
+
+		AuthResponseDto authResponseDto = issueTokens(userEntity);
+
+		ResponseDto responseDto = new ResponseDto();
+		responseDto.setMessage("Token renovado com sucesso!");
+		responseDto.setData(authResponseDto);
+		responseDto.setSuccess(true);
+
+		return ResponseEntity.ok(responseDto);
+	}
+
+	/**
+	 * Revoga o access token usado na requisição e, se informado, o refresh token da mesma sessão.
+	 */
+	public ResponseEntity<ResponseDto> logout(String accessToken, RefreshTokenDto dto) {
+		AuthenticatedToken authenticated = jwtService.authenticate(accessToken);
+		String userId = authenticated.user().id();
+
+		revocationList.revoke(authenticated.tokenId(), userId, authenticated.expiresAt());
+
+		if (dto != null && ValidationUtils.notEmpty(dto.refreshToken())) {
+			RefreshTokenClaims refresh = jwtService.parseRefreshToken(dto.refreshToken());
+			if (!userId.equals(refresh.userId()))
+				throw new InvalidTokenException();
+
+			revocationList.revoke(refresh.tokenId(), userId, refresh.expiresAt());
+		}
+
+		ResponseDto responseDto = new ResponseDto();
+		responseDto.setMessage("Logout realizado com sucesso!");
+		responseDto.setSuccess(true);
+
+		return ResponseEntity.ok(responseDto);
+	}
+
+	private AuthResponseDto issueTokens(UserEntity userEntity) {
+		// Versão lida antes dos papéis: se os vínculos mudarem entre as duas leituras, o token já nasce vencido
+		long membershipVersion = membershipVersions.current(userEntity.getId());
+
+		Map<String, TeamRole> teamRoles = new HashMap<>();
+		teamMemberRepository.findRolesByUserId(userEntity.getId())
+							.forEach(view -> teamRoles.put(view.getTeamId(), view.getRole()));
+
+		String jwtToken = jwtService.generateToken(userEntity.getId(), userEntity.getUsername(), userEntity.getEmail(),
+				userEntity.getName(), teamRoles, membershipVersion);
+		String refreshToken = jwtService.generateRefreshToken(userEntity.getId());
+
+		return new AuthResponseDto(userEntity.getId(), jwtToken, refreshToken);
+	}
+
 }
\ No newline at end of file
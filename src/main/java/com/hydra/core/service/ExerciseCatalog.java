@@ -0,0 +1,89 @@
+package com.hydra.core.service;
+
+import com.hydra.core.entity.ExerciseEntity;
+import com.hydra.core.repository.ExerciseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolve ids de exercícios para montar treinos. O catálogo global ({@code is_custom = false}) só muda por migração,
+ * então fica inteiro em memória e é relido periodicamente; exercícios customizados e ids fora do catálogo são buscados
+ * numa única consulta por chamada.
+ * <p>
+ * As entidades do catálogo são compartilhadas entre requisições e ficam destacadas: servem de referência para a chave
+ * estrangeira e para o mapeamento do DTO, e não devem ser alteradas.
+ */
+@Component
+public class ExerciseCatalog {
+
+	private final ExerciseRepository exerciseRepository;
+	private final Counter catalogHits;
+	private final Counter databaseLookups;
+	private volatile Map<String, ExerciseEntity> globals;
+
+	ExerciseCatalog(ExerciseRepository exerciseRepository, MeterRegistry meterRegistry) {
+		this.exerciseRepository = exerciseRepository;
+		this.catalogHits = Counter.builder("exercises.catalog.lookups").tag("source", "catalog")
+								  .register(meterRegistry);
+		this.databaseLookups = Counter.builder("exercises.catalog.lookups").tag("source", "database")
+									  .register(meterRegistry);
+		Gauge.builder("exercises.catalog.size", this, catalog -> catalog.globals != null ? catalog.globals.size() : 0)
+			 .register(meterRegistry);
+	}
+
+	/**
+	 * @return os exercícios encontrados, por id; os ids ausentes do mapa não existem
+	 */
+	public Map<String, ExerciseEntity> findAllById(Collection<String> ids) {
+		Map<String, ExerciseEntity> catalog = globals();
+		Map<String, ExerciseEntity> found = new HashMap<>();
+		List<String> remaining = new ArrayList<>();
+
+		for (String id : new HashSet<>(ids)) {
+			if (id == null)
+				continue;
+
+			ExerciseEntity exercise = catalog.get(id);
+			if (exercise != null)
+				found.put(id, exercise);
+			else
+				remaining.add(id);
+		}
+		catalogHits.increment(found.size());
+
+		if (!remaining.isEmpty()) {
+			databaseLookups.increment(remaining.size());
+			exerciseRepository.findAllById(remaining).forEach(exercise -> found.put(exercise.getId(), exercise));
+		}
+
+		return found;
+	}
+
+	/**
+	 * Relê o catálogo global; exercícios incluídos por migração com a aplicação no ar aparecem aqui no próximo ciclo
+	 * (até lá são resolvidos pelo banco).
+	 */
+	@Scheduled(fixedDelayString = "${workouts.exercise-catalog.refresh-interval:10m}",
+			initialDelayString = "${workouts.exercise-catalog.refresh-interval:10m}")
+	public void refresh() {
+		globals = exerciseRepository.findByIsCustomFalse().stream().collect(
+				Collectors.toUnmodifiableMap(ExerciseEntity::getId, Function.identity()));
+	}
+
+	private Map<String, ExerciseEntity> globals() {
+		Map<String, ExerciseEntity> current = globals;
+		if (current == null) {
+			refresh();
+			current = globals;
+		}
+		return current;
+	}
+
+}
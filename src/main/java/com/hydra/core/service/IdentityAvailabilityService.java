@@ -0,0 +1,209 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.AvailabilityDto;
+import com.hydra.core.dtos.ResponseDto;
+import com.hydra.core.entity.UserEntity;
+import com.hydra.core.repository.UserRepository;
+import com.hydra.core.utils.BloomFilter;
+import com.hydra.core.utils.ValidationUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Pré-checagem de disponibilidade de email/username para os formulários de cadastro. Um filtro de Bloom com as
+ * identidades normalizadas responde "disponível" direto da memória; só os possíveis conflitos vão ao banco.
+ * <p>
+ * Cadastros feitos em outro nó chegam pela sincronização periódica ({@link #sync()}), como em
+ * {@link com.hydra.core.security.TokenRevocationList}; até lá podem aparecer como disponíveis, o que só adia o erro para
+ * o cadastro, onde os índices únicos decidem. Quando o filtro passa da capacidade, é reconstruído do banco com o
+ * tamanho novo.
+ */
+@Service
+public class IdentityAvailabilityService {
+
+	private static final String EMAIL_PREFIX = "e:";
+	private static final String USERNAME_PREFIX = "u:";
+
+	private final UserRepository userRepository;
+	private final Clock clock;
+	private final long minCapacity;
+	private final double falsePositiveRate;
+	// Cadastros de outros nós podem chegar com atraso de até um ciclo; a janela relê esse intervalo a cada sync
+	private final Duration syncOverlap;
+	private final Counter memoryAnswers;
+	private final Counter databaseAnswers;
+
+	// Enquanto o primeiro filtro não está pronto, toda consulta vai ao banco
+	private volatile BloomFilter filter;
+	private volatile boolean ready;
+	// Filtro em reconstrução: cadastros desta instância entram nele também, para não se perderem na troca
+	private BloomFilter building;
+	private long filterCapacity;
+	private long insertions;
+	private LocalDateTime lastSync;
+
+	@Autowired
+	IdentityAvailabilityService(UserRepository userRepository, //
+			@Value("${security.availability.min-capacity:100000}") long minCapacity, //
+			@Value("${security.availability.false-positive-rate:0.01}") double falsePositiveRate, //
+			@Value("${security.availability.sync-interval:30s}") Duration syncInterval, //
+			MeterRegistry meterRegistry //
+	) {
+		this(userRepository, Clock.systemDefaultZone(), minCapacity, falsePositiveRate, syncInterval, meterRegistry);
+	}
+
+	IdentityAvailabilityService(UserRepository userRepository, Clock clock, long minCapacity,
+			double falsePositiveRate, Duration syncInterval, MeterRegistry meterRegistry) {
+		this.userRepository = userRepository;
+		this.clock = clock;
+		this.minCapacity = minCapacity;
+		this.falsePositiveRate = falsePositiveRate;
+		this.syncOverlap = syncInterval.multipliedBy(2).plusMinutes(1);
+		this.memoryAnswers = Counter.builder("auth.availability.lookups").tag("source", "memory")
+									.register(meterRegistry);
+		this.databaseAnswers = Counter.builder("auth.availability.lookups").tag("source", "database")
+									  .register(meterRegistry);
+	}
+
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadIdentities() {
+		rebuild();
+	}
+
+	/**
+	 * Traz os cadastros feitos em outros nós desde a última sincronização e reconstrói o filtro quando ele passa da
+	 * capacidade.
+	 */
+	@Transactional
+	@Scheduled(fixedDelayString = "${security.availability.sync-interval:30s}",
+			initialDelayString = "${security.availability.sync-interval:30s}")
+	public void sync() {
+		if (!ready)
+			return;
+
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<UserRepository.IdentityView> created = userRepository.findIdentitiesCreatedSince(
+				lastSync.minus(syncOverlap));
+
+		boolean full;
+		synchronized (this) {
+			created.forEach(identity -> put(filter, identity.getEmailNormalized(), identity.getUsernameNormalized()));
+			lastSync = now;
+			full = insertions > filterCapacity;
+		}
+
+		if (full)
+			rebuild();
+	}
+
+	public synchronized void register(String email, String username) {
+		if (filter == null)
+			return;
+
+		String emailNormalized = UserEntity.normalizeIdentity(email);
+		String usernameNormalized = UserEntity.normalizeIdentity(username);
+		put(filter, emailNormalized, usernameNormalized);
+		if (building != null && building != filter)
+			put(building, emailNormalized, usernameNormalized);
+	}
+
+	public ResponseEntity<ResponseDto> checkAvailability(String email, String username) {
+		ResponseDto responseDto = new ResponseDto();
+
+		if (ValidationUtils.isEmpty(email) && ValidationUtils.isEmpty(username)) {
+			responseDto.setMessage("Informe o email ou o nome de usuário!");
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDto);
+		}
+
+		Boolean emailAvailable = ValidationUtils.isEmpty(email) ? null : isEmailAvailable(email);
+		Boolean usernameAvailable = ValidationUtils.isEmpty(username) ? null : isUsernameAvailable(username);
+
+		responseDto.setSuccess(true);
+		responseDto.setData(new AvailabilityDto(emailAvailable, usernameAvailable));
+		return ResponseEntity.ok(responseDto);
+	}
+
+	boolean isEmailAvailable(String email) {
+		String normalized = UserEntity.normalizeIdentity(email);
+		if (definitelyAbsent(EMAIL_PREFIX + normalized))
+			return true;
+
+		databaseAnswers.increment();
+		return !userRepository.existsByEmailNormalized(normalized);
+	}
+
+	boolean isUsernameAvailable(String username) {
+		String normalized = UserEntity.normalizeIdentity(username);
+		if (definitelyAbsent(USERNAME_PREFIX + normalized))
+			return true;
+
+		databaseAnswers.increment();
+		return !userRepository.existsByUsernameNormalized(normalized);
+	}
+
+	// A carga roda fora do lock: as consultas seguem no filtro atual até a troca
+	private void rebuild() {
+		LocalDateTime startedAt = LocalDateTime.now(clock);
+		// Folga de 2x sobre a base atual (email + username por usuário) para os próximos cadastros
+		long capacity = Math.max(minCapacity, userRepository.count() * 4);
+		BloomFilter loading = new BloomFilter(capacity, falsePositiveRate);
+		synchronized (this) {
+			building = loading;
+			if (filter == null)
+				filter = loading;
+		}
+
+		long loaded = 0;
+		try (Stream<UserRepository.IdentityView> identities = userRepository.streamAllIdentities()) {
+			for (UserRepository.IdentityView identity : (Iterable<UserRepository.IdentityView>) identities::iterator) {
+				loading.put(EMAIL_PREFIX + identity.getEmailNormalized());
+				loading.put(USERNAME_PREFIX + identity.getUsernameNormalized());
+				loaded += 2;
+			}
+		}
+
+		synchronized (this) {
+			filter = loading;
+			building = null;
+			filterCapacity = capacity;
+			insertions = loaded;
+			lastSync = startedAt;
+		}
+		ready = true;
+	}
+
+	// Conta só as chaves novas para o filtro, já que a janela de sincronização relê cadastros já vistos
+	private void put(BloomFilter target, String emailNormalized, String usernameNormalized) {
+		for (String key : new String[] { EMAIL_PREFIX + emailNormalized, USERNAME_PREFIX + usernameNormalized }) {
+			if (!target.mightContain(key)) {
+				target.put(key);
+				insertions++;
+			}
+		}
+	}
+
+	private boolean definitelyAbsent(String key) {
+		if (!ready || filter.mightContain(key))
+			return false;
+
+		memoryAnswers.increment();
+		return true;
+	}
+
+}
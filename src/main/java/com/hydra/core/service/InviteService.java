@@ -12,6 +12,8 @@ import com.hydra.core.repository.TeamMemberRepository;
 import com.hydra.core.repository.TeamRepository;
 import com.hydra.core.repository.UserRepository;
 import com.hydra.core.security.JwtService;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.TeamMembershipIndex;
 import com.hydra.core.utils.ValidationUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -38,9 +40,12 @@ public class InviteService {
 	private final TeamMemberRepository teamMemberRepository;
 	private final EmailSender emailSender;
 	private final JwtService jwtService;
+	private final MembershipVersions membershipVersions;
+	private final TeamMembershipIndex membershipIndex;
+	private final TeamVersions teamVersions;
 
 	@Transactional
-	public ResponseEntity<ResponseDto> createInviteToken(String authorization, String teamId,
+	public ResponseEntity<ResponseDto> createInviteToken(String userId, String teamId,
 			TeamInviteRequestDto request) {
 		ResponseDto responseDto = new ResponseDto();
 
@@ -55,10 +60,7 @@ public class InviteService {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDto);
 		}
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto userByToken = jwtService.parseTokenToUser(token);
-
-		if (!userByToken.id().equals(request.coachId())) {
+		if (!userId.equals(request.coachId())) {
 			responseDto.setMessage("Você não pode aceitar o próprio convite!");
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseDto);
 		}
@@ -77,15 +79,12 @@ public class InviteService {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDto);
 		}
 
-		boolean coachInTeam = team.get().getCoaches().stream().anyMatch(c -> c.getId().equals(coach.get().getId()));
-
-		if (!coachInTeam) {
+		if (!membershipIndex.canManage(teamId, coach.get().getId())) {
 			responseDto.setMessage("Professor não autorizado a convidar para essa equipe!");
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseDto);
 		}
 
-		Optional<UserEntity> athlete = userRepository.findByEmailOrUsername(request.athleteIdentifier(),
-				request.athleteIdentifier());
+		Optional<UserEntity> athlete = userRepository.findByLogin(request.athleteIdentifier());
 
 		if (athlete.isEmpty()) {
 			responseDto.setMessage("Nenhum usuário foi encontrado!");
@@ -93,7 +92,7 @@ public class InviteService {
 		}
 
 		String athleteId = athlete.get().getId();
-		if (team.get().getAthletes().stream().anyMatch(a -> a.getId().equals(athleteId))) {
+		if (teamMemberRepository.existsByTeamIdAndUserId(teamId, athleteId)) {
 			responseDto.setMessage("O usuário já é membro dessa equipe!");
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseDto);
 		}
@@ -109,7 +108,7 @@ public class InviteService {
 	}
 
 	@Transactional
-	public ResponseEntity<ResponseDto> acceptInviteToken(String authorization, String inviteToken) {
+	public ResponseEntity<ResponseDto> acceptInviteToken(String userId, String inviteToken) {
 		ResponseDto responseDto = new ResponseDto();
 
 		if (ValidationUtils.isEmpty(inviteToken)) {
@@ -125,11 +124,8 @@ public class InviteService {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDto);
 		}
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto userByToken = jwtService.parseTokenToUser(token);
-
 		// Valida que o token é para o usuário logado
-		if (!userByToken.id().equals(inviteData.userId())) {
+		if (!userId.equals(inviteData.userId())) {
 			responseDto.setMessage("Você não pode aceitar esse convite!");
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseDto);
 		}
@@ -145,6 +141,11 @@ public class InviteService {
 
 		teamMemberRepository.save(newMember);
 
+		// Tokens já emitidos para o convidado não trazem o novo time
+		membershipVersions.bump(context.invitedUser().getId());
+		membershipIndex.memberAdded(context.team().getId(), context.invitedUser().getId(), context.role());
+		teamVersions.bump(context.team().getId());
+
 		responseDto.setSuccess(true);
 		String roleMessage = context.role() == TeamRole.COACH ? "treinador(a)" : "atleta";
 		responseDto.setMessage("Boas vindas a equipe! Agora você é um(a) " + roleMessage + " do time " + context.team()
@@ -153,7 +154,7 @@ public class InviteService {
 		return ResponseEntity.ok(responseDto);
 	}
 
-	public ResponseEntity<ResponseDto> sendInviteTokenByEmail(String authorization, String inviteToken)
+	public ResponseEntity<ResponseDto> sendInviteTokenByEmail(String userId, String inviteToken)
 			throws IOException {
 		ResponseDto responseDto = new ResponseDto();
 
@@ -162,14 +163,10 @@ public class InviteService {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDto);
 		}
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-
-		UserDto userByToken = jwtService.parseTokenToUser(token);
 		InviteTokenDto inviteData = jwtService.parseInviteToken(inviteToken);
 
 		// Valida que quem está enviando é quem criou o convite
-		if (ValidationUtils.isAnyEmpty(userByToken.id(), inviteData.invitedBy()) || !userByToken.id()
-																								.equals(inviteData.invitedBy())) {
+		if (ValidationUtils.isAnyEmpty(userId, inviteData.invitedBy()) || !userId.equals(inviteData.invitedBy())) {
 			responseDto.setMessage(INVALID_TOKEN_MESSAGE);
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(responseDto);
 		}
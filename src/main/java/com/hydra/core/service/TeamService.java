@@ -5,11 +5,13 @@ import com.hydra.core.entity.TeamEntity;
 import com.hydra.core.entity.TeamMemberEntity;
 import com.hydra.core.entity.UserEntity;
 import com.hydra.core.enums.TeamRole;
-import com.hydra.core.exceptions.UnauthorizedException;
 import com.hydra.core.repository.TeamMemberRepository;
 import com.hydra.core.repository.TeamRepository;
 import com.hydra.core.repository.UserRepository;
-import com.hydra.core.security.JwtService;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import com.hydra.core.security.TeamMembershipIndex;
 import com.hydra.core.utils.ValidationUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -31,10 +33,13 @@ public class TeamService {
 	private final UserRepository userRepository;
 	private final TeamRepository teamRepository;
 	private final TeamMemberRepository teamMemberRepository;
-	private final JwtService jwtService;
+	private final MembershipVersions membershipVersions;
+	private final TeamMembershipIndex membershipIndex;
+	private final TeamVersions teamVersions;
+	private final TeamAuthorization teamAuthorization;
 
 	@Transactional
-	public ResponseEntity<ResponseDto> createTeam(String authorization, CreateTeamDto dto) {
+	public ResponseEntity<ResponseDto> createTeam(String userId, CreateTeamDto dto) {
 		ResponseDto responseDto = new ResponseDto();
 
 		if (ValidationUtils.isAnyEmpty(dto.name(), dto.city(), dto.uf(), dto.color())) {
@@ -48,17 +53,7 @@ public class TeamService {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseDto);
 		}
 
-		String token;
-		try {
-			token = jwtService.extractTokenFromHeader(authorization);
-		} catch (UnauthorizedException ex) {
-			responseDto.setMessage(ex.getMessage());
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(responseDto);
-		}
-
-		UserDto userByToken = jwtService.parseTokenToUser(token);
-
-		UserEntity creator = userRepository.findById(userByToken.id())
+		UserEntity creator = userRepository.findById(userId)
 										   .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND_MESSAGE));
 
 		TeamEntity team = new TeamEntity();
@@ -79,6 +74,11 @@ public class TeamService {
 		teamRepository.save(team);
 		teamMemberRepository.save(ownerMember);
 
+		// O token atual do criador ainda não traz o novo time
+		membershipVersions.bump(userId);
+		membershipIndex.teamCreated(team.getId(), userId);
+		teamVersions.bump(team.getId());
+
 		responseDto.setSuccess(true);
 		responseDto.setMessage("Time " + team.getName() + " criado com sucesso!");
 		responseDto.setData(team.getId());
@@ -86,20 +86,13 @@ public class TeamService {
 		return ResponseEntity.ok(responseDto);
 	}
 
-	public ResponseEntity<ResponseDto> getTeamUsers(String authorization, String teamId) {
-		// Valida autenticação
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto userByToken = jwtService.parseTokenToUser(token);
-
+	public ResponseEntity<ResponseDto> getTeamUsers(TeamAccess access, String teamId) {
 		// Verifica se o time existe
 		TeamEntity team = teamRepository.findById(teamId)
 										.orElseThrow(() -> new EntityNotFoundException(TEAM_NOT_FOUND_MESSAGE));
 
-		// Verifica se o usuário é membro do time
-		Optional<TeamMemberEntity> userMembership = teamMemberRepository.findByTeamIdAndUserId(teamId,
-				userByToken.id());
-
-		if (userMembership.isEmpty()) {
+		// Verifica se o usuário é membro do time, pelos papéis do token (negativas confirmadas no banco)
+		if (!teamAuthorization.isMember(access, teamId)) {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN)
 								 .body(new ResponseDto("Você não tem permissão para ver os membros deste time!"));
 		}
@@ -121,31 +114,25 @@ public class TeamService {
 		return ResponseEntity.ok(responseDto);
 	}
 
-	public ResponseEntity<ResponseDto> getTeamDetails(String authorization, String teamId) {
+	public ResponseEntity<ResponseDto> getTeamDetails(TeamAccess access, String teamId) {
 		ResponseDto responseDto = new ResponseDto();
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto userByToken = jwtService.parseTokenToUser(token);
-
 		Optional<TeamEntity> teamOpt = teamRepository.findById(teamId);
 		if (teamOpt.isEmpty()) {
 			responseDto.setMessage(TEAM_NOT_FOUND_MESSAGE);
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseDto);
 		}
 
-		UserEntity userEntity = userRepository.findById(userByToken.id())
-											  .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND_MESSAGE));
-
-		TeamMemberEntity teamMember = teamMemberRepository.findFirstByUserAndTeam(userEntity, teamOpt.get());
+		TeamRole role = teamAuthorization.roleIn(access, teamId);
 
-		if (teamMember == null) {
+		if (role == null) {
 			responseDto.setMessage("Usuário não autorizado a acessar os detalhes deste time!");
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseDto);
 		}
 
 		TeamEntity team = teamOpt.get();
 		TeamDetailsDto teamDetailsDto = new TeamDetailsDto(team.getId(), team.getName(), team.getDescription(),
-				team.getCity(), team.getUf(), team.getColor(), teamMember.getRole().getLabel(), team.getImageUrl(),
+				team.getCity(), team.getUf(), team.getColor(), role.getLabel(), team.getImageUrl(),
 				team.getCreatedAt());
 
 		responseDto.setSuccess(true);
@@ -155,13 +142,10 @@ public class TeamService {
 		return ResponseEntity.ok(responseDto);
 	}
 
-	public ResponseEntity<ResponseDto> getMainTeamOfUser(String authorization) {
+	public ResponseEntity<ResponseDto> getMainTeamOfUser(String userId) {
 		ResponseDto responseDto = new ResponseDto();
 
-		String token = jwtService.extractTokenFromHeader(authorization);
-		UserDto userByToken = jwtService.parseTokenToUser(token);
-
-		UserEntity userEntity = userRepository.findById(userByToken.id())
+		UserEntity userEntity = userRepository.findById(userId)
 											  .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND_MESSAGE));
 
 		TeamMemberEntity teamMember = teamMemberRepository.findFirstByUserOrderByJoinedAtAsc(userEntity);
@@ -0,0 +1,48 @@
+package com.hydra.core.service;
+
+import com.hydra.core.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versão dos dados de cada time (treinos, membros e detalhes), usada como ETag das leituras do time. Fica na coluna
+ * {@code teams.version} e toda escrita nesses dados a avança na própria transação: todos os nós veem a mesma versão, e
+ * a versão nova nunca é servida junto com dados antigos lidos do banco. Respostas montadas a partir de caches em memória
+ * só mantêm essa garantia se conferirem cada entrada com o banco (como a listagem completa faz com o
+ * {@link WorkoutJsonCache}). Enquanto a versão não muda, um {@code If-None-Match} com a ETag anterior é respondido com
+ * 304 lendo só essa coluna.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamVersions {
+
+	private final TeamRepository teamRepository;
+
+	public long current(String teamId) {
+		return teamRepository.findVersionById(teamId).orElse(0L);
+	}
+
+	/**
+	 * ETag forte da versão atual do time. Deve ser lida antes de consultar o banco: se uma escrita terminar no meio da
+	 * leitura, os dados novos saem com a versão antiga e o próximo pedido apenas recebe 200 de novo.
+	 */
+	public String eTag(String teamId) {
+		return "\"" + Long.toString(current(teamId), 36) + "\"";
+	}
+
+	/**
+	 * Como {@link #eTag(String)}, para respostas que também dependem de quem pede (ex.: o papel do usuário no time).
+	 */
+	public String eTag(String teamId, String variant) {
+		return "\"" + Long.toString(current(teamId), 36) + "-" + variant + "\"";
+	}
+
+	/**
+	 * Avança a versão do time. Deve ser chamada dentro da transação da escrita, para que a versão só mude junto com os
+	 * dados; a linha do time fica travada até o commit, então escritas concorrentes no mesmo time passam uma de cada vez.
+	 */
+	public void bump(String teamId) {
+		teamRepository.incrementVersion(teamId);
+	}
+
+}
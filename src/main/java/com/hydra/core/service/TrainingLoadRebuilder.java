@@ -0,0 +1,105 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.TrainingLoadRebuildDto;
+import com.hydra.core.repository.TeamRepository;
+import com.hydra.core.repository.TrainingLoadRepository;
+import com.hydra.core.repository.WorkoutRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recalcula os rollups de carga ({@code team_weekly_load}) a partir dos treinos: um time por transação, vários times
+ * em paralelo. Os times não compartilham linhas, e a trava por time de {@code TrainingLoadRepositoryCustomImpl} impede
+ * que o rebuild de um time cruze uma escrita em andamento nele. Serve de backfill: roda sozinho na subida quando a
+ * tabela está vazia e já existem treinos, e pode ser disparado pelo admin.
+ */
+@Component
+public class TrainingLoadRebuilder {
+
+	private final TeamRepository teamRepository;
+	private final WorkoutRepository workoutRepository;
+	private final TrainingLoadRepository trainingLoadRepository;
+	private final TransactionTemplate transactionTemplate;
+	// Cada worker segura uma conexão do pool enquanto recalcula um time
+	private final int parallelism;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final Counter rebuiltTeams;
+	private final Counter failedTeams;
+
+	TrainingLoadRebuilder(TeamRepository teamRepository, //
+			WorkoutRepository workoutRepository, //
+			TrainingLoadRepository trainingLoadRepository, //
+			PlatformTransactionManager transactionManager, //
+			@Value("${workouts.training-load.rebuild-parallelism:4}") int parallelism, //
+			MeterRegistry meterRegistry //
+	) {
+		this.teamRepository = teamRepository;
+		this.workoutRepository = workoutRepository;
+		this.trainingLoadRepository = trainingLoadRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.parallelism = Math.max(1, parallelism);
+		this.rebuiltTeams = Counter.builder("workouts.training_load.rebuild").tag("result", "done")
+								   .register(meterRegistry);
+		this.failedTeams = Counter.builder("workouts.training_load.rebuild").tag("result", "failed")
+								  .register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillIfEmpty() {
+		if (trainingLoadRepository.count() > 0 || !workoutRepository.existsByScheduledDateIsNotNull())
+			return;
+
+		Thread.ofPlatform().name("training-load-backfill").daemon().start(this::rebuildAll);
+	}
+
+	/**
+	 * Recalcula todos os times e espera terminar. Um time que falha não interrompe os outros; ele só fica com os totais
+	 * anteriores até o próximo rebuild.
+	 *
+	 * @return o resultado, ou {@code null} se já houver um rebuild em andamento nesta instância
+	 */
+	public TrainingLoadRebuildDto rebuildAll() {
+		if (!running.compareAndSet(false, true))
+			return null;
+
+		try {
+			long start = System.nanoTime();
+			List<String> teamIds = teamRepository.findAllIds();
+			AtomicInteger failed = new AtomicInteger();
+
+			// close() espera todas as tarefas
+			try (ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+					Thread.ofPlatform().name("training-load-rebuild-", 0).daemon().factory())) {
+				for (String teamId : teamIds)
+					executor.execute(() -> rebuildTeam(teamId, failed));
+			}
+
+			return new TrainingLoadRebuildDto(teamIds.size(), failed.get(), (System.nanoTime() - start) / 1_000_000);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private void rebuildTeam(String teamId, AtomicInteger failed) {
+		try {
+			transactionTemplate.executeWithoutResult(_ -> trainingLoadRepository.rebuildTeam(teamId));
+			rebuiltTeams.increment();
+		} catch (RuntimeException _) {
+			failed.incrementAndGet();
+			failedTeams.increment();
+		}
+	}
+
+}
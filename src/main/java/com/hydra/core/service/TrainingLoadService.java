@@ -0,0 +1,83 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.TrainingLoadDto;
+import com.hydra.core.dtos.TrainingLoadWeekDto;
+import com.hydra.core.entity.TeamWeeklyLoadEntity;
+import com.hydra.core.exceptions.InvalidDateRangeException;
+import com.hydra.core.exceptions.UnauthorizedException;
+import com.hydra.core.repository.TrainingLoadRepository;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * Leitura dos rollups semanais de carga ({@code team_weekly_load}); a conta sobre as séries, segmentos e sets já foi
+ * feita nas escritas, então a consulta só percorre uma linha por semana e modalidade.
+ */
+@Service
+public class TrainingLoadService {
+
+	static final int DEFAULT_WEEKS = 12;
+	static final int MAX_WEEKS = 104;
+
+	private final TrainingLoadRepository trainingLoadRepository;
+	private final TeamAuthorization teamAuthorization;
+	private final Clock clock;
+
+	@Autowired
+	TrainingLoadService(TrainingLoadRepository trainingLoadRepository, TeamAuthorization teamAuthorization) {
+		this(trainingLoadRepository, teamAuthorization, Clock.systemDefaultZone());
+	}
+
+	TrainingLoadService(TrainingLoadRepository trainingLoadRepository, TeamAuthorization teamAuthorization,
+			Clock clock) {
+		this.trainingLoadRepository = trainingLoadRepository;
+		this.teamAuthorization = teamAuthorization;
+		this.clock = clock;
+	}
+
+	/**
+	 * @param from qualquer dia da primeira semana; padrão: {@value DEFAULT_WEEKS} semanas antes de {@code to}
+	 * @param to   qualquer dia da última semana; padrão: a semana atual
+	 */
+	public TrainingLoadDto getTeamLoad(String teamId, LocalDate from, LocalDate to, TeamAccess access) {
+		if (!teamAuthorization.isMember(access, teamId))
+			throw new UnauthorizedException("Você não é membro deste time");
+
+		LocalDate lastWeek = weekStart(to != null ? to : LocalDate.now(clock));
+		LocalDate firstWeek = from != null ? weekStart(from) : lastWeek.minusWeeks(DEFAULT_WEEKS - 1);
+
+		if (firstWeek.isAfter(lastWeek))
+			throw new InvalidDateRangeException("A data inicial deve ser anterior à final!");
+		if (ChronoUnit.WEEKS.between(firstWeek, lastWeek) >= MAX_WEEKS)
+			throw new InvalidDateRangeException("O período pode ter no máximo " + MAX_WEEKS + " semanas!");
+
+		List<TrainingLoadWeekDto> weeks = trainingLoadRepository.findTeamWeeks(teamId, firstWeek, lastWeek).stream()
+																.map(TrainingLoadService::toDto).toList();
+
+		return new TrainingLoadDto(teamId, firstWeek, lastWeek, weeks);
+	}
+
+	private static LocalDate weekStart(LocalDate date) {
+		return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+	}
+
+	private static TrainingLoadWeekDto toDto(TeamWeeklyLoadEntity load) {
+		LocalDate weekStart = load.getWeekStart();
+		String week = "%d-W%02d".formatted(weekStart.get(IsoFields.WEEK_BASED_YEAR),
+				weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+
+		return new TrainingLoadWeekDto(week, weekStart, load.getModality(), load.getWorkouts(), load.getTonnageKg(),
+				load.getDistanceMeters(), load.getDurationSeconds());
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.*;
+import com.hydra.core.entity.*;
+import com.hydra.core.models.CreateWorkoutRequest;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Monta a árvore de entidades de um treino a partir dos DTOs de criação. Compartilhado entre a criação unitária, a
+ * em lote e o patch; não acessa o banco.
+ */
+final class WorkoutAssembler {
+
+	private WorkoutAssembler() {
+	}
+
+	static WorkoutEntity newWorkout(CreateWorkoutRequest request, TeamEntity team, UserEntity user) {
+		return WorkoutEntity.builder().team(team).createdBy(user).title(request.title())
+							.description(request.description()).modality(request.modality())
+							.scheduledDate(request.scheduledDate()).scheduledTime(request.scheduledTime())
+							.durationMinutes(request.duration()).intensity(request.intensity()).notes(request.notes())
+							.build();
+	}
+
+	static void addExercises(WorkoutEntity workout, List<CreateWorkoutExerciseDto> exercises,
+			Function<String, ExerciseEntity> exerciseById) {
+		for (int i = 0; i < exercises.size(); i++) {
+			CreateWorkoutExerciseDto exerciseDto = exercises.get(i);
+
+			WorkoutExerciseEntity workoutExercise = new WorkoutExerciseEntity();
+			workoutExercise.setWorkout(workout);
+			workoutExercise.setOrderIndex(i + 1);
+			copyExercise(workoutExercise, exerciseDto, exerciseById.apply(exerciseDto.exerciseId()));
+
+			// Adiciona as séries
+			for (CreateWorkoutSetDto setDto : orEmpty(exerciseDto.sets())) {
+				WorkoutExerciseSetEntity set = new WorkoutExerciseSetEntity();
+				set.setWorkoutExercise(workoutExercise);
+				set.setSetNumber(setDto.setNumber());
+				copySet(set, setDto);
+
+				workoutExercise.getSets().add(set);
+			}
+
+			workout.getExercises().add(workoutExercise);
+		}
+	}
+
+	static void addRunningSegments(WorkoutEntity workout, List<CreateRunningSegmentDto> segments) {
+		for (int i = 0; i < segments.size(); i++) {
+			WorkoutRunningSegmentEntity segment = new WorkoutRunningSegmentEntity();
+			segment.setWorkout(workout);
+			segment.setOrderIndex(i + 1);
+			copySegment(segment, segments.get(i));
+
+			workout.getRunningSegments().add(segment);
+		}
+	}
+
+	static void addSwimmingSets(WorkoutEntity workout, List<CreateSwimmingSetDto> sets) {
+		for (int i = 0; i < sets.size(); i++) {
+			WorkoutSwimmingSetEntity swimmingSet = new WorkoutSwimmingSetEntity();
+			swimmingSet.setWorkout(workout);
+			swimmingSet.setOrderIndex(i + 1);
+			copySwimmingSet(swimmingSet, sets.get(i));
+
+			workout.getSwimmingSets().add(swimmingSet);
+		}
+	}
+
+	// Os copy* não mexem no pai nem na ordem; também servem para atualizar um filho existente (WorkoutPatcher)
+
+	static void copyExercise(WorkoutExerciseEntity workoutExercise, CreateWorkoutExerciseDto exerciseDto,
+			ExerciseEntity exercise) {
+		workoutExercise.setExercise(exercise);
+		workoutExercise.setTechnique(exerciseDto.technique());
+		workoutExercise.setRestBetweenSetsSeconds(exerciseDto.restBetweenSetsSeconds());
+		workoutExercise.setNotes(exerciseDto.notes());
+	}
+
+	static void copySet(WorkoutExerciseSetEntity set, CreateWorkoutSetDto setDto) {
+		set.setReps(setDto.reps());
+		set.setWeight(setDto.weight());
+		set.setRpe(setDto.rpe());
+		set.setRestSeconds(setDto.restSeconds());
+		set.setNotes(setDto.notes());
+	}
+
+	static void copySegment(WorkoutRunningSegmentEntity segment, CreateRunningSegmentDto segmentDto) {
+		segment.setSegmentType(segmentDto.segmentType());
+		segment.setDistanceMeters(segmentDto.distanceMeters());
+		segment.setDurationSeconds(segmentDto.durationSeconds());
+		segment.setTargetPace(segmentDto.targetPace());
+		segment.setTargetPaceSeconds(segmentDto.targetPaceSeconds());
+		segment.setIntensity(segmentDto.intensity());
+		segment.setNotes(segmentDto.notes());
+	}
+
+	static void copySwimmingSet(WorkoutSwimmingSetEntity swimmingSet, CreateSwimmingSetDto setDto) {
+		swimmingSet.setStroke(setDto.stroke());
+		swimmingSet.setDistanceMeters(setDto.distanceMeters());
+		swimmingSet.setRepetitions(setDto.repetitions());
+		swimmingSet.setTargetTime(setDto.targetTime());
+		swimmingSet.setTargetPaceSeconds(setDto.targetPaceSeconds());
+		swimmingSet.setRestSeconds(setDto.restSeconds());
+		swimmingSet.setEquipment(setDto.equipment());
+		swimmingSet.setNotes(setDto.notes());
+	}
+
+	static <T> List<T> orEmpty(List<T> list) {
+		return list != null ? list : List.of();
+	}
+
+}
@@ -0,0 +1,252 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydra.core.dtos.*;
+import com.hydra.core.entity.ExerciseEntity;
+import com.hydra.core.entity.TeamEntity;
+import com.hydra.core.entity.UserEntity;
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidBulkPayloadException;
+import com.hydra.core.exceptions.UnauthorizedException;
+import com.hydra.core.models.CreateWorkoutRequest;
+import com.hydra.core.repository.TeamRepository;
+import com.hydra.core.repository.UserRepository;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import com.hydra.core.utils.ValidationUtils;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Criação de muitos treinos numa requisição (ex.: um mesociclo inteiro). A lista é lida item a item com a API de
+ * streaming do Jackson, sem montar o corpo inteiro em memória; a permissão, o time e o criador são verificados uma
+ * vez só, e os treinos válidos são gravados em lotes pelo {@link WorkoutBulkWriter}.
+ * <p>
+ * Cada lote é uma transação: um item inválido não impede os demais, e o resultado informa o que aconteceu com cada
+ * posição da lista.
+ */
+@Service
+public class WorkoutBulkService {
+
+	private static final String SAVE_FAILED_MESSAGE = "Não foi possível salvar o treino";
+
+	private final TeamRepository teamRepository;
+	private final UserRepository userRepository;
+	private final ExerciseCatalog exerciseCatalog;
+	private final WorkoutBulkWriter bulkWriter;
+	private final WorkoutCalendarCache calendarCache;
+	private final TeamAuthorization teamAuthorization;
+	private final ObjectMapper objectMapper;
+	private final int chunkSize;
+
+	WorkoutBulkService(TeamRepository teamRepository, //
+			UserRepository userRepository, //
+			ExerciseCatalog exerciseCatalog, //
+			WorkoutBulkWriter bulkWriter, //
+			WorkoutCalendarCache calendarCache, //
+			TeamAuthorization teamAuthorization, //
+			ObjectMapper objectMapper, //
+			@Value("${workouts.bulk.chunk-size:50}") int chunkSize //
+	) {
+		this.teamRepository = teamRepository;
+		this.userRepository = userRepository;
+		this.exerciseCatalog = exerciseCatalog;
+		this.bulkWriter = bulkWriter;
+		this.calendarCache = calendarCache;
+		this.teamAuthorization = teamAuthorization;
+		this.objectMapper = objectMapper;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * @param body lista JSON de treinos; cada item traz {@code modality} e os campos do DTO de criação da modalidade
+	 * @return um resultado por item, na ordem da lista
+	 */
+	public List<BulkWorkoutResultDto> createWorkouts(String teamId, InputStream body, TeamAccess access)
+			throws IOException {
+		if (!teamAuthorization.isMember(access, teamId))
+			throw new UnauthorizedException("Você não é membro deste time");
+		if (!teamAuthorization.canManage(access, teamId))
+			throw new UnauthorizedException("Apenas coaches e donos são autorizados a fazer esta ação");
+
+		TeamEntity team = teamRepository.findById(teamId)
+										.orElseThrow(() -> new EntityNotFoundException("Time não encontrado"));
+		UserEntity user = userRepository.findById(access.userId())
+										.orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado"));
+
+		List<BulkWorkoutResultDto> results = new ArrayList<>();
+		List<Item> chunk = new ArrayList<>(chunkSize);
+		int index = 0;
+
+		try (JsonParser parser = objectMapper.createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY)
+				throw new InvalidBulkPayloadException("O corpo deve ser uma lista de treinos!");
+
+			for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+				if (token == null) {
+					results.add(BulkWorkoutResultDto.failed(index, "Lista de treinos incompleta"));
+					break;
+				}
+
+				int itemIndex = index;
+				JsonNode node = objectMapper.readTree(parser);
+				index++;
+				try {
+					chunk.add(toItem(itemIndex, node, teamId));
+				} catch (InvalidItemException e) {
+					results.add(BulkWorkoutResultDto.failed(itemIndex, e.getMessage()));
+				}
+
+				if (chunk.size() == chunkSize) {
+					write(chunk, team, user, results);
+					chunk.clear();
+				}
+			}
+		} catch (JsonProcessingException e) {
+			// Os lotes anteriores já foram gravados; o resultado marca a posição em que a leitura parou
+			results.add(BulkWorkoutResultDto.failed(index, "JSON inválido a partir deste item"));
+		}
+
+		write(chunk, team, user, results);
+		results.sort(Comparator.comparingInt(BulkWorkoutResultDto::index));
+		return results;
+	}
+
+	private Item toItem(int index, JsonNode node, String teamId) {
+		if (!node.isObject())
+			throw new InvalidItemException("Cada item deve ser um objeto");
+
+		WorkoutModality modality;
+		try {
+			modality = WorkoutModality.valueOf(node.path("modality").asText());
+		} catch (IllegalArgumentException e) {
+			throw new InvalidItemException("Modalidade inválida");
+		}
+
+		Object dto;
+		try {
+			dto = objectMapper.treeToValue(node, switch (modality) {
+				case WEIGHTLIFTING -> CreateWeightliftingWorkoutDto.class;
+				case RUNNING -> CreateRunningWorkoutDto.class;
+				case SWIMMING -> CreateSwimmingWorkoutDto.class;
+			});
+		} catch (JsonProcessingException e) {
+			throw new InvalidItemException("Campos inválidos: " + e.getOriginalMessage());
+		}
+
+		CreateWorkoutRequest request = request(dto);
+		if (request.teamId() != null && !request.teamId().equals(teamId))
+			throw new InvalidItemException("O treino pertence a outro time");
+		if (ValidationUtils.isEmpty(request.title()))
+			throw new InvalidItemException("O título é obrigatório");
+
+		Set<String> exerciseIds = new HashSet<>();
+		if (dto instanceof CreateWeightliftingWorkoutDto weightlifting) {
+			for (CreateWorkoutExerciseDto exercise : WorkoutAssembler.orEmpty(weightlifting.exercises())) {
+				if (exercise.exerciseId() == null)
+					throw new InvalidItemException("Exercício não informado");
+				exerciseIds.add(exercise.exerciseId());
+			}
+		}
+
+		return new Item(index, request, dto, exerciseIds);
+	}
+
+	private void write(List<Item> chunk, TeamEntity team, UserEntity user, List<BulkWorkoutResultDto> results) {
+		if (chunk.isEmpty())
+			return;
+
+		// Exercícios de todo o lote numa consulta só
+		Set<String> exerciseIds = chunk.stream().flatMap(item -> item.exerciseIds().stream())
+									   .collect(Collectors.toSet());
+		Map<String, ExerciseEntity> exercises = exerciseIds.isEmpty() ? Map.of() : exerciseCatalog.findAllById(exerciseIds);
+
+		List<Item> accepted = new ArrayList<>(chunk.size());
+		List<WorkoutEntity> workouts = new ArrayList<>(chunk.size());
+		for (Item item : chunk) {
+			List<String> missing = item.exerciseIds().stream().filter(id -> !exercises.containsKey(id)).sorted()
+									   .toList();
+			if (!missing.isEmpty()) {
+				results.add(BulkWorkoutResultDto.failed(item.index(),
+						"Exercício não encontrado: " + String.join(", ", missing)));
+				continue;
+			}
+
+			accepted.add(item);
+			workouts.add(assemble(item, team, user, exercises));
+		}
+
+		if (workouts.isEmpty())
+			return;
+
+		try {
+			bulkWriter.persistAll(workouts);
+		} catch (RuntimeException e) {
+			accepted.forEach(item -> results.add(BulkWorkoutResultDto.failed(item.index(), SAVE_FAILED_MESSAGE)));
+			return;
+		}
+
+		for (int i = 0; i < accepted.size(); i++) {
+			WorkoutEntity workout = workouts.get(i);
+			results.add(BulkWorkoutResultDto.created(accepted.get(i).index(), workout.getId()));
+			calendarCache.workoutChanged(team.getId(), workout.getScheduledDate());
+		}
+	}
+
+	private static WorkoutEntity assemble(Item item, TeamEntity team, UserEntity user,
+			Map<String, ExerciseEntity> exercises) {
+		WorkoutEntity workout = WorkoutAssembler.newWorkout(item.request(), team, user);
+
+		switch (item.dto()) {
+			case CreateWeightliftingWorkoutDto dto ->
+					WorkoutAssembler.addExercises(workout, WorkoutAssembler.orEmpty(dto.exercises()), exercises::get);
+			case CreateRunningWorkoutDto dto ->
+					WorkoutAssembler.addRunningSegments(workout, WorkoutAssembler.orEmpty(dto.segments()));
+			case CreateSwimmingWorkoutDto dto ->
+					WorkoutAssembler.addSwimmingSets(workout, WorkoutAssembler.orEmpty(dto.sets()));
+			default -> throw new IllegalStateException("DTO inesperado: " + item.dto().getClass());
+		}
+
+		WorkoutMetrics.apply(workout);
+		return workout;
+	}
+
+	private static CreateWorkoutRequest request(Object dto) {
+		return switch (dto) {
+			case CreateWeightliftingWorkoutDto w -> new CreateWorkoutRequest(w.teamId(), null, w.title(),
+					w.description(), WorkoutModality.WEIGHTLIFTING, w.scheduledDate(), w.scheduledTime(),
+					w.durationMinutes(), w.intensity(), w.notes());
+			case CreateRunningWorkoutDto r -> new CreateWorkoutRequest(r.teamId(), null, r.title(), r.description(),
+					WorkoutModality.RUNNING, r.scheduledDate(), r.scheduledTime(), r.durationMinutes(), r.intensity(),
+					r.notes());
+			case CreateSwimmingWorkoutDto s -> new CreateWorkoutRequest(s.teamId(), null, s.title(), s.description(),
+					WorkoutModality.SWIMMING, s.scheduledDate(), s.scheduledTime(), s.durationMinutes(), s.intensity(),
+					s.notes());
+			default -> throw new IllegalStateException("DTO inesperado: " + dto.getClass());
+		};
+	}
+
+	private record Item(int index, CreateWorkoutRequest request, Object dto, Set<String> exerciseIds) {
+
+	}
+
+	private static final class InvalidItemException extends RuntimeException {
+
+		private InvalidItemException(String message) {
+			super(message);
+		}
+
+	}
+
+}
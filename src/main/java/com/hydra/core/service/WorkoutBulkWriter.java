@@ -0,0 +1,41 @@
+package com.hydra.core.service;
+
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.repository.TrainingLoadRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Grava um lote de treinos numa transação própria. Os ids (UUID) são gerados na aplicação no persist, então o Hibernate
+ * agrupa os INSERTs de cada tabela em batches JDBC (hibernate.jdbc.batch_size + order_inserts).
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutBulkWriter {
+
+	private final TrainingLoadRepository trainingLoadRepository;
+	private final TeamVersions teamVersions;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Time, criador e exercícios referenciados podem vir destacados: só o id deles vai para as chaves estrangeiras. O
+	 * contexto é limpo ao final para não acumular entidades entre lotes. Todos os treinos são do mesmo time, cuja versão
+	 * avança no mesmo commit.
+	 */
+	@Transactional
+	public void persistAll(List<WorkoutEntity> workouts) {
+		workouts.forEach(entityManager::persist);
+		entityManager.flush();
+		trainingLoadRepository.addWorkouts(workouts.stream().map(WorkoutEntity::getId).toList());
+		teamVersions.bump(workouts.getFirst().getTeam().getId());
+		entityManager.clear();
+	}
+
+}
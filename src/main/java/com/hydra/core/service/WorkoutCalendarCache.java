@@ -0,0 +1,149 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.WorkoutCalendarDayDto;
+import com.hydra.core.dtos.WorkoutCalendarDto;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.repository.WorkoutRepository;
+import com.hydra.core.utils.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calendário mensal de treinos por time, calculado por um único GROUP BY e guardado por (time, mês). As escritas desta
+ * instância invalidam o mês afetado após o commit; o TTL limita por quanto tempo uma escrita feita em outro nó pode
+ * ficar invisível aqui.
+ */
+@Component
+public class WorkoutCalendarCache {
+
+	private final WorkoutRepository workoutRepository;
+	private final Clock clock;
+	private final int maxEntries;
+	private final Duration ttl;
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	// Avança a cada invalidação; um cálculo que cruzou uma escrita não é guardado, pois pode ter lido o estado anterior
+	private final AtomicLong writes = new AtomicLong();
+	private final Counter hits;
+	private final Counter misses;
+
+	@Autowired
+	WorkoutCalendarCache(WorkoutRepository workoutRepository, //
+			@Value("${workouts.calendar-cache.max-entries:10000}") int maxEntries, //
+			@Value("${workouts.calendar-cache.ttl:5m}") Duration ttl, //
+			MeterRegistry meterRegistry //
+	) {
+		this(workoutRepository, Clock.systemDefaultZone(), maxEntries, ttl, meterRegistry);
+	}
+
+	WorkoutCalendarCache(WorkoutRepository workoutRepository, Clock clock, int maxEntries, Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.workoutRepository = workoutRepository;
+		this.clock = clock;
+		this.maxEntries = maxEntries;
+		this.ttl = ttl;
+		this.hits = Counter.builder("workouts.calendar_cache.lookups").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("workouts.calendar_cache.lookups").tag("result", "miss").register(meterRegistry);
+		Gauge.builder("workouts.calendar_cache.size", entries, Map::size).register(meterRegistry);
+	}
+
+	public WorkoutCalendarDto get(String teamId, YearMonth month) {
+		Key key = new Key(teamId, month);
+		Instant now = clock.instant();
+
+		Entry entry = entries.get(key);
+		if (entry != null && entry.expiresAt().isAfter(now)) {
+			hits.increment();
+			return entry.calendar();
+		}
+
+		misses.increment();
+		long writesBefore = writes.get();
+		WorkoutCalendarDto calendar = load(teamId, month);
+
+		if (writes.get() == writesBefore) {
+			if (entries.size() >= maxEntries)
+				evict(now);
+			entries.put(key, new Entry(calendar, now.plus(ttl)));
+		}
+
+		return calendar;
+	}
+
+	/**
+	 * Descarta o mês do treino criado ou removido. Treinos sem data não aparecem no calendário. Dentro de uma transação,
+	 * só vale após o commit.
+	 */
+	public void workoutChanged(String teamId, LocalDate scheduledDate) {
+		if (scheduledDate == null)
+			return;
+
+		Key key = new Key(teamId, YearMonth.from(scheduledDate));
+		TransactionUtils.afterCommit(() -> {
+			writes.incrementAndGet();
+			entries.remove(key);
+		});
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private WorkoutCalendarDto load(String teamId, YearMonth month) {
+		List<WorkoutRepository.CalendarDayView> rows = workoutRepository.findCalendarDays(teamId, month.atDay(1),
+				month.atEndOfMonth());
+
+		// As linhas vêm ordenadas por dia; cada dia tem uma linha por modalidade
+		List<WorkoutCalendarDayDto> days = new ArrayList<>();
+		LocalDate currentDate = null;
+		Map<WorkoutModality, Long> byModality = null;
+		long totalDuration = 0;
+
+		for (WorkoutRepository.CalendarDayView row : rows) {
+			if (!row.getScheduledDate().equals(currentDate)) {
+				if (currentDate != null)
+					days.add(new WorkoutCalendarDayDto(currentDate, Collections.unmodifiableMap(byModality),
+							totalDuration));
+				currentDate = row.getScheduledDate();
+				byModality = new EnumMap<>(WorkoutModality.class);
+				totalDuration = 0;
+			}
+
+			byModality.put(row.getModality(), row.getWorkoutCount());
+			totalDuration += row.getTotalDurationMinutes();
+		}
+
+		if (currentDate != null)
+			days.add(new WorkoutCalendarDayDto(currentDate, Collections.unmodifiableMap(byModality), totalDuration));
+
+		return new WorkoutCalendarDto(teamId, month, List.copyOf(days));
+	}
+
+	private void evict(Instant now) {
+		entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+
+		// Ainda cheio: descarta entradas arbitrárias até abrir espaço
+		Iterator<Key> keys = entries.keySet().iterator();
+		while (entries.size() >= maxEntries && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	private record Key(String teamId, YearMonth month) {
+
+	}
+
+	private record Entry(WorkoutCalendarDto calendar, Instant expiresAt) {
+
+	}
+
+}
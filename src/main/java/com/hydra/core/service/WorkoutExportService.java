@@ -0,0 +1,172 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hydra.core.dtos.WorkoutExportRowDto;
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.enums.WorkoutExportFormat;
+import com.hydra.core.exceptions.InvalidDateRangeException;
+import com.hydra.core.exceptions.UnauthorizedException;
+import com.hydra.core.exceptions.WorkoutExportBusyException;
+import com.hydra.core.mappers.WorkoutMapper;
+import com.hydra.core.models.WorkoutQuery;
+import com.hydra.core.repository.WorkoutRepository;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de todos os treinos de um time em NDJSON ou CSV, escrita direto na resposta enquanto as linhas chegam do
+ * banco: nem a lista de treinos nem o arquivo ficam inteiros em memória. O cursor traz {@code workouts.export.fetch-size}
+ * linhas por vez e o contexto de persistência é limpo a cada lote, então o heap usado não cresce com o tamanho do time.
+ * <p>
+ * A transação (e a conexão) fica aberta enquanto o cliente baixa o arquivo, então no máximo
+ * {@code workouts.export.max-concurrent} exportações rodam ao mesmo tempo; as demais são recusadas na hora com
+ * {@link WorkoutExportBusyException} (503 + Retry-After) em vez de esgotar o pool de conexões.
+ */
+@Service
+public class WorkoutExportService {
+
+	static final String CSV_HEADER = "id,title,description,modality,scheduledDate,scheduledTime,durationMinutes,"
+			+ "intensity,notes,createdById,createdByName,itemCount,totalSets,totalTonnageKg,totalDistanceMeters,"
+			+ "estimatedDurationSeconds,createdAt,updatedAt";
+
+	private final WorkoutRepository workoutRepository;
+	private final WorkoutMapper workoutMapper;
+	private final EntityManager entityManager;
+	private final TeamAuthorization teamAuthorization;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectWriter rowWriter;
+	private final int fetchSize;
+	private final Semaphore running;
+	private final long retryAfterSeconds;
+	private final Counter rejected;
+
+	WorkoutExportService(WorkoutRepository workoutRepository, //
+			WorkoutMapper workoutMapper, //
+			EntityManager entityManager, //
+			TeamAuthorization teamAuthorization, //
+			PlatformTransactionManager transactionManager, //
+			ObjectMapper objectMapper, //
+			@Value("${workouts.export.fetch-size:500}") int fetchSize, //
+			@Value("${workouts.export.max-concurrent:4}") int maxConcurrent, //
+			@Value("${workouts.export.retry-after-seconds:30}") long retryAfterSeconds, //
+			MeterRegistry meterRegistry //
+	) {
+		this.workoutRepository = workoutRepository;
+		this.workoutMapper = workoutMapper;
+		this.entityManager = entityManager;
+		this.teamAuthorization = teamAuthorization;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.rowWriter = objectMapper.writerFor(WorkoutExportRowDto.class);
+		this.fetchSize = Math.max(1, fetchSize);
+		this.running = new Semaphore(Math.max(1, maxConcurrent));
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.rejected = Counter.builder("workouts.export.rejected").register(meterRegistry);
+		Gauge.builder("workouts.export.running", running, s -> Math.max(1, maxConcurrent) - s.availablePermits())
+			 .register(meterRegistry);
+	}
+
+	/**
+	 * Valida o acesso e os filtros e reserva a vaga da exportação antes da resposta começar (erros ainda viram
+	 * 400/401/503); a consulta só roda quando o corpo for escrito, e a vaga é devolvida quando ele termina. Cursor e
+	 * limite de {@code query} são ignorados.
+	 */
+	public StreamingResponseBody exportTeamWorkouts(WorkoutQuery query, WorkoutExportFormat format,
+			TeamAccess access) {
+		if (!teamAuthorization.isMember(access, query.teamId()))
+			throw new UnauthorizedException("Você não é membro deste time");
+		if (query.from() != null && query.to() != null && query.from().isAfter(query.to()))
+			throw new InvalidDateRangeException("A data inicial deve ser anterior à final!");
+
+		if (!running.tryAcquire()) {
+			rejected.increment();
+			throw new WorkoutExportBusyException(retryAfterSeconds);
+		}
+
+		return out -> {
+			try {
+				transactionTemplate.executeWithoutResult(_ -> write(query, format, out));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			} finally {
+				running.release();
+			}
+		};
+	}
+
+	private void write(WorkoutQuery query, WorkoutExportFormat format, OutputStream out) {
+		// Não fecha: o stream da resposta é do container
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+		try (Stream<WorkoutEntity> workouts = workoutRepository.streamTeamWorkouts(query, fetchSize)) {
+			if (format == WorkoutExportFormat.CSV)
+				writer.write(CSV_HEADER + "\n");
+
+			Iterator<WorkoutEntity> iterator = workouts.iterator();
+			int rows = 0;
+			while (iterator.hasNext()) {
+				WorkoutExportRowDto row = workoutMapper.toExportRow(iterator.next());
+				writer.write(format == WorkoutExportFormat.CSV ? csv(row) : rowWriter.writeValueAsString(row));
+				writer.write('\n');
+
+				// A cada lote: solta as entidades já escritas e manda o que foi gerado ao cliente
+				if (++rows % fetchSize == 0) {
+					entityManager.clear();
+					writer.flush();
+				}
+			}
+
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static String csv(WorkoutExportRowDto row) {
+		return String.join(",", csvText(row.id()), csvText(row.title()), csvText(row.description()),
+				csvValue(row.modality()), csvValue(row.scheduledDate()), csvValue(row.scheduledTime()),
+				csvValue(row.durationMinutes()), csvValue(row.intensity()), csvText(row.notes()),
+				csvText(row.createdById()), csvText(row.createdByName()), csvValue(row.itemCount()),
+				csvValue(row.metrics().totalSets()), csvValue(row.metrics().totalTonnageKg()),
+				csvValue(row.metrics().totalDistanceMeters()), csvValue(row.metrics().estimatedDurationSeconds()),
+				csvValue(row.createdAt()), csvValue(row.updatedAt()));
+	}
+
+	private static String csvValue(Object value) {
+		return Objects.toString(value, "");
+	}
+
+	// RFC 4180; texto que começa como fórmula ganha um ' para não ser executado ao abrir numa planilha
+	private static String csvText(String value) {
+		if (value == null || value.isEmpty())
+			return "";
+
+		String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+		if (text.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r'))
+			return text;
+		return "\"" + text.replace("\"", "\"\"") + "\"";
+	}
+
+}
@@ -0,0 +1,197 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydra.core.dtos.WorkoutDto;
+import com.hydra.core.models.CachedWorkoutJson;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.utils.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * JSON já codificado de cada treino, pronto para ser escrito na resposta: uma leitura repetida do mesmo treino (todos
+ * os atletas do time abrem o mesmo treino) não passa por Hibernate, mapper nem Jackson. Os bytes ficam fora do heap
+ * ({@link CachedWorkoutJson}) e o total é limitado por {@code workouts.json-cache.max-bytes}.
+ * <p>
+ * As escritas do {@link WorkoutService} desta instância invalidam o treino após o commit. Cada entrada guarda o
+ * {@code updatedAt} do treino codificado: a listagem, que lê esse valor do banco junto com os ids da página, só aceita a
+ * entrada se ele ainda for o mesmo, então uma escrita feita em outro nó nunca sai ali com a ETag nova. Na leitura de um
+ * treino só, o TTL ({@code workouts.json-cache.ttl}) limita por quanto tempo essa escrita pode ficar invisível aqui.
+ * Nomes de time, criador e exercício, que também vão no JSON, não são editáveis hoje.
+ */
+@Component
+public class WorkoutJsonCache {
+
+	private static final int STAMP_STRIPES = 4096;
+
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+	private final long maxBytes;
+	private final long ttlMillis;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong usedBytes = new AtomicLong();
+	// Avança a cada invalidação dos treinos da faixa; um treino lido antes de uma escrita nele não é guardado, pois pode
+	// ser o estado anterior. Faixas fixas mantêm a memória constante; uma colisão só deixa de guardar uma leitura
+	private final AtomicLongArray writes = new AtomicLongArray(STAMP_STRIPES);
+	private final Counter hits;
+	private final Counter misses;
+
+	@Autowired
+	WorkoutJsonCache(ObjectMapper objectMapper, //
+			@Value("${workouts.json-cache.max-bytes:64MB}") DataSize maxBytes, //
+			@Value("${workouts.json-cache.ttl:5m}") Duration ttl, //
+			MeterRegistry meterRegistry //
+	) {
+		this(objectMapper, Clock.systemUTC(), maxBytes, ttl, meterRegistry);
+	}
+
+	WorkoutJsonCache(ObjectMapper objectMapper, Clock clock, DataSize maxBytes, Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.objectMapper = objectMapper;
+		this.clock = clock;
+		this.maxBytes = maxBytes.toBytes();
+		this.ttlMillis = ttl.toMillis();
+		this.hits = Counter.builder("workouts.json_cache.lookups").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("workouts.json_cache.lookups").tag("result", "miss").register(meterRegistry);
+		Gauge.builder("workouts.json_cache.size", entries, Map::size).register(meterRegistry);
+		Gauge.builder("workouts.json_cache.bytes", usedBytes, AtomicLong::get).register(meterRegistry);
+	}
+
+	/**
+	 * @return o JSON do treino, ou {@code null} se não estiver no cache
+	 */
+	public CachedWorkoutJson get(String workoutId) {
+		Entry entry = entries.get(workoutId);
+		return hitOrMiss(workoutId, entry, entry != null ? entry.updatedAt() : null);
+	}
+
+	/**
+	 * Como {@link #get(String)}, aceitando a entrada só se ela foi codificada a partir da revisão {@code updatedAt}
+	 * lida do banco; uma entrada de revisão diferente é descartada.
+	 */
+	public CachedWorkoutJson get(String workoutId, LocalDateTime updatedAt) {
+		return hitOrMiss(workoutId, entries.get(workoutId), updatedAt);
+	}
+
+	/**
+	 * Marca o início da leitura do treino no banco; passe o valor para {@link #put}.
+	 */
+	public long stamp(String workoutId) {
+		return writes.get(stripe(workoutId));
+	}
+
+	/**
+	 * Codifica o treino e o guarda, a menos que ele tenha sido alterado desde {@code stamp} ou que sozinho passe do
+	 * limite. Em todo caso devolve o JSON para a resposta atual.
+	 */
+	public CachedWorkoutJson put(WorkoutDto workout, WorkoutCursor cursor, long stamp) {
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(workout);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		int stripe = stripe(workout.id());
+		if (writes.get(stripe) != stamp || json.length > maxBytes)
+			return CachedWorkoutJson.onHeap(workout.teamId(), cursor, json);
+
+		evictFor(json.length);
+
+		// Checagem e troca atômicas por treino: uma invalidação avança a faixa antes de remover a entrada, então ou ela é
+		// vista aqui ou remove o que foi guardado
+		CachedWorkoutJson[] stored = new CachedWorkoutJson[1];
+		entries.compute(workout.id(), (_, previous) -> {
+			if (writes.get(stripe) != stamp)
+				return previous;
+
+			stored[0] = CachedWorkoutJson.offHeap(workout.teamId(), cursor, json);
+			usedBytes.addAndGet(stored[0].size() - (previous != null ? previous.json().size() : 0));
+			return new Entry(stored[0], workout.updatedAt(), clock.millis() + ttlMillis);
+		});
+
+		return stored[0] != null ? stored[0] : CachedWorkoutJson.onHeap(workout.teamId(), cursor, json);
+	}
+
+	/**
+	 * Descarta o treino alterado ou removido. Dentro de uma transação, só vale após o commit.
+	 */
+	public void workoutChanged(String workoutId) {
+		TransactionUtils.afterCommit(() -> {
+			writes.incrementAndGet(stripe(workoutId));
+			Entry removed = entries.remove(workoutId);
+			if (removed != null)
+				usedBytes.addAndGet(-removed.json().size());
+		});
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	long usedBytes() {
+		return usedBytes.get();
+	}
+
+	private CachedWorkoutJson hitOrMiss(String workoutId, Entry entry, LocalDateTime updatedAt) {
+		if (entry != null && entry.expiresAt() > clock.millis() && Objects.equals(entry.updatedAt(), updatedAt)) {
+			hits.increment();
+			return entry.json();
+		}
+
+		misses.increment();
+		if (entry != null)
+			remove(workoutId, entry);
+		return null;
+	}
+
+	// Descarta as expiradas e, se ainda não couber, entradas arbitrárias
+	private void evictFor(long size) {
+		if (usedBytes.get() + size <= maxBytes)
+			return;
+
+		long now = clock.millis();
+		entries.forEach((workoutId, entry) -> {
+			if (entry.expiresAt() <= now)
+				remove(workoutId, entry);
+		});
+
+		Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+		while (usedBytes.get() + size > maxBytes && iterator.hasNext()) {
+			Map.Entry<String, Entry> entry = iterator.next();
+			remove(entry.getKey(), entry.getValue());
+		}
+	}
+
+	// remove(chave, valor) para não descontar uma entrada recém-substituída
+	private void remove(String workoutId, Entry entry) {
+		if (entries.remove(workoutId, entry))
+			usedBytes.addAndGet(-entry.json().size());
+	}
+
+	private static int stripe(String workoutId) {
+		return Math.floorMod(workoutId.hashCode(), STAMP_STRIPES);
+	}
+
+	private record Entry(CachedWorkoutJson json, LocalDateTime updatedAt, long expiresAt) {
+
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.hydra.core.service;
+
+import com.hydra.core.entity.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Métricas derivadas da árvore do treino, gravadas na própria linha de {@code workouts} para as listagens não
+ * precisarem dos filhos. As mesmas contas estão em SQL no backfill (V009); se mudarem aqui, mudam lá também (numa nova
+ * migração).
+ */
+final class WorkoutMetrics {
+
+	// Estimativa do tempo de execução de uma repetição de musculação
+	static final int SECONDS_PER_REP = 4;
+
+	private WorkoutMetrics() {
+	}
+
+	/**
+	 * Recalcula as métricas a partir dos filhos carregados na entidade. Chamar sempre que a árvore mudar.
+	 */
+	static void apply(WorkoutEntity workout) {
+		int itemCount = workout.getExercises().size() + workout.getRunningSegments().size()
+				+ workout.getSwimmingSets().size();
+		int sets = 0;
+		BigDecimal tonnage = BigDecimal.ZERO;
+		int distance = 0;
+		int duration = 0;
+
+		for (WorkoutExerciseEntity exercise : workout.getExercises()) {
+			for (WorkoutExerciseSetEntity set : exercise.getSets()) {
+				sets++;
+				if (set.getWeight() != null)
+					tonnage = tonnage.add(set.getWeight().multiply(BigDecimal.valueOf(set.getReps())));
+				// Descanso da série, ou o padrão do exercício
+				Integer rest = set.getRestSeconds() != null ? set.getRestSeconds() : exercise.getRestBetweenSetsSeconds();
+				duration += set.getReps() * SECONDS_PER_REP + orZero(rest);
+			}
+		}
+
+		for (WorkoutRunningSegmentEntity segment : workout.getRunningSegments()) {
+			distance += orZero(segment.getDistanceMeters());
+			// Sem duração, estima pela distância e o pace alvo (segundos por km)
+			if (segment.getDurationSeconds() != null)
+				duration += segment.getDurationSeconds();
+			else if (segment.getDistanceMeters() != null && segment.getTargetPaceSeconds() != null)
+				duration += segment.getDistanceMeters() * segment.getTargetPaceSeconds() / 1000;
+		}
+
+		for (WorkoutSwimmingSetEntity set : workout.getSwimmingSets()) {
+			int repetitions = orZero(set.getRepetitions());
+			sets += repetitions;
+			distance += orZero(set.getDistanceMeters()) * repetitions;
+			// Tempo alvo e descanso valem para cada repetição
+			duration += repetitions * (orZero(set.getTargetPaceSeconds()) + orZero(set.getRestSeconds()));
+		}
+
+		workout.setItemCount(itemCount);
+		workout.setTotalSets(sets);
+		workout.setTotalTonnageKg(tonnage);
+		workout.setTotalDistanceMeters(distance);
+		workout.setEstimatedDurationSeconds(duration);
+	}
+
+	private static int orZero(Integer value) {
+		return value != null ? value : 0;
+	}
+
+}
@@ -0,0 +1,290 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hydra.core.dtos.CreateRunningSegmentDto;
+import com.hydra.core.dtos.CreateSwimmingSetDto;
+import com.hydra.core.dtos.CreateWorkoutExerciseDto;
+import com.hydra.core.dtos.CreateWorkoutSetDto;
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidPatchException;
+import com.hydra.core.utils.ValidationUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Aplica um JSON Merge Patch (RFC 7396) a um treino já carregado, gravando só o que mudou.
+ * <p>
+ * Campos ausentes ficam como estão e {@code null} limpa o campo. Como manda a RFC, uma lista de filhos
+ * ({@code exercises}, {@code segments}, {@code sets} e as séries de cada exercício) descreve a lista inteira, mas cada
+ * item é casado com um filho existente pelo {@code id} ou, sem id, pela posição (nas séries, pelo {@code setNumber}):
+ * filhos casados só recebem UPDATE se algum campo mudou, itens novos viram INSERT e filhos que sumiram, DELETE. Os ids
+ * dos filhos mantidos não mudam.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutPatcher {
+
+	private static final Map<String, WorkoutModality> CHILD_LISTS = Map.of("exercises", WorkoutModality.WEIGHTLIFTING,
+			"segments", WorkoutModality.RUNNING, "sets", WorkoutModality.SWIMMING);
+
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final ExerciseCatalog exerciseCatalog;
+
+	void apply(WorkoutEntity workout, JsonNode patch) {
+		if (patch == null || !patch.isObject())
+			throw new InvalidPatchException("O patch deve ser um objeto JSON!");
+
+		ObjectNode fields = objectMapper.valueToTree(WorkoutFields.of(workout));
+		for (Map.Entry<String, JsonNode> field : patch.properties()) {
+			String name = field.getKey();
+			if (fields.has(name))
+				fields.set(name, field.getValue());
+			else if (name.equals("modality")) {
+				if (!field.getValue().asText().equals(workout.getModality().name()))
+					throw new InvalidPatchException("A modalidade do treino não pode ser alterada");
+			} else if (!CHILD_LISTS.containsKey(name))
+				throw new InvalidPatchException("Campo não pode ser alterado: " + name);
+			else if (CHILD_LISTS.get(name) != workout.getModality())
+				throw new InvalidPatchException("Campo inválido para treinos de " + workout.getModality() + ": " + name);
+		}
+
+		WorkoutFields updated = convert(fields, WorkoutFields.class);
+		if (ValidationUtils.isEmpty(updated.title()))
+			throw new InvalidPatchException("O título é obrigatório");
+		updated.applyTo(workout);
+
+		if (patch.has("exercises"))
+			patchExercises(workout, items(patch.get("exercises"), CreateWorkoutExerciseDto.class));
+		if (patch.has("segments"))
+			patchSegments(workout, items(patch.get("segments"), CreateRunningSegmentDto.class));
+		if (patch.has("sets"))
+			patchSwimmingSets(workout, items(patch.get("sets"), CreateSwimmingSetDto.class));
+
+		// Métricas só dependem dos filhos; um patch só de campos do treino não precisa carregá-los
+		if (CHILD_LISTS.keySet().stream().anyMatch(patch::has))
+			WorkoutMetrics.apply(workout);
+	}
+
+	private void patchExercises(WorkoutEntity workout, List<Item<CreateWorkoutExerciseDto>> items) {
+		// Exercícios de todos os itens numa consulta só
+		Set<String> exerciseIds = new HashSet<>();
+		for (Item<CreateWorkoutExerciseDto> item : items) {
+			if (item.dto().exerciseId() == null)
+				throw new InvalidPatchException("Exercício não informado");
+			exerciseIds.add(item.dto().exerciseId());
+		}
+		Map<String, ExerciseEntity> exercises = exerciseIds.isEmpty() ? Map.of() : exerciseCatalog.findAllById(
+				exerciseIds);
+		List<String> missing = exerciseIds.stream().filter(id -> !exercises.containsKey(id)).sorted().toList();
+		if (!missing.isEmpty())
+			throw new EntityNotFoundException("Exercício não encontrado: " + String.join(", ", missing));
+
+		sync(workout.getExercises(), items, positions(items),
+				new ChildOrder<>(WorkoutExerciseEntity::getId, WorkoutExerciseEntity::getOrderIndex,
+						WorkoutExerciseEntity::setOrderIndex), () -> {
+					WorkoutExerciseEntity exercise = new WorkoutExerciseEntity();
+					exercise.setWorkout(workout);
+					return exercise;
+				}, (exercise, item) -> {
+					WorkoutAssembler.copyExercise(exercise, item.dto(), exercises.get(item.dto().exerciseId()));
+					patchSets(exercise, items(item.node().get("sets"), CreateWorkoutSetDto.class));
+				});
+	}
+
+	private void patchSets(WorkoutExerciseEntity exercise, List<Item<CreateWorkoutSetDto>> items) {
+		List<Integer> setNumbers = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			Integer setNumber = items.get(i).dto().setNumber();
+			setNumbers.add(setNumber != null ? setNumber : i + 1);
+		}
+
+		sync(exercise.getSets(), items, setNumbers,
+				new ChildOrder<>(WorkoutExerciseSetEntity::getId, WorkoutExerciseSetEntity::getSetNumber,
+						WorkoutExerciseSetEntity::setSetNumber), () -> {
+					WorkoutExerciseSetEntity set = new WorkoutExerciseSetEntity();
+					set.setWorkoutExercise(exercise);
+					return set;
+				}, (set, item) -> WorkoutAssembler.copySet(set, item.dto()));
+	}
+
+	private void patchSegments(WorkoutEntity workout, List<Item<CreateRunningSegmentDto>> items) {
+		sync(workout.getRunningSegments(), items, positions(items),
+				new ChildOrder<>(WorkoutRunningSegmentEntity::getId, WorkoutRunningSegmentEntity::getOrderIndex,
+						WorkoutRunningSegmentEntity::setOrderIndex), () -> {
+					WorkoutRunningSegmentEntity segment = new WorkoutRunningSegmentEntity();
+					segment.setWorkout(workout);
+					return segment;
+				}, (segment, item) -> WorkoutAssembler.copySegment(segment, item.dto()));
+	}
+
+	private void patchSwimmingSets(WorkoutEntity workout, List<Item<CreateSwimmingSetDto>> items) {
+		sync(workout.getSwimmingSets(), items, positions(items),
+				new ChildOrder<>(WorkoutSwimmingSetEntity::getId, WorkoutSwimmingSetEntity::getOrderIndex,
+						WorkoutSwimmingSetEntity::setOrderIndex), () -> {
+					WorkoutSwimmingSetEntity set = new WorkoutSwimmingSetEntity();
+					set.setWorkout(workout);
+					return set;
+				}, (set, item) -> WorkoutAssembler.copySwimmingSet(set, item.dto()));
+	}
+
+	/**
+	 * Casa os itens com os filhos atuais e grava a diferença. A ordem dos comandos importa por causa das constraints
+	 * únicas de ordem (unique_workout_exercise_order e afins): no flush o Hibernate faz os INSERTs antes dos UPDATEs e
+	 * estes antes dos DELETEs. Por isso saem primeiro os removidos, depois os que mudam de posição (passando por índices
+	 * negativos quando um ocupa o lugar de outro) e só então entram os novos.
+	 */
+	private <E, D> void sync(List<E> children, List<Item<D>> items, List<Integer> orders, ChildOrder<E> order,
+			Supplier<E> factory, BiConsumer<E, Item<D>> copy) {
+		if (new HashSet<>(orders).size() != orders.size())
+			throw new InvalidPatchException("Ordem repetida na lista");
+
+		Map<String, E> byId = new HashMap<>();
+		Map<Integer, E> byOrder = new HashMap<>();
+		for (E child : children) {
+			byId.put(order.id().apply(child), child);
+			byOrder.put(order.get().apply(child), child);
+		}
+		Set<String> referenced = items.stream().map(Item::id).filter(Objects::nonNull).collect(Collectors.toSet());
+
+		List<E> matched = new ArrayList<>(items.size());
+		Set<String> kept = new HashSet<>();
+		for (int i = 0; i < items.size(); i++) {
+			String id = items.get(i).id();
+			E child;
+			if (id != null) {
+				child = byId.get(id);
+				if (child == null)
+					throw new InvalidPatchException("Item não encontrado: " + id);
+				if (!kept.add(id))
+					throw new InvalidPatchException("Item repetido: " + id);
+			} else {
+				// Sem id, reaproveita o filho que já está nessa posição, se nenhum item o reivindicou pelo id
+				child = byOrder.get(orders.get(i));
+				if (child != null && referenced.contains(order.id().apply(child)))
+					child = null;
+				if (child != null)
+					kept.add(order.id().apply(child));
+			}
+			matched.add(child);
+		}
+
+		// Comparação por id: o equals do @Data percorreria o grafo
+		if (children.removeIf(child -> !kept.contains(order.id().apply(child))))
+			entityManager.flush();
+
+		List<Integer> moving = new ArrayList<>();
+		Set<Integer> taken = new HashSet<>();
+		for (int i = 0; i < matched.size(); i++) {
+			E child = matched.get(i);
+			if (child == null)
+				continue;
+			taken.add(order.get().apply(child));
+			if (!orders.get(i).equals(order.get().apply(child)))
+				moving.add(i);
+		}
+
+		if (!moving.isEmpty()) {
+			if (moving.stream().anyMatch(i -> taken.contains(orders.get(i)))) {
+				moving.forEach(i -> order.set().accept(matched.get(i), -orders.get(i)));
+				entityManager.flush();
+			}
+			moving.forEach(i -> order.set().accept(matched.get(i), orders.get(i)));
+			if (matched.contains(null))
+				entityManager.flush();
+		}
+
+		for (int i = 0; i < items.size(); i++) {
+			if (matched.get(i) != null)
+				copy.accept(matched.get(i), items.get(i));
+		}
+		for (int i = 0; i < items.size(); i++) {
+			if (matched.get(i) != null)
+				continue;
+			E child = factory.get();
+			order.set().accept(child, orders.get(i));
+			copy.accept(child, items.get(i));
+			children.add(child);
+		}
+
+		children.sort(Comparator.comparing(order.get()));
+	}
+
+	private <D> List<Item<D>> items(JsonNode list, Class<D> type) {
+		if (list == null || list.isNull())
+			return List.of();
+		if (!list.isArray())
+			throw new InvalidPatchException("Era esperada uma lista");
+
+		List<Item<D>> items = new ArrayList<>(list.size());
+		for (JsonNode node : list) {
+			if (!node.isObject())
+				throw new InvalidPatchException("Cada item da lista deve ser um objeto");
+			ObjectNode fields = node.deepCopy();
+			JsonNode id = fields.remove("id");
+			items.add(new Item<>(id != null && !id.isNull() ? id.asText() : null, convert(fields, type), node));
+		}
+		return items;
+	}
+
+	private static List<Integer> positions(List<?> items) {
+		List<Integer> positions = new ArrayList<>(items.size());
+		for (int i = 1; i <= items.size(); i++)
+			positions.add(i);
+		return positions;
+	}
+
+	private <T> T convert(JsonNode node, Class<T> type) {
+		try {
+			return objectMapper.treeToValue(node, type);
+		} catch (JsonProcessingException | IllegalArgumentException e) {
+			throw new InvalidPatchException("Campos inválidos: " + e.getMessage());
+		}
+	}
+
+	private record Item<D>(String id, D dto, JsonNode node) {
+
+	}
+
+	private record ChildOrder<E>(Function<E, String> id, Function<E, Integer> get, BiConsumer<E, Integer> set) {
+
+	}
+
+	/** Campos simples do treino que o patch pode alterar, com os mesmos nomes dos DTOs de criação */
+	private record WorkoutFields(String title, String description, LocalDate scheduledDate, LocalTime scheduledTime,
+								 Integer durationMinutes, WorkoutIntensity intensity, String notes) {
+
+		static WorkoutFields of(WorkoutEntity workout) {
+			return new WorkoutFields(workout.getTitle(), workout.getDescription(), workout.getScheduledDate(),
+					workout.getScheduledTime(), workout.getDurationMinutes(), workout.getIntensity(),
+					workout.getNotes());
+		}
+
+		void applyTo(WorkoutEntity workout) {
+			workout.setTitle(title);
+			workout.setDescription(description);
+			workout.setScheduledDate(scheduledDate);
+			workout.setScheduledTime(scheduledTime);
+			workout.setDurationMinutes(durationMinutes);
+			workout.setIntensity(intensity);
+			workout.setNotes(notes);
+		}
+
+	}
+
+}
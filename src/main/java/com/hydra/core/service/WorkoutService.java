@@ -1,20 +1,32 @@
 package com.hydra.core.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.hydra.core.dtos.*;
 import com.hydra.core.entity.*;
-import com.hydra.core.enums.TeamRole;
 import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidBulkPayloadException;
 import com.hydra.core.exceptions.UnauthorizedException;
 import com.hydra.core.mappers.WorkoutMapper;
+import com.hydra.core.models.CachedWorkoutJson;
 import com.hydra.core.models.CreateWorkoutRequest;
+import com.hydra.core.models.WorkoutCloneTarget;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.models.WorkoutJsonPage;
+import com.hydra.core.models.WorkoutQuery;
 import com.hydra.core.repository.*;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,181 +36,325 @@ public class WorkoutService {
 	private static final String USER_NOT_FOUND_MESSAGE = "Usuário não encontrado";
 	private static final String NOT_TEAM_MEMBER_MESSAGE = "Você não é membro deste time";
 	private static final String WORKOUT_NOT_FOUND_MESSAGE = "Treino não encontrado";
+	private static final int MAX_CLONES_PER_REQUEST = 500;
 
 	private final WorkoutRepository workoutRepository;
 	private final TeamRepository teamRepository;
 	private final UserRepository userRepository;
-	private final ExerciseRepository exerciseRepository;
-	private final TeamMemberRepository teamMemberRepository;
+	private final ExerciseCatalog exerciseCatalog;
 	private final WorkoutMapper workoutMapper;
+	private final WorkoutTreeLoader workoutTreeLoader;
+	private final WorkoutCalendarCache calendarCache;
+	private final WorkoutPatcher workoutPatcher;
+	private final WorkoutJsonCache jsonCache;
+	private final TeamVersions teamVersions;
+	private final TrainingLoadRepository trainingLoadRepository;
+	private final TeamAuthorization teamAuthorization;
 
-	private WorkoutRunningSegmentEntity getWorkoutRunningSegmentEntity(CreateRunningWorkoutDto dto, int i,
-			WorkoutEntity workout) {
-		CreateRunningSegmentDto segmentDto = dto.segments().get(i);
+	@Transactional
+	public WorkoutDto createWeightliftingWorkout(CreateWeightliftingWorkoutDto dto, TeamAccess access) {
+
+		CreateWorkoutRequest request = new CreateWorkoutRequest(dto.teamId(), access.userId(), dto.title(),
+				dto.description(), WorkoutModality.WEIGHTLIFTING, dto.scheduledDate(), dto.scheduledTime(),
+				dto.durationMinutes(), dto.intensity(), dto.notes());
+
+		WorkoutEntity workout = createBaseWorkout(request, access);
+
+		// Adiciona os exercícios, resolvidos todos de uma vez
+		Map<String, ExerciseEntity> exercises = resolveExercises(dto.exercises());
+		WorkoutAssembler.addExercises(workout, dto.exercises(), exercises::get);
 
-		WorkoutRunningSegmentEntity segment = new WorkoutRunningSegmentEntity();
-		segment.setWorkout(workout);
-		segment.setOrderIndex(i + 1);
-		segment.setSegmentType(segmentDto.segmentType());
-		segment.setDistanceMeters(segmentDto.distanceMeters());
-		segment.setDurationSeconds(segmentDto.durationSeconds());
-		segment.setTargetPace(segmentDto.targetPace());
-		segment.setTargetPaceSeconds(segmentDto.targetPaceSeconds());
-		segment.setIntensity(segmentDto.intensity());
-		segment.setNotes(segmentDto.notes());
-		return segment;
+		return saveAndMap(workout);
 	}
 
 	@Transactional
-	public WorkoutDto createWeightliftingWorkout(CreateWeightliftingWorkoutDto dto, String userId) {
-
-		CreateWorkoutRequest request = new CreateWorkoutRequest(dto.teamId(), userId, dto.title(), dto.description(),
-				WorkoutModality.WEIGHTLIFTING, dto.scheduledDate(), dto.scheduledTime(), dto.durationMinutes(),
-				dto.intensity(), dto.notes());
-
-		WorkoutEntity workout = createBaseWorkout(request);
-
-		// Adiciona os exercícios
-		for (int i = 0; i < dto.exercises().size(); i++) {
-			CreateWorkoutExerciseDto exerciseDto = dto.exercises().get(i);
-
-			ExerciseEntity exercise = exerciseRepository.findById(exerciseDto.exerciseId()).orElseThrow(
-					() -> new EntityNotFoundException("Exercício não encontrado: " + exerciseDto.exerciseId()));
-
-			WorkoutExerciseEntity workoutExercise = new WorkoutExerciseEntity();
-			workoutExercise.setWorkout(workout);
-			workoutExercise.setExercise(exercise);
-			workoutExercise.setOrderIndex(i + 1);
-			workoutExercise.setTechnique(exerciseDto.technique());
-			workoutExercise.setRestBetweenSetsSeconds(exerciseDto.restBetweenSetsSeconds());
-			workoutExercise.setNotes(exerciseDto.notes());
-
-			// Adiciona as séries
-			for (CreateWorkoutSetDto setDto : exerciseDto.sets()) {
-				WorkoutExerciseSetEntity set = new WorkoutExerciseSetEntity();
-				set.setWorkoutExercise(workoutExercise);
-				set.setSetNumber(setDto.setNumber());
-				set.setReps(setDto.reps());
-				set.setWeight(setDto.weight());
-				set.setRpe(setDto.rpe());
-				set.setRestSeconds(setDto.restSeconds());
-				set.setNotes(setDto.notes());
-
-				workoutExercise.getSets().add(set);
-			}
+	public WorkoutDto createRunningWorkout(CreateRunningWorkoutDto dto, TeamAccess access) {
 
-			workout.getExercises().add(workoutExercise);
-		}
+		CreateWorkoutRequest request = new CreateWorkoutRequest(dto.teamId(), access.userId(), dto.title(),
+				dto.description(), WorkoutModality.RUNNING, dto.scheduledDate(), dto.scheduledTime(),
+				dto.durationMinutes(), dto.intensity(), dto.notes());
+
+		WorkoutEntity workout = createBaseWorkout(request, access);
+
+		WorkoutAssembler.addRunningSegments(workout, dto.segments());
 
 		return saveAndMap(workout);
 	}
 
 	@Transactional
-	public WorkoutDto createRunningWorkout(CreateRunningWorkoutDto dto, String userId) {
+	public WorkoutDto createSwimmingWorkout(CreateSwimmingWorkoutDto dto, TeamAccess access) {
 
-		CreateWorkoutRequest request = new CreateWorkoutRequest(dto.teamId(), userId, dto.title(), dto.description(),
-				WorkoutModality.RUNNING, dto.scheduledDate(), dto.scheduledTime(), dto.durationMinutes(),
-				dto.intensity(), dto.notes());
+		CreateWorkoutRequest request = new CreateWorkoutRequest(dto.teamId(), access.userId(), dto.title(),
+				dto.description(), WorkoutModality.SWIMMING, dto.scheduledDate(), dto.scheduledTime(),
+				dto.durationMinutes(), dto.intensity(), dto.notes());
 
-		WorkoutEntity workout = createBaseWorkout(request);
+		WorkoutEntity workout = createBaseWorkout(request, access);
 
-		for (int i = 0; i < dto.segments().size(); i++) {
-			WorkoutRunningSegmentEntity segment = getWorkoutRunningSegmentEntity(dto, i, workout);
-
-			workout.getRunningSegments().add(segment);
-		}
+		WorkoutAssembler.addSwimmingSets(workout, dto.sets());
 
 		return saveAndMap(workout);
 	}
 
-	@Transactional
-	public WorkoutDto createSwimmingWorkout(CreateSwimmingWorkoutDto dto, String userId) {
-
-		CreateWorkoutRequest request = new CreateWorkoutRequest(dto.teamId(), userId, dto.title(), dto.description(),
-				WorkoutModality.SWIMMING, dto.scheduledDate(), dto.scheduledTime(), dto.durationMinutes(),
-				dto.intensity(), dto.notes());
-
-		WorkoutEntity workout = createBaseWorkout(request);
-
-		for (int i = 0; i < dto.sets().size(); i++) {
-			CreateSwimmingSetDto setDto = dto.sets().get(i);
-
-			WorkoutSwimmingSetEntity swimmingSet = new WorkoutSwimmingSetEntity();
-			swimmingSet.setWorkout(workout);
-			swimmingSet.setOrderIndex(i + 1);
-			swimmingSet.setStroke(setDto.stroke());
-			swimmingSet.setDistanceMeters(setDto.distanceMeters());
-			swimmingSet.setRepetitions(setDto.repetitions());
-			swimmingSet.setTargetTime(setDto.targetTime());
-			swimmingSet.setTargetPaceSeconds(setDto.targetPaceSeconds());
-			swimmingSet.setRestSeconds(setDto.restSeconds());
-			swimmingSet.setEquipment(setDto.equipment());
-			swimmingSet.setNotes(setDto.notes());
-
-			workout.getSwimmingSets().add(swimmingSet);
+	/**
+	 * Página da listagem de treinos do time. Busca um id a mais que o limite para saber se há próxima página.
+	 */
+	@Transactional(readOnly = true)
+	public WorkoutPageDto<WorkoutDto> getTeamWorkouts(WorkoutQuery query, TeamAccess access) {
+		validateMember(access, query.teamId());
+
+		List<String> ids = workoutRepository.findTeamWorkoutIds(query, query.limit() + 1);
+		boolean hasNext = ids.size() > query.limit();
+		List<String> pageIds = hasNext ? ids.subList(0, query.limit()) : ids;
+
+		if (pageIds.isEmpty())
+			return new WorkoutPageDto<>(List.of(), null);
+
+		// O IN não preserva a ordem do keyset
+		Map<String, WorkoutEntity> byId = workoutRepository.findWithTeamAndCreatorByIdIn(pageIds).stream().collect(
+				Collectors.toMap(WorkoutEntity::getId, Function.identity()));
+		List<WorkoutEntity> workouts = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+
+		String nextCursor = hasNext && !workouts.isEmpty() ? WorkoutCursor.of(workouts.getLast()).encode() : null;
+		return new WorkoutPageDto<>(workoutTreeLoader.toDtos(workouts), nextCursor);
+	}
+
+	/**
+	 * Mesma página de {@link #getTeamWorkouts}, com o JSON já codificado de cada treino. Os ids da página e o
+	 * {@code updated_at} de cada treino sempre vêm do banco; só os treinos que não estão no {@link WorkoutJsonCache}
+	 * nessa mesma revisão são carregados e codificados.
+	 */
+	@Transactional(readOnly = true)
+	public WorkoutJsonPage getTeamWorkoutsJson(WorkoutQuery query, TeamAccess access) {
+		validateMember(access, query.teamId());
+
+		List<WorkoutRepository.WorkoutRevision> revisions = workoutRepository.findTeamWorkoutRevisions(query,
+				query.limit() + 1);
+		boolean hasNext = revisions.size() > query.limit();
+		List<WorkoutRepository.WorkoutRevision> page = hasNext ? revisions.subList(0, query.limit()) : revisions;
+
+		Map<String, CachedWorkoutJson> byId = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (WorkoutRepository.WorkoutRevision revision : page) {
+			CachedWorkoutJson cached = jsonCache.get(revision.id(), revision.updatedAt());
+			if (cached != null)
+				byId.put(revision.id(), cached);
+			else
+				missing.add(revision.id());
 		}
 
-		return saveAndMap(workout);
+		if (!missing.isEmpty())
+			byId.putAll(loadJson(missing));
+
+		List<CachedWorkoutJson> workouts = page.stream().map(WorkoutRepository.WorkoutRevision::id).map(byId::get)
+											   .filter(Objects::nonNull).toList();
+		String nextCursor = hasNext && !workouts.isEmpty() ? workouts.getLast().cursor().encode() : null;
+		return new WorkoutJsonPage(workouts, nextCursor);
+	}
+
+	/**
+	 * Mesma página de {@link #getTeamWorkouts}, resumida: uma única consulta, sem carregar os filhos dos treinos.
+	 */
+	@Transactional(readOnly = true)
+	public WorkoutPageDto<WorkoutSummaryDto> getTeamWorkoutSummaries(WorkoutQuery query, TeamAccess access) {
+		validateMember(access, query.teamId());
+
+		List<WorkoutSummaryDto> summaries = workoutRepository.findTeamWorkoutSummaries(query, query.limit() + 1);
+		if (summaries.size() <= query.limit())
+			return new WorkoutPageDto<>(summaries, null);
+
+		List<WorkoutSummaryDto> page = summaries.subList(0, query.limit());
+		WorkoutSummaryDto last = page.getLast();
+		String nextCursor = WorkoutCursor.of(last.scheduledDate(), last.scheduledTime(), last.id()).encode();
+		return new WorkoutPageDto<>(List.copyOf(page), nextCursor);
 	}
 
-	public List<WorkoutDto> getTeamWorkouts(String teamId) {
-		List<WorkoutEntity> workouts = workoutRepository.findByTeamIdOrderByScheduledDateDesc(teamId);
-		return workouts.stream().map(workoutMapper::toDto).toList();
+	public WorkoutCalendarDto getTeamCalendar(String teamId, YearMonth month, TeamAccess access) {
+		validateMember(access, teamId);
+
+		return calendarCache.get(teamId, month);
 	}
 
-	public WorkoutDto getWorkoutById(String workoutId, String userId) {
+	public WorkoutDto getWorkoutById(String workoutId, TeamAccess access) {
 		WorkoutEntity workout = workoutRepository.findById(workoutId).orElseThrow(
 				() -> new EntityNotFoundException(WORKOUT_NOT_FOUND_MESSAGE));
 
 		// Valida se o usuário é membro do time
-		teamMemberRepository.findByTeamIdAndUserId(workout.getTeam().getId(), userId).orElseThrow(
-				() -> new UnauthorizedException("Você não tem permissão para ver este treino"));
+		if (!teamAuthorization.isMember(access, workout.getTeam().getId()))
+			throw new UnauthorizedException("Você não tem permissão para ver este treino");
 
 		return workoutMapper.toDto(workout);
 	}
 
+	/**
+	 * Mesmo conteúdo de {@link #getWorkoutById}, como JSON já codificado. Quando o treino está no
+	 * {@link WorkoutJsonCache}, a leitura não toca o banco: o time para a autorização vem junto com o JSON.
+	 */
+	public CachedWorkoutJson getWorkoutJson(String workoutId, TeamAccess access) {
+		CachedWorkoutJson workout = jsonCache.get(workoutId);
+		if (workout == null)
+			workout = loadJson(List.of(workoutId)).get(workoutId);
+		if (workout == null)
+			throw new EntityNotFoundException(WORKOUT_NOT_FOUND_MESSAGE);
+
+		// Valida se o usuário é membro do time
+		if (!teamAuthorization.isMember(access, workout.teamId()))
+			throw new UnauthorizedException("Você não tem permissão para ver este treino");
+
+		return workout;
+	}
+
+	/**
+	 * Atualização parcial via JSON Merge Patch; só as linhas que mudaram são gravadas (ver {@link WorkoutPatcher}).
+	 */
 	@Transactional
-	public void deleteWorkout(String workoutId, String userId) {
+	public WorkoutDto patchWorkout(String workoutId, JsonNode patch, TeamAccess access) {
 		WorkoutEntity workout = workoutRepository.findById(workoutId).orElseThrow(
 				() -> new EntityNotFoundException(WORKOUT_NOT_FOUND_MESSAGE));
 
+		validateCoachOrOwner(access, workout.getTeam().getId());
+
+		LocalDate previousDate = workout.getScheduledDate();
+		// A carga antiga sai antes do patch e a nova entra depois, já com a data e os filhos atualizados
+		trainingLoadRepository.subtractWorkouts(List.of(workoutId));
+		workoutPatcher.apply(workout, patch);
+		trainingLoadRepository.addWorkouts(List.of(workoutId));
+		// Marca a alteração mesmo quando o patch só mexe nos filhos
+		workout.setUpdatedAt(LocalDateTime.now());
+
+		jsonCache.workoutChanged(workoutId);
+		teamVersions.bump(workout.getTeam().getId());
+		calendarCache.workoutChanged(workout.getTeam().getId(), previousDate);
+		if (!Objects.equals(previousDate, workout.getScheduledDate()))
+			calendarCache.workoutChanged(workout.getTeam().getId(), workout.getScheduledDate());
+
+		return workoutMapper.toDto(workout);
+	}
+
+	@Transactional
+	public void deleteWorkout(String workoutId, TeamAccess access) {
+		// Só time e data; os filhos não são carregados
+		WorkoutRepository.ScheduleView workout = workoutRepository.findScheduleById(workoutId).orElseThrow(
+				() -> new EntityNotFoundException(WORKOUT_NOT_FOUND_MESSAGE));
+
 		// Valida se o usuário é coach/owner do time
-		TeamMemberEntity membership = teamMemberRepository.findByTeamIdAndUserId(workout.getTeam().getId(), userId)
-														  .orElseThrow(() -> new UnauthorizedException(
-																  NOT_TEAM_MEMBER_MESSAGE));
+		validateCoachOrOwner(access, workout.getTeamId());
 
-		validateCoachOrOwner(membership);
+		trainingLoadRepository.subtractWorkouts(List.of(workoutId));
+		workoutRepository.bulkDeleteById(workoutId);
+		jsonCache.workoutChanged(workoutId);
+		teamVersions.bump(workout.getTeamId());
+		calendarCache.workoutChanged(workout.getTeamId(), workout.getScheduledDate());
+	}
 
-		workoutRepository.delete(workout);
+	/**
+	 * Copia treinos do time para outros dias e/ou times. A cópia é feita no banco (um INSERT ... SELECT por tabela),
+	 * sem carregar as árvores dos treinos de origem.
+	 */
+	@Transactional
+	public List<ClonedWorkoutDto> cloneWorkouts(String teamId, CloneWorkoutsDto dto, TeamAccess access) {
+		validateCoachOrOwner(access, teamId);
+
+		List<String> sourceIds = WorkoutAssembler.orEmpty(dto.workoutIds()).stream().filter(Objects::nonNull)
+												 .distinct().toList();
+		List<CloneWorkoutTargetDto> targetDtos = WorkoutAssembler.orEmpty(dto.targets());
+		if (sourceIds.isEmpty() || targetDtos.isEmpty())
+			throw new InvalidBulkPayloadException("Informe os treinos e ao menos um destino!");
+		if (sourceIds.size() * targetDtos.size() > MAX_CLONES_PER_REQUEST)
+			throw new InvalidBulkPayloadException(
+					"No máximo " + MAX_CLONES_PER_REQUEST + " cópias por requisição!");
+
+		// Todos os treinos de origem precisam existir e ser deste time
+		List<WorkoutRepository.ScheduleView> sources = workoutRepository.findSchedulesByIdIn(sourceIds);
+		if (sources.size() != sourceIds.size() || sources.stream().anyMatch(s -> !teamId.equals(s.getTeamId())))
+			throw new EntityNotFoundException(WORKOUT_NOT_FOUND_MESSAGE);
+
+		List<WorkoutCloneTarget> targets = new ArrayList<>(targetDtos.size());
+		for (CloneWorkoutTargetDto target : targetDtos) {
+			String targetTeamId = target.teamId() != null ? target.teamId() : teamId;
+			validateCoachOrOwner(access, targetTeamId);
+			targets.add(new WorkoutCloneTarget(targetTeamId, target.scheduledDate(),
+					target.shiftDays() != null ? target.shiftDays() : 0));
+		}
+
+		String batchId = UUID.randomUUID().toString();
+		workoutRepository.cloneWorkouts(batchId, sourceIds, targets, access.userId());
+		targets.stream().map(WorkoutCloneTarget::teamId).distinct().forEach(teamVersions::bump);
+
+		// Os ids das cópias são derivados do lote, então não é preciso lê-los de volta
+		List<ClonedWorkoutDto> clones = new ArrayList<>(sources.size() * targets.size());
+		for (WorkoutRepository.ScheduleView source : sources) {
+			for (int i = 0; i < targets.size(); i++) {
+				WorkoutCloneTarget target = targets.get(i);
+				LocalDate date = target.dateFor(source.getScheduledDate());
+				clones.add(new ClonedWorkoutDto(source.getId(), WorkoutRepositoryCustom.cloneId(batchId,
+						source.getId(), i), target.teamId(), date));
+				calendarCache.workoutChanged(target.teamId(), date);
+			}
+		}
+		trainingLoadRepository.addWorkouts(clones.stream().map(ClonedWorkoutDto::workoutId).toList());
+		return clones;
 	}
 
-	private void validateCoachOrOwner(TeamMemberEntity membership) {
-		if (membership.getRole() != TeamRole.OWNER && membership.getRole() != TeamRole.COACH)
+	// Carrega as árvores de uma vez (WorkoutTreeLoader), codifica cada treino e guarda no cache
+	private Map<String, CachedWorkoutJson> loadJson(List<String> workoutIds) {
+		Map<String, Long> stamps = new HashMap<>();
+		for (String id : workoutIds)
+			stamps.put(id, jsonCache.stamp(id));
+
+		Map<String, WorkoutEntity> workouts = workoutRepository.findWithTeamAndCreatorByIdIn(workoutIds).stream()
+															   .collect(Collectors.toMap(WorkoutEntity::getId,
+																	   Function.identity()));
+
+		Map<String, CachedWorkoutJson> json = new HashMap<>();
+		for (WorkoutDto dto : workoutTreeLoader.toDtos(List.copyOf(workouts.values())))
+			json.put(dto.id(), jsonCache.put(dto, WorkoutCursor.of(workouts.get(dto.id())), stamps.get(dto.id())));
+		return json;
+	}
+
+	private Map<String, ExerciseEntity> resolveExercises(List<CreateWorkoutExerciseDto> exerciseDtos) {
+		List<String> ids = exerciseDtos.stream().map(CreateWorkoutExerciseDto::exerciseId).distinct().toList();
+		Map<String, ExerciseEntity> exercises = exerciseCatalog.findAllById(ids);
+
+		// Informa todos os ids desconhecidos de uma vez, e não só o primeiro
+		List<String> missing = ids.stream().filter(id -> !exercises.containsKey(id)).map(String::valueOf).toList();
+		if (!missing.isEmpty())
+			throw new EntityNotFoundException("Exercício não encontrado: " + String.join(", ", missing));
+
+		return exercises;
+	}
+
+	private void validateMember(TeamAccess access, String teamId) {
+		if (!teamAuthorization.isMember(access, teamId))
+			throw new UnauthorizedException(NOT_TEAM_MEMBER_MESSAGE);
+	}
+
+	// Papéis vêm do token (a versão dos vínculos já foi conferida no AuthFilter); negativas são confirmadas no banco
+	private void validateCoachOrOwner(TeamAccess access, String teamId) {
+		validateMember(access, teamId);
+
+		if (!teamAuthorization.canManage(access, teamId))
 			throw new UnauthorizedException("Apenas coaches e donos são autorizados a fazer esta ação");
 	}
 
 	private WorkoutDto saveAndMap(WorkoutEntity workout) {
-		return workoutMapper.toDto(workoutRepository.save(workout));
+		WorkoutMetrics.apply(workout);
+		WorkoutEntity saved = workoutRepository.save(workout);
+		trainingLoadRepository.addWorkouts(List.of(saved.getId()));
+		teamVersions.bump(saved.getTeam().getId());
+		calendarCache.workoutChanged(saved.getTeam().getId(), saved.getScheduledDate());
+		return workoutMapper.toDto(saved);
 	}
 
-	private WorkoutEntity createBaseWorkout(CreateWorkoutRequest request) {
+	private WorkoutEntity createBaseWorkout(CreateWorkoutRequest request, TeamAccess access) {
 		TeamEntity team = teamRepository.findById(request.teamId())
 										.orElseThrow(() -> new EntityNotFoundException(TEAM_NOT_FOUND_MESSAGE));
 
 		UserEntity user = userRepository.findById(request.userId())
 										.orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND_MESSAGE));
 
-		TeamMemberEntity membership = teamMemberRepository.findByTeamIdAndUserId(request.teamId(), request.userId())
-														  .orElseThrow(() -> new UnauthorizedException(
-																  NOT_TEAM_MEMBER_MESSAGE));
-
-		validateCoachOrOwner(membership);
+		validateCoachOrOwner(access, request.teamId());
 
-		return WorkoutEntity.builder().team(team).createdBy(user).title(request.title())
-							.description(request.description()).modality(request.modality())
-							.scheduledDate(request.scheduledDate()).scheduledTime(request.scheduledTime())
-							.durationMinutes(request.duration()).intensity(request.intensity()).notes(request.notes())
-							.build();
+		return WorkoutAssembler.newWorkout(request, team, user);
 	}
 
 }
\ No newline at end of file
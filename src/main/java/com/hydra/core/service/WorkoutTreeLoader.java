@@ -0,0 +1,82 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.WorkoutDto;
+import com.hydra.core.entity.*;
+import com.hydra.core.mappers.WorkoutMapper;
+import com.hydra.core.repository.WorkoutExerciseRepository;
+import com.hydra.core.repository.WorkoutExerciseSetRepository;
+import com.hydra.core.repository.WorkoutRunningSegmentRepository;
+import com.hydra.core.repository.WorkoutSwimmingSetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Monta a árvore de {@link WorkoutDto} de uma lista de treinos com um número fixo de consultas: uma por nível de
+ * associação (exercícios com o exercício do catálogo, séries, segmentos de corrida, sets de natação), cada uma com
+ * {@code IN} sobre os ids do nível anterior. Os treinos devem vir com {@code team} e {@code createdBy} já carregados.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutTreeLoader {
+
+	// Mantém cada IN bem abaixo do limite de parâmetros do driver do Postgres
+	static final int MAX_IN_LIST_SIZE = 1_000;
+
+	private final WorkoutExerciseRepository workoutExerciseRepository;
+	private final WorkoutExerciseSetRepository workoutExerciseSetRepository;
+	private final WorkoutRunningSegmentRepository workoutRunningSegmentRepository;
+	private final WorkoutSwimmingSetRepository workoutSwimmingSetRepository;
+	private final WorkoutMapper workoutMapper;
+
+	public List<WorkoutDto> toDtos(List<WorkoutEntity> workouts) {
+		if (workouts.isEmpty())
+			return List.of();
+
+		List<String> workoutIds = workouts.stream().map(WorkoutEntity::getId).toList();
+
+		List<WorkoutExerciseEntity> exercises = inChunks(workoutIds,
+				workoutExerciseRepository::findWithExerciseByWorkoutIdIn);
+		List<String> exerciseIds = exercises.stream().map(WorkoutExerciseEntity::getId).toList();
+
+		Map<String, List<WorkoutExerciseEntity>> exercisesByWorkout = groupBy(exercises, e -> e.getWorkout().getId());
+		Map<String, List<WorkoutExerciseSetEntity>> setsByExercise = groupBy(
+				inChunks(exerciseIds, workoutExerciseSetRepository::findByWorkoutExerciseIdInOrderBySetNumberAsc),
+				s -> s.getWorkoutExercise().getId());
+		Map<String, List<WorkoutRunningSegmentEntity>> segmentsByWorkout = groupBy(
+				inChunks(workoutIds, workoutRunningSegmentRepository::findByWorkoutIdInOrderByOrderIndexAsc),
+				s -> s.getWorkout().getId());
+		Map<String, List<WorkoutSwimmingSetEntity>> swimmingSetsByWorkout = groupBy(
+				inChunks(workoutIds, workoutSwimmingSetRepository::findByWorkoutIdInOrderByOrderIndexAsc),
+				s -> s.getWorkout().getId());
+
+		return workouts.stream().map(w -> workoutMapper.toDto(w, exercisesByWorkout.getOrDefault(w.getId(), List.of()),
+				setsByExercise, segmentsByWorkout.getOrDefault(w.getId(), List.of()),
+				swimmingSetsByWorkout.getOrDefault(w.getId(), List.of()))).toList();
+	}
+
+	// Nenhuma consulta para lista vazia; acima de MAX_IN_LIST_SIZE ids, uma consulta por bloco. A ordem de cada
+	// consulta (orderIndex/setNumber) se mantém dentro de cada pai, pois um pai nunca é dividido entre blocos.
+	private static <T> List<T> inChunks(List<String> ids, Function<List<String>, List<T>> query) {
+		if (ids.isEmpty())
+			return List.of();
+		if (ids.size() <= MAX_IN_LIST_SIZE)
+			return query.apply(ids);
+
+		List<T> result = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+			result.addAll(query.apply(ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()))));
+		}
+		return result;
+	}
+
+	private static <T> Map<String, List<T>> groupBy(List<T> children, Function<T, String> parentId) {
+		return children.stream().collect(Collectors.groupingBy(parentId));
+	}
+
+}
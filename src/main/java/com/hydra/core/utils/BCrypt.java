@@ -14,7 +14,6 @@ package com.hydra.core.utils;
 // ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF
 // OR IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
 
-import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 
 /**
@@ -47,6 +46,9 @@ import java.security.SecureRandom;
  * <p>
  * The amount of work increases exponentially (2**log_rounds), so each increment is twice as much work. The default
  * log_rounds is 10, and the valid range is 4 to 31.
+ * <p>
+ * Esta versão mantém a API e a saída byte a byte do jBCrypt 0.2, mas reaproveita o estado de Blowfish por thread,
+ * expande o material de chave uma única vez por hash, desenrola o encipher e compara os hashes em tempo constante.
  *
  * @author Damien Miller
  * @version 0.2
@@ -197,9 +199,33 @@ public class BCrypt {
 			12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, -1, -1, -1, -1, -1, -1, 28, 29, 30, 31, 32,
 			33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, -1, -1, -1, -1, -1 };
 
+	// Fonte de aleatoriedade compartilhada (SecureRandom é thread-safe e caro de instanciar)
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	// Estado de Blowfish reaproveitado por thread: nenhuma alocação no caminho quente do hash
+	private static final ThreadLocal<BCrypt> ENGINE = ThreadLocal.withInitial(BCrypt::new);
+
+	// Tamanho máximo de um hash gerado: "$2a$" + rounds(2) + "$" + salt(22) + hash(31)
+	private static final int MAX_HASH_LEN = 60;
+
 	// Expanded Blowfish key
-	private int[] P;
-	private int[] S;
+	private final int[] P = new int[P_orig.length];
+	private final int[] S = new int[S_orig.length];
+
+	// Material de chave pré-expandido (18 palavras), repetido a cada chamada de key()
+	private final int[] passwordWords = new int[P_orig.length];
+	private final int[] saltWords = new int[P_orig.length];
+
+	// Buffers de trabalho; outL/outR recebem o bloco cifrado pelo encipher
+	private int outL, outR;
+	private final int[] cdata = new int[bf_crypt_ciphertext.length];
+	private final byte[] saltb = new byte[BCRYPT_SALT_LEN];
+	private final byte[] hashedb = new byte[bf_crypt_ciphertext.length * 4];
+	private final char[] out = new char[MAX_HASH_LEN];
+	private byte[] passwordb = new byte[64];
+
+	private BCrypt() {
+	}
 
 	/**
 	 * Encode a byte array using bcrypt's slightly-modified base64 encoding scheme. Note that this is *not* compatible
@@ -209,13 +235,16 @@ public class BCrypt {
 	 * 		the byte array to encode
 	 * @param len
 	 * 		the number of bytes to encode
-	 * @return base64-encoded string
+	 * @param rs
+	 * 		the destination buffer
+	 * @param pos
+	 * 		the position in the destination buffer to start writing at
+	 * @return the position in the destination buffer after the last written character
 	 * @throws IllegalArgumentException
 	 * 		if the length is invalid
 	 */
-	private static String encode_base64(byte[] d, int len) throws IllegalArgumentException {
+	private static int encode_base64(byte[] d, int len, char[] rs, int pos) throws IllegalArgumentException {
 		int off = 0;
-		StringBuffer rs = new StringBuffer();
 		int c1, c2;
 
 		if (len <= 0 || len > d.length)
@@ -223,26 +252,26 @@ public class BCrypt {
 
 		while (off < len) {
 			c1 = d[off++] & 0xff;
-			rs.append(base64_code[(c1 >> 2) & 0x3f]);
+			rs[pos++] = base64_code[(c1 >> 2) & 0x3f];
 			c1 = (c1 & 0x03) << 4;
 			if (off >= len) {
-				rs.append(base64_code[c1 & 0x3f]);
+				rs[pos++] = base64_code[c1 & 0x3f];
 				break;
 			}
 			c2 = d[off++] & 0xff;
 			c1 |= (c2 >> 4) & 0x0f;
-			rs.append(base64_code[c1 & 0x3f]);
+			rs[pos++] = base64_code[c1 & 0x3f];
 			c1 = (c2 & 0x0f) << 2;
 			if (off >= len) {
-				rs.append(base64_code[c1 & 0x3f]);
+				rs[pos++] = base64_code[c1 & 0x3f];
 				break;
 			}
 			c2 = d[off++] & 0xff;
 			c1 |= (c2 >> 6) & 0x03;
-			rs.append(base64_code[c1 & 0x3f]);
-			rs.append(base64_code[c2 & 0x3f]);
+			rs[pos++] = base64_code[c1 & 0x3f];
+			rs[pos++] = base64_code[c2 & 0x3f];
 		}
-		return rs.toString();
+		return pos;
 	}
 
 	/**
@@ -253,84 +282,78 @@ public class BCrypt {
 	 * @return the decoded value of x
 	 */
 	private static byte char64(char x) {
-		if ((int) x < 0 || (int) x > index_64.length)
+		if (x >= index_64.length)
 			return -1;
 		return index_64[x];
 	}
 
 	/**
-	 * Decode a string encoded using bcrypt's base64 scheme to a byte array. Note that this is *not* compatible with the
-	 * standard MIME-base64 encoding.
+	 * Decode a string encoded using bcrypt's base64 scheme into a byte array. Note that this is *not* compatible with
+	 * the standard MIME-base64 encoding.
 	 *
 	 * @param s
 	 * 		the string to decode
-	 * @param maxolen
-	 * 		the maximum number of bytes to decode
-	 * @return an array containing the decoded bytes
-	 * @throws IllegalArgumentException
-	 * 		if maxolen is invalid
+	 * @param off
+	 * 		the offset of the first character to decode
+	 * @param end
+	 * 		the offset after the last character to decode
+	 * @param ret
+	 * 		the destination buffer, whose length is the maximum number of bytes to decode
+	 * @return the number of bytes decoded
 	 */
-	private static byte[] decode_base64(String s, int maxolen) throws IllegalArgumentException {
-		StringBuffer rs = new StringBuffer();
-		int off = 0, slen = s.length(), olen = 0;
-		byte[] ret;
+	private static int decode_base64(String s, int off, int end, byte[] ret) {
+		int maxolen = ret.length, olen = 0;
 		byte c1, c2, c3, c4, o;
 
-		if (maxolen <= 0)
-			throw new IllegalArgumentException("Invalid maxolen");
-
-		while (off < slen - 1 && olen < maxolen) {
+		while (off < end - 1 && olen < maxolen) {
 			c1 = char64(s.charAt(off++));
 			c2 = char64(s.charAt(off++));
 			if (c1 == -1 || c2 == -1)
 				break;
 			o = (byte) (c1 << 2);
 			o |= (c2 & 0x30) >> 4;
-			rs.append((char) o);
-			if (++olen >= maxolen || off >= slen)
+			ret[olen] = o;
+			if (++olen >= maxolen || off >= end)
 				break;
 			c3 = char64(s.charAt(off++));
 			if (c3 == -1)
 				break;
 			o = (byte) ((c2 & 0x0f) << 4);
 			o |= (c3 & 0x3c) >> 2;
-			rs.append((char) o);
-			if (++olen >= maxolen || off >= slen)
+			ret[olen] = o;
+			if (++olen >= maxolen || off >= end)
 				break;
 			c4 = char64(s.charAt(off++));
 			o = (byte) ((c3 & 0x03) << 6);
 			o |= c4;
-			rs.append((char) o);
+			ret[olen] = o;
 			++olen;
 		}
-
-		ret = new byte[olen];
-		for (off = 0; off < olen; off++)
-			ret[off] = (byte) rs.charAt(off);
-		return ret;
+		return olen;
 	}
 
 	/**
-	 * Cycically extract a word of key material
+	 * Expand key material into the 18 words XORed into the P-array by each key schedule. The material is consumed
+	 * cyclically, exactly as the original streamtoword did, but only once per hash instead of once per round.
 	 *
 	 * @param data
-	 * 		the string to extract the data from
-	 * @param offp
-	 * 		a "pointer" (as a one-entry array) to the current offset into data
-	 * @return the next word of material from data
+	 * 		the key material
+	 * @param len
+	 * 		the number of valid bytes in data
+	 * @param words
+	 * 		the destination for the expanded words
 	 */
-	private static int streamtoword(byte[] data, int[] offp) {
-		int i;
-		int word = 0;
-		int off = offp[0];
-
-		for (i = 0; i < 4; i++) {
-			word = (word << 8) | (data[off] & 0xff);
-			off = (off + 1) % data.length;
-		}
+	private static void expand(byte[] data, int len, int[] words) {
+		int off = 0;
 
-		offp[0] = off;
-		return word;
+		for (int i = 0; i < words.length; i++) {
+			int word = 0;
+			for (int j = 0; j < 4; j++) {
+				word = (word << 8) | (data[off] & 0xff);
+				off = (off + 1) % len;
+			}
+			words[i] = word;
+		}
 	}
 
 	/**
@@ -338,58 +361,25 @@ public class BCrypt {
 	 *
 	 * @param password
 	 * 		the password to hash
-	 * @param salt
-	 * 		the salt to hash with (perhaps generated using BCrypt.gensalt)
 	 * @return the hashed password
 	 */
-
 	public static String hashpw(String password) {
 		return hashpw(password, gensalt());
 	}
 
+	/**
+	 * Hash a password using the OpenBSD bcrypt scheme
+	 *
+	 * @param password
+	 * 		the password to hash
+	 * @param salt
+	 * 		the salt to hash with (perhaps generated using BCrypt.gensalt)
+	 * @return the hashed password
+	 */
 	public static String hashpw(String password, String salt) {
-		BCrypt B;
-		String real_salt;
-		byte[] passwordb, saltb, hashed;
-		char minor = (char) 0;
-		int rounds, off = 0;
-		StringBuffer rs = new StringBuffer();
-
-		if (salt.charAt(0) != '$' || salt.charAt(1) != '2')
-			throw new IllegalArgumentException("Invalid salt version");
-		if (salt.charAt(2) == '$')
-			off = 3;
-		else {
-			minor = salt.charAt(2);
-			if (minor != 'a' || salt.charAt(3) != '$')
-				throw new IllegalArgumentException("Invalid salt revision");
-			off = 4;
-		}
-
-		// Extract number of rounds
-		if (salt.charAt(off + 2) > '$')
-			throw new IllegalArgumentException("Missing salt rounds");
-		rounds = Integer.parseInt(salt.substring(off, off + 2));
-
-		real_salt = salt.substring(off + 3, off + 25);
-		passwordb = (password + (minor >= 'a' ? "\000" : "")).getBytes(StandardCharsets.UTF_8);
-
-		saltb = decode_base64(real_salt, BCRYPT_SALT_LEN);
-
-		B = new BCrypt();
-		hashed = B.crypt_raw(passwordb, saltb, rounds);
-
-		rs.append("$2");
-		if (minor >= 'a')
-			rs.append(minor);
-		rs.append("$");
-		if (rounds < 10)
-			rs.append("0");
-		rs.append(rounds);
-		rs.append("$");
-		rs.append(encode_base64(saltb, saltb.length));
-		rs.append(encode_base64(hashed, bf_crypt_ciphertext.length * 4 - 1));
-		return rs.toString();
+		BCrypt b = ENGINE.get();
+		int len = b.hash(password, salt);
+		return new String(b.out, 0, len);
 	}
 
 	/**
@@ -402,18 +392,19 @@ public class BCrypt {
 	 * @return an encoded salt value
 	 */
 	public static String gensalt(int log_rounds, SecureRandom random) {
-		StringBuffer rs = new StringBuffer();
+		char[] rs = new char[MAX_HASH_LEN - 31];
 		byte[] rnd = new byte[BCRYPT_SALT_LEN];
 
 		random.nextBytes(rnd);
 
-		rs.append("$2a$");
-		if (log_rounds < 10)
-			rs.append("0");
-		rs.append(log_rounds);
-		rs.append("$");
-		rs.append(encode_base64(rnd, rnd.length));
-		return rs.toString();
+		rs[0] = '$';
+		rs[1] = '2';
+		rs[2] = 'a';
+		rs[3] = '$';
+		int pos = writeRounds(log_rounds, rs, 4);
+		rs[pos++] = '$';
+		pos = encode_base64(rnd, rnd.length, rs, pos);
+		return new String(rs, 0, pos);
 	}
 
 	/**
@@ -424,7 +415,7 @@ public class BCrypt {
 	 * @return an encoded salt value
 	 */
 	public static String gensalt(int log_rounds) {
-		return gensalt(log_rounds, new SecureRandom());
+		return gensalt(log_rounds, RANDOM);
 	}
 
 	/**
@@ -438,7 +429,8 @@ public class BCrypt {
 	}
 
 	/**
-	 * Check that a plaintext password matches a previously hashed one
+	 * Check that a plaintext password matches a previously hashed one. The comparison runs in constant time with
+	 * respect to the content of the hashes.
 	 *
 	 * @param plaintext
 	 * 		the plaintext password to verify
@@ -447,154 +439,283 @@ public class BCrypt {
 	 * @return true if the passwords match, false otherwise
 	 */
 	public static boolean checkpw(String plaintext, String hashed) {
-		return (hashed.compareTo(hashpw(plaintext, hashed)) == 0);
+		BCrypt b = ENGINE.get();
+		int len = b.hash(plaintext, hashed);
+
+		if (hashed.length() != len)
+			return false;
+
+		int diff = 0;
+		for (int i = 0; i < len; i++)
+			diff |= b.out[i] ^ hashed.charAt(i);
+		return diff == 0;
 	}
 
 	/**
-	 * Blowfish encipher a single 64-bit block encoded as two 32-bit halves
+	 * Extract the work factor (log_rounds) from a hash or salt produced by this class
 	 *
-	 * @param lr
-	 * 		an array containing the two 32-bit half blocks
-	 * @param off
-	 * 		the position in the array of the blocks
+	 * @param hashed
+	 * 		the hash or salt to inspect
+	 * @return the log2 of the number of rounds, or -1 if the value is not a bcrypt hash
 	 */
-	private final void encipher(int[] lr, int off) {
-		int i, n, l = lr[off], r = lr[off + 1];
+	public static int cost(String hashed) {
+		if (hashed == null || hashed.length() < 7 || hashed.charAt(0) != '$' || hashed.charAt(1) != '2')
+			return -1;
 
-		l ^= P[0];
-		for (i = 0; i <= BLOWFISH_NUM_ROUNDS - 2; ) {
-			// Feistel substitution on left word
-			n = S[(l >> 24) & 0xff];
-			n += S[0x100 | ((l >> 16) & 0xff)];
-			n ^= S[0x200 | ((l >> 8) & 0xff)];
-			n += S[0x300 | (l & 0xff)];
-			r ^= n ^ P[++i];
-
-			// Feistel substitution on right word
-			n = S[(r >> 24) & 0xff];
-			n += S[0x100 | ((r >> 16) & 0xff)];
-			n ^= S[0x200 | ((r >> 8) & 0xff)];
-			n += S[0x300 | (r & 0xff)];
-			l ^= n ^ P[++i];
+		int off = hashed.charAt(2) == '$' ? 3 : 4;
+		if (off == 4 && (hashed.charAt(2) != 'a' || hashed.charAt(3) != '$'))
+			return -1;
+		if (hashed.length() < off + 3 || hashed.charAt(off + 2) != '$')
+			return -1;
+
+		char d1 = hashed.charAt(off), d2 = hashed.charAt(off + 1);
+		if (d1 < '0' || d1 > '9' || d2 < '0' || d2 > '9')
+			return -1;
+		return (d1 - '0') * 10 + (d2 - '0');
+	}
+
+	/**
+	 * Write a two-digit number of rounds, the same way the original StringBuffer version did
+	 */
+	private static int writeRounds(int rounds, char[] rs, int pos) {
+		if (rounds < 10)
+			rs[pos++] = '0';
+		else
+			rs[pos++] = (char) ('0' + rounds / 10 % 10);
+		rs[pos++] = (char) ('0' + rounds % 10);
+		return pos;
+	}
+
+	/**
+	 * Hash a password into this engine's output buffer
+	 *
+	 * @return the number of characters written to the output buffer
+	 */
+	private int hash(String password, String salt) {
+		char minor = (char) 0;
+		int rounds, off;
+
+		if (salt.charAt(0) != '$' || salt.charAt(1) != '2')
+			throw new IllegalArgumentException("Invalid salt version");
+		if (salt.charAt(2) == '$')
+			off = 3;
+		else {
+			minor = salt.charAt(2);
+			if (minor != 'a' || salt.charAt(3) != '$')
+				throw new IllegalArgumentException("Invalid salt revision");
+			off = 4;
 		}
-		lr[off] = r ^ P[BLOWFISH_NUM_ROUNDS + 1];
-		lr[off + 1] = l;
+
+		// Extract number of rounds
+		if (salt.charAt(off + 2) > '$')
+			throw new IllegalArgumentException("Missing salt rounds");
+		rounds = Integer.parseInt(salt, off, off + 2, 10);
+
+		// Mantém a mesma exceção do substring original quando o salt é curto demais
+		if (salt.length() < off + 25)
+			throw new StringIndexOutOfBoundsException("Salt too short");
+
+		int saltLen = decode_base64(salt, off + 3, off + 25, saltb);
+		int passwordLen = encodeUtf8(password, minor >= 'a');
+
+		crypt_raw(passwordLen, saltLen, rounds);
+
+		char[] rs = out;
+		int pos = 0;
+		rs[pos++] = '$';
+		rs[pos++] = '2';
+		if (minor >= 'a')
+			rs[pos++] = minor;
+		rs[pos++] = '$';
+		pos = writeRounds(rounds, rs, pos);
+		rs[pos++] = '$';
+		pos = encode_base64(saltb, saltLen, rs, pos);
+		return encode_base64(hashedb, bf_crypt_ciphertext.length * 4 - 1, rs, pos);
+	}
+
+	/**
+	 * Encode the password as UTF-8 into the reusable password buffer, optionally followed by a NUL terminator. Unpaired
+	 * surrogates become '?', matching String.getBytes(UTF_8).
+	 *
+	 * @return the number of bytes written
+	 */
+	private int encodeUtf8(String password, boolean terminate) {
+		int n = password.length();
+		int max = n * 3 + 1;
+		if (passwordb.length < max)
+			passwordb = new byte[Math.max(max, passwordb.length * 2)];
+
+		byte[] d = passwordb;
+		int len = 0;
+		for (int i = 0; i < n; i++) {
+			char c = password.charAt(i);
+			if (c < 0x80) {
+				d[len++] = (byte) c;
+			} else if (c < 0x800) {
+				d[len++] = (byte) (0xc0 | (c >> 6));
+				d[len++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(password.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, password.charAt(++i));
+				d[len++] = (byte) (0xf0 | (cp >> 18));
+				d[len++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+				d[len++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+				d[len++] = (byte) (0x80 | (cp & 0x3f));
+			} else if (Character.isSurrogate(c)) {
+				d[len++] = '?';
+			} else {
+				d[len++] = (byte) (0xe0 | (c >> 12));
+				d[len++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+				d[len++] = (byte) (0x80 | (c & 0x3f));
+			}
+		}
+		if (terminate)
+			d[len++] = 0;
+		return len;
 	}
 
 	/**
-	 * Initialise the Blowfish key schedule
+	 * Blowfish F function
 	 */
-	private void init_key() {
-		P = P_orig.clone();
-		S = S_orig.clone();
+	private static int f(int[] S, int x) {
+		return ((S[x >>> 24] + S[0x100 | ((x >>> 16) & 0xff)]) ^ S[0x200 | ((x >>> 8) & 0xff)]) + S[0x300 | (x & 0xff)];
+	}
+
+	/**
+	 * Blowfish encipher a single 64-bit block encoded as two 32-bit halves. The 16 rounds are unrolled and the result
+	 * is left in outL/outR, so no scratch array is needed.
+	 *
+	 * @param l
+	 * 		the left half block
+	 * @param r
+	 * 		the right half block
+	 */
+	private void encipher(int l, int r) {
+		final int[] P = this.P, S = this.S;
+
+		l ^= P[0];
+		r ^= f(S, l) ^ P[1];
+		l ^= f(S, r) ^ P[2];
+		r ^= f(S, l) ^ P[3];
+		l ^= f(S, r) ^ P[4];
+		r ^= f(S, l) ^ P[5];
+		l ^= f(S, r) ^ P[6];
+		r ^= f(S, l) ^ P[7];
+		l ^= f(S, r) ^ P[8];
+		r ^= f(S, l) ^ P[9];
+		l ^= f(S, r) ^ P[10];
+		r ^= f(S, l) ^ P[11];
+		l ^= f(S, r) ^ P[12];
+		r ^= f(S, l) ^ P[13];
+		l ^= f(S, r) ^ P[14];
+		r ^= f(S, l) ^ P[15];
+		l ^= f(S, r) ^ P[16];
+
+		outL = r ^ P[BLOWFISH_NUM_ROUNDS + 1];
+		outR = l;
 	}
 
 	/**
 	 * Key the Blowfish cipher
 	 *
-	 * @param key
-	 * 		an array containing the key
+	 * @param words
+	 * 		the key material, pre-expanded to one word per P-array entry
 	 */
-	private void key(byte[] key) {
-		int i;
-		int[] koffp = { 0 };
-		int[] lr = { 0, 0 };
-		int plen = P.length, slen = S.length;
-
-		for (i = 0; i < plen; i++)
-			P[i] = P[i] ^ streamtoword(key, koffp);
-
-		for (i = 0; i < plen; i += 2) {
-			encipher(lr, 0);
-			P[i] = lr[0];
-			P[i + 1] = lr[1];
+	private void key(int[] words) {
+		final int[] P = this.P, S = this.S;
+		int l = 0, r = 0;
+
+		for (int i = 0; i < P.length; i++)
+			P[i] ^= words[i];
+
+		for (int i = 0; i < P.length; i += 2) {
+			encipher(l, r);
+			P[i] = l = outL;
+			P[i + 1] = r = outR;
 		}
 
-		for (i = 0; i < slen; i += 2) {
-			encipher(lr, 0);
-			S[i] = lr[0];
-			S[i + 1] = lr[1];
+		for (int i = 0; i < S.length; i += 2) {
+			encipher(l, r);
+			S[i] = l = outL;
+			S[i + 1] = r = outR;
 		}
 	}
 
 	/**
 	 * Perform the "enhanced key schedule" step described by Provos and Mazieres in "A Future-Adaptable Password Scheme"
 	 * http://www.openbsd.org/papers/bcrypt-paper.ps
-	 *
-	 * @param data
-	 * 		salt information
-	 * @param key
-	 * 		password information
+	 * <p>
+	 * The salt is always 16 bytes, so the data stream cycles through saltWords[0..3].
 	 */
-	private void ekskey(byte[] data, byte[] key) {
-		int i;
-		int[] koffp = { 0 }, doffp = { 0 };
-		int[] lr = { 0, 0 };
-		int plen = P.length, slen = S.length;
-
-		for (i = 0; i < plen; i++)
-			P[i] = P[i] ^ streamtoword(key, koffp);
-
-		for (i = 0; i < plen; i += 2) {
-			lr[0] ^= streamtoword(data, doffp);
-			lr[1] ^= streamtoword(data, doffp);
-			encipher(lr, 0);
-			P[i] = lr[0];
-			P[i + 1] = lr[1];
+	private void ekskey() {
+		final int[] P = this.P, S = this.S, data = saltWords, key = passwordWords;
+		int l = 0, r = 0, d = 0;
+
+		for (int i = 0; i < P.length; i++)
+			P[i] ^= key[i];
+
+		for (int i = 0; i < P.length; i += 2) {
+			encipher(l ^ data[d], r ^ data[d + 1]);
+			d = (d + 2) & 3;
+			P[i] = l = outL;
+			P[i + 1] = r = outR;
 		}
 
-		for (i = 0; i < slen; i += 2) {
-			lr[0] ^= streamtoword(data, doffp);
-			lr[1] ^= streamtoword(data, doffp);
-			encipher(lr, 0);
-			S[i] = lr[0];
-			S[i + 1] = lr[1];
+		for (int i = 0; i < S.length; i += 2) {
+			encipher(l ^ data[d], r ^ data[d + 1]);
+			d = (d + 2) & 3;
+			S[i] = l = outL;
+			S[i + 1] = r = outR;
 		}
 	}
 
 	/**
-	 * Perform the central password hashing step in the bcrypt scheme
+	 * Perform the central password hashing step in the bcrypt scheme, leaving the binary hash in hashedb
 	 *
-	 * @param password
-	 * 		the password to hash
-	 * @param salt
-	 * 		the binary salt to hash with the password
+	 * @param passwordLen
+	 * 		the number of valid bytes in passwordb
+	 * @param saltLen
+	 * 		the number of valid bytes in saltb
 	 * @param log_rounds
 	 * 		the binary logarithm of the number of rounds of hashing to apply
-	 * @return an array containing the binary hashed password
 	 */
-	private byte[] crypt_raw(byte[] password, byte[] salt, int log_rounds) {
+	private void crypt_raw(int passwordLen, int saltLen, int log_rounds) {
 		int rounds, i, j;
-		int[] cdata = bf_crypt_ciphertext.clone();
+		final int[] cdata = this.cdata;
 		int clen = cdata.length;
-		byte[] ret;
 
 		if (log_rounds < 4 || log_rounds > 31)
 			throw new IllegalArgumentException("Bad number of rounds");
 		rounds = 1 << log_rounds;
-		if (salt.length != BCRYPT_SALT_LEN)
+		if (saltLen != BCRYPT_SALT_LEN)
 			throw new IllegalArgumentException("Bad salt length");
 
-		init_key();
-		ekskey(salt, password);
+		expand(passwordb, passwordLen, passwordWords);
+		expand(saltb, saltLen, saltWords);
+
+		System.arraycopy(P_orig, 0, P, 0, P.length);
+		System.arraycopy(S_orig, 0, S, 0, S.length);
+		ekskey();
 		for (i = 0; i < rounds; i++) {
-			key(password);
-			key(salt);
+			key(passwordWords);
+			key(saltWords);
 		}
 
+		System.arraycopy(bf_crypt_ciphertext, 0, cdata, 0, clen);
 		for (i = 0; i < 64; i++) {
-			for (j = 0; j < (clen >> 1); j++)
-				encipher(cdata, j << 1);
+			for (j = 0; j < clen; j += 2) {
+				encipher(cdata[j], cdata[j + 1]);
+				cdata[j] = outL;
+				cdata[j + 1] = outR;
+			}
 		}
 
-		ret = new byte[clen * 4];
+		final byte[] ret = hashedb;
 		for (i = 0, j = 0; i < clen; i++) {
-			ret[j++] = (byte) ((cdata[i] >> 24) & 0xff);
-			ret[j++] = (byte) ((cdata[i] >> 16) & 0xff);
-			ret[j++] = (byte) ((cdata[i] >> 8) & 0xff);
-			ret[j++] = (byte) (cdata[i] & 0xff);
+			ret[j++] = (byte) (cdata[i] >> 24);
+			ret[j++] = (byte) (cdata[i] >> 16);
+			ret[j++] = (byte) (cdata[i] >> 8);
+			ret[j++] = (byte) cdata[i];
 		}
-		return ret;
 	}
 
-}
\ No newline at end of file
+}
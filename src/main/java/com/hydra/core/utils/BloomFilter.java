@@ -0,0 +1,81 @@
+package com.hydra.core.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom thread-safe para strings. {@link #mightContain(String)} nunca dá falso negativo: se responder
+ * {@code false}, o valor com certeza não foi inserido. Com a capacidade respeitada, a taxa de falsos positivos fica
+ * próxima da configurada; acima dela o filtro continua correto, só responde "talvez" com mais frequência.
+ */
+public final class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0)
+			throw new IllegalArgumentException("expectedInsertions deve ser positivo");
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+			throw new IllegalArgumentException("falsePositiveRate deve estar entre 0 e 1");
+
+		// m = -n ln p / (ln 2)^2 ; k = m/n ln 2
+		long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min(Integer.MAX_VALUE - 8L, (m + 63) >>> 6);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long) words << 6;
+		this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash = hash64(value);
+		long h1 = hash, h2 = Long.rotateLeft(hash, 32) * 0x9e3779b97f4a7c15L | 1;
+
+		for (int i = 0; i < hashFunctions; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+
+			long current = bits.get(word);
+			while ((current & mask) == 0) {
+				long witness = bits.compareAndExchange(word, current, current | mask);
+				if (witness == current)
+					break;
+				current = witness;
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash64(value);
+		long h1 = hash, h2 = Long.rotateLeft(hash, 32) * 0x9e3779b97f4a7c15L | 1;
+
+		for (int i = 0; i < hashFunctions; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	// FNV-1a sobre os chars seguido do finalizador do SplitMix64 para espalhar os bits
+	private static long hash64(String value) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			h ^= value.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+		h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+		return h ^ (h >>> 31);
+	}
+
+}
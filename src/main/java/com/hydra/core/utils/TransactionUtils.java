@@ -0,0 +1,31 @@
+package com.hydra.core.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+	TransactionUtils() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Roda {@code action} depois do commit da transação atual, ou na hora se não houver transação. Para estado em
+	 * memória que não pode refletir uma escrita revertida.
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+
+		action.run();
+	}
+
+}
@@ -0,0 +1,45 @@
+ALTER TABLE users
+    ADD COLUMN email_normalized    VARCHAR(100),
+    ADD COLUMN username_normalized VARCHAR(50);
+
+-- Só A-Z vira minúscula, como UserEntity.normalizeIdentity: lower() depende da collation do banco fora do ASCII
+UPDATE users
+SET email_normalized    = translate(email, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'),
+    username_normalized = translate(username, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz');
+
+ALTER TABLE users
+    ALTER COLUMN email_normalized SET NOT NULL,
+    ALTER COLUMN username_normalized SET NOT NULL;
+
+-- Contas que só diferem por maiúsculas/minúsculas impediriam os índices únicos. Unificá-las envolve times, treinos e
+-- convites de cada uma, então a migração para com os ids envolvidos em vez de escolher uma conta sozinha.
+DO
+$$
+    DECLARE
+        conflicts TEXT;
+    BEGIN
+        SELECT string_agg(format('%s [%s]', kind, ids), '; ')
+        INTO conflicts
+        FROM (SELECT 'email' AS kind, string_agg(id, ', ' ORDER BY created_at, id) AS ids
+              FROM users
+              GROUP BY email_normalized
+              HAVING COUNT(*) > 1
+              UNION ALL
+              SELECT 'username', string_agg(id, ', ' ORDER BY created_at, id)
+              FROM users
+              GROUP BY username_normalized
+              HAVING COUNT(*) > 1) duplicates;
+
+        IF conflicts IS NOT NULL THEN
+            RAISE EXCEPTION 'Usuários com email/username iguais ignorando maiúsculas: %', conflicts
+                USING HINT = 'Unifique ou renomeie essas contas e rode a migração de novo.';
+        END IF;
+    END
+$$;
+
+CREATE UNIQUE INDEX uk_users_email_normalized ON users (email_normalized);
+CREATE UNIQUE INDEX uk_users_username_normalized ON users (username_normalized);
+
+-- As buscas passaram para as colunas normalizadas; a unicidade exata continua nas constraints UNIQUE de V001
+DROP INDEX IF EXISTS idx_email;
+DROP INDEX IF EXISTS idx_username;
@@ -0,0 +1,11 @@
+CREATE TABLE revoked_tokens
+(
+    jti        VARCHAR(36) NOT NULL PRIMARY KEY,
+    user_id    VARCHAR(36) NOT NULL
+        CONSTRAINT fk_revoked_tokens_user REFERENCES users ON DELETE CASCADE,
+    expires_at TIMESTAMP   NOT NULL,
+    revoked_at TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
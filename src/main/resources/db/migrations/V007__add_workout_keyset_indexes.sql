@@ -0,0 +1,20 @@
+-- Paginação por keyset da listagem de treinos do time: (data, hora, id), com datas/horas nulas no fim da ordem
+-- decrescente. As expressões precisam ser idênticas às da consulta (WorkoutRepositoryCustomImpl).
+CREATE INDEX idx_workouts_team_schedule ON workouts (team_id,
+                                                     COALESCE(scheduled_date, DATE '0001-01-01'),
+                                                     COALESCE(scheduled_time, TIME '00:00:00'),
+                                                     id);
+
+CREATE INDEX idx_workouts_team_modality_schedule ON workouts (team_id, modality,
+                                                              COALESCE(scheduled_date, DATE '0001-01-01'),
+                                                              COALESCE(scheduled_time, TIME '00:00:00'),
+                                                              id);
+
+CREATE INDEX idx_workouts_team_creator_schedule ON workouts (team_id, created_by,
+                                                             COALESCE(scheduled_date, DATE '0001-01-01'),
+                                                             COALESCE(scheduled_time, TIME '00:00:00'),
+                                                             id);
+
+-- Cobertos pelos prefixos dos índices acima
+DROP INDEX idx_workouts_team;
+DROP INDEX idx_workouts_modality;
@@ -0,0 +1,14 @@
+-- Carga planejada por time, semana ISO (segunda-feira, date_trunc('week')) e modalidade. Mantida de forma incremental
+-- pelas escritas de treinos (TrainingLoadRepositoryCustomImpl); treinos sem data não entram. Para preencher a partir
+-- dos treinos existentes, ver TrainingLoadRebuilder.
+CREATE TABLE team_weekly_load
+(
+    team_id          VARCHAR(36)    NOT NULL REFERENCES teams ON DELETE CASCADE,
+    week_start       DATE           NOT NULL,
+    modality         VARCHAR(20)    NOT NULL,
+    workouts         INTEGER        NOT NULL DEFAULT 0,
+    tonnage_kg       NUMERIC(14, 2) NOT NULL DEFAULT 0, -- reps x peso das séries de musculação
+    distance_meters  BIGINT         NOT NULL DEFAULT 0, -- corrida + natação (distância x repetições)
+    duration_seconds BIGINT         NOT NULL DEFAULT 0, -- segmentos de corrida
+    PRIMARY KEY (team_id, week_start, modality)
+);
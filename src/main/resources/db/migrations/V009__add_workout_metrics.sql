@@ -0,0 +1,48 @@
+-- Métricas derivadas da árvore do treino, gravadas na linha para as listagens não precisarem das tabelas filhas.
+-- Mantidas pela aplicação a cada escrita (WorkoutMetrics); o UPDATE abaixo preenche os treinos existentes com as
+-- mesmas contas.
+ALTER TABLE workouts
+    ADD COLUMN item_count                 INT            NOT NULL DEFAULT 0,
+    ADD COLUMN total_sets                 INT            NOT NULL DEFAULT 0,
+    ADD COLUMN total_tonnage_kg           NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN total_distance_meters      INT            NOT NULL DEFAULT 0,
+    ADD COLUMN estimated_duration_seconds INT            NOT NULL DEFAULT 0;
+
+WITH exercise_sets AS (SELECT e.workout_id,
+                              COUNT(*)                                                         AS sets,
+                              COALESCE(SUM(s.reps * s.weight), 0)                              AS tonnage,
+                              -- 4 s por repetição + descanso da série, ou o padrão do exercício
+                              SUM(s.reps * 4 + COALESCE(s.rest_seconds, e.rest_between_sets_seconds, 0)) AS duration
+                       FROM workout_exercises e
+                                JOIN workout_exercise_sets s ON s.workout_exercise_id = e.id
+                       GROUP BY e.workout_id),
+     exercises AS (SELECT workout_id, COUNT(*) AS items
+                   FROM workout_exercises
+                   GROUP BY workout_id),
+     segments AS (SELECT workout_id,
+                         COUNT(*)                          AS items,
+                         COALESCE(SUM(distance_meters), 0) AS distance,
+                         -- sem duração, estima pela distância e o pace alvo (segundos por km)
+                         COALESCE(SUM(COALESCE(duration_seconds, distance_meters * target_pace_seconds / 1000)),
+                                  0)                       AS duration
+                  FROM workout_running_segments
+                  GROUP BY workout_id),
+     swimming AS (SELECT workout_id,
+                         COUNT(*)                                                                      AS items,
+                         SUM(repetitions)                                                              AS sets,
+                         SUM(distance_meters * repetitions)                                            AS distance,
+                         SUM(repetitions * (COALESCE(target_pace_seconds, 0) + COALESCE(rest_seconds, 0))) AS duration
+                  FROM workout_swimming_sets
+                  GROUP BY workout_id)
+UPDATE workouts w
+SET item_count                 = COALESCE(ex.items, 0) + COALESCE(sg.items, 0) + COALESCE(sw.items, 0),
+    total_sets                 = COALESCE(es.sets, 0) + COALESCE(sw.sets, 0),
+    total_tonnage_kg           = COALESCE(es.tonnage, 0),
+    total_distance_meters      = COALESCE(sg.distance, 0) + COALESCE(sw.distance, 0),
+    estimated_duration_seconds = COALESCE(es.duration, 0) + COALESCE(sg.duration, 0) + COALESCE(sw.duration, 0)
+FROM workouts base
+         LEFT JOIN exercise_sets es ON es.workout_id = base.id
+         LEFT JOIN exercises ex ON ex.workout_id = base.id
+         LEFT JOIN segments sg ON sg.workout_id = base.id
+         LEFT JOIN swimming sw ON sw.workout_id = base.id
+WHERE w.id = base.id;
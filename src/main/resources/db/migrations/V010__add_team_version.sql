@@ -0,0 +1,4 @@
+-- Versão dos dados do time (treinos, membros e detalhes), usada como ETag das leituras do time. Avançada na mesma
+-- transação de cada escrita (TeamVersions), então todos os nós veem a mesma versão.
+ALTER TABLE teams
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
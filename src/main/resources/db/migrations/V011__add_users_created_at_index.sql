@@ -0,0 +1,3 @@
+-- Sincronização periódica da pré-checagem de disponibilidade (IdentityAvailabilityService): cada nó lê só os cadastros
+-- recentes, feitos em qualquer nó.
+CREATE INDEX idx_users_created_at ON users (created_at);
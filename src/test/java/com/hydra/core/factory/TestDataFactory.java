@@ -1,12 +1,18 @@
 package com.hydra.core.factory;
 
-import com.hydra.core.entity.TeamEntity;
-import com.hydra.core.entity.UserEntity;
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.MuscleGroup;
+import com.hydra.core.enums.RunningSegmentType;
+import com.hydra.core.enums.SwimmingStroke;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.enums.WorkoutModality;
 import com.hydra.core.repository.TeamRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestComponent;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @TestComponent
@@ -37,4 +43,69 @@ public class TestDataFactory {
 		return team;
 	}
 
+	public TeamMemberEntity createMember(TeamEntity team, UserEntity user, TeamRole role) {
+		TeamMemberEntity member = new TeamMemberEntity();
+		member.setTeam(team);
+		member.setUser(user);
+		member.setRole(role);
+		return member;
+	}
+
+	public ExerciseEntity createExercise() {
+		ExerciseEntity exercise = new ExerciseEntity();
+		exercise.setName("Agachamento");
+		exercise.setMuscleGroup(MuscleGroup.LEGS);
+		return exercise;
+	}
+
+	public WorkoutEntity createWorkout(TeamEntity team, UserEntity creator, WorkoutModality modality,
+			LocalDate scheduledDate) {
+		return WorkoutEntity.builder().team(team).createdBy(creator).title("Treino").modality(modality)
+							.scheduledDate(scheduledDate).build();
+	}
+
+	// Os filhos entram no fim da lista do treino, com a ordem seguinte; o cascade do treino os persiste
+
+	public WorkoutExerciseEntity addExercise(WorkoutEntity workout, ExerciseEntity exercise, int sets, int reps,
+			BigDecimal weight) {
+		WorkoutExerciseEntity workoutExercise = new WorkoutExerciseEntity();
+		workoutExercise.setWorkout(workout);
+		workoutExercise.setExercise(exercise);
+		workoutExercise.setOrderIndex(workout.getExercises().size() + 1);
+
+		for (int s = 1; s <= sets; s++) {
+			WorkoutExerciseSetEntity set = new WorkoutExerciseSetEntity();
+			set.setWorkoutExercise(workoutExercise);
+			set.setSetNumber(s);
+			set.setReps(reps);
+			set.setWeight(weight);
+			workoutExercise.getSets().add(set);
+		}
+
+		workout.getExercises().add(workoutExercise);
+		return workoutExercise;
+	}
+
+	public WorkoutRunningSegmentEntity addRunningSegment(WorkoutEntity workout, RunningSegmentType type,
+			Integer distanceMeters) {
+		WorkoutRunningSegmentEntity segment = new WorkoutRunningSegmentEntity();
+		segment.setWorkout(workout);
+		segment.setOrderIndex(workout.getRunningSegments().size() + 1);
+		segment.setSegmentType(type);
+		segment.setDistanceMeters(distanceMeters);
+		workout.getRunningSegments().add(segment);
+		return segment;
+	}
+
+	public WorkoutSwimmingSetEntity addSwimmingSet(WorkoutEntity workout, int distanceMeters, int repetitions) {
+		WorkoutSwimmingSetEntity set = new WorkoutSwimmingSetEntity();
+		set.setWorkout(workout);
+		set.setOrderIndex(workout.getSwimmingSets().size() + 1);
+		set.setStroke(SwimmingStroke.FREESTYLE);
+		set.setDistanceMeters(distanceMeters);
+		set.setRepetitions(repetitions);
+		workout.getSwimmingSets().add(set);
+		return set;
+	}
+
 }
\ No newline at end of file
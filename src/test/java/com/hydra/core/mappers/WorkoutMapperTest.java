@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -230,6 +231,38 @@ class WorkoutMapperTest {
 		assertThat(dto.swimmingSets()).isEmpty();
 	}
 
+	@Test
+	void toDto_withBatchLoadedChildren_ignoresEntityCollections() {
+		WorkoutExerciseSetEntity set = new WorkoutExerciseSetEntity();
+		set.setId("2");
+		set.setSetNumber(1);
+		set.setReps(8);
+
+		WorkoutExerciseEntity exerciseEntity = new WorkoutExerciseEntity();
+		exerciseEntity.setId("3");
+		exerciseEntity.setOrderIndex(1);
+
+		WorkoutRunningSegmentEntity segment = new WorkoutRunningSegmentEntity();
+		segment.setId("4");
+		segment.setOrderIndex(1);
+
+		// Coleções da entidade nulas: acessá-las falharia, como uma coleção lazy fora da sessão
+		WorkoutEntity entity = buildMinimalWorkout();
+		entity.setExercises(null);
+		entity.setRunningSegments(null);
+		entity.setSwimmingSets(null);
+
+		WorkoutDto dto = mapper.toDto(entity, List.of(exerciseEntity), Map.of("3", List.of(set)), List.of(segment),
+				List.of());
+
+		assertThat(dto.exercises()).singleElement().satisfies(ex -> {
+			assertThat(ex.id()).isEqualTo("3");
+			assertThat(ex.sets()).extracting(WorkoutExerciseSetDto::id).containsExactly("2");
+		});
+		assertThat(dto.runningSegments()).extracting(WorkoutRunningSegmentDto::id).containsExactly("4");
+		assertThat(dto.swimmingSets()).isEmpty();
+	}
+
 	private WorkoutEntity buildMinimalWorkout() {
 		WorkoutEntity entity = new WorkoutEntity();
 		entity.setId("1");
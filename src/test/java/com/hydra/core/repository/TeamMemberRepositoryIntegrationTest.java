@@ -0,0 +1,101 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.entity.TeamEntity;
+import com.hydra.core.entity.TeamMemberEntity;
+import com.hydra.core.entity.UserEntity;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.factory.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestDataFactory.class)
+class TeamMemberRepositoryIntegrationTest {
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	private TeamEntity team;
+	private UserEntity owner;
+	private UserEntity coach;
+	private UserEntity athlete;
+	private UserEntity outsider;
+
+	@BeforeEach
+	void setUp() {
+		owner = entityManager.persist(factory.createUser());
+		coach = entityManager.persist(factory.createUser());
+		athlete = entityManager.persist(factory.createUser());
+		outsider = entityManager.persist(factory.createUser());
+
+		team = entityManager.persist(factory.createTeam(owner));
+		entityManager.persist(factory.createMember(team, owner, TeamRole.OWNER));
+		entityManager.persist(factory.createMember(team, coach, TeamRole.COACH));
+		entityManager.persist(factory.createMember(team, athlete, TeamRole.ATHLETE));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("Should check membership without loading the team")
+	void shouldCheckMembership() {
+		assertThat(teamMemberRepository.existsByTeamIdAndUserId(team.getId(), athlete.getId())).isTrue();
+		assertThat(teamMemberRepository.existsByTeamIdAndUserId(team.getId(), outsider.getId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should check membership restricted to roles")
+	void shouldCheckMembershipWithRole() {
+		EnumSet<TeamRole> managers = EnumSet.of(TeamRole.OWNER, TeamRole.COACH);
+
+		assertThat(teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(team.getId(), owner.getId(),
+				managers)).isTrue();
+		assertThat(teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(team.getId(), coach.getId(),
+				managers)).isTrue();
+		assertThat(teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(team.getId(), athlete.getId(),
+				managers)).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should list members ordered by role with users fetched")
+	void shouldListMembersOrderedByRole() {
+		List<TeamMemberEntity> members = teamMemberRepository.findAllByTeamOrderedByRole(team.getId());
+
+		assertThat(members).extracting(TeamMemberEntity::getRole)
+						   .containsExactly(TeamRole.OWNER, TeamRole.COACH, TeamRole.ATHLETE);
+		assertThat(entityManager.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil()
+								.isLoaded(members.getFirst().getUser())).isTrue();
+	}
+
+	@Test
+	@DisplayName("Should project member roles of a team")
+	void shouldProjectMemberRoles() {
+		List<TeamMemberRepository.MemberRoleView> roles = teamMemberRepository.findMemberRolesByTeamId(team.getId());
+
+		assertThat(roles).extracting(TeamMemberRepository.MemberRoleView::getUserId)
+						 .containsExactlyInAnyOrder(owner.getId(), coach.getId(), athlete.getId());
+	}
+
+}
@@ -132,4 +132,44 @@ class TeamRepositoryIntegrationTest {
 		assertThat(updatedTeam.getName()).isEqualTo("Team Atualizado");
 	}
 
+	@Test
+	@DisplayName("Should increment the Team version without touching other Teams")
+	void shouldIncrementTeamVersion() {
+		// Arrange
+		UserEntity user = factory.createUser();
+		entityManager.persist(user);
+
+		TeamEntity team = teamRepository.save(factory.createTeam(user));
+		TeamEntity other = teamRepository.save(factory.createTeam(user));
+
+		// Act
+		teamRepository.incrementVersion(team.getId());
+		teamRepository.incrementVersion(team.getId());
+
+		// Assert
+		assertThat(teamRepository.findVersionById(team.getId())).contains(2L);
+		assertThat(teamRepository.findVersionById(other.getId())).contains(0L);
+		assertThat(teamRepository.findVersionById("nope")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should keep the Team version when the Team itself is saved")
+	void shouldKeepVersionOnTeamUpdate() {
+		// Arrange
+		UserEntity user = factory.createUser();
+		entityManager.persist(user);
+
+		TeamEntity team = teamRepository.save(factory.createTeam(user));
+		teamRepository.incrementVersion(team.getId());
+		entityManager.clear();
+
+		// Act
+		TeamEntity teamToUpdate = teamRepository.findById(team.getId()).orElseThrow();
+		teamToUpdate.setName("Team Atualizado");
+		entityManager.flush();
+
+		// Assert
+		assertThat(teamRepository.findVersionById(team.getId())).contains(1L);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.RunningSegmentType;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.factory.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestDataFactory.class)
+class TrainingLoadRepositoryIntegrationTest {
+
+	// Segunda e quarta da semana 2025-W11, e a segunda seguinte
+	private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+	private static final LocalDate WEDNESDAY = LocalDate.of(2025, 3, 12);
+	private static final LocalDate NEXT_MONDAY = LocalDate.of(2025, 3, 17);
+
+	@Autowired
+	private TrainingLoadRepository trainingLoadRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	private TeamEntity team;
+	private UserEntity coach;
+	private ExerciseEntity squat;
+
+	@BeforeEach
+	void setUp() {
+		coach = entityManager.persist(factory.createUser());
+		team = entityManager.persist(factory.createTeam(coach));
+
+		squat = entityManager.persist(factory.createExercise());
+	}
+
+	private WorkoutEntity workout(WorkoutModality modality, LocalDate date) {
+		return factory.createWorkout(team, coach, modality, date);
+	}
+
+	// 3 séries de 10 x 100 kg = 3000 kg
+	private String weightlifting(LocalDate date) {
+		WorkoutEntity workout = workout(WorkoutModality.WEIGHTLIFTING, date);
+		factory.addExercise(workout, squat, 3, 10, new BigDecimal("100.00"));
+		return persist(workout);
+	}
+
+	// 1000 m em 300 s + 400 m sem tempo
+	private String running(LocalDate date) {
+		WorkoutEntity workout = workout(WorkoutModality.RUNNING, date);
+		factory.addRunningSegment(workout, RunningSegmentType.CONTINUOUS, 1000).setDurationSeconds(300);
+		factory.addRunningSegment(workout, RunningSegmentType.CONTINUOUS, 400);
+		return persist(workout);
+	}
+
+	// 4 x 100 m
+	private String swimming(LocalDate date) {
+		WorkoutEntity workout = workout(WorkoutModality.SWIMMING, date);
+		factory.addSwimmingSet(workout, 100, 4);
+		return persist(workout);
+	}
+
+	private String persist(WorkoutEntity workout) {
+		entityManager.persist(workout);
+		entityManager.flush();
+		return workout.getId();
+	}
+
+	private List<TeamWeeklyLoadEntity> weeks() {
+		entityManager.clear();
+		return trainingLoadRepository.findTeamWeeks(team.getId(), MONDAY.minusWeeks(1), NEXT_MONDAY);
+	}
+
+	@Test
+	@DisplayName("Should roll workouts up by ISO week and modality")
+	void shouldAddWorkoutsToTheirWeek() {
+		List<String> ids = List.of(weightlifting(MONDAY), weightlifting(WEDNESDAY), running(MONDAY),
+				swimming(NEXT_MONDAY), persist(workout(WorkoutModality.RUNNING, null)));
+
+		trainingLoadRepository.addWorkouts(ids);
+
+		assertThat(weeks()).extracting(TeamWeeklyLoadEntity::getWeekStart, TeamWeeklyLoadEntity::getModality,
+										TeamWeeklyLoadEntity::getWorkouts, l -> l.getTonnageKg().intValue(),
+										TeamWeeklyLoadEntity::getDistanceMeters,
+										TeamWeeklyLoadEntity::getDurationSeconds)
+						   .containsExactly(tuple(MONDAY, WorkoutModality.RUNNING, 1, 0, 1400L, 300L),
+								   tuple(MONDAY, WorkoutModality.WEIGHTLIFTING, 2, 6000, 0L, 0L),
+								   tuple(NEXT_MONDAY, WorkoutModality.SWIMMING, 1, 0, 400L, 0L));
+	}
+
+	@Test
+	@DisplayName("Should subtract removed workouts and hide weeks left empty")
+	void shouldSubtractWorkouts() {
+		String kept = weightlifting(MONDAY);
+		String removed = weightlifting(WEDNESDAY);
+		String swim = swimming(NEXT_MONDAY);
+		trainingLoadRepository.addWorkouts(List.of(kept, removed, swim));
+
+		trainingLoadRepository.subtractWorkouts(List.of(removed, swim));
+
+		assertThat(weeks()).extracting(TeamWeeklyLoadEntity::getModality, TeamWeeklyLoadEntity::getWorkouts,
+										l -> l.getTonnageKg().intValue())
+						   .containsExactly(tuple(WorkoutModality.WEIGHTLIFTING, 1, 3000));
+	}
+
+	@Test
+	@DisplayName("Should rebuild a team to the same totals kept incrementally")
+	void shouldRebuildTeamFromScratch() {
+		List<String> ids = List.of(weightlifting(MONDAY), running(WEDNESDAY), swimming(NEXT_MONDAY));
+		trainingLoadRepository.addWorkouts(ids);
+		List<TeamWeeklyLoadEntity> incremental = weeks();
+
+		// Linhas corrompidas/defasadas somem no rebuild
+		trainingLoadRepository.addWorkouts(ids);
+		trainingLoadRepository.rebuildTeam(team.getId());
+
+		List<TeamWeeklyLoadEntity> rebuilt = weeks();
+		assertThat(rebuilt).containsExactlyElementsOf(incremental);
+		assertThat(rebuilt).extracting(l -> l.getTonnageKg().intValue()).containsExactly(0, 3000, 0);
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.hydra.core.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara, numa tabela com 1M de usuários, as buscas antigas (upper(...) e OR entre colunas) com as buscas pelas
+ * colunas normalizadas. Não faz parte da suíte (o nome não casa com o padrão do Surefire); rode com
+ * {@code mvn test -Dtest=UserLookupBenchmark}.
+ */
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserLookupBenchmark {
+
+	private static final int USERS = 1_000_000;
+	private static final int LOOKUPS = 2_000;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.update("""
+				INSERT INTO users (id, email, username, name, password, email_normalized, username_normalized,
+				                   created_at, updated_at)
+				SELECT gen_random_uuid()::text, 'User' || i || '@Bench.test', 'User_' || i, 'Bench ' || i, 'x',
+				       'user' || i || '@bench.test', 'user_' || i, now(), now()
+				FROM generate_series(1, ?) AS i
+				""", USERS);
+		jdbcTemplate.execute("ANALYZE users");
+	}
+
+	@Test
+	void normalizedLookupsUseIndexSeeks() {
+		// Planos: as buscas antigas varrem a tabela, as novas fazem seek no índice único
+		assertThat(plan("SELECT * FROM users WHERE upper(email) = upper('USER1@BENCH.TEST') "
+				+ "OR upper(username) = upper('USER1@BENCH.TEST')")).contains("Seq Scan");
+		assertThat(plan("SELECT * FROM users WHERE email_normalized = 'user1@bench.test'")).contains(
+				"uk_users_email_normalized").doesNotContain("Seq Scan");
+		assertThat(plan("SELECT * FROM users WHERE username_normalized = 'user_1'")).contains(
+				"uk_users_username_normalized").doesNotContain("Seq Scan");
+
+		long legacyIgnoreCase = time(i -> jdbcTemplate.queryForList(
+				"SELECT id FROM users WHERE upper(email) = upper(?) OR upper(username) = upper(?)",
+				"USER" + i + "@BENCH.TEST", "USER_" + i), 20);
+		long legacyOr = time(i -> jdbcTemplate.queryForList("SELECT id FROM users WHERE email = ? OR username = ?",
+				"User" + i + "@Bench.test", "User" + i + "@Bench.test"), LOOKUPS);
+		long byLogin = time(i -> assertThat(userRepository.findByLogin("USER" + i + "@BENCH.TEST")).isPresent(),
+				LOOKUPS);
+		long existsCheck = time(i -> {
+			assertThat(userRepository.existsByEmailNormalized("user" + i + "@bench.test")).isTrue();
+			userRepository.existsByUsernameNormalized("user_" + i);
+		}, LOOKUPS);
+
+		System.out.printf("""
+				%,d usuários, média por busca:
+				  upper(email)=upper(?) OR upper(username)=upper(?)  %,10d µs
+				  email = ? OR username = ?                          %,10d µs
+				  findByLogin (seek em email_normalized)             %,10d µs
+				  existsByEmail/UsernameNormalized (2 seeks)         %,10d µs
+				""", USERS, legacyIgnoreCase, legacyOr, byLogin, existsCheck);
+
+		assertThat(byLogin).isLessThan(legacyIgnoreCase);
+	}
+
+	private String plan(String sql) {
+		List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+		return String.join("\n", lines);
+	}
+
+	// Tempo médio por chamada em microssegundos, buscando usuários aleatórios
+	private long time(IntConsumer lookup, int iterations) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long start = System.nanoTime();
+		for (int n = 0; n < iterations; n++) {
+			lookup.accept(1 + random.nextInt(USERS));
+		}
+		return (System.nanoTime() - start) / iterations / 1_000;
+	}
+
+}
@@ -34,7 +34,7 @@ class UserRepositoryIntegrationTest {
 		UserEntity user = factory.createUser();
 		userRepository.saveAndFlush(user);
 
-		Optional<UserEntity> result = userRepository.findByEmailOrUsername(user.getEmail(), "nope");
+		Optional<UserEntity> result = userRepository.findByLogin(user.getEmail());
 
 		assertThat(result).isPresent();
 		assertThat(result.get().getEmail()).isEqualTo(user.getEmail());
@@ -46,7 +46,7 @@ class UserRepositoryIntegrationTest {
 		UserEntity user = factory.createUser();
 		userRepository.saveAndFlush(user);
 
-		Optional<UserEntity> result = userRepository.findByEmailOrUsername("nope@test.com", user.getUsername());
+		Optional<UserEntity> result = userRepository.findByLogin(user.getUsername());
 
 		assertThat(result).isPresent();
 		assertThat(result.get().getUsername()).isEqualTo(user.getUsername());
@@ -58,8 +58,7 @@ class UserRepositoryIntegrationTest {
 		UserEntity user = factory.createUser();
 		userRepository.saveAndFlush(user);
 
-		Optional<UserEntity> result = userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(
-				user.getEmail().toUpperCase(), "nope");
+		Optional<UserEntity> result = userRepository.findByLogin(user.getEmail().toUpperCase());
 
 		assertThat(result).isPresent();
 		assertThat(result.get().getEmail()).isEqualTo(user.getEmail());
@@ -71,17 +70,59 @@ class UserRepositoryIntegrationTest {
 		UserEntity user = factory.createUser();
 		userRepository.saveAndFlush(user);
 
-		Optional<UserEntity> result = userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase("other@test.com",
-				user.getUsername().toUpperCase());
+		Optional<UserEntity> result = userRepository.findByLogin(user.getUsername().toUpperCase());
 
 		assertThat(result).isPresent();
 		assertThat(result.get().getUsername()).isEqualTo(user.getUsername());
 	}
 
+	@Test
+	@DisplayName("Should keep normalized identity in sync on insert and update")
+	void shouldMaintainNormalizedIdentity() {
+		UserEntity user = factory.createUser();
+		user.setEmail("Mixed.Case@Test.com");
+		user.setUsername("Mixed_Case");
+		userRepository.saveAndFlush(user);
+
+		assertThat(user.getEmailNormalized()).isEqualTo("mixed.case@test.com");
+		assertThat(user.getUsernameNormalized()).isEqualTo("mixed_case");
+
+		user.setUsername("Renamed_User");
+		userRepository.saveAndFlush(user);
+
+		assertThat(userRepository.existsByUsernameNormalized("renamed_user")).isTrue();
+		assertThat(userRepository.existsByUsernameNormalized("mixed_case")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should check email and username uniqueness ignoring case")
+	void shouldCheckExistenceIgnoringCase() {
+		UserEntity user = factory.createUser();
+		userRepository.saveAndFlush(user);
+
+		assertThat(userRepository.existsByEmailNormalized(
+				UserEntity.normalizeIdentity(user.getEmail().toUpperCase()))).isTrue();
+		assertThat(userRepository.existsByUsernameNormalized(
+				UserEntity.normalizeIdentity(user.getUsername().toUpperCase()))).isTrue();
+		assertThat(userRepository.existsByEmailNormalized("notfound@test.com")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should fold only ASCII letters when normalizing identities, like V005")
+	void shouldNormalizeOnlyAsciiLetters() {
+		UserEntity user = factory.createUser();
+		user.setEmail("Ana.ÉLIA@Test.COM");
+		userRepository.saveAndFlush(user);
+
+		assertThat(user.getEmailNormalized()).isEqualTo("ana.Élia@test.com");
+		assertThat(userRepository.existsByEmailNormalized(UserEntity.normalizeIdentity("ANA.ÉLIA@TEST.COM")))
+				.isTrue();
+	}
+
 	@Test
 	@DisplayName("Should return empty when user does not exist")
 	void shouldReturnEmptyWhenNotFound() {
-		Optional<UserEntity> result = userRepository.findByEmailOrUsername("notfound@test.com", "notfound");
+		Optional<UserEntity> result = userRepository.findByLogin("notfound@test.com");
 
 		assertThat(result).isEmpty();
 	}
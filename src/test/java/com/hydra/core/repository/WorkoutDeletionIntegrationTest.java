@@ -0,0 +1,121 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.RunningSegmentType;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.factory.TestDataFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestDataFactory.class)
+class WorkoutDeletionIntegrationTest {
+
+	// SELECT do time/data para a autorização + o DELETE do treino; os filhos saem pelo ON DELETE CASCADE
+	private static final long EXPECTED_STATEMENTS = 2;
+
+	@Autowired
+	private WorkoutRepository workoutRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	private Statistics statistics;
+	private TeamEntity team;
+	private UserEntity coach;
+	private ExerciseEntity squat;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+								  .getStatistics();
+
+		coach = entityManager.persist(factory.createUser());
+		team = entityManager.persist(factory.createTeam(coach));
+
+		squat = entityManager.persist(factory.createExercise());
+	}
+
+	private String weightliftingWorkout(int exercises, int setsPerExercise) {
+		WorkoutEntity workout = factory.createWorkout(team, coach, WorkoutModality.WEIGHTLIFTING,
+				LocalDate.of(2025, 3, 10));
+		for (int e = 1; e <= exercises; e++)
+			factory.addExercise(workout, squat, setsPerExercise, 10, null);
+
+		entityManager.persist(workout);
+		entityManager.flush();
+		entityManager.clear();
+		return workout.getId();
+	}
+
+	private long delete(String workoutId) {
+		statistics.clear();
+
+		WorkoutRepository.ScheduleView schedule = workoutRepository.findScheduleById(workoutId).orElseThrow();
+		assertThat(schedule.getTeamId()).isEqualTo(team.getId());
+		assertThat(workoutRepository.bulkDeleteById(workoutId)).isOne();
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private long count(String table) {
+		return ((Number) entityManager.getEntityManager().createNativeQuery("SELECT COUNT(*) FROM " + table)
+									  .getSingleResult()).longValue();
+	}
+
+	@Test
+	@DisplayName("Should delete a workout with a fixed number of statements regardless of its size")
+	void shouldDeleteWithFixedStatementCount() {
+		String small = weightliftingWorkout(1, 1);
+		String large = weightliftingWorkout(40, 5);
+
+		long smallStatements = delete(small);
+		long largeStatements = delete(large);
+
+		assertThat(smallStatements).isEqualTo(EXPECTED_STATEMENTS);
+		assertThat(largeStatements).isEqualTo(EXPECTED_STATEMENTS);
+		assertThat(workoutRepository.count()).isZero();
+		assertThat(count("workout_exercises")).isZero();
+		assertThat(count("workout_exercise_sets")).isZero();
+	}
+
+	@Test
+	@DisplayName("Should cascade to running segments and leave other workouts alone")
+	void shouldOnlyDeleteTheGivenWorkout() {
+		String kept = weightliftingWorkout(2, 2);
+
+		WorkoutEntity running = factory.createWorkout(team, coach, WorkoutModality.RUNNING, null);
+		factory.addRunningSegment(running, RunningSegmentType.CONTINUOUS, null);
+		entityManager.persist(running);
+		entityManager.flush();
+		entityManager.clear();
+
+		delete(running.getId());
+
+		assertThat(count("workout_running_segments")).isZero();
+		assertThat(workoutRepository.findById(kept)).isPresent();
+		assertThat(count("workout_exercise_sets")).isEqualTo(4);
+		assertThat(workoutRepository.bulkDeleteById(running.getId())).isZero();
+	}
+
+}
@@ -0,0 +1,276 @@
+package com.hydra.core.repository;
+
+import com.hydra.core.dtos.WorkoutSummaryDto;
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.RunningSegmentType;
+import com.hydra.core.enums.WorkoutIntensity;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.factory.TestDataFactory;
+import com.hydra.core.models.WorkoutCloneTarget;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.models.WorkoutQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestDataFactory.class)
+class WorkoutRepositoryIntegrationTest {
+
+	private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+	@Autowired
+	private WorkoutRepository workoutRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	private TeamEntity team;
+	private UserEntity coach;
+	private UserEntity otherCoach;
+	private final List<WorkoutEntity> workouts = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		coach = entityManager.persist(factory.createUser());
+		otherCoach = entityManager.persist(factory.createUser());
+		team = entityManager.persist(factory.createTeam(coach));
+
+		// Datas repetidas, horas repetidas e nulas, para exercitar todos os desempates do keyset
+		for (int i = 0; i < 30; i++) {
+			LocalDate date = i % 10 == 9 ? null : START.plusDays(i / 3);
+			LocalTime time = i % 3 == 0 ? null : LocalTime.of(6 + i % 3, 0);
+			WorkoutModality modality = i % 2 == 0 ? WorkoutModality.RUNNING : WorkoutModality.SWIMMING;
+
+			WorkoutEntity workout = WorkoutEntity.builder().team(team).createdBy(i < 20 ? coach : otherCoach)
+												 .title("Treino " + i).modality(modality).scheduledDate(date)
+												 .scheduledTime(time).intensity(WorkoutIntensity.MODERATE).build();
+			workouts.add(entityManager.persist(workout));
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private List<String> expectedOrder(List<WorkoutEntity> subset) {
+		return subset.stream().map(WorkoutCursor::of).sorted(Comparator.comparing(WorkoutCursor::scheduledDate)
+																	   .thenComparing(WorkoutCursor::scheduledTime)
+																	   .thenComparing(WorkoutCursor::id).reversed())
+					 .map(WorkoutCursor::id).toList();
+	}
+
+	private List<String> readAllPages(WorkoutQuery first, int pageSize) {
+		List<String> all = new ArrayList<>();
+		WorkoutCursor after = null;
+
+		while (true) {
+			WorkoutQuery query = new WorkoutQuery(first.teamId(), first.modality(), first.intensity(),
+					first.createdBy(), first.from(), first.to(), after, pageSize);
+			List<String> page = workoutRepository.findTeamWorkoutIds(query, pageSize);
+			all.addAll(page);
+			if (page.size() < pageSize)
+				return all;
+
+			WorkoutEntity last = workoutRepository.findById(page.getLast()).orElseThrow();
+			after = WorkoutCursor.of(last);
+		}
+	}
+
+	@Test
+	@DisplayName("Should walk every workout exactly once across keyset pages")
+	void shouldPaginateWithoutGapsOrDuplicates() {
+		List<String> ids = readAllPages(new WorkoutQuery(team.getId(), null, null, null, null, null, null, 0), 7);
+
+		assertThat(ids).containsExactlyElementsOf(expectedOrder(workouts));
+	}
+
+	@Test
+	@DisplayName("Should apply modality and creator filters")
+	void shouldFilterByModalityAndCreator() {
+		WorkoutQuery query = new WorkoutQuery(team.getId(), WorkoutModality.RUNNING, null, otherCoach.getId(), null,
+				null, null, 0);
+
+		List<String> ids = readAllPages(query, 4);
+
+		assertThat(ids).containsExactlyElementsOf(expectedOrder(
+				workouts.stream().filter(w -> w.getModality() == WorkoutModality.RUNNING)
+						.filter(w -> w.getCreatedBy().getId().equals(otherCoach.getId())).toList()));
+	}
+
+	@Test
+	@DisplayName("Should restrict to the date range and skip unscheduled workouts")
+	void shouldFilterByDateRange() {
+		LocalDate from = START.plusDays(2);
+		LocalDate to = START.plusDays(4);
+		WorkoutQuery query = new WorkoutQuery(team.getId(), null, null, null, from, to, null, 0);
+
+		List<String> ids = readAllPages(query, 5);
+
+		assertThat(ids).containsExactlyElementsOf(expectedOrder(workouts.stream().filter(
+				w -> w.getScheduledDate() != null && !w.getScheduledDate().isBefore(from) && !w.getScheduledDate()
+																							 .isAfter(to)).toList()));
+	}
+
+	@Test
+	@DisplayName("Should stream the same workouts, in the same order, as walking every page")
+	void shouldStreamLikeThePages() {
+		// Meia-noite empata com a hora nula na listagem; a exportação precisa desempatar do mesmo jeito (pelo id)
+		for (int i = 0; i < 6; i++) {
+			entityManager.persist(WorkoutEntity.builder().team(team).createdBy(coach).title("Meia-noite " + i)
+											   .modality(WorkoutModality.RUNNING).scheduledDate(START.plusDays(2))
+											   .scheduledTime(i % 2 == 0 ? LocalTime.MIDNIGHT : null)
+											   .intensity(WorkoutIntensity.MODERATE).build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		List<WorkoutQuery> queries = List.of(new WorkoutQuery(team.getId(), null, null, null, null, null, null, 0),
+				new WorkoutQuery(team.getId(), WorkoutModality.SWIMMING, null, coach.getId(), null, null, null, 0),
+				new WorkoutQuery(team.getId(), null, WorkoutIntensity.MODERATE, null, null, START.plusDays(3), null,
+						0), new WorkoutQuery(team.getId(), null, null, null, START.plusDays(2), START.plusDays(4),
+						null, 0));
+
+		for (WorkoutQuery query : queries) {
+			List<String> streamed;
+			// Fetch size menor que o resultado: o cursor precisa buscar mais de um lote
+			try (Stream<WorkoutEntity> stream = workoutRepository.streamTeamWorkouts(query, 4)) {
+				streamed = stream.map(WorkoutEntity::getId).toList();
+			}
+
+			assertThat(streamed).isNotEmpty().containsExactlyElementsOf(readAllPages(query, 7));
+		}
+	}
+
+	@Test
+	@DisplayName("Should not return workouts of other teams")
+	void shouldScopeToTeam() {
+		TeamEntity otherTeam = entityManager.persist(factory.createTeam(coach));
+		entityManager.flush();
+
+		WorkoutQuery query = new WorkoutQuery(otherTeam.getId(), null, null, null, null, null, null, 0);
+
+		assertThat(workoutRepository.findTeamWorkoutIds(query, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should return summaries in keyset order with the metrics stored on each workout")
+	void shouldReturnSummariesWithStoredMetrics() {
+		// As métricas vêm das colunas gravadas pelo serviço, não dos filhos
+		WorkoutEntity withSegments = entityManager.find(WorkoutEntity.class, workouts.getFirst().getId());
+		withSegments.setItemCount(3);
+		withSegments.setTotalDistanceMeters(3000);
+		withSegments.setEstimatedDurationSeconds(900);
+		entityManager.flush();
+		entityManager.clear();
+
+		WorkoutQuery query = new WorkoutQuery(team.getId(), null, null, null, null, null, null, 0);
+		List<WorkoutSummaryDto> summaries = workoutRepository.findTeamWorkoutSummaries(query, 50);
+
+		assertThat(summaries).extracting(WorkoutSummaryDto::id).containsExactlyElementsOf(expectedOrder(workouts));
+		assertThat(summaries).allSatisfy(summary -> {
+			boolean changed = summary.id().equals(withSegments.getId());
+			assertThat(summary.itemCount()).isEqualTo(changed ? 3 : 0);
+			assertThat(summary.metrics().totalDistanceMeters()).isEqualTo(changed ? 3000 : 0);
+			assertThat(summary.metrics().estimatedDurationSeconds()).isEqualTo(changed ? 900 : 0);
+			assertThat(summary.metrics().totalTonnageKg()).isEqualByComparingTo("0");
+		});
+	}
+
+	@Test
+	@DisplayName("Should return the page ids with the updated_at stored on each workout")
+	void shouldReturnRevisionsInKeysetOrder() {
+		WorkoutQuery query = new WorkoutQuery(team.getId(), null, null, null, null, null, null, 0);
+
+		List<WorkoutRepository.WorkoutRevision> revisions = workoutRepository.findTeamWorkoutRevisions(query, 50);
+
+		assertThat(revisions).extracting(WorkoutRepository.WorkoutRevision::id)
+							 .containsExactlyElementsOf(expectedOrder(workouts));
+		assertThat(revisions).allSatisfy(revision -> assertThat(revision.updatedAt()).isEqualTo(
+				entityManager.find(WorkoutEntity.class, revision.id()).getUpdatedAt()));
+	}
+
+	@Test
+	@DisplayName("Should aggregate workouts per day and modality within the range")
+	void shouldAggregateCalendarDays() {
+		List<WorkoutRepository.CalendarDayView> rows = workoutRepository.findCalendarDays(team.getId(), START,
+				START.plusDays(1));
+
+		assertThat(rows).extracting(WorkoutRepository.CalendarDayView::getScheduledDate,
+										WorkoutRepository.CalendarDayView::getModality,
+										WorkoutRepository.CalendarDayView::getWorkoutCount)
+						.containsExactlyInAnyOrder(tuple(START, WorkoutModality.RUNNING, 2L),
+								tuple(START, WorkoutModality.SWIMMING, 1L),
+								tuple(START.plusDays(1), WorkoutModality.RUNNING, 1L),
+								tuple(START.plusDays(1), WorkoutModality.SWIMMING, 2L));
+		// Nenhum treino do setUp tem duração
+		assertThat(rows).allSatisfy(row -> assertThat(row.getTotalDurationMinutes()).isZero());
+	}
+
+	@Test
+	@DisplayName("Should clone workouts with their children for every target, using the derived ids")
+	void shouldCloneWorkoutsWithChildren() {
+		WorkoutEntity dated = entityManager.find(WorkoutEntity.class, workouts.getFirst().getId());
+		factory.addRunningSegment(dated, RunningSegmentType.INTERVAL, null);
+		factory.addRunningSegment(dated, RunningSegmentType.INTERVAL, null);
+		ExerciseEntity squat = entityManager.persist(factory.createExercise());
+		factory.addExercise(dated, squat, 1, 10, null);
+		dated.setItemCount(3);
+		dated.setTotalSets(1);
+		TeamEntity otherTeam = entityManager.persist(factory.createTeam(coach));
+		entityManager.flush();
+		entityManager.clear();
+
+		String undatedId = workouts.get(9).getId();
+		LocalDate fixed = LocalDate.of(2024, 6, 1);
+		workoutRepository.cloneWorkouts("lote", List.of(dated.getId(), undatedId),
+				List.of(new WorkoutCloneTarget(team.getId(), null, 7),
+						new WorkoutCloneTarget(otherTeam.getId(), fixed, 0)), otherCoach.getId());
+		entityManager.clear();
+
+		WorkoutEntity shifted = entityManager.find(WorkoutEntity.class,
+				WorkoutRepositoryCustom.cloneId("lote", dated.getId(), 0));
+		WorkoutEntity moved = entityManager.find(WorkoutEntity.class,
+				WorkoutRepositoryCustom.cloneId("lote", dated.getId(), 1));
+		WorkoutEntity undated = entityManager.find(WorkoutEntity.class,
+				WorkoutRepositoryCustom.cloneId("lote", undatedId, 0));
+
+		assertThat(shifted.getScheduledDate()).isEqualTo(START.plusDays(7));
+		assertThat(shifted.getTeam().getId()).isEqualTo(team.getId());
+		assertThat(shifted.getCreatedBy().getId()).isEqualTo(otherCoach.getId());
+		assertThat(shifted.getRunningSegments()).extracting(WorkoutRunningSegmentEntity::getOrderIndex)
+												.containsExactlyInAnyOrder(1, 2);
+		assertThat(shifted.getExercises()).singleElement().satisfies(
+				e -> assertThat(e.getSets()).extracting(WorkoutExerciseSetEntity::getReps).containsExactly(10));
+		assertThat(moved.getScheduledDate()).isEqualTo(fixed);
+		assertThat(moved.getTeam().getId()).isEqualTo(otherTeam.getId());
+		assertThat(moved.getRunningSegments()).hasSize(2);
+		assertThat(moved.getItemCount()).isEqualTo(3);
+		assertThat(moved.getTotalSets()).isEqualTo(1);
+		assertThat(undated.getScheduledDate()).isNull();
+		assertThat(workoutRepository.count()).isEqualTo(workouts.size() + 4);
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.hydra.core.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTest {
+
+	// 10 ms no custo 10, dobrando a cada ponto de custo
+	private static long simulatedNanos(int cost) {
+		return Duration.ofMillis(10).toNanos() << (cost - 10);
+	}
+
+	@Test
+	void calibrate_picksHighestCostWithinBudget() {
+		BCryptCostCalibrator calibrator = new BCryptCostCalibrator(BCryptCostCalibratorTest::simulatedNanos);
+
+		// 13 -> 80 ms cabe em 150 ms; 14 -> 160 ms não
+		assertThat(calibrator.calibrate(10, 16, Duration.ofMillis(150))).isEqualTo(13);
+	}
+
+	@Test
+	void calibrate_neverGoesAboveMaxCost() {
+		BCryptCostCalibrator calibrator = new BCryptCostCalibrator(BCryptCostCalibratorTest::simulatedNanos);
+
+		assertThat(calibrator.calibrate(10, 12, Duration.ofSeconds(10))).isEqualTo(12);
+	}
+
+	@Test
+	void calibrate_keepsMinCost_whenEvenMinCostExceedsBudget() {
+		BCryptCostCalibrator calibrator = new BCryptCostCalibrator(BCryptCostCalibratorTest::simulatedNanos);
+
+		assertThat(calibrator.calibrate(10, 16, Duration.ofMillis(5))).isEqualTo(10);
+	}
+
+	@Test
+	void calibrate_stepsDown_whenMeasuredCostIsSlowerThanEstimated() {
+		// Acima do custo 11 o tempo cresce mais que o dobro (ex.: cache/CPU throttling)
+		BCryptCostCalibrator calibrator = new BCryptCostCalibrator(
+				cost -> cost <= 11 ? simulatedNanos(cost) : simulatedNanos(cost) * 4);
+
+		assertThat(calibrator.calibrate(10, 16, Duration.ofMillis(150))).isEqualTo(11);
+	}
+
+	@Test
+	void calibrate_usesMedianOfSamples() {
+		AtomicInteger calls = new AtomicInteger();
+		// Uma amostra muito lenta a cada cinco não deve derrubar o custo escolhido
+		BCryptCostCalibrator calibrator = new BCryptCostCalibrator(
+				cost -> calls.incrementAndGet() % BCryptCostCalibrator.SAMPLES == 0
+						? Duration.ofSeconds(1).toNanos()
+						: simulatedNanos(cost));
+
+		assertThat(calibrator.calibrate(10, 16, Duration.ofMillis(150))).isEqualTo(13);
+	}
+
+}
@@ -4,7 +4,6 @@ import com.hydra.core.dtos.InviteTokenDto;
 import com.hydra.core.dtos.UserDto;
 import com.hydra.core.enums.TeamRole;
 import com.hydra.core.exceptions.InvalidTokenException;
-import com.hydra.core.exceptions.UnauthorizedException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +14,7 @@ import javax.crypto.SecretKey;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -59,163 +59,193 @@ class JwtServiceTest {
 	}
 
 	@Nested
-	class ExtractTokenFromHeader {
+	class GenerateToken {
 
 		@Test
-		void whenHeaderIsNull_throwsUnauthorizedException() {
-			assertThatThrownBy(() -> jwtService.extractTokenFromHeader(null)).isInstanceOf(UnauthorizedException.class);
+		void generatedToken_authenticatesWithAllClaims() {
+			String token = jwtService.generateToken("uid-1", "john", "john@example.com", "John Doe", Map.of(), 0);
+			UserDto user = jwtService.authenticate(token).user();
+
+			assertThat(user.id()).isEqualTo("uid-1");
+			assertThat(user.username()).isEqualTo("john");
+			assertThat(user.email()).isEqualTo("john@example.com");
+			assertThat(user.name()).isEqualTo("John Doe");
+			assertThat(user.token()).isEqualTo(token);
 		}
 
+	}
+
+	@Nested
+	class Authenticate {
+
 		@Test
-		void whenHeaderIsEmpty_throwsUnauthorizedException() {
-			assertThatThrownBy(() -> jwtService.extractTokenFromHeader("")).isInstanceOf(UnauthorizedException.class);
+		void whenTokenIsValid_returnsCorrectUserDto() {
+			String token = jwtService.generateToken("uid-7", "mary", "mary@example.com", "Mary Doe", Map.of(), 0);
+			UserDto user = jwtService.authenticate(token).user();
+
+			assertThat(user.id()).isEqualTo("uid-7");
+			assertThat(user.username()).isEqualTo("mary");
+			assertThat(user.token()).isEqualTo(token);
 		}
 
 		@Test
-		void whenHeaderIsBlank_throwsUnauthorizedException() {
-			assertThatThrownBy(() -> jwtService.extractTokenFromHeader("   ")).isInstanceOf(
-					UnauthorizedException.class);
+		void whenSameTokenIsAuthenticatedTwice_returnsCachedUser() {
+			String token = jwtService.generateToken("uid-7", "mary", "mary@example.com", "Mary Doe", Map.of(), 0);
+
+			AuthenticatedToken first = jwtService.authenticate(token);
+			AuthenticatedToken second = jwtService.authenticate(token);
+
+			assertThat(second).isSameAs(first);
 		}
 
 		@Test
-		void whenHeaderDoesNotStartWithBearer_throwsUnauthorizedException() {
-			assertThatThrownBy(() -> jwtService.extractTokenFromHeader("Token abc123")).isInstanceOf(
-					UnauthorizedException.class);
+		void whenTokenIsNull_throwsInvalidTokenException() {
+			assertThatThrownBy(() -> jwtService.authenticate(null)).isInstanceOf(InvalidTokenException.class);
 		}
 
 		@Test
-		void whenHeaderHasBearerPrefix_returnsToken() {
-			String token = "abc123.def456.ghi789";
-			String result = jwtService.extractTokenFromHeader("Bearer " + token);
-			assertThat(result).isEqualTo(token);
+		void whenTokenIsBlank_throwsInvalidTokenException() {
+			assertThatThrownBy(() -> jwtService.authenticate("  ")).isInstanceOf(InvalidTokenException.class);
 		}
 
 		@Test
-		void whenHeaderHasBearerPrefixWithExtraWhitespace_returnsTrimmedToken() {
-			String token = "abc123.def456.ghi789";
-			String result = jwtService.extractTokenFromHeader("Bearer " + token + "  ");
-			assertThat(result).isEqualTo(token);
+		void whenTokenIsMalformed_throwsInvalidTokenException() {
+			assertThatThrownBy(() -> jwtService.authenticate("not.a.valid.token")).isInstanceOf(
+					InvalidTokenException.class);
 		}
 
-	}
+		@Test
+		void whenUserIdClaimIsMissing_throwsInvalidTokenException() {
+			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
+			String tokenWithoutUserId = Jwts.builder().subject("john").claim("username", "john")
+											.claim("email", "john@example.com").claim("name", "John Doe")
+											.expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+											.signWith(key).compact();
 
-	@Nested
-	class GenerateToken {
+			assertThatThrownBy(() -> jwtService.authenticate(tokenWithoutUserId)).isInstanceOf(
+					InvalidTokenException.class);
+		}
 
 		@Test
-		void generatedToken_isValidatable() {
-			String token = jwtService.generateToken("uid-1", "john", "john@example.com", "John Doe");
-			assertThat(jwtService.validateToken(token)).isTrue();
+		void whenTokenIsSignedWithDifferentKey_throwsInvalidTokenException() {
+			JwtService otherService = new JwtService("another-secret-key-completely-different-one-xyz!!", BASE_URL);
+			String token = otherService.generateToken("uid-1", "john", "john@example.com", "John Doe", Map.of(), 0);
+
+			assertThatThrownBy(() -> jwtService.authenticate(token)).isInstanceOf(InvalidTokenException.class);
 		}
 
 		@Test
-		void generatedToken_parsesAllClaimsCorrectly() {
-			String token = jwtService.generateToken("uid-1", "john", "john@example.com", "John Doe");
-			UserDto user = jwtService.parseTokenToUser(token);
+		void whenTokenIsExpired_throwsInvalidTokenException() {
+			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
+			String expiredToken = Jwts.builder().subject("john").claim("userId", "uid-1")
+									  .expiration(Date.from(Instant.now().minus(Duration.ofHours(1)))).signWith(key)
+									  .compact();
 
-			assertThat(user.id()).isEqualTo("uid-1");
-			assertThat(user.username()).isEqualTo("john");
-			assertThat(user.email()).isEqualTo("john@example.com");
-			assertThat(user.name()).isEqualTo("John Doe");
-			assertThat(user.token()).isEqualTo(token);
+			assertThatThrownBy(() -> jwtService.authenticate(expiredToken)).isInstanceOf(
+					InvalidTokenException.class);
 		}
 
 	}
 
 	@Nested
-	class ValidateToken {
+	class TeamClaims {
 
 		@Test
-		void whenTokenIsNull_returnsFalse() {
-			assertThat(jwtService.validateToken(null)).isFalse();
-		}
+		void authenticate_returnsRolesAndMembershipVersionFromToken() {
+			String token = jwtService.generateToken("uid-7", "mary", "mary@example.com", "Mary Doe",
+					Map.of("team-1", TeamRole.OWNER, "team-2", TeamRole.COACH, "team-3", TeamRole.ATHLETE), 42);
 
-		@Test
-		void whenTokenIsEmpty_returnsFalse() {
-			assertThat(jwtService.validateToken("")).isFalse();
-		}
+			TeamAccess access = jwtService.authenticate(token).teamAccess();
 
-		@Test
-		void whenTokenIsBlank_returnsFalse() {
-			assertThat(jwtService.validateToken("   ")).isFalse();
+			assertThat(access.userId()).isEqualTo("uid-7");
+			assertThat(access.membershipVersion()).isEqualTo(42);
+			assertThat(access.roles()).containsExactlyInAnyOrderEntriesOf(
+					Map.of("team-1", TeamRole.OWNER, "team-2", TeamRole.COACH, "team-3", TeamRole.ATHLETE));
 		}
 
 		@Test
-		void whenTokenIsMalformed_returnsFalse() {
-			assertThat(jwtService.validateToken("not.a.valid.token")).isFalse();
+		void authenticate_whenTokenHasNoMembershipVersion_returnsUnknownVersion() {
+			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
+			String legacyToken = Jwts.builder().subject("john").claim("userId", "uid-1")
+									 .expiration(Date.from(Instant.now().plus(Duration.ofHours(1)))).signWith(key)
+									 .compact();
+
+			TeamAccess access = jwtService.authenticate(legacyToken).teamAccess();
+
+			assertThat(access.roles()).isEmpty();
+			assertThat(access.membershipVersion()).isEqualTo(-1);
 		}
 
 		@Test
-		void whenTokenIsSignedWithDifferentKey_returnsFalse() {
-			String differentSecret = "another-secret-key-completely-different-one-xyz!!";
-			JwtService otherService = new JwtService(differentSecret, BASE_URL);
-			String token = otherService.generateToken("uid-1", "john", "john@example.com", "John Doe");
+		void authenticate_whenRoleCodeIsUnknown_throwsInvalidTokenException() {
+			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
+			String token = Jwts.builder().claim("userId", "uid-1").claim("teams", Map.of("team-1", "X"))
+							   .claim("mv", 1).expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+							   .signWith(key).compact();
 
-			assertThat(jwtService.validateToken(token)).isFalse();
+			assertThatThrownBy(() -> jwtService.authenticate(token)).isInstanceOf(InvalidTokenException.class);
 		}
 
 		@Test
-		void whenTokenIsExpired_returnsFalse() {
-			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
-			String expiredToken = Jwts.builder().subject("john").claim("userId", "uid-1").claim("username", "john")
-									  .claim("email", "john@example.com").claim("name", "John Doe")
-									  .expiration(Date.from(Instant.now().minus(Duration.ofHours(1)))).signWith(key)
-									  .compact();
+		void authenticate_exposesTokenIdAndExpiration() {
+			String token = jwtService.generateToken("uid-1", "john", "john@example.com", "John Doe", Map.of(), 0);
+
+			AuthenticatedToken authenticated = jwtService.authenticate(token);
 
-			assertThat(jwtService.validateToken(expiredToken)).isFalse();
+			assertThat(authenticated.tokenId()).isNotBlank();
+			assertThat(authenticated.expiresAt()).isAfter(Instant.now());
 		}
 
 		@Test
-		void whenTokenIsValid_returnsTrue() {
-			String token = jwtService.generateToken("uid-1", "john", "john@example.com", "John Doe");
-			assertThat(jwtService.validateToken(token)).isTrue();
+		void generatedToken_expiresWithAccessTokenTtl() {
+			JwtService shortLived = new JwtService(VALID_SECRET, BASE_URL, Duration.ofMinutes(5), Duration.ofDays(1));
+			String token = shortLived.generateToken("uid-1", "john", "john@example.com", "John Doe", Map.of(), 0);
+
+			Date expiration = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(VALID_SECRET.getBytes())).build()
+								  .parseSignedClaims(token).getPayload().getExpiration();
+
+			assertThat(expiration).isBefore(Date.from(Instant.now().plus(Duration.ofMinutes(6))));
 		}
 
 	}
 
 	@Nested
-	class ParseTokenToUser {
+	class RefreshToken {
 
 		@Test
-		void whenTokenIsValid_returnsCorrectUserDto() {
-			String token = jwtService.generateToken("uid-42", "jane", "jane@example.com", "Jane Doe");
-			UserDto user = jwtService.parseTokenToUser(token);
+		void parseRefreshToken_returnsUserIdTokenIdAndExpiration() {
+			String refreshToken = jwtService.generateRefreshToken("uid-9");
 
-			assertThat(user.id()).isEqualTo("uid-42");
-			assertThat(user.username()).isEqualTo("jane");
-			assertThat(user.email()).isEqualTo("jane@example.com");
-			assertThat(user.name()).isEqualTo("Jane Doe");
-			assertThat(user.token()).isEqualTo(token);
-		}
+			RefreshTokenClaims claims = jwtService.parseRefreshToken(refreshToken);
 
-		@Test
-		void whenTokenIsInvalid_throwsInvalidTokenException() {
-			assertThatThrownBy(() -> jwtService.parseTokenToUser("garbage")).isInstanceOf(InvalidTokenException.class);
+			assertThat(claims.userId()).isEqualTo("uid-9");
+			assertThat(claims.tokenId()).isNotBlank();
+			assertThat(claims.expiresAt()).isAfter(Instant.now().plus(Duration.ofDays(29)));
 		}
 
 		@Test
-		void whenUserIdClaimIsMissing_throwsInvalidTokenException() {
-			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
-			// Build token without userId claim
-			String tokenWithoutUserId = Jwts.builder().subject("john").claim("username", "john")
-											.claim("email", "john@example.com").claim("name", "John Doe")
-											.expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
-											.signWith(key).compact();
+		void parseRefreshToken_whenGivenAccessToken_throwsInvalidTokenException() {
+			String accessToken = jwtService.generateToken("uid-9", "john", "john@example.com", "John Doe", Map.of(), 0);
 
-			assertThatThrownBy(() -> jwtService.parseTokenToUser(tokenWithoutUserId)).isInstanceOf(
+			assertThatThrownBy(() -> jwtService.parseRefreshToken(accessToken)).isInstanceOf(
 					InvalidTokenException.class);
 		}
 
 		@Test
-		void whenTokenIsExpired_throwsInvalidTokenException() {
-			SecretKey key = Keys.hmacShaKeyFor(VALID_SECRET.getBytes());
-			String expiredToken = Jwts.builder().subject("john").claim("userId", "uid-1").claim("username", "john")
-									  .claim("email", "john@example.com").claim("name", "John Doe")
-									  .expiration(Date.from(Instant.now().minus(Duration.ofHours(1)))).signWith(key)
-									  .compact();
+		void parseRefreshToken_whenBlank_throwsInvalidTokenException() {
+			assertThatThrownBy(() -> jwtService.parseRefreshToken(" ")).isInstanceOf(InvalidTokenException.class);
+		}
 
-			assertThatThrownBy(() -> jwtService.parseTokenToUser(expiredToken)).isInstanceOf(
-					InvalidTokenException.class);
+		@Test
+		void authenticate_whenGivenRefreshToken_throwsInvalidTokenException() {
+			String refreshToken = jwtService.generateRefreshToken("uid-9");
+
+			assertThatThrownBy(() -> jwtService.authenticate(refreshToken)).isInstanceOf(InvalidTokenException.class);
+		}
+
+		@Test
+		void generatedRefreshTokens_areUnique() {
+			assertThat(jwtService.generateRefreshToken("uid-9")).isNotEqualTo(jwtService.generateRefreshToken("uid-9"));
 		}
 
 	}
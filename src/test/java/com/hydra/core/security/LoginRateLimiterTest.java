@@ -0,0 +1,208 @@
+package com.hydra.core.security;
+
+import com.hydra.core.exceptions.LoginRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock(NOW);
+
+	// 3 tentativas por conta (1/min), 5 por IP (1 a cada 10s)
+	private final LoginRateLimiter limiter = new LoginRateLimiter(clock, 3, Duration.ofMinutes(1), 5,
+			Duration.ofSeconds(10), meterRegistry);
+
+	private double rejected(String scope) {
+		return meterRegistry.get("auth.login_rate_limit.rejected").tag("scope", scope).counter().count();
+	}
+
+	@Test
+	void acquire_allowsBurstThenRejectsWithRetryAfter() {
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire("john@example.com", "10.0.0." + i);
+		}
+
+		assertThatThrownBy(() -> limiter.acquire("john@example.com", "10.0.0.9")).isInstanceOfSatisfying(
+				LoginRateLimitedException.class, ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(60));
+		assertThat(rejected("account")).isEqualTo(1);
+	}
+
+	@Test
+	void acquire_refillsOneAttemptPerPeriod() {
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire("john@example.com", "10.0.0." + i);
+		}
+
+		clock.advance(Duration.ofSeconds(30));
+		assertThatThrownBy(() -> limiter.acquire("john@example.com", "10.0.0.9")).isInstanceOfSatisfying(
+				LoginRateLimitedException.class, ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(30));
+
+		clock.advance(Duration.ofSeconds(30));
+		limiter.acquire("john@example.com", "10.0.0.9");
+	}
+
+	@Test
+	void acquire_normalizesLogin() {
+		limiter.acquire("John@Example.com", "10.0.0.1");
+		limiter.acquire("john@example.com", "10.0.0.2");
+		limiter.acquire(" JOHN@EXAMPLE.COM ", "10.0.0.3");
+
+		assertThatThrownBy(() -> limiter.acquire("john@EXAMPLE.com", "10.0.0.4")).isInstanceOf(
+				LoginRateLimitedException.class);
+	}
+
+	@Test
+	void acquire_limitsIpAcrossAccounts() {
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire("user" + i, "10.0.0.1");
+		}
+
+		assertThatThrownBy(() -> limiter.acquire("outro", "10.0.0.1")).isInstanceOfSatisfying(
+				LoginRateLimitedException.class, ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(10));
+		assertThat(rejected("ip")).isEqualTo(1);
+	}
+
+	@Test
+	void acquire_rejectedByIp_doesNotSpendAccountAttempts() {
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire("user" + i, "10.0.0.1");
+		}
+		for (int i = 0; i < 10; i++) {
+			assertThatThrownBy(() -> limiter.acquire("vitima", "10.0.0.1")).isInstanceOf(
+					LoginRateLimitedException.class);
+		}
+
+		// A conta continua com a cota inteira a partir de outro IP
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire("vitima", "192.168.0." + i);
+		}
+		assertThat(rejected("account")).isZero();
+	}
+
+	@Test
+	void loginSucceeded_givesTheAccountAttemptBack() {
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire("John@Example.com", "10.0.0." + i);
+			limiter.loginSucceeded("john@example.com");
+		}
+
+		assertThat(rejected("account")).isZero();
+	}
+
+	@Test
+	void loginSucceeded_doesNotRefundFailedAttempts() {
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire("john@example.com", "10.0.0." + i);
+		}
+		limiter.loginSucceeded("john@example.com");
+
+		// Só a última tentativa foi devolvida
+		limiter.acquire("john@example.com", "10.0.0.8");
+		assertThatThrownBy(() -> limiter.acquire("john@example.com", "10.0.0.9")).isInstanceOf(
+				LoginRateLimitedException.class);
+	}
+
+	@Test
+	void acquire_concurrentAttempts_neverExceedBurst() throws InterruptedException {
+		int threads = 8;
+		AtomicInteger allowed = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < 100; i++) {
+						try {
+							limiter.acquire("john@example.com", "10.0." + thread + "." + i);
+							allowed.incrementAndGet();
+						} catch (LoginRateLimitedException _) {
+							// esperado após o burst
+						}
+					}
+					return null;
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(allowed.get()).isEqualTo(3);
+	}
+
+	@Test
+	void evictIdle_dropsOnlyRefilledBuckets() {
+		limiter.acquire("antigo", "10.0.0.1");
+		clock.advance(Duration.ofSeconds(30));
+		limiter.acquire("recente", "10.0.0.2");
+		assertThat(limiter.bucketCount()).isEqualTo(4);
+
+		// IPs recarregam em 10s; "antigo" recarregou em 60s, "recente" ainda não
+		clock.advance(Duration.ofSeconds(31));
+		limiter.evictIdle();
+
+		assertThat(limiter.bucketCount()).isEqualTo(1);
+	}
+
+	@Test
+	void evictIdle_keepsRejectionState() {
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire("john@example.com", "10.0.0." + i);
+		}
+
+		limiter.evictIdle();
+
+		assertThatThrownBy(() -> limiter.acquire("john@example.com", "10.0.0.9")).isInstanceOf(
+				LoginRateLimitedException.class);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public long millis() {
+			return now.toEpochMilli();
+		}
+
+	}
+
+}
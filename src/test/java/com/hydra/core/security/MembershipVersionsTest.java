@@ -0,0 +1,86 @@
+package com.hydra.core.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MembershipVersionsTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+	private static final long NOW_MICROS = NOW.toEpochMilli() * 1_000;
+
+	private final MembershipVersions versions = new MembershipVersions(Clock.fixed(NOW, ZoneOffset.UTC));
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void current_isTheIssueInstant_forUnknownUser() {
+		assertThat(versions.current("user-1")).isEqualTo(NOW_MICROS);
+		assertThat(versions.isCurrent("user-1", NOW_MICROS)).isTrue();
+	}
+
+	@Test
+	void tokensFromOtherNodesOrPreviousStartups_areAccepted_untilAChangeIsKnownHere() {
+		MembershipVersions otherNode = new MembershipVersions(Clock.fixed(NOW.minusSeconds(60), ZoneOffset.UTC));
+		long issuedElsewhere = otherNode.current("user-1");
+
+		assertThat(versions.isCurrent("user-1", issuedElsewhere)).isTrue();
+
+		versions.bump("user-1");
+		assertThat(versions.isCurrent("user-1", issuedElsewhere)).isFalse();
+	}
+
+	@Test
+	void tokenIssuedAfterChangeOnAnotherNode_isAcceptedByThatNode() {
+		versions.bump("user-1");
+		MembershipVersions otherNode = new MembershipVersions(Clock.fixed(NOW.plusSeconds(1), ZoneOffset.UTC));
+
+		assertThat(versions.isCurrent("user-1", otherNode.current("user-1"))).isTrue();
+	}
+
+	@Test
+	void bump_invalidatesOnlyThatUser() {
+		long before = NOW_MICROS - 1;
+
+		versions.bump("user-1");
+
+		assertThat(versions.isCurrent("user-1", before)).isFalse();
+		assertThat(versions.isCurrent("user-1", versions.current("user-1"))).isTrue();
+		assertThat(versions.isCurrent("user-2", before)).isTrue();
+	}
+
+	@Test
+	void bump_alwaysMovesForward_andNewTokensFollowIt() {
+		versions.bump("user-1");
+		long first = versions.current("user-1");
+		versions.bump("user-1");
+
+		assertThat(versions.current("user-1")).isGreaterThan(first);
+		assertThat(versions.isCurrent("user-1", first)).isFalse();
+		assertThat(versions.isCurrent("user-1", versions.current("user-1"))).isTrue();
+	}
+
+	@Test
+	void bump_insideTransaction_waitsForCommit() {
+		long before = NOW_MICROS - 1;
+		TransactionSynchronizationManager.initSynchronization();
+
+		versions.bump("user-1");
+		assertThat(versions.isCurrent("user-1", before)).isTrue();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertThat(versions.isCurrent("user-1", before)).isFalse();
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.hydra.core.security;
+
+import com.hydra.core.exceptions.PasswordHashingBusyException;
+import com.hydra.core.utils.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+	private static final String PASSWORD = "Password123!";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private PasswordHasher passwordHasher;
+
+	@AfterEach
+	void tearDown() {
+		if (passwordHasher != null)
+			passwordHasher.shutdown();
+	}
+
+	@Test
+	void hash_producesBcryptHashThatMatches() {
+		passwordHasher = new PasswordHasher(2, 4, 1, 4, meterRegistry);
+
+		String hashed = passwordHasher.hash(PASSWORD);
+
+		assertThat(BCrypt.checkpw(PASSWORD, hashed)).isTrue();
+		assertThat(passwordHasher.matches(PASSWORD, hashed)).isTrue();
+		assertThat(passwordHasher.matches("WrongPassword123!", hashed)).isFalse();
+	}
+
+	@Test
+	void hashAndVerify_recordLatency() {
+		passwordHasher = new PasswordHasher(1, 4, 1, 4, meterRegistry);
+
+		passwordHasher.matches(PASSWORD, passwordHasher.hash(PASSWORD));
+
+		assertThat(meterRegistry.get("auth.password_hashing.duration").tag("operation", "hash").timer()
+								.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("auth.password_hashing.duration").tag("operation", "verify").timer()
+								.count()).isEqualTo(1);
+	}
+
+	@Test
+	void hash_usesConfiguredCost() {
+		passwordHasher = new PasswordHasher(1, 4, 1, 5, meterRegistry);
+
+		String hashed = passwordHasher.hash(PASSWORD);
+
+		assertThat(BCrypt.cost(hashed)).isEqualTo(5);
+		assertThat(meterRegistry.get("auth.password_hashing.cost").gauge().value()).isEqualTo(5);
+	}
+
+	@Test
+	void needsRehash_onlyWhenStoredCostIsLowerThanCurrent() {
+		passwordHasher = new PasswordHasher(1, 4, 1, 5, meterRegistry);
+
+		assertThat(passwordHasher.needsRehash(BCrypt.hashpw(PASSWORD, BCrypt.gensalt(4)))).isTrue();
+		assertThat(passwordHasher.needsRehash(BCrypt.hashpw(PASSWORD, BCrypt.gensalt(5)))).isFalse();
+		// Hash de um nó calibrado com custo maior não é rebaixado
+		assertThat(passwordHasher.needsRehash(BCrypt.hashpw(PASSWORD, BCrypt.gensalt(6)))).isFalse();
+		assertThat(passwordHasher.needsRehash("not-a-bcrypt-hash")).isTrue();
+	}
+
+	@Test
+	void rehashInBackground_deliversHashWithCurrentCost() throws Exception {
+		passwordHasher = new PasswordHasher(1, 4, 1, 5, meterRegistry);
+		CompletableFuture<String> rehashed = new CompletableFuture<>();
+
+		passwordHasher.rehashInBackground(PASSWORD, rehashed::complete);
+
+		String hashed = rehashed.get(5, TimeUnit.SECONDS);
+		assertThat(BCrypt.cost(hashed)).isEqualTo(5);
+		assertThat(BCrypt.checkpw(PASSWORD, hashed)).isTrue();
+	}
+
+	@Test
+	void rehashInBackground_isSkipped_whenLoginsAreQueued() throws Exception {
+		passwordHasher = new PasswordHasher(1, 2, 1, 4, meterRegistry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> passwordHasher.submit(() -> {
+			started.countDown();
+			return release.await(5, TimeUnit.SECONDS);
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> passwordHasher.submit(() -> true));
+		while (meterRegistry.get("auth.password_hashing.queue.size").gauge().value() < 1)
+			Thread.onSpinWait();
+
+		passwordHasher.rehashInBackground(PASSWORD, _ -> {
+			throw new AssertionError("rehash não deveria rodar");
+		});
+
+		assertThat(meterRegistry.get("auth.password_hashing.rehash").tag("result", "skipped").counter()
+								.count()).isEqualTo(1);
+
+		release.countDown();
+		running.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void whenQueueIsFull_rejectsImmediatelyWithRetryAfter() throws Exception {
+		passwordHasher = new PasswordHasher(1, 1, 3, 4, meterRegistry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// Ocupa o único worker e a única vaga da fila
+		CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> passwordHasher.submit(() -> {
+			started.countDown();
+			return release.await(5, TimeUnit.SECONDS);
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> passwordHasher.submit(() -> true));
+		while (meterRegistry.get("auth.password_hashing.queue.size").gauge().value() < 1)
+			Thread.onSpinWait();
+
+		assertThatThrownBy(() -> passwordHasher.hash(PASSWORD)).isInstanceOf(PasswordHashingBusyException.class)
+															   .extracting("retryAfterSeconds").isEqualTo(3L);
+		assertThat(meterRegistry.get("auth.password_hashing.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		running.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+	}
+
+}
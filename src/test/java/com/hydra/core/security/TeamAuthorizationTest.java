@@ -0,0 +1,82 @@
+package com.hydra.core.security;
+
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.repository.TeamMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamAuthorizationTest {
+
+	private static final String USER_ID = "user-1";
+	private static final String TEAM_ID = "team-1";
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	private TeamAuthorization authorization;
+
+	@BeforeEach
+	void setUp() {
+		authorization = new TeamAuthorization(teamMemberRepository);
+	}
+
+	private TeamAccess accessAs(TeamRole role) {
+		return new TeamAccess(USER_ID, Map.of(TEAM_ID, role), 0);
+	}
+
+	private TeamAccess noAccess() {
+		return new TeamAccess(USER_ID, Map.of(), 0);
+	}
+
+	@Test
+	void claimsThatGrantAccess_areTrustedWithoutTheDatabase() {
+		assertThat(authorization.isMember(accessAs(TeamRole.ATHLETE), TEAM_ID)).isTrue();
+		assertThat(authorization.canManage(accessAs(TeamRole.COACH), TEAM_ID)).isTrue();
+		assertThat(authorization.roleIn(accessAs(TeamRole.OWNER), TEAM_ID)).isEqualTo(TeamRole.OWNER);
+		verifyNoInteractions(teamMemberRepository);
+	}
+
+	@Test
+	void teamJoinedAfterTheTokenWasIssued_isConfirmedInTheDatabase() {
+		when(teamMemberRepository.existsByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(true);
+		when(teamMemberRepository.findRoleByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.of(TeamRole.OWNER));
+
+		assertThat(authorization.isMember(noAccess(), TEAM_ID)).isTrue();
+		assertThat(authorization.roleIn(noAccess(), TEAM_ID)).isEqualTo(TeamRole.OWNER);
+	}
+
+	@Test
+	void promotionAfterTheTokenWasIssued_isConfirmedInTheDatabase() {
+		when(teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(TEAM_ID, USER_ID,
+				EnumSet.of(TeamRole.OWNER, TeamRole.COACH))).thenReturn(true);
+
+		assertThat(authorization.canManage(accessAs(TeamRole.ATHLETE), TEAM_ID)).isTrue();
+	}
+
+	@Test
+	void nonMember_isRefusedAfterTheDatabaseAgrees() {
+		assertThat(authorization.isMember(noAccess(), TEAM_ID)).isFalse();
+		assertThat(authorization.canManage(noAccess(), TEAM_ID)).isFalse();
+		assertThat(authorization.roleIn(noAccess(), TEAM_ID)).isNull();
+		verify(teamMemberRepository).existsByTeamIdAndUserId(TEAM_ID, USER_ID);
+	}
+
+	@Test
+	void missingTeamId_neverReachesTheDatabase() {
+		assertThat(authorization.isMember(noAccess(), null)).isFalse();
+		assertThat(authorization.canManage(noAccess(), null)).isFalse();
+		verifyNoInteractions(teamMemberRepository);
+	}
+
+}
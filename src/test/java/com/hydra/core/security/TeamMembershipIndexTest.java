@@ -0,0 +1,219 @@
+package com.hydra.core.security;
+
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.repository.TeamMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamMembershipIndexTest {
+
+	private static final String TEAM_ID = "team-1";
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock(Instant.parse("2025-03-10T12:00:00Z"));
+	private TeamMembershipIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TeamMembershipIndex(teamMemberRepository, clock, TTL, meterRegistry);
+	}
+
+	private TeamMemberRepository.MemberRoleView member(String userId, TeamRole role) {
+		return new TeamMemberRepository.MemberRoleView() {
+
+			@Override
+			public String getUserId() {
+				return userId;
+			}
+
+			@Override
+			public TeamRole getRole() {
+				return role;
+			}
+		};
+	}
+
+	private double lookups(String result) {
+		return meterRegistry.get("teams.membership_index.lookups").tag("result", result).counter().count();
+	}
+
+	@Test
+	void canManage_loadsTeamOnceAndAnswersFromMemory() {
+		when(teamMemberRepository.findMemberRolesByTeamId(TEAM_ID)).thenReturn(
+				List.of(member("owner", TeamRole.OWNER), member("coach", TeamRole.COACH),
+						member("athlete", TeamRole.ATHLETE)));
+
+		assertThat(index.canManage(TEAM_ID, "owner")).isTrue();
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		assertThat(index.cachedRole(TEAM_ID, "athlete")).isEqualTo(TeamRole.ATHLETE);
+
+		verify(teamMemberRepository, times(1)).findMemberRolesByTeamId(TEAM_ID);
+		assertThat(lookups("miss")).isEqualTo(1);
+		assertThat(lookups("hit")).isEqualTo(1);
+	}
+
+	@Test
+	void canManage_notManagerInMemory_isConfirmedWithoutReloadingTheTeam() {
+		index.teamCreated(TEAM_ID, "owner");
+		// Promovido em outro nó
+		when(teamMemberRepository.existsByTeamIdAndUserIdAndRoleIn(TEAM_ID, "coach",
+				EnumSet.of(TeamRole.OWNER, TeamRole.COACH))).thenReturn(true);
+
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		assertThat(index.canManage(TEAM_ID, "stranger")).isFalse();
+		verify(teamMemberRepository, never()).findMemberRolesByTeamId(any());
+	}
+
+	@Test
+	void canManage_reloadsAfterTtl() {
+		when(teamMemberRepository.findMemberRolesByTeamId(TEAM_ID)).thenReturn(
+				List.of(member("coach", TeamRole.COACH)), List.of());
+
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		clock.advance(TTL.minusSeconds(1));
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(index.canManage(TEAM_ID, "coach")).isFalse();
+
+		verify(teamMemberRepository, times(2)).findMemberRolesByTeamId(TEAM_ID);
+	}
+
+	@Test
+	void evictExpired_dropsOnlyExpiredTeams() {
+		index.teamCreated("old-team", "owner");
+		clock.advance(TTL.dividedBy(2));
+		index.teamCreated(TEAM_ID, "owner");
+		clock.advance(TTL.dividedBy(2));
+
+		index.evictExpired();
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.cachedRole(TEAM_ID, "owner")).isEqualTo(TeamRole.OWNER);
+		verifyNoInteractions(teamMemberRepository);
+	}
+
+	@Test
+	void canManage_onlyForOwnersAndCoaches() {
+		when(teamMemberRepository.findMemberRolesByTeamId(TEAM_ID)).thenReturn(
+				List.of(member("owner", TeamRole.OWNER), member("coach", TeamRole.COACH),
+						member("athlete", TeamRole.ATHLETE)));
+
+		assertThat(index.canManage(TEAM_ID, "owner")).isTrue();
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		assertThat(index.canManage(TEAM_ID, "athlete")).isFalse();
+		assertThat(index.canManage(TEAM_ID, "stranger")).isFalse();
+	}
+
+	@Test
+	void canManage_largeTeam_findsEveryMember() {
+		List<TeamMemberRepository.MemberRoleView> members = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			members.add(member("coach-" + i, TeamRole.COACH));
+		}
+		members.add(member("athlete", TeamRole.ATHLETE));
+		when(teamMemberRepository.findMemberRolesByTeamId(TEAM_ID)).thenReturn(members);
+
+		for (int i = 0; i < 2_000; i++) {
+			assertThat(index.canManage(TEAM_ID, "coach-" + i)).isTrue();
+		}
+		assertThat(index.cachedRole(TEAM_ID, "athlete")).isEqualTo(TeamRole.ATHLETE);
+		verify(teamMemberRepository, times(1)).findMemberRolesByTeamId(TEAM_ID);
+	}
+
+	@Test
+	void teamCreated_registersOwnerWithoutLoading() {
+		index.teamCreated(TEAM_ID, "owner");
+
+		assertThat(index.canManage(TEAM_ID, "owner")).isTrue();
+		verifyNoInteractions(teamMemberRepository);
+	}
+
+	@Test
+	void memberAdded_updatesLoadedTeam() {
+		index.teamCreated(TEAM_ID, "owner");
+
+		index.memberAdded(TEAM_ID, "athlete", TeamRole.ATHLETE);
+		index.memberAdded(TEAM_ID, "coach", TeamRole.COACH);
+
+		assertThat(index.cachedRole(TEAM_ID, "athlete")).isEqualTo(TeamRole.ATHLETE);
+		assertThat(index.cachedRole(TEAM_ID, "coach")).isEqualTo(TeamRole.COACH);
+		assertThat(index.cachedRole(TEAM_ID, "owner")).isEqualTo(TeamRole.OWNER);
+		verifyNoInteractions(teamMemberRepository);
+	}
+
+	@Test
+	void memberAdded_unloadedTeam_isReadFromDatabaseLater() {
+		index.memberAdded(TEAM_ID, "coach", TeamRole.COACH);
+		assertThat(index.size()).isZero();
+		when(teamMemberRepository.findMemberRolesByTeamId(TEAM_ID)).thenReturn(
+				List.of(member("coach", TeamRole.COACH)));
+
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		verify(teamMemberRepository).findMemberRolesByTeamId(TEAM_ID);
+	}
+
+	@Test
+	void load_racingWithWrite_isNotCached() {
+		when(teamMemberRepository.findMemberRolesByTeamId(TEAM_ID)).thenAnswer(_ -> {
+			// Escrita concluída enquanto a leitura do banco estava em andamento
+			index.memberAdded(TEAM_ID, "coach", TeamRole.COACH);
+			return List.of(member("owner", TeamRole.OWNER));
+		}).thenReturn(List.of(member("owner", TeamRole.OWNER), member("coach", TeamRole.COACH)));
+
+		assertThat(index.canManage(TEAM_ID, "coach")).isFalse();
+		assertThat(index.canManage(TEAM_ID, "coach")).isTrue();
+		verify(teamMemberRepository, times(2)).findMemberRolesByTeamId(any());
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+	}
+
+}
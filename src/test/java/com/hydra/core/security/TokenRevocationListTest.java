@@ -0,0 +1,207 @@
+package com.hydra.core.security;
+
+import com.hydra.core.entity.RevokedTokenEntity;
+import com.hydra.core.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+	@Mock
+	private RevokedTokenRepository repository;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock(NOW);
+
+	private TokenRevocationList revocationList(long expectedRevocations) {
+		return new TokenRevocationList(repository, clock, expectedRevocations, 0.001, Duration.ofSeconds(30),
+				meterRegistry);
+	}
+
+	private RevokedTokenRepository.RevokedTokenView view(String jti, Instant expiresAt) {
+		LocalDateTime local = LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC);
+		return new RevokedTokenRepository.RevokedTokenView() {
+
+			@Override
+			public String getJti() {
+				return jti;
+			}
+
+			@Override
+			public LocalDateTime getExpiresAt() {
+				return local;
+			}
+		};
+	}
+
+	private double lookups(String source) {
+		return meterRegistry.get("auth.token_revocation.lookups").tag("source", source).counter().count();
+	}
+
+	@Test
+	void startup_loadsActiveRevocations() {
+		when(repository.findActive(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC))).thenReturn(
+				List.of(view("jti-1", NOW.plusSeconds(600))));
+		TokenRevocationList list = revocationList(100);
+
+		list.afterSingletonsInstantiated();
+
+		assertThat(list.isRevoked("jti-1")).isTrue();
+		assertThat(list.isRevoked("jti-2")).isFalse();
+	}
+
+	@Test
+	void revoke_persistsAndRejectsLocallyWithoutQuerying() {
+		TokenRevocationList list = revocationList(100);
+
+		list.revoke("jti-1", "user-1", NOW.plusSeconds(600));
+
+		ArgumentCaptor<RevokedTokenEntity> captor = ArgumentCaptor.forClass(RevokedTokenEntity.class);
+		verify(repository).save(captor.capture());
+		assertThat(captor.getValue().getJti()).isEqualTo("jti-1");
+		assertThat(captor.getValue().getUserId()).isEqualTo("user-1");
+		assertThat(list.isRevoked("jti-1")).isTrue();
+		verifyNoMoreInteractions(repository);
+	}
+
+	@Test
+	void revoke_ignoresExpiredTokens() {
+		TokenRevocationList list = revocationList(100);
+
+		list.revoke("jti-1", "user-1", NOW.minusSeconds(1));
+
+		verifyNoInteractions(repository);
+		assertThat(list.isRevoked("jti-1")).isFalse();
+	}
+
+	@Test
+	void consume_succeedsOnlyForTheFirstUse() {
+		LocalDateTime expiresAt = LocalDateTime.ofInstant(NOW.plusSeconds(600), ZoneOffset.UTC);
+		LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+		when(repository.insertIfAbsent("jti-1", "user-1", expiresAt, now)).thenReturn(1, 0);
+		TokenRevocationList list = revocationList(100);
+
+		assertThat(list.consume("jti-1", "user-1", NOW.plusSeconds(600))).isTrue();
+		assertThat(list.consume("jti-1", "user-1", NOW.plusSeconds(600))).isFalse();
+		assertThat(list.isRevoked("jti-1")).isTrue();
+	}
+
+	@Test
+	void consume_refusesExpiredTokens() {
+		TokenRevocationList list = revocationList(100);
+
+		assertThat(list.consume("jti-1", "user-1", NOW.minusSeconds(1))).isFalse();
+		verifyNoInteractions(repository);
+	}
+
+	@Test
+	void isRevoked_answersUnknownTokensFromFilter() {
+		TokenRevocationList list = revocationList(100);
+		list.revoke("jti-1", "user-1", NOW.plusSeconds(600));
+
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(list.isRevoked("outro-" + i)).isFalse();
+		}
+
+		// Com 0,1% de falsos positivos, quase todas as respostas vêm do filtro
+		assertThat(lookups("filter")).isGreaterThan(990);
+	}
+
+	@Test
+	void sync_pullsRevocationsFromOtherNodes() {
+		TokenRevocationList list = revocationList(100);
+		list.afterSingletonsInstantiated();
+		clock.advance(Duration.ofSeconds(30));
+		when(repository.findActiveRevokedSince(any(), any())).thenReturn(
+				List.of(view("jti-remoto", NOW.plusSeconds(600))));
+
+		list.sync();
+
+		assertThat(list.isRevoked("jti-remoto")).isTrue();
+		verify(repository).deleteExpired(LocalDateTime.ofInstant(NOW.plusSeconds(30), ZoneOffset.UTC));
+	}
+
+	@Test
+	void sync_rereadsOverlapWindowSinceLastSync() {
+		TokenRevocationList list = revocationList(100);
+		list.afterSingletonsInstantiated();
+		clock.advance(Duration.ofSeconds(30));
+
+		list.sync();
+
+		// Janela de duas vezes o intervalo + 1 minuto antes do último sync
+		LocalDateTime since = LocalDateTime.ofInstant(NOW.minusSeconds(120), ZoneOffset.UTC);
+		verify(repository).findActiveRevokedSince(since, LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC));
+	}
+
+	@Test
+	void sync_dropsExpiredRevocations() {
+		TokenRevocationList list = revocationList(100);
+		list.revoke("jti-curto", "user-1", NOW.plusSeconds(60));
+		list.revoke("jti-longo", "user-1", NOW.plusSeconds(600));
+		clock.advance(Duration.ofSeconds(61));
+
+		list.sync();
+
+		assertThat(list.size()).isEqualTo(1);
+		assertThat(list.isRevoked("jti-curto")).isFalse();
+		assertThat(list.isRevoked("jti-longo")).isTrue();
+	}
+
+	@Test
+	void revoke_aboveExpectedCapacity_keepsEveryRevocation() {
+		TokenRevocationList list = revocationList(10);
+
+		for (int i = 0; i < 100; i++) {
+			list.revoke("jti-" + i, "user-1", NOW.plusSeconds(600));
+		}
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(list.isRevoked("jti-" + i)).isTrue();
+		}
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+	}
+
+}
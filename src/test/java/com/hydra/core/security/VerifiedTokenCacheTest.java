@@ -0,0 +1,96 @@
+package com.hydra.core.security;
+
+import com.hydra.core.dtos.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+	private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	private AuthenticatedToken user(String id) {
+		return new AuthenticatedToken(new UserDto(id, "token-" + id, id, id, id + "@example.com", null),
+				new TeamAccess(id, Map.of(), 0), "jti-" + id, NOW.plus(Duration.ofHours(1)));
+	}
+
+	@Test
+	void whenEntryIsValid_returnsCachedUser() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+		AuthenticatedToken user = user("a");
+
+		cache.put("token-a", user, NOW.plus(Duration.ofHours(1)));
+
+		assertThat(cache.get("token-a")).isSameAs(user);
+		assertThat(cache.get("token-b")).isNull();
+	}
+
+	@Test
+	void whenEntryIsExpired_returnsNullAndDropsIt() {
+		MutableClock mutableClock = new MutableClock(NOW);
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, mutableClock);
+		cache.put("token-a", user("a"), NOW.plusSeconds(1));
+
+		assertThat(cache.get("token-a")).isNotNull();
+
+		mutableClock.instant = NOW.plusSeconds(5);
+
+		assertThat(cache.get("token-a")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void whenTokenIsAlreadyExpired_isNotCached() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+		cache.put("token-a", user("a"), NOW.minusSeconds(1));
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void whenFull_neverGrowsBeyondMaxSize() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(3, clock);
+
+		for (int i = 0; i < 10; i++)
+			cache.put("token-" + i, user(String.valueOf(i)), NOW.plus(Duration.ofHours(1)));
+
+		assertThat(cache.size()).isLessThanOrEqualTo(3);
+		assertThat(cache.get("token-9")).isNotNull();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+
+	}
+
+}
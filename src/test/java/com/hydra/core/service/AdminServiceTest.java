@@ -1,6 +1,7 @@
 package com.hydra.core.service;
 
 import com.hydra.core.dtos.ResponseDto;
+import com.hydra.core.dtos.TrainingLoadRebuildDto;
 import com.hydra.core.entity.UserEntity;
 import com.hydra.core.mappers.UserMapper;
 import com.hydra.core.repository.UserRepository;
@@ -26,6 +27,9 @@ class AdminServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private TrainingLoadRebuilder trainingLoadRebuilder;
+
 	@InjectMocks
 	private AdminService adminService;
 
@@ -115,4 +119,30 @@ class AdminServiceTest {
 
 	}
 
+	@Nested
+	class RebuildTrainingLoad {
+
+		@Test
+		void returnsTheRebuildResult() {
+			TrainingLoadRebuildDto result = new TrainingLoadRebuildDto(3, 0, 120);
+			when(trainingLoadRebuilder.rebuildAll()).thenReturn(result);
+
+			ResponseEntity<ResponseDto> response = adminService.rebuildTrainingLoad();
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(result);
+		}
+
+		@Test
+		void whenAlreadyRunning_returnsConflict() {
+			when(trainingLoadRebuilder.rebuildAll()).thenReturn(null);
+
+			ResponseEntity<ResponseDto> response = adminService.rebuildTrainingLoad();
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		}
+
+	}
+
 }
\ No newline at end of file
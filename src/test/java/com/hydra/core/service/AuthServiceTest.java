@@ -3,11 +3,21 @@ package com.hydra.core.service;
 import com.hydra.core.config.ModelMapperConfig;
 import com.hydra.core.dtos.AuthResponseDto;
 import com.hydra.core.dtos.LoginDto;
+import com.hydra.core.dtos.RefreshTokenDto;
 import com.hydra.core.dtos.ResponseDto;
 import com.hydra.core.dtos.UserDto;
 import com.hydra.core.entity.UserEntity;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.exceptions.InvalidTokenException;
+import com.hydra.core.repository.TeamMemberRepository;
 import com.hydra.core.repository.UserRepository;
 import com.hydra.core.security.JwtService;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.AuthenticatedToken;
+import com.hydra.core.security.PasswordHasher;
+import com.hydra.core.security.RefreshTokenClaims;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TokenRevocationList;
 import com.hydra.core.utils.BCrypt;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,9 +29,14 @@ import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -35,13 +50,32 @@ class AuthServiceTest {
 	private static final String NAME = "John Doe";
 	private static final String PASSWORD = "Password123!";
 	private static final String JWT_TOKEN = "jwt.token.here";
+	private static final String REFRESH_TOKEN = "refresh.token.here";
+	private static final long MEMBERSHIP_VERSION = 42L;
+	private static final String REFRESH_TOKEN_ID = "refresh-jti";
+	private static final Instant EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
 
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
 	@Mock
 	private JwtService jwtService;
 
+	@Mock
+	private MembershipVersions membershipVersions;
+
+	@Mock
+	private TokenRevocationList revocationList;
+
+	@Mock
+	private PasswordHasher passwordHasher;
+
+	@Mock
+	private IdentityAvailabilityService identityAvailability;
+
 	@Mock
 	private ModelMapperConfig modelMapperConfig;
 
@@ -53,7 +87,8 @@ class AuthServiceTest {
 	@org.junit.jupiter.api.BeforeEach
 	void setUp() {
 		when(modelMapperConfig.modelMapper()).thenReturn(modelMapper);
-		authService = new AuthService(userRepository, jwtService, modelMapperConfig);
+		authService = new AuthService(userRepository, teamMemberRepository, jwtService, membershipVersions,
+				revocationList, passwordHasher, identityAvailability, modelMapperConfig);
 	}
 
 	private UserEntity userEntity() {
@@ -70,6 +105,10 @@ class AuthServiceTest {
 		return new UserDto(null, null, USERNAME, NAME, EMAIL, PASSWORD);
 	}
 
+	private RefreshTokenClaims refreshClaims(String userId) {
+		return new RefreshTokenClaims(userId, REFRESH_TOKEN_ID, EXPIRES_AT);
+	}
+
 	private LoginDto loginDto() {
 		return new LoginDto(EMAIL, PASSWORD);
 	}
@@ -79,9 +118,7 @@ class AuthServiceTest {
 
 		@Test
 		void whenEmailAlreadyExists_returnsBadRequest() {
-			UserEntity existingUser = userEntity();
-			when(userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(EMAIL, USERNAME)).thenReturn(
-					Optional.of(existingUser));
+			when(userRepository.existsByEmailNormalized(EMAIL)).thenReturn(true);
 
 			ResponseEntity<ResponseDto> response = authService.registerUser(userDto());
 
@@ -94,10 +131,8 @@ class AuthServiceTest {
 
 		@Test
 		void whenUsernameAlreadyExists_returnsBadRequest() {
-			UserEntity existingUser = userEntity();
-			existingUser.setEmail("other@example.com");
-			when(userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(EMAIL, USERNAME)).thenReturn(
-					Optional.of(existingUser));
+			when(userRepository.existsByEmailNormalized(EMAIL)).thenReturn(false);
+			when(userRepository.existsByUsernameNormalized(USERNAME)).thenReturn(true);
 
 			ResponseEntity<ResponseDto> response = authService.registerUser(userDto());
 
@@ -110,9 +145,6 @@ class AuthServiceTest {
 
 		@Test
 		void whenValid_savesUserWithHashedPassword() {
-			when(userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(EMAIL, USERNAME)).thenReturn(
-					Optional.empty());
-
 			UserEntity mappedUser = new UserEntity();
 			mappedUser.setUsername(USERNAME);
 			mappedUser.setEmail(EMAIL);
@@ -123,7 +155,10 @@ class AuthServiceTest {
 				user.setId(USER_ID);
 				return user;
 			});
-			when(jwtService.generateToken(anyString(), anyString(), anyString(), anyString())).thenReturn(JWT_TOKEN);
+			when(jwtService.generateToken(anyString(), anyString(), anyString(), anyString(), anyMap(),
+					anyLong())).thenReturn(JWT_TOKEN);
+			String hashedPassword = BCrypt.hashpw(PASSWORD);
+			when(passwordHasher.hash(PASSWORD)).thenReturn(hashedPassword);
 
 			ResponseEntity<ResponseDto> response = authService.registerUser(userDto());
 
@@ -136,15 +171,12 @@ class AuthServiceTest {
 			verify(userRepository).save(captor.capture());
 
 			UserEntity savedUser = captor.getValue();
-			assertThat(savedUser.getPassword()).isNotEqualTo(PASSWORD);
+			assertThat(savedUser.getPassword()).isNotEqualTo(PASSWORD).isEqualTo(hashedPassword);
 			assertThat(BCrypt.checkpw(PASSWORD, savedUser.getPassword())).isTrue();
 		}
 
 		@Test
 		void whenValid_returnsAuthResponseWithToken() {
-			when(userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(EMAIL, USERNAME)).thenReturn(
-					Optional.empty());
-
 			UserEntity mappedUser = new UserEntity();
 			mappedUser.setUsername(USERNAME);
 			mappedUser.setEmail(EMAIL);
@@ -155,7 +187,7 @@ class AuthServiceTest {
 				user.setId(USER_ID);
 				return user;
 			});
-			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME)).thenReturn(JWT_TOKEN);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
 
 			ResponseEntity<ResponseDto> response = authService.registerUser(userDto());
 
@@ -167,14 +199,11 @@ class AuthServiceTest {
 			assertThat(authResponse.userId()).isEqualTo(USER_ID);
 			assertThat(authResponse.token()).isEqualTo(JWT_TOKEN);
 
-			verify(jwtService).generateToken(USER_ID, USERNAME, EMAIL, NAME);
+			verify(jwtService).generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L);
 		}
 
 		@Test
 		void whenValid_callsRepositoryWithCorrectEmailAndUsername() {
-			when(userRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase(EMAIL, USERNAME)).thenReturn(
-					Optional.empty());
-
 			UserEntity mappedUser = new UserEntity();
 			mappedUser.setUsername(USERNAME);
 			mappedUser.setEmail(EMAIL);
@@ -185,11 +214,50 @@ class AuthServiceTest {
 				user.setId(USER_ID);
 				return user;
 			});
-			when(jwtService.generateToken(anyString(), anyString(), anyString(), anyString())).thenReturn(JWT_TOKEN);
+			when(jwtService.generateToken(anyString(), anyString(), anyString(), anyString(), anyMap(),
+					anyLong())).thenReturn(JWT_TOKEN);
 
 			authService.registerUser(userDto());
 
-			verify(userRepository).findByEmailIgnoreCaseOrUsernameIgnoreCase(EMAIL, USERNAME);
+			verify(userRepository).existsByEmailNormalized(EMAIL);
+			verify(userRepository).existsByUsernameNormalized(USERNAME);
+		}
+
+		@Test
+		void whenValid_registersIdentityForAvailabilityChecks() {
+			UserEntity mappedUser = new UserEntity();
+			mappedUser.setUsername(USERNAME);
+			mappedUser.setEmail(EMAIL);
+			mappedUser.setName(NAME);
+			when(modelMapper.map(any(UserDto.class), eq(UserEntity.class))).thenReturn(mappedUser);
+			when(jwtService.generateToken(any(), anyString(), anyString(), anyString(), anyMap(), anyLong())).thenReturn(
+					JWT_TOKEN);
+
+			authService.registerUser(userDto());
+
+			verify(identityAvailability).register(EMAIL, USERNAME);
+		}
+
+		@Test
+		void whenEmailAlreadyExists_doesNotRegisterIdentity() {
+			when(userRepository.existsByEmailNormalized(EMAIL)).thenReturn(true);
+
+			authService.registerUser(userDto());
+
+			verify(identityAvailability, never()).register(any(), any());
+		}
+
+		@Test
+		void whenEmailDiffersOnlyInCase_returnsBadRequest() {
+			when(userRepository.existsByEmailNormalized(EMAIL)).thenReturn(true);
+			UserDto upperCaseEmail = new UserDto(null, null, USERNAME, NAME, EMAIL.toUpperCase(), PASSWORD);
+
+			ResponseEntity<ResponseDto> response = authService.registerUser(upperCaseEmail);
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getMessage()).isEqualTo("O email já está em uso!");
+			verify(userRepository, never()).save(any());
 		}
 
 	}
@@ -199,7 +267,7 @@ class AuthServiceTest {
 
 		@Test
 		void whenUserNotFound_returnsUnauthorized() {
-			when(userRepository.findByEmailOrUsername(EMAIL, EMAIL)).thenReturn(Optional.empty());
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.empty());
 
 			ResponseEntity<ResponseDto> response = authService.loginUser(loginDto());
 
@@ -207,13 +275,15 @@ class AuthServiceTest {
 			assertThat(response.getBody()).isNotNull();
 			assertThat(response.getBody().getMessage()).isEqualTo("Usuário ou senha inválidos");
 			assertThat(response.getBody().isSuccess()).isFalse();
-			verify(jwtService, never()).generateToken(anyString(), anyString(), anyString(), anyString());
+			verify(jwtService, never()).generateToken(any(), any(), any(), any(), any(), anyLong());
 		}
 
 		@Test
 		void whenPasswordIsIncorrect_returnsUnauthorized() {
 			UserEntity user = userEntity();
-			when(userRepository.findByEmailOrUsername(EMAIL, EMAIL)).thenReturn(Optional.of(user));
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+
+			when(passwordHasher.matches("WrongPassword123!", user.getPassword())).thenReturn(false);
 
 			LoginDto wrongPasswordDto = new LoginDto(EMAIL, "WrongPassword123!");
 			ResponseEntity<ResponseDto> response = authService.loginUser(wrongPasswordDto);
@@ -222,14 +292,15 @@ class AuthServiceTest {
 			assertThat(response.getBody()).isNotNull();
 			assertThat(response.getBody().getMessage()).isEqualTo("Usuário ou senha inválidos");
 			assertThat(response.getBody().isSuccess()).isFalse();
-			verify(jwtService, never()).generateToken(anyString(), anyString(), anyString(), anyString());
+			verify(jwtService, never()).generateToken(any(), any(), any(), any(), any(), anyLong());
 		}
 
 		@Test
 		void whenValid_returnsAuthResponseWithToken() {
 			UserEntity user = userEntity();
-			when(userRepository.findByEmailOrUsername(EMAIL, EMAIL)).thenReturn(Optional.of(user));
-			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME)).thenReturn(JWT_TOKEN);
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
 
 			ResponseEntity<ResponseDto> response = authService.loginUser(loginDto());
 
@@ -247,40 +318,235 @@ class AuthServiceTest {
 		@Test
 		void whenValid_callsJwtServiceWithCorrectParameters() {
 			UserEntity user = userEntity();
-			when(userRepository.findByEmailOrUsername(EMAIL, EMAIL)).thenReturn(Optional.of(user));
-			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME)).thenReturn(JWT_TOKEN);
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
 
 			authService.loginUser(loginDto());
 
-			verify(jwtService).generateToken(USER_ID, USERNAME, EMAIL, NAME);
+			verify(jwtService).generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L);
 		}
 
 		@Test
 		void whenLoginWithUsername_findsUserByUsername() {
 			UserEntity user = userEntity();
-			when(userRepository.findByEmailOrUsername(USERNAME, USERNAME)).thenReturn(Optional.of(user));
-			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME)).thenReturn(JWT_TOKEN);
+			when(userRepository.findByLogin(USERNAME)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
 
 			LoginDto usernameLoginDto = new LoginDto(USERNAME, PASSWORD);
 			ResponseEntity<ResponseDto> response = authService.loginUser(usernameLoginDto);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-			verify(userRepository).findByEmailOrUsername(USERNAME, USERNAME);
+			verify(userRepository).findByLogin(USERNAME);
 		}
 
 		@Test
 		void whenValid_verifiesPasswordWithBCrypt() {
 			UserEntity user = userEntity();
 			String hashedPassword = user.getPassword();
-			when(userRepository.findByEmailOrUsername(EMAIL, EMAIL)).thenReturn(Optional.of(user));
-			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME)).thenReturn(JWT_TOKEN);
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
 
 			authService.loginUser(loginDto());
 
-			// Verifica que a senha foi verificada corretamente
+			// Verifica que a senha foi verificada pelo executor de hashing
+			verify(passwordHasher).matches(PASSWORD, hashedPassword);
 			assertThat(BCrypt.checkpw(PASSWORD, hashedPassword)).isTrue();
 		}
 
+		@Test
+		void whenHashCostIsOutdated_rehashesInBackground() {
+			UserEntity user = userEntity();
+			String oldHash = user.getPassword();
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, oldHash)).thenReturn(true);
+			when(passwordHasher.needsRehash(oldHash)).thenReturn(true);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
+
+			ResponseEntity<ResponseDto> response = authService.loginUser(loginDto());
+
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<Consumer<String>> callback = ArgumentCaptor.forClass(Consumer.class);
+			verify(passwordHasher).rehashInBackground(eq(PASSWORD), callback.capture());
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+			// Simula a conclusão do rehash no executor
+			callback.getValue().accept("new-hash");
+			verify(userRepository).updatePasswordIfUnchanged(USER_ID, oldHash, "new-hash");
+		}
+
+		@Test
+		void whenHashCostIsCurrent_doesNotRehash() {
+			UserEntity user = userEntity();
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(passwordHasher.needsRehash(user.getPassword())).thenReturn(false);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
+
+			authService.loginUser(loginDto());
+
+			verify(passwordHasher, never()).rehashInBackground(any(), any());
+		}
+
+		@Test
+		void whenPasswordIsIncorrect_doesNotRehash() {
+			UserEntity user = userEntity();
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(false);
+
+			authService.loginUser(loginDto());
+
+			verify(passwordHasher, never()).needsRehash(any());
+			verify(passwordHasher, never()).rehashInBackground(any(), any());
+		}
+
+	}
+
+	@Nested
+	class TeamRolesInToken {
+
+		private TeamMemberRepository.TeamRoleView role(String teamId, TeamRole role) {
+			return new TeamMemberRepository.TeamRoleView() {
+
+				@Override
+				public String getTeamId() {
+					return teamId;
+				}
+
+				@Override
+				public TeamRole getRole() {
+					return role;
+				}
+			};
+		}
+
+		@Test
+		void login_embedsTeamRolesAndCurrentMembershipVersion() {
+			UserEntity user = userEntity();
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(membershipVersions.current(USER_ID)).thenReturn(MEMBERSHIP_VERSION);
+			when(teamMemberRepository.findRolesByUserId(USER_ID)).thenReturn(
+					List.of(role("team-1", TeamRole.OWNER), role("team-2", TeamRole.ATHLETE)));
+			when(jwtService.generateRefreshToken(USER_ID)).thenReturn(REFRESH_TOKEN);
+
+			authService.loginUser(loginDto());
+
+			verify(jwtService).generateToken(USER_ID, USERNAME, EMAIL, NAME,
+					Map.of("team-1", TeamRole.OWNER, "team-2", TeamRole.ATHLETE), MEMBERSHIP_VERSION);
+		}
+
+		@Test
+		void login_returnsRefreshToken() {
+			UserEntity user = userEntity();
+			when(userRepository.findByLogin(EMAIL)).thenReturn(Optional.of(user));
+			when(passwordHasher.matches(PASSWORD, user.getPassword())).thenReturn(true);
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of(), 0L)).thenReturn(JWT_TOKEN);
+			when(jwtService.generateRefreshToken(USER_ID)).thenReturn(REFRESH_TOKEN);
+
+			ResponseEntity<ResponseDto> response = authService.loginUser(loginDto());
+
+			assertThat(response.getBody()).isNotNull();
+			AuthResponseDto authResponse = (AuthResponseDto) response.getBody().getData();
+			assertThat(authResponse.refreshToken()).isEqualTo(REFRESH_TOKEN);
+		}
+
+		@Test
+		void refresh_rereadsRolesAndIssuesNewTokens() {
+			when(jwtService.parseRefreshToken(REFRESH_TOKEN)).thenReturn(refreshClaims(USER_ID));
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
+			when(revocationList.consume(REFRESH_TOKEN_ID, USER_ID, EXPIRES_AT)).thenReturn(true);
+			when(membershipVersions.current(USER_ID)).thenReturn(MEMBERSHIP_VERSION);
+			when(teamMemberRepository.findRolesByUserId(USER_ID)).thenReturn(List.of(role("team-1", TeamRole.COACH)));
+			when(jwtService.generateToken(USER_ID, USERNAME, EMAIL, NAME, Map.of("team-1", TeamRole.COACH),
+					MEMBERSHIP_VERSION)).thenReturn(JWT_TOKEN);
+			when(jwtService.generateRefreshToken(USER_ID)).thenReturn(REFRESH_TOKEN);
+
+			ResponseEntity<ResponseDto> response = authService.refreshToken(new RefreshTokenDto(REFRESH_TOKEN));
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+			assertThat(response.getBody()).isNotNull();
+			AuthResponseDto authResponse = (AuthResponseDto) response.getBody().getData();
+			assertThat(authResponse.token()).isEqualTo(JWT_TOKEN);
+			assertThat(authResponse.refreshToken()).isEqualTo(REFRESH_TOKEN);
+		}
+
+		@Test
+		void refresh_whenUserNoLongerExists_throwsInvalidTokenException() {
+			when(jwtService.parseRefreshToken(REFRESH_TOKEN)).thenReturn(refreshClaims(USER_ID));
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+			RefreshTokenDto dto = new RefreshTokenDto(REFRESH_TOKEN);
+			assertThatThrownBy(() -> authService.refreshToken(dto)).isInstanceOf(InvalidTokenException.class);
+			verify(jwtService, never()).generateRefreshToken(any());
+		}
+
+	}
+
+	@Nested
+	class Revocation {
+
+		private AuthenticatedToken authenticated() {
+			UserDto user = new UserDto(USER_ID, JWT_TOKEN, USERNAME, NAME, EMAIL, null);
+			return new AuthenticatedToken(user, new TeamAccess(USER_ID, Map.of(), 0), "access-jti", EXPIRES_AT);
+		}
+
+		@Test
+		void refresh_whenTokenWasRevoked_throwsInvalidTokenException() {
+			when(jwtService.parseRefreshToken(REFRESH_TOKEN)).thenReturn(refreshClaims(USER_ID));
+			when(revocationList.isRevoked(REFRESH_TOKEN_ID)).thenReturn(true);
+
+			RefreshTokenDto dto = new RefreshTokenDto(REFRESH_TOKEN);
+			assertThatThrownBy(() -> authService.refreshToken(dto)).isInstanceOf(InvalidTokenException.class);
+			verify(userRepository, never()).findById(any());
+		}
+
+		@Test
+		void refresh_whenTokenWasAlreadyUsed_throwsInvalidTokenException() {
+			when(jwtService.parseRefreshToken(REFRESH_TOKEN)).thenReturn(refreshClaims(USER_ID));
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
+			when(revocationList.consume(REFRESH_TOKEN_ID, USER_ID, EXPIRES_AT)).thenReturn(false);
+
+			RefreshTokenDto dto = new RefreshTokenDto(REFRESH_TOKEN);
+			assertThatThrownBy(() -> authService.refreshToken(dto)).isInstanceOf(InvalidTokenException.class);
+			verify(jwtService, never()).generateToken(any(), any(), any(), any(), any(), anyLong());
+			verify(jwtService, never()).generateRefreshToken(any());
+		}
+
+		@Test
+		void logout_revokesAccessAndRefreshTokens() {
+			when(jwtService.authenticate(JWT_TOKEN)).thenReturn(authenticated());
+			when(jwtService.parseRefreshToken(REFRESH_TOKEN)).thenReturn(refreshClaims(USER_ID));
+
+			ResponseEntity<ResponseDto> response = authService.logout(JWT_TOKEN, new RefreshTokenDto(REFRESH_TOKEN));
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+			verify(revocationList).revoke("access-jti", USER_ID, EXPIRES_AT);
+			verify(revocationList).revoke(REFRESH_TOKEN_ID, USER_ID, EXPIRES_AT);
+		}
+
+		@Test
+		void logout_withoutRefreshToken_revokesOnlyAccessToken() {
+			when(jwtService.authenticate(JWT_TOKEN)).thenReturn(authenticated());
+
+			authService.logout(JWT_TOKEN, null);
+
+			verify(revocationList).revoke("access-jti", USER_ID, EXPIRES_AT);
+			verifyNoMoreInteractions(revocationList);
+		}
+
+		@Test
+		void logout_whenRefreshTokenBelongsToAnotherUser_throwsInvalidTokenException() {
+			when(jwtService.authenticate(JWT_TOKEN)).thenReturn(authenticated());
+			when(jwtService.parseRefreshToken(REFRESH_TOKEN)).thenReturn(refreshClaims("other-user"));
+
+			RefreshTokenDto dto = new RefreshTokenDto(REFRESH_TOKEN);
+			assertThatThrownBy(() -> authService.logout(JWT_TOKEN, dto)).isInstanceOf(InvalidTokenException.class);
+			verify(revocationList, never()).revoke(eq(REFRESH_TOKEN_ID), any(), any());
+		}
+
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.hydra.core.service;
+
+import com.hydra.core.entity.ExerciseEntity;
+import com.hydra.core.repository.ExerciseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExerciseCatalogTest {
+
+	@Mock
+	private ExerciseRepository exerciseRepository;
+
+	private ExerciseCatalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		catalog = new ExerciseCatalog(exerciseRepository, new SimpleMeterRegistry());
+	}
+
+	private static ExerciseEntity exercise(String id, boolean custom) {
+		ExerciseEntity exercise = new ExerciseEntity();
+		exercise.setId(id);
+		exercise.setName("Exercício " + id);
+		exercise.setIsCustom(custom);
+		return exercise;
+	}
+
+	@Test
+	void findAllById_servesGlobalExercisesFromMemory() {
+		when(exerciseRepository.findByIsCustomFalse()).thenReturn(
+				List.of(exercise("squat", false), exercise("bench", false)));
+
+		Map<String, ExerciseEntity> first = catalog.findAllById(List.of("squat", "bench"));
+		Map<String, ExerciseEntity> second = catalog.findAllById(List.of("squat"));
+
+		assertThat(first).containsOnlyKeys("squat", "bench");
+		assertThat(second).containsOnlyKeys("squat");
+		verify(exerciseRepository, times(1)).findByIsCustomFalse();
+		verify(exerciseRepository, never()).findAllById(any());
+	}
+
+	@Test
+	void findAllById_looksUpTheRestInOneQuery() {
+		when(exerciseRepository.findByIsCustomFalse()).thenReturn(List.of(exercise("squat", false)));
+		when(exerciseRepository.findAllById(any())).thenReturn(List.of(exercise("custom-1", true)));
+
+		Map<String, ExerciseEntity> found = catalog.findAllById(List.of("squat", "custom-1", "ghost", "custom-1"));
+
+		assertThat(found).containsOnlyKeys("squat", "custom-1");
+		verify(exerciseRepository, times(1)).findAllById(argThat(
+				ids -> ids instanceof List<String> list && list.size() == 2 && list.containsAll(
+						List.of("custom-1", "ghost"))));
+	}
+
+	@Test
+	void findAllById_ignoresNullIds() {
+		when(exerciseRepository.findByIsCustomFalse()).thenReturn(List.of());
+
+		assertThat(catalog.findAllById(Arrays.asList(null, null))).isEmpty();
+		verify(exerciseRepository, never()).findAllById(any());
+	}
+
+	@Test
+	void refresh_picksUpNewGlobalExercises() {
+		when(exerciseRepository.findByIsCustomFalse()).thenReturn(List.of(exercise("squat", false)),
+				List.of(exercise("squat", false), exercise("deadlift", false)));
+		catalog.findAllById(List.of("squat"));
+
+		catalog.refresh();
+
+		assertThat(catalog.findAllById(List.of("deadlift"))).containsOnlyKeys("deadlift");
+		verify(exerciseRepository, never()).findAllById(any());
+	}
+
+}
@@ -0,0 +1,206 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.AvailabilityDto;
+import com.hydra.core.dtos.ResponseDto;
+import com.hydra.core.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdentityAvailabilityServiceTest {
+
+	private static final String EMAIL = "john@example.com";
+	private static final String USERNAME = "johndoe";
+
+	@Mock
+	private UserRepository userRepository;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+	private IdentityAvailabilityService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new IdentityAvailabilityService(userRepository, clock, 1_000, 0.01, Duration.ofSeconds(30),
+				meterRegistry);
+	}
+
+	private void loadWith(String email, String username) {
+		when(userRepository.count()).thenReturn(1L);
+		when(userRepository.streamAllIdentities()).thenReturn(Stream.of(identity(email, username)));
+		service.loadIdentities();
+	}
+
+	private UserRepository.IdentityView identity(String email, String username) {
+		return new UserRepository.IdentityView() {
+
+			@Override
+			public String getEmailNormalized() {
+				return email;
+			}
+
+			@Override
+			public String getUsernameNormalized() {
+				return username;
+			}
+		};
+	}
+
+	private double lookups(String source) {
+		return meterRegistry.get("auth.availability.lookups").tag("source", source).counter().count();
+	}
+
+	@Nested
+	class CheckAvailability {
+
+		@Test
+		void whenIdentityIsUnknown_answersFromMemory() {
+			loadWith(EMAIL, USERNAME);
+
+			ResponseEntity<ResponseDto> response = service.checkAvailability("new@example.com", "newuser");
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(new AvailabilityDto(true, true));
+			verify(userRepository, never()).existsByEmailNormalized(any());
+			verify(userRepository, never()).existsByUsernameNormalized(any());
+			assertThat(lookups("memory")).isEqualTo(2);
+		}
+
+		@Test
+		void whenIdentityMightExist_confirmsWithDatabase() {
+			loadWith(EMAIL, USERNAME);
+			when(userRepository.existsByEmailNormalized(EMAIL)).thenReturn(true);
+			when(userRepository.existsByUsernameNormalized(USERNAME)).thenReturn(true);
+
+			ResponseEntity<ResponseDto> response = service.checkAvailability("John@Example.com", "JohnDoe");
+
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(new AvailabilityDto(false, false));
+			assertThat(lookups("database")).isEqualTo(2);
+		}
+
+		@Test
+		void whenOnlyUsernameIsGiven_leavesEmailUnanswered() {
+			loadWith(EMAIL, USERNAME);
+
+			ResponseEntity<ResponseDto> response = service.checkAvailability(null, "newuser");
+
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(new AvailabilityDto(null, true));
+		}
+
+		@Test
+		void whenNothingIsGiven_returnsBadRequest() {
+			ResponseEntity<ResponseDto> response = service.checkAvailability(" ", null);
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+			verifyNoInteractions(userRepository);
+		}
+
+		@Test
+		void beforeFilterIsLoaded_alwaysGoesToDatabase() {
+			when(userRepository.existsByEmailNormalized("new@example.com")).thenReturn(false);
+
+			ResponseEntity<ResponseDto> response = service.checkAvailability("new@example.com", null);
+
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(new AvailabilityDto(true, null));
+			verify(userRepository).existsByEmailNormalized("new@example.com");
+		}
+
+	}
+
+	@Nested
+	class Register {
+
+		@Test
+		void registeredIdentity_isNoLongerReportedAvailableFromMemory() {
+			loadWith(EMAIL, USERNAME);
+			service.register("New@Example.com", "NewUser");
+			when(userRepository.existsByEmailNormalized("new@example.com")).thenReturn(true);
+
+			ResponseEntity<ResponseDto> response = service.checkAvailability("new@example.com", null);
+
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(new AvailabilityDto(false, null));
+			verify(userRepository).existsByEmailNormalized("new@example.com");
+		}
+
+	}
+
+	@Nested
+	class Sync {
+
+		@Test
+		void identityRegisteredOnAnotherNode_isNoLongerReportedAvailable() {
+			loadWith(EMAIL, USERNAME);
+			when(userRepository.findIdentitiesCreatedSince(any())).thenReturn(
+					List.of(identity("other@example.com", "othernode")));
+			when(userRepository.existsByUsernameNormalized("othernode")).thenReturn(true);
+
+			service.sync();
+			ResponseEntity<ResponseDto> response = service.checkAvailability(null, "OtherNode");
+
+			assertThat(response.getBody()).isNotNull();
+			assertThat(response.getBody().getData()).isEqualTo(new AvailabilityDto(null, false));
+			verify(userRepository).existsByUsernameNormalized("othernode");
+		}
+
+		@Test
+		void rereadsTheOverlapWindowSinceTheLastSync() {
+			loadWith(EMAIL, USERNAME);
+			when(userRepository.findIdentitiesCreatedSince(any())).thenReturn(List.of());
+
+			service.sync();
+
+			// 2 x 30s + 1min antes da carga
+			verify(userRepository).findIdentitiesCreatedSince(LocalDateTime.of(2026, 3, 1, 11, 58));
+		}
+
+		@Test
+		void whenFilterPassesCapacity_rebuildsFromDatabase() {
+			loadWith(EMAIL, USERNAME);
+			List<UserRepository.IdentityView> created = IntStream.range(0, 600)
+																 .mapToObj(i -> identity("user" + i + "@example.com",
+																		 "user" + i))
+																 .toList();
+			when(userRepository.findIdentitiesCreatedSince(any())).thenReturn(created);
+			when(userRepository.count()).thenReturn(601L);
+			when(userRepository.streamAllIdentities()).thenReturn(created.stream());
+
+			service.sync();
+
+			verify(userRepository, times(2)).count();
+			verify(userRepository, times(2)).streamAllIdentities();
+		}
+
+		@Test
+		void beforeFirstLoad_doesNothing() {
+			service.sync();
+
+			verifyNoInteractions(userRepository);
+		}
+
+	}
+
+}
@@ -3,7 +3,6 @@ package com.hydra.core.service;
 import com.hydra.core.dtos.InviteTokenDto;
 import com.hydra.core.dtos.ResponseDto;
 import com.hydra.core.dtos.TeamInviteRequestDto;
-import com.hydra.core.dtos.UserDto;
 import com.hydra.core.entity.TeamEntity;
 import com.hydra.core.entity.TeamMemberEntity;
 import com.hydra.core.entity.UserEntity;
@@ -15,6 +14,8 @@ import com.hydra.core.repository.TeamMemberRepository;
 import com.hydra.core.repository.TeamRepository;
 import com.hydra.core.repository.UserRepository;
 import com.hydra.core.security.JwtService;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.TeamMembershipIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -38,8 +39,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class InviteServiceTest {
 
-	private static final String AUTH = "Bearer token";
-	private static final String TOKEN = "token";
 	private static final String TEAM_ID = "team-1";
 	private static final String COACH_ID = "coach-1";
 	private static final String ATHLETE_ID = "athlete-1";
@@ -60,6 +59,15 @@ class InviteServiceTest {
 	@Mock
 	private JwtService jwtService;
 
+	@Mock
+	private MembershipVersions membershipVersions;
+
+	@Mock
+	private TeamMembershipIndex membershipIndex;
+
+	@Mock
+	private TeamVersions teamVersions;
+
 	@InjectMocks
 	private InviteService inviteService;
 
@@ -81,19 +89,9 @@ class InviteServiceTest {
 		return u;
 	}
 
-	private UserDto coachDto() {
-		return new UserDto(COACH_ID, TOKEN, "coach", "Coach Ana", "coach@example.com", null);
-	}
-
-	private UserDto athleteDto() {
-		return new UserDto(ATHLETE_ID, TOKEN, "john", "John Doe", "john@example.com", null);
-	}
-
 	/**
-	 * Monta um TeamEntity com a lista de members corretamente populada.
-	 * <p>
-	 * getCoaches() filtra members por COACH ou OWNER → retorna [coach] getAthletes() filtra members por ATHLETE →
-	 * retorna []
+	 * Monta um TeamEntity com o professor em members. As checagens de vínculo do serviço não leem essa lista (usam o
+	 * índice de membros e consultas de existência), ela só mantém a entidade coerente.
 	 */
 	private TeamEntity teamWithCoach() {
 		TeamEntity t = new TeamEntity();
@@ -111,30 +109,7 @@ class InviteServiceTest {
 	}
 
 	/**
-	 * Time com COACH + ATHLETE já adicionados. getAthletes() → retorna [athlete] — usado para testar conflito.
-	 */
-	private TeamEntity teamWithCoachAndAthlete() {
-		TeamEntity t = new TeamEntity();
-		t.setId(TEAM_ID);
-		t.setName("Hydra FC");
-		t.setImageUrl("https://img.url/logo.png");
-
-		TeamMemberEntity coachMember = new TeamMemberEntity();
-		coachMember.setTeam(t);
-		coachMember.setUser(coachEntity());
-		coachMember.setRole(TeamRole.COACH);
-
-		TeamMemberEntity athleteMember = new TeamMemberEntity();
-		athleteMember.setTeam(t);
-		athleteMember.setUser(athleteEntity());
-		athleteMember.setRole(TeamRole.ATHLETE);
-
-		t.setMembers(new ArrayList<>(List.of(coachMember, athleteMember)));
-		return t;
-	}
-
-	/**
-	 * Time sem nenhum membro. getCoaches() → [] — usado para testar coach não autorizado.
+	 * Time sem nenhum membro — usado para testar coach não autorizado.
 	 */
 	private TeamEntity teamWithNoMembers() {
 		TeamEntity t = new TeamEntity();
@@ -152,16 +127,6 @@ class InviteServiceTest {
 		return new TeamInviteRequestDto(COACH_ID, "john@example.com", "ATHLETE");
 	}
 
-	private void mockCoachAuth() {
-		when(jwtService.extractTokenFromHeader(AUTH)).thenReturn(TOKEN);
-		when(jwtService.parseTokenToUser(TOKEN)).thenReturn(coachDto());
-	}
-
-	private void mockAthleteAuth() {
-		when(jwtService.extractTokenFromHeader(AUTH)).thenReturn(TOKEN);
-		when(jwtService.parseTokenToUser(TOKEN)).thenReturn(athleteDto());
-	}
-
 	@Nested
 	class CreateInviteToken {
 
@@ -169,7 +134,7 @@ class InviteServiceTest {
 		void whenFieldsAreEmpty_returnsBadRequest() {
 			TeamInviteRequestDto req = new TeamInviteRequestDto("", "", "ATHLETE");
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID, req);
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID, req);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -181,7 +146,7 @@ class InviteServiceTest {
 		void whenRoleIsOwner_returnsBadRequest() {
 			TeamInviteRequestDto req = new TeamInviteRequestDto("john@example.com", COACH_ID, "OWNER");
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID, req);
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID, req);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -192,7 +157,7 @@ class InviteServiceTest {
 		void whenRoleIsUnknown_returnsBadRequest() {
 			TeamInviteRequestDto req = new TeamInviteRequestDto("john@example.com", COACH_ID, "XPTO");
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID, req);
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID, req);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -201,11 +166,7 @@ class InviteServiceTest {
 
 		@Test
 		void whenTokenUserDoesNotMatchCoachId_returnsForbidden() {
-			when(jwtService.extractTokenFromHeader(AUTH)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(
-					new UserDto("other-id", TOKEN, "x", "X", "x@x.com", null));
-
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken("other-id", TEAM_ID,
 					validAthleteRequest());
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
@@ -213,10 +174,9 @@ class InviteServiceTest {
 
 		@Test
 		void whenTeamNotFound_returnsNotFound() {
-			mockCoachAuth();
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID,
 					validAthleteRequest());
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -226,11 +186,10 @@ class InviteServiceTest {
 
 		@Test
 		void whenCoachNotFound_returnsNotFound() {
-			mockCoachAuth();
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.empty());
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID,
 					validAthleteRequest());
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -240,26 +199,26 @@ class InviteServiceTest {
 
 		@Test
 		void whenCoachNotInTeam_returnsForbidden() {
-			mockCoachAuth();
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithNoMembers()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID,
 					validAthleteRequest());
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
 			assertNotNull(response.getBody());
 			assertThat(response.getBody().getMessage()).contains("não autorizado");
+			verify(membershipIndex).canManage(TEAM_ID, COACH_ID);
 		}
 
 		@Test
 		void whenAthleteNotFound_returnsNotFound() {
-			mockCoachAuth();
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
-			when(userRepository.findByEmailOrUsername(anyString(), anyString())).thenReturn(Optional.empty());
+			when(membershipIndex.canManage(TEAM_ID, COACH_ID)).thenReturn(true);
+			when(userRepository.findByLogin(anyString())).thenReturn(Optional.empty());
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID,
 					validAthleteRequest());
 
 			System.out.println(response.getBody());
@@ -271,13 +230,14 @@ class InviteServiceTest {
 
 		@Test
 		void whenAthleteAlreadyInTeam_returnsForbidden() {
-			mockCoachAuth();
-			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoachAndAthlete()));
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
-			when(userRepository.findByEmailOrUsername(anyString(), anyString())).thenReturn(
+			when(membershipIndex.canManage(TEAM_ID, COACH_ID)).thenReturn(true);
+			when(userRepository.findByLogin(anyString())).thenReturn(
 					Optional.of(athleteEntity()));
+			when(teamMemberRepository.existsByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(true);
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID,
 					validAthleteRequest());
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
@@ -289,15 +249,15 @@ class InviteServiceTest {
 		void whenValid_asAthlete_returnsOkWithInviteUrl() {
 			String expectedUrl = "https://hydra.app/teams/invite?token=xxx";
 
-			mockCoachAuth();
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
-			when(userRepository.findByEmailOrUsername(anyString(), anyString())).thenReturn(
+			when(membershipIndex.canManage(TEAM_ID, COACH_ID)).thenReturn(true);
+			when(userRepository.findByLogin(anyString())).thenReturn(
 					Optional.of(athleteEntity()));
 			when(jwtService.generateTeamInviteUrl(TEAM_ID, ATHLETE_ID, COACH_ID, TeamRole.ATHLETE)).thenReturn(
 					expectedUrl);
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID,
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID,
 					validAthleteRequest());
 
 			assertNotNull(response.getBody());
@@ -312,15 +272,15 @@ class InviteServiceTest {
 			TeamInviteRequestDto req = new TeamInviteRequestDto(COACH_ID, "john@example.com", "COACH");
 			String expectedUrl = "https://hydra.app/teams/invite?token=xxx";
 
-			mockCoachAuth();
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
-			when(userRepository.findByEmailOrUsername(anyString(), anyString())).thenReturn(
+			when(membershipIndex.canManage(TEAM_ID, COACH_ID)).thenReturn(true);
+			when(userRepository.findByLogin(anyString())).thenReturn(
 					Optional.of(athleteEntity()));
 			when(jwtService.generateTeamInviteUrl(TEAM_ID, ATHLETE_ID, COACH_ID, TeamRole.COACH)).thenReturn(
 					expectedUrl);
 
-			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(AUTH, TEAM_ID, req);
+			ResponseEntity<ResponseDto> response = inviteService.createInviteToken(COACH_ID, TEAM_ID, req);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		}
@@ -332,7 +292,7 @@ class InviteServiceTest {
 
 		@Test
 		void whenTokenIsNull_returnsBadRequest() {
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, null);
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(ATHLETE_ID, null);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -341,7 +301,7 @@ class InviteServiceTest {
 
 		@Test
 		void whenTokenIsEmpty_returnsBadRequest() {
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, "");
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(ATHLETE_ID, "");
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -352,7 +312,7 @@ class InviteServiceTest {
 		void whenInviteDataIsNull_returnsBadRequest() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(null);
 
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -364,7 +324,7 @@ class InviteServiceTest {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(
 					new InviteTokenDto("", ATHLETE_ID, COACH_ID, "ATHLETE"));
 
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -377,11 +337,8 @@ class InviteServiceTest {
 			InviteTokenDto invite = new InviteTokenDto(TEAM_ID, "invite-user-id", COACH_ID, "ATHLETE");
 
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(invite);
-			when(jwtService.extractTokenFromHeader(AUTH)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(
-					new UserDto("logged-user-id", TOKEN, "x", "X", "x@x.com", null));
 
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken("logged-user-id", INVITE_TOKEN);
 
 			assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
@@ -392,9 +349,8 @@ class InviteServiceTest {
 		void whenRoleIsInvalid_returnsBadRequest() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(
 					new InviteTokenDto(TEAM_ID, ATHLETE_ID, COACH_ID, "INVALID"));
-			mockAthleteAuth();
 
-			assertThatThrownBy(() -> inviteService.acceptInviteToken(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN)).isInstanceOf(
 					InvalidRoleException.class).hasMessageContaining("Função inválida no convite!");
 		}
 
@@ -402,9 +358,8 @@ class InviteServiceTest {
 		void whenRoleIsOwner_returnsForbidden() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(
 					new InviteTokenDto(TEAM_ID, ATHLETE_ID, COACH_ID, "OWNER"));
-			mockAthleteAuth();
 
-			assertThatThrownBy(() -> inviteService.acceptInviteToken(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN)).isInstanceOf(
 					OwnerInviteNotAllowedException.class).hasMessageContaining("Não é possível usar OWNER via token!");
 		}
 
@@ -421,10 +376,9 @@ class InviteServiceTest {
 			existing.setRole(TeamRole.ATHLETE);
 
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
-			mockAthleteAuth();
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.of(existing));
 
-			assertThatThrownBy(() -> inviteService.acceptInviteToken(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN)).isInstanceOf(
 					UserAlreadyInTeamException.class).hasMessageContaining(
 					"Usuário já faz parte da equipe Hydra FC como Atleta!");
 		}
@@ -432,49 +386,45 @@ class InviteServiceTest {
 		@Test
 		void whenTeamNotFound_throwsEntityNotFoundException() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
-			mockAthleteAuth();
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> inviteService.acceptInviteToken(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Time não encontrado!");
 		}
 
 		@Test
 		void whenUserNotFound_throwsEntityNotFoundException() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
-			mockAthleteAuth();
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> inviteService.acceptInviteToken(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Usuário não encontrado!");
 		}
 
 		@Test
 		void whenInviterNotFound_throwsEntityNotFoundException() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
-			mockAthleteAuth();
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.of(athleteEntity()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> inviteService.acceptInviteToken(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Quem convidou não foi encontrado");
 		}
 
 		@Test
 		void whenValid_asAthlete_savesAndReturnsAthleteMessage() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
-			mockAthleteAuth();
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.of(athleteEntity()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
 
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN);
 
 			assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -487,19 +437,33 @@ class InviteServiceTest {
 		void whenValid_asCoach_returnsCoachMessage() {
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(
 					new InviteTokenDto(TEAM_ID, ATHLETE_ID, COACH_ID, "COACH"));
-			mockAthleteAuth();
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.of(athleteEntity()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
 
-			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 			assertNotNull(response.getBody());
 			assertThat(response.getBody().getMessage()).contains("treinador(a)");
 		}
 
+		@Test
+		void whenValid_bumpsInvitedUserMembershipVersion() {
+			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
+			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
+			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.of(athleteEntity()));
+			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
+
+			inviteService.acceptInviteToken(ATHLETE_ID, INVITE_TOKEN);
+
+			verify(membershipVersions).bump(ATHLETE_ID);
+			verify(membershipIndex).memberAdded(TEAM_ID, ATHLETE_ID, TeamRole.ATHLETE);
+			verify(teamVersions).bump(TEAM_ID);
+		}
+
 	}
 
 	@Nested
@@ -507,7 +471,7 @@ class InviteServiceTest {
 
 		@Test
 		void whenTokenIsNull_returnsBadRequest() throws IOException {
-			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(AUTH, null);
+			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(COACH_ID, null);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -516,7 +480,7 @@ class InviteServiceTest {
 
 		@Test
 		void whenTokenIsEmpty_returnsBadRequest() throws IOException {
-			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(AUTH, "");
+			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(COACH_ID, "");
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertNotNull(response.getBody());
@@ -525,11 +489,9 @@ class InviteServiceTest {
 
 		@Test
 		void whenSenderDoesNotMatchInvitedBy_returnsUnauthorized() throws IOException {
-			when(jwtService.extractTokenFromHeader(AUTH)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(new UserDto("other", TOKEN, "x", "X", "x@x.com", null));
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 
-			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail("other", INVITE_TOKEN);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
 			assertNotNull(response.getBody());
@@ -538,41 +500,33 @@ class InviteServiceTest {
 
 		@Test
 		void whenUserIdIsNull_shouldReturnUnauthorized() throws Exception {
-			String authorization = "Bearer token";
 			String inviteToken = "inviteToken";
 
-			when(jwtService.extractTokenFromHeader(authorization)).thenReturn("token");
-
-			// user com id null
-			UserDto userDto = new UserDto(null, null, "username", "Name", "email@email.com", "password");
-
 			InviteTokenDto inviteDto = new InviteTokenDto("teamId", "userId", "ATHLETE", "inviterId");
 
-			when(jwtService.parseTokenToUser("token")).thenReturn(userDto);
 			when(jwtService.parseInviteToken(inviteToken)).thenReturn(inviteDto);
 
-			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(authorization, inviteToken);
+			// usuário autenticado sem id
+			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(null, inviteToken);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
 		}
 
 		@Test
 		void whenRoleIsInvalid_returnsBadRequest() {
-			mockCoachAuth();
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(
 					new InviteTokenDto(TEAM_ID, ATHLETE_ID, COACH_ID, "INVALID"));
 
-			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN)).isInstanceOf(
 					InvalidRoleException.class).hasMessageContaining("Função inválida no convite!");
 		}
 
 		@Test
 		void whenRoleIsOwner_returnsForbidden() {
-			mockCoachAuth();
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(
 					new InviteTokenDto(TEAM_ID, ATHLETE_ID, COACH_ID, "OWNER"));
 
-			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN)).isInstanceOf(
 					OwnerInviteNotAllowedException.class).hasMessageContaining("Não é possível usar OWNER via token!");
 		}
 
@@ -588,24 +542,22 @@ class InviteServiceTest {
 			existing.setUser(athleteEntity());
 			existing.setRole(TeamRole.ATHLETE);
 
-			mockCoachAuth();
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.of(existing));
 
-			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN)).isInstanceOf(
 					UserAlreadyInTeamException.class).hasMessageContaining(
 					"Usuário já faz parte da equipe Hydra FC como Atleta!");
 		}
 
 		@Test
 		void whenInvitedUserNotFound_throwsEntityNotFoundException() {
-			mockCoachAuth();
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Usuário não encontrado!");
 		}
 
@@ -614,15 +566,13 @@ class InviteServiceTest {
 			UserEntity noEmail = athleteEntity();
 			noEmail.setEmail(null);
 
-			mockCoachAuth();
-
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.of(noEmail));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
 
-			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN);
 
 			assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
@@ -631,26 +581,23 @@ class InviteServiceTest {
 
 		@Test
 		void whenTeamNotFound_throwsEntityNotFoundException() {
-			mockCoachAuth();
-
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Time não encontrado");
 		}
 
 		@Test
 		void whenInviterNotFound_throwsEntityNotFoundException() {
-			mockCoachAuth();
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
 			when(userRepository.findById(ATHLETE_ID)).thenReturn(Optional.of(athleteEntity()));
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity())).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN)).isInstanceOf(
+			assertThatThrownBy(() -> inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Quem convidou não foi encontrado");
 		}
 
@@ -658,7 +605,6 @@ class InviteServiceTest {
 		void whenValid_sendsEmailAndReturnsOk() throws IOException {
 			String inviteUrl = "https://hydra.app/teams/invite?token=" + INVITE_TOKEN;
 
-			mockCoachAuth();
 			when(jwtService.parseInviteToken(INVITE_TOKEN)).thenReturn(inviteTokenDto());
 			when(jwtService.generateTeamInviteUrl(INVITE_TOKEN)).thenReturn(inviteUrl);
 			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, ATHLETE_ID)).thenReturn(Optional.empty());
@@ -666,7 +612,7 @@ class InviteServiceTest {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamWithCoach()));
 			when(userRepository.findById(COACH_ID)).thenReturn(Optional.of(coachEntity()));
 
-			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(AUTH, INVITE_TOKEN);
+			ResponseEntity<ResponseDto> response = inviteService.sendInviteTokenByEmail(COACH_ID, INVITE_TOKEN);
 
 			assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -5,18 +5,20 @@ import com.hydra.core.entity.TeamEntity;
 import com.hydra.core.entity.TeamMemberEntity;
 import com.hydra.core.entity.UserEntity;
 import com.hydra.core.enums.TeamRole;
-import com.hydra.core.exceptions.UnauthorizedException;
 import com.hydra.core.repository.TeamMemberRepository;
 import com.hydra.core.repository.TeamRepository;
 import com.hydra.core.repository.UserRepository;
-import com.hydra.core.security.JwtService;
+import com.hydra.core.security.MembershipVersions;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import com.hydra.core.security.TeamMembershipIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,8 +36,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TeamServiceTest {
 
-	private static final String AUTH_HEADER = "Bearer valid-token";
-	private static final String TOKEN = "valid-token";
 	private static final String USER_ID = "user-1";
 	private static final String TEAM_ID = "team-1";
 	@Mock
@@ -44,11 +45,17 @@ class TeamServiceTest {
 	@Mock
 	private TeamMemberRepository teamMemberRepository;
 	@Mock
-	private JwtService jwtService;
-	@InjectMocks
+	private MembershipVersions membershipVersions;
+	@Mock
+	private TeamMembershipIndex membershipIndex;
+	@Mock
+	private TeamVersions teamVersions;
 	private TeamService teamService;
-	private UserDto userDto() {
-		return new UserDto(USER_ID, TOKEN, "john", "John Doe", "john@example.com", null);
+
+	@BeforeEach
+	void setUp() {
+		teamService = new TeamService(userRepository, teamRepository, teamMemberRepository, membershipVersions,
+				membershipIndex, teamVersions, new TeamAuthorization(teamMemberRepository));
 	}
 
 	private UserEntity userEntity() {
@@ -85,6 +92,14 @@ class TeamServiceTest {
 		return m;
 	}
 
+	private TeamAccess accessAs(TeamRole role) {
+		return new TeamAccess(USER_ID, Map.of(TEAM_ID, role), 0);
+	}
+
+	private TeamAccess noAccess() {
+		return new TeamAccess(USER_ID, Map.of(), 0);
+	}
+
 	private CreateTeamDto validCreateDto() {
 		return new CreateTeamDto("Hydra FC", "Best team", "São Paulo", "SP", "#FF0000", "https://img.url/logo.png");
 	}
@@ -96,19 +111,19 @@ class TeamServiceTest {
 		void whenRequiredFieldsAreMissing_returnsBadRequest() {
 			CreateTeamDto dto = new CreateTeamDto("", "desc", "city", "SP", "#000", null);
 
-			ResponseEntity<ResponseDto> response = teamService.createTeam(AUTH_HEADER, dto);
+			ResponseEntity<ResponseDto> response = teamService.createTeam(USER_ID, dto);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
 			assertThat(response.getBody().getMessage()).isEqualTo("Preencha os campos obrigatórios corretamente!");
-			verifyNoInteractions(jwtService, userRepository, teamRepository, teamMemberRepository);
+			verifyNoInteractions(userRepository, teamRepository, teamMemberRepository);
 		}
 
 		@Test
 		void whenImageUrlIsInvalid_returnsBadRequest() {
 			CreateTeamDto dto = new CreateTeamDto("Hydra FC", "desc", "São Paulo", "SP", "#000", "not-a-url");
 
-			ResponseEntity<ResponseDto> response = teamService.createTeam(AUTH_HEADER, dto);
+			ResponseEntity<ResponseDto> response = teamService.createTeam(USER_ID, dto);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
@@ -118,47 +133,29 @@ class TeamServiceTest {
 		@Test
 		void whenImageUrlIsNull_imageValidationIsSkipped() {
 			CreateTeamDto dto = new CreateTeamDto("Hydra FC", "desc", "São Paulo", "SP", "#000", null);
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
 
-			ResponseEntity<ResponseDto> response = teamService.createTeam(AUTH_HEADER, dto);
+			ResponseEntity<ResponseDto> response = teamService.createTeam(USER_ID, dto);
 
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		}
 
-		@Test
-		void whenAuthorizationIsInvalid_returnsUnauthorized() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenThrow(
-					new UnauthorizedException("Token ausente ou inválido"));
-
-			ResponseEntity<ResponseDto> response = teamService.createTeam(AUTH_HEADER, validCreateDto());
-
-			Assertions.assertNotNull(response.getBody());
-			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
-			assertThat(response.getBody().getMessage()).isEqualTo("Token ausente ou inválido");
-		}
-
 		@Test
 		void whenUserNotFound_throwsEntityNotFoundException() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
 
 			CreateTeamDto dto = validCreateDto();
 
-			assertThatThrownBy(() -> teamService.createTeam(AUTH_HEADER, dto)).isInstanceOf(
+			assertThatThrownBy(() -> teamService.createTeam(USER_ID, dto)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Usuário não encontrado!");
 		}
 
 		@Test
 		void whenValid_savesTeamAndOwnerMember() {
 			UserEntity user = userEntity();
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
 
-			teamService.createTeam(AUTH_HEADER, validCreateDto());
+			teamService.createTeam(USER_ID, validCreateDto());
 
 			verify(teamRepository).save(any(TeamEntity.class));
 			verify(teamMemberRepository).save(any(TeamMemberEntity.class));
@@ -167,11 +164,9 @@ class TeamServiceTest {
 		@Test
 		void whenValid_ownerMemberHasCorrectRole() {
 			UserEntity user = userEntity();
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
 
-			teamService.createTeam(AUTH_HEADER, validCreateDto());
+			teamService.createTeam(USER_ID, validCreateDto());
 
 			ArgumentCaptor<TeamMemberEntity> captor = ArgumentCaptor.forClass(TeamMemberEntity.class);
 			verify(teamMemberRepository).save(captor.capture());
@@ -183,11 +178,9 @@ class TeamServiceTest {
 		@Test
 		void whenValid_setsAllTeamFields() {
 			UserEntity user = userEntity();
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
 
-			teamService.createTeam(AUTH_HEADER, validCreateDto());
+			teamService.createTeam(USER_ID, validCreateDto());
 
 			ArgumentCaptor<TeamEntity> captor = ArgumentCaptor.forClass(TeamEntity.class);
 			verify(teamRepository).save(captor.capture());
@@ -203,11 +196,9 @@ class TeamServiceTest {
 
 		@Test
 		void whenValid_returnsOkWithSuccessTrueAndTeamName() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
 
-			ResponseEntity<ResponseDto> response = teamService.createTeam(AUTH_HEADER, validCreateDto());
+			ResponseEntity<ResponseDto> response = teamService.createTeam(USER_ID, validCreateDto());
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -215,6 +206,39 @@ class TeamServiceTest {
 			assertThat(response.getBody().getMessage()).contains("Hydra FC");
 		}
 
+		@Test
+		void whenValid_bumpsCreatorMembershipVersion() {
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
+
+			teamService.createTeam(USER_ID, validCreateDto());
+
+			verify(membershipVersions).bump(USER_ID);
+		}
+
+		@Test
+		void whenValid_registersOwnerInMembershipIndex() {
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
+			when(teamRepository.save(any(TeamEntity.class))).thenAnswer(invocation -> {
+				TeamEntity team = invocation.getArgument(0);
+				team.setId(TEAM_ID);
+				return team;
+			});
+
+			teamService.createTeam(USER_ID, validCreateDto());
+
+			verify(membershipIndex).teamCreated(TEAM_ID, USER_ID);
+			verify(teamVersions).bump(TEAM_ID);
+		}
+
+		@Test
+		void whenInvalid_doesNotBumpMembershipVersion() {
+			CreateTeamDto dto = new CreateTeamDto("", "Best team", "São Paulo", "SP", "#FF0000", null);
+
+			teamService.createTeam(USER_ID, dto);
+
+			verifyNoInteractions(membershipVersions, membershipIndex, teamVersions);
+		}
+
 	}
 
 	@Nested
@@ -222,26 +246,36 @@ class TeamServiceTest {
 
 		@Test
 		void whenTeamNotFound_throwsEntityNotFoundException() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> teamService.getTeamUsers(AUTH_HEADER, TEAM_ID)).isInstanceOf(
+			var access = accessAs(TeamRole.ATHLETE);
+			assertThatThrownBy(() -> teamService.getTeamUsers(access, TEAM_ID)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Time não encontrado!");
 		}
 
 		@Test
 		void whenUserIsNotMember_returnsForbidden() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.empty());
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(noAccess(), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
 			assertThat(response.getBody().getMessage()).contains("permissão");
+			verify(teamMemberRepository, never()).findAllByTeamOrderedByRole(any());
+		}
+
+		@Test
+		void whenMembershipIsNewerThanToken_confirmsWithDatabase() {
+			TeamEntity team = teamEntity();
+			TeamMemberEntity member = memberEntity(userEntity(), team, TeamRole.ATHLETE);
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
+			when(teamMemberRepository.existsByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(true);
+			when(teamMemberRepository.findAllByTeamOrderedByRole(TEAM_ID)).thenReturn(List.of(member));
+
+			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(noAccess(), TEAM_ID);
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		}
 
 		@Test
@@ -250,13 +284,10 @@ class TeamServiceTest {
 			TeamEntity team = teamEntity();
 			TeamMemberEntity member = memberEntity(user, team, TeamRole.OWNER);
 
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.of(member));
 			when(teamMemberRepository.findAllByTeamOrderedByRole(TEAM_ID)).thenReturn(List.of(member));
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(accessAs(member.getRole()), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -274,13 +305,10 @@ class TeamServiceTest {
 			TeamMemberEntity member = memberEntity(user, team, TeamRole.ATHLETE);
 			member.setInvitedBy(inviter);
 
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.of(member));
 			when(teamMemberRepository.findAllByTeamOrderedByRole(TEAM_ID)).thenReturn(List.of(member));
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(accessAs(member.getRole()), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			Object data = response.getBody().getData();
@@ -298,13 +326,10 @@ class TeamServiceTest {
 			TeamMemberEntity member = memberEntity(user, team, TeamRole.OWNER);
 			member.setInvitedBy(null);
 
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.of(member));
 			when(teamMemberRepository.findAllByTeamOrderedByRole(TEAM_ID)).thenReturn(List.of(member));
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamUsers(accessAs(member.getRole()), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			Object data = response.getBody().getData();
@@ -322,37 +347,20 @@ class TeamServiceTest {
 
 		@Test
 		void whenTeamNotFound_returnsNotFound() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(accessAs(TeamRole.OWNER), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
 			assertThat(response.getBody().getMessage()).isEqualTo("Time não encontrado!");
 		}
 
-		@Test
-		void whenUserNotFound_throwsEntityNotFoundException() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
-			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
-			when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
-
-			assertThatThrownBy(() -> teamService.getTeamDetails(AUTH_HEADER, TEAM_ID)).isInstanceOf(
-					EntityNotFoundException.class).hasMessageContaining("Usuário não encontrado!");
-		}
-
 		@Test
 		void whenUserIsNotMember_returnsForbidden() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
-			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findFirstByUserAndTeam(any(), any())).thenReturn(null);
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(noAccess(), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
@@ -361,17 +369,9 @@ class TeamServiceTest {
 
 		@Test
 		void whenValid_returnsOkWithTeamDetails() {
-			UserEntity user = userEntity();
-			TeamEntity team = teamEntity();
-			TeamMemberEntity member = memberEntity(user, team, TeamRole.OWNER);
-
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
-			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-			when(teamMemberRepository.findFirstByUserAndTeam(user, team)).thenReturn(member);
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 
-			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(AUTH_HEADER, TEAM_ID);
+			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(accessAs(TeamRole.OWNER), TEAM_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -385,6 +385,18 @@ class TeamServiceTest {
 			assertThat(details.color()).isEqualTo("#FF0000");
 			assertThat(details.imageUrl()).isEqualTo("https://img.url/logo.png");
 			assertThat(details.role()).isEqualTo(TeamRole.OWNER.getLabel());
+			verifyNoInteractions(userRepository, teamMemberRepository);
+		}
+
+		@Test
+		void whenUserIsCoach_returnsCoachLabelFromToken() {
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
+
+			ResponseEntity<ResponseDto> response = teamService.getTeamDetails(accessAs(TeamRole.COACH), TEAM_ID);
+
+			Assertions.assertNotNull(response.getBody());
+			TeamDetailsDto details = (TeamDetailsDto) response.getBody().getData();
+			assertThat(details.role()).isEqualTo(TeamRole.COACH.getLabel());
 		}
 
 	}
@@ -394,22 +406,18 @@ class TeamServiceTest {
 
 		@Test
 		void whenUserNotFound_throwsEntityNotFoundException() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> teamService.getMainTeamOfUser(AUTH_HEADER)).isInstanceOf(
+			assertThatThrownBy(() -> teamService.getMainTeamOfUser(USER_ID)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Usuário não encontrado!");
 		}
 
 		@Test
 		void whenUserHasNoTeam_returnsNotFound() {
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
 			when(teamMemberRepository.findFirstByUserOrderByJoinedAtAsc(any())).thenReturn(null);
 
-			ResponseEntity<ResponseDto> response = teamService.getMainTeamOfUser(AUTH_HEADER);
+			ResponseEntity<ResponseDto> response = teamService.getMainTeamOfUser(USER_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -422,12 +430,10 @@ class TeamServiceTest {
 			TeamEntity team = teamEntity();
 			TeamMemberEntity member = memberEntity(user, team, TeamRole.ATHLETE);
 
-			when(jwtService.extractTokenFromHeader(AUTH_HEADER)).thenReturn(TOKEN);
-			when(jwtService.parseTokenToUser(TOKEN)).thenReturn(userDto());
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
 			when(teamMemberRepository.findFirstByUserOrderByJoinedAtAsc(user)).thenReturn(member);
 
-			ResponseEntity<ResponseDto> response = teamService.getMainTeamOfUser(AUTH_HEADER);
+			ResponseEntity<ResponseDto> response = teamService.getMainTeamOfUser(USER_ID);
 
 			Assertions.assertNotNull(response.getBody());
 			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -0,0 +1,85 @@
+package com.hydra.core.service;
+
+import com.hydra.core.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamVersionsTest {
+
+	@Mock
+	private TeamRepository teamRepository;
+
+	@InjectMocks
+	private TeamVersions versions;
+
+	// Coluna teams.version, compartilhada por todos os nós
+	private final Map<String, Long> stored = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(teamRepository.findVersionById(anyString())).thenAnswer(
+				invocation -> Optional.ofNullable(stored.get(invocation.<String>getArgument(0))));
+		lenient().when(teamRepository.incrementVersion(anyString())).thenAnswer(invocation -> {
+			stored.merge(invocation.getArgument(0), 1L, Long::sum);
+			return 1;
+		});
+		stored.put("team-1", 0L);
+		stored.put("team-2", 0L);
+	}
+
+	@Test
+	void eTag_isStrongAndStable_untilTheTeamChanges() {
+		String eTag = versions.eTag("team-1");
+
+		assertThat(eTag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+		assertThat(versions.eTag("team-1")).isEqualTo(eTag);
+		assertThat(versions.eTag("team-1", "OWNER")).isNotEqualTo(versions.eTag("team-1", "ATHLETE"));
+	}
+
+	@Test
+	void bump_changesOnlyThatTeam() {
+		String team1 = versions.eTag("team-1");
+		String team2 = versions.eTag("team-2");
+
+		versions.bump("team-1");
+
+		assertThat(versions.eTag("team-1")).isNotEqualTo(team1);
+		assertThat(versions.eTag("team-2")).isEqualTo(team2);
+	}
+
+	@Test
+	void bumpOnAnotherNode_changesTheETagHere() {
+		String before = versions.eTag("team-1");
+
+		new TeamVersions(teamRepository).bump("team-1");
+
+		assertThat(versions.eTag("team-1")).isNotEqualTo(before);
+	}
+
+	@Test
+	void bump_writesThroughTheRepository() {
+		versions.bump("team-1");
+
+		verify(teamRepository).incrementVersion("team-1");
+		assertThat(versions.current("team-1")).isEqualTo(1);
+	}
+
+	@Test
+	void current_unknownTeam_isZero() {
+		assertThat(versions.current("nope")).isZero();
+	}
+
+}
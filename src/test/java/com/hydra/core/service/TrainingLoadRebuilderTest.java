@@ -0,0 +1,107 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.TrainingLoadRebuildDto;
+import com.hydra.core.repository.TeamRepository;
+import com.hydra.core.repository.TrainingLoadRepository;
+import com.hydra.core.repository.WorkoutRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingLoadRebuilderTest {
+
+	@Mock
+	private TeamRepository teamRepository;
+
+	@Mock
+	private WorkoutRepository workoutRepository;
+
+	@Mock
+	private TrainingLoadRepository trainingLoadRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private TrainingLoadRebuilder rebuilder;
+
+	@BeforeEach
+	void setUp() {
+		rebuilder = new TrainingLoadRebuilder(teamRepository, workoutRepository, trainingLoadRepository,
+				transactionManager, 3, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void rebuildAll_rebuildsEveryTeamInItsOwnTransaction() {
+		List<String> teams = List.of("t1", "t2", "t3", "t4", "t5");
+		when(teamRepository.findAllIds()).thenReturn(teams);
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> threads.add(Thread.currentThread().getName())).when(trainingLoadRepository)
+																			  .rebuildTeam(any());
+
+		TrainingLoadRebuildDto result = rebuilder.rebuildAll();
+
+		assertThat(result.teams()).isEqualTo(5);
+		assertThat(result.failedTeams()).isZero();
+		teams.forEach(team -> verify(trainingLoadRepository).rebuildTeam(team));
+		verify(transactionManager, times(5)).commit(any());
+		assertThat(threads).allMatch(name -> name.startsWith("training-load-rebuild-"));
+	}
+
+	@Test
+	void rebuildAll_countsFailedTeamsWithoutStoppingTheOthers() {
+		when(teamRepository.findAllIds()).thenReturn(List.of("t1", "t2", "t3"));
+		doThrow(new IllegalStateException("falhou")).when(trainingLoadRepository).rebuildTeam("t2");
+
+		TrainingLoadRebuildDto result = rebuilder.rebuildAll();
+
+		assertThat(result.teams()).isEqualTo(3);
+		assertThat(result.failedTeams()).isOne();
+		verify(trainingLoadRepository).rebuildTeam("t3");
+		verify(transactionManager).rollback(any());
+	}
+
+	@Test
+	void rebuildAll_whenAlreadyRunning_returnsNull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(teamRepository.findAllIds()).thenReturn(List.of("t1"));
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(trainingLoadRepository).rebuildTeam("t1");
+
+		Thread first = Thread.ofVirtual().start(rebuilder::rebuildAll);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(rebuilder.rebuildAll()).isNull();
+
+		release.countDown();
+		first.join();
+	}
+
+	@Test
+	void backfillIfEmpty_skipsWhenRollupsAlreadyExist() {
+		when(trainingLoadRepository.count()).thenReturn(10L);
+
+		rebuilder.backfillIfEmpty();
+
+		verifyNoInteractions(teamRepository, workoutRepository);
+	}
+
+}
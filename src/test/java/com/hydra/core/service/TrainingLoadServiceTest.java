@@ -0,0 +1,109 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.TrainingLoadDto;
+import com.hydra.core.entity.TeamWeeklyLoadEntity;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidDateRangeException;
+import com.hydra.core.exceptions.UnauthorizedException;
+import com.hydra.core.repository.TeamMemberRepository;
+import com.hydra.core.repository.TrainingLoadRepository;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingLoadServiceTest {
+
+	private static final String TEAM_ID = "team-1";
+	// Quinta-feira da semana 2025-W11 (segunda 10/03)
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 13);
+	private static final LocalDate THIS_MONDAY = LocalDate.of(2025, 3, 10);
+
+	@Mock
+	private TrainingLoadRepository trainingLoadRepository;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	private TrainingLoadService service;
+
+	private final TeamAccess athlete = new TeamAccess("user-1", Map.of(TEAM_ID, TeamRole.ATHLETE), 0);
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+		service = new TrainingLoadService(trainingLoadRepository, new TeamAuthorization(teamMemberRepository), clock);
+	}
+
+	private static TeamWeeklyLoadEntity load(LocalDate weekStart) {
+		TeamWeeklyLoadEntity load = new TeamWeeklyLoadEntity();
+		load.setTeamId(TEAM_ID);
+		load.setWeekStart(weekStart);
+		load.setModality(WorkoutModality.RUNNING);
+		load.setWorkouts(2);
+		load.setTonnageKg(BigDecimal.ZERO);
+		load.setDistanceMeters(12_000);
+		load.setDurationSeconds(3_600);
+		return load;
+	}
+
+	@Test
+	void withoutDates_returnsTheLastWeeksUpToTheCurrentOne() {
+		LocalDate firstWeek = THIS_MONDAY.minusWeeks(TrainingLoadService.DEFAULT_WEEKS - 1);
+		when(trainingLoadRepository.findTeamWeeks(TEAM_ID, firstWeek, THIS_MONDAY)).thenReturn(
+				List.of(load(THIS_MONDAY)));
+
+		TrainingLoadDto result = service.getTeamLoad(TEAM_ID, null, null, athlete);
+
+		assertThat(result.from()).isEqualTo(firstWeek);
+		assertThat(result.to()).isEqualTo(THIS_MONDAY);
+		assertThat(result.weeks()).singleElement().satisfies(week -> {
+			assertThat(week.week()).isEqualTo("2025-W11");
+			assertThat(week.distanceMeters()).isEqualTo(12_000);
+		});
+	}
+
+	@Test
+	void datesAreWidenedToWholeIsoWeeks() {
+		service.getTeamLoad(TEAM_ID, LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 5), athlete);
+
+		// 31/12/2024 já é da semana 2025-W01, que começa na segunda 30/12
+		verify(trainingLoadRepository).findTeamWeeks(TEAM_ID, LocalDate.of(2024, 12, 30), LocalDate.of(2024, 12, 30));
+	}
+
+	@Test
+	void whenRangeIsInvalid_throwsInvalidDateRangeException() {
+		assertThatThrownBy(() -> service.getTeamLoad(TEAM_ID, TODAY, TODAY.minusWeeks(1), athlete)).isInstanceOf(
+				InvalidDateRangeException.class);
+		assertThatThrownBy(() -> service.getTeamLoad(TEAM_ID, TODAY.minusWeeks(TrainingLoadService.MAX_WEEKS), TODAY,
+				athlete)).isInstanceOf(InvalidDateRangeException.class);
+		verifyNoInteractions(trainingLoadRepository);
+	}
+
+	@Test
+	void whenUserNotMember_throwsUnauthorizedException() {
+		TeamAccess outsider = new TeamAccess("user-2", Map.of(), 0);
+
+		assertThatThrownBy(() -> service.getTeamLoad(TEAM_ID, null, null, outsider)).isInstanceOf(
+				UnauthorizedException.class);
+		verify(trainingLoadRepository, never()).findTeamWeeks(any(), any(), any());
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.hydra.core.service;
+
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.RunningSegmentType;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.factory.TestDataFactory;
+import com.hydra.core.repository.WorkoutRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a gravação de um mesociclo treino a treino (save + flush por treino, como nos endpoints unitários) com a
+ * gravação em lotes do {@link WorkoutBulkWriter}, que aproveita os batches JDBC. Não faz parte da suíte (o nome não
+ * casa com o padrão do Surefire); rode com {@code mvn test -Dtest=WorkoutBulkBenchmark}.
+ */
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestDataFactory.class, WorkoutBulkWriter.class })
+class WorkoutBulkBenchmark {
+
+	private static final int WORKOUTS = 600;
+	private static final int CHUNK_SIZE = 50;
+
+	@Autowired
+	private WorkoutBulkWriter bulkWriter;
+
+	@Autowired
+	private WorkoutRepository workoutRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	@Test
+	void bulkWriterBeatsOneByOneInserts() {
+		UserEntity coach = entityManager.persist(factory.createUser());
+		TeamEntity team = entityManager.persist(factory.createTeam(coach));
+		ExerciseEntity squat = entityManager.persist(factory.createExercise());
+		entityManager.flush();
+		entityManager.clear();
+
+		// Aquecimento da JVM e do pool antes de medir
+		oneByOne(workouts(team, coach, squat, 60));
+		bulk(workouts(team, coach, squat, 60));
+
+		long oneByOne = oneByOne(workouts(team, coach, squat, WORKOUTS));
+		long bulk = bulk(workouts(team, coach, squat, WORKOUTS));
+
+		System.out.printf("""
+				%,d treinos (1/3 de cada modalidade, 4-5 filhos cada):
+				  save + flush por treino   %,8d ms  %,8.0f treinos/s
+				  WorkoutBulkWriter (%d)    %,8d ms  %,8.0f treinos/s
+				""", WORKOUTS, oneByOne, WORKOUTS * 1000.0 / oneByOne, CHUNK_SIZE, bulk, WORKOUTS * 1000.0 / bulk);
+
+		assertThat(bulk).isLessThan(oneByOne);
+	}
+
+	private long oneByOne(List<WorkoutEntity> workouts) {
+		long start = System.nanoTime();
+		for (WorkoutEntity workout : workouts) {
+			workoutRepository.save(workout);
+			entityManager.flush();
+			entityManager.clear();
+		}
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+
+	private long bulk(List<WorkoutEntity> workouts) {
+		long start = System.nanoTime();
+		for (int i = 0; i < workouts.size(); i += CHUNK_SIZE) {
+			bulkWriter.persistAll(workouts.subList(i, Math.min(i + CHUNK_SIZE, workouts.size())));
+		}
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+
+	private List<WorkoutEntity> workouts(TeamEntity team, UserEntity coach, ExerciseEntity squat, int count) {
+		List<WorkoutEntity> workouts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			WorkoutModality modality = WorkoutModality.values()[i % 3];
+			WorkoutEntity workout = factory.createWorkout(team, coach, modality, LocalDate.of(2025, 1, 1).plusDays(i));
+			workout.setTitle("Treino " + i);
+			workout.setDurationMinutes(60);
+
+			switch (modality) {
+				case WEIGHTLIFTING -> {
+					factory.addExercise(workout, squat, 2, 10, BigDecimal.valueOf(80));
+					factory.addExercise(workout, squat, 2, 10, BigDecimal.valueOf(80));
+				}
+				case RUNNING -> {
+					for (int s = 1; s <= 5; s++)
+						factory.addRunningSegment(workout, RunningSegmentType.INTERVAL, 400);
+				}
+				case SWIMMING -> {
+					for (int s = 1; s <= 5; s++)
+						factory.addSwimmingSet(workout, 100, 4);
+				}
+			}
+			workouts.add(workout);
+		}
+		return workouts;
+	}
+
+}
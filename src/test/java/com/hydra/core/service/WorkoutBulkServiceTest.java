@@ -0,0 +1,238 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydra.core.dtos.BulkWorkoutResultDto;
+import com.hydra.core.entity.ExerciseEntity;
+import com.hydra.core.entity.TeamEntity;
+import com.hydra.core.entity.UserEntity;
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidBulkPayloadException;
+import com.hydra.core.exceptions.UnauthorizedException;
+import com.hydra.core.repository.TeamMemberRepository;
+import com.hydra.core.repository.TeamRepository;
+import com.hydra.core.repository.UserRepository;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutBulkServiceTest {
+
+	private static final String TEAM_ID = "team-1";
+	private static final String USER_ID = "user-1";
+
+	@Mock
+	private TeamRepository teamRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private ExerciseCatalog exerciseCatalog;
+
+	@Mock
+	private WorkoutBulkWriter bulkWriter;
+
+	@Mock
+	private WorkoutCalendarCache calendarCache;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final List<List<WorkoutEntity>> writtenChunks = new ArrayList<>();
+
+	private WorkoutBulkService service(int chunkSize) {
+		return new WorkoutBulkService(teamRepository, userRepository, exerciseCatalog, bulkWriter, calendarCache,
+				new TeamAuthorization(teamMemberRepository), objectMapper, chunkSize);
+	}
+
+	private TeamAccess accessAs(TeamRole role) {
+		return new TeamAccess(USER_ID, Map.of(TEAM_ID, role), 0);
+	}
+
+	private static InputStream json(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String running(String title) {
+		return """
+				{"modality": "RUNNING", "title": "%s", "scheduledDate": "2025-03-10",
+				 "segments": [{"segmentType": "WARMUP", "durationSeconds": 600}, {"segmentType": "CONTINUOUS"}]}
+				""".formatted(title);
+	}
+
+	private static String weightlifting(String... exerciseIds) {
+		StringBuilder exercises = new StringBuilder();
+		for (String id : exerciseIds) {
+			if (!exercises.isEmpty())
+				exercises.append(',');
+			exercises.append("""
+					{"exerciseId": "%s", "sets": [{"setNumber": 1, "reps": 10}]}""".formatted(id));
+		}
+		return """
+				{"modality": "WEIGHTLIFTING", "title": "Força", "exercises": [%s]}""".formatted(exercises);
+	}
+
+	private void stubWriter() {
+		AtomicInteger ids = new AtomicInteger();
+		doAnswer(invocation -> {
+			List<WorkoutEntity> workouts = invocation.getArgument(0);
+			workouts.forEach(w -> w.setId("w" + ids.incrementAndGet()));
+			writtenChunks.add(List.copyOf(workouts));
+			return null;
+		}).when(bulkWriter).persistAll(any());
+	}
+
+	@Nested
+	class Authorization {
+
+		@Test
+		void whenAthlete_throwsUnauthorizedWithoutReadingBody() {
+			var service = service(50);
+			var access = accessAs(TeamRole.ATHLETE);
+			var body = json("[" + running("A") + "]");
+
+			assertThatThrownBy(() -> service.createWorkouts(TEAM_ID, body, access)).isInstanceOf(
+					UnauthorizedException.class);
+			verifyNoInteractions(teamRepository, bulkWriter);
+		}
+
+	}
+
+	@Nested
+	class WithTeam {
+
+		@BeforeEach
+		void setUp() {
+			TeamEntity team = new TeamEntity();
+			team.setId(TEAM_ID);
+			UserEntity user = new UserEntity();
+			user.setId(USER_ID);
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+		}
+
+		@Test
+		void whenBodyIsNotArray_throwsInvalidPayload() {
+			var service = service(50);
+			var access = accessAs(TeamRole.COACH);
+			var body = json(running("A"));
+
+			assertThatThrownBy(() -> service.createWorkouts(TEAM_ID, body, access)).isInstanceOf(
+					InvalidBulkPayloadException.class);
+		}
+
+		@Test
+		void writesValidItemsInChunksAndLooksUpTeamOnce() throws Exception {
+			stubWriter();
+			String body = "[" + running("A") + "," + running("B") + "," + running("C") + "]";
+
+			List<BulkWorkoutResultDto> results = service(2).createWorkouts(TEAM_ID, json(body),
+					accessAs(TeamRole.COACH));
+
+			assertThat(results).extracting(BulkWorkoutResultDto::index, BulkWorkoutResultDto::workoutId)
+							   .containsExactly(tuple(0, "w1"), tuple(1, "w2"), tuple(2, "w3"));
+			assertThat(writtenChunks).extracting(List::size).containsExactly(2, 1);
+
+			WorkoutEntity first = writtenChunks.getFirst().getFirst();
+			assertThat(first.getModality()).isEqualTo(WorkoutModality.RUNNING);
+			assertThat(first.getTeam().getId()).isEqualTo(TEAM_ID);
+			assertThat(first.getCreatedBy().getId()).isEqualTo(USER_ID);
+			assertThat(first.getRunningSegments()).extracting("orderIndex").containsExactly(1, 2);
+
+			verify(teamRepository, times(1)).findById(TEAM_ID);
+			verify(calendarCache, times(3)).workoutChanged(TEAM_ID, LocalDate.of(2025, 3, 10));
+		}
+
+		@Test
+		void reportsInvalidItemsWithoutStoppingTheOthers() throws Exception {
+			stubWriter();
+			String body = "[" + running("A") + ", {\"modality\": \"YOGA\", \"title\": \"X\"}, " + running("") + ", "
+					+ "{\"modality\": \"RUNNING\", \"title\": \"Y\", \"teamId\": \"outro\"}, 42, " + running("B") + "]";
+
+			List<BulkWorkoutResultDto> results = service(50).createWorkouts(TEAM_ID, json(body),
+					accessAs(TeamRole.OWNER));
+
+			assertThat(results).extracting(BulkWorkoutResultDto::index, BulkWorkoutResultDto::success)
+							   .containsExactly(tuple(0, true), tuple(1, false), tuple(2, false), tuple(3, false),
+									   tuple(4, false), tuple(5, true));
+			assertThat(results.get(1).error()).isEqualTo("Modalidade inválida");
+			assertThat(results.get(2).error()).isEqualTo("O título é obrigatório");
+			assertThat(results.get(3).error()).isEqualTo("O treino pertence a outro time");
+			assertThat(writtenChunks).hasSize(1);
+			assertThat(writtenChunks.getFirst()).hasSize(2);
+		}
+
+		@Test
+		void looksUpExercisesOncePerChunkAndRejectsUnknownOnes() throws Exception {
+			stubWriter();
+			ExerciseEntity squat = new ExerciseEntity();
+			squat.setId("squat");
+			when(exerciseCatalog.findAllById(any())).thenReturn(Map.of("squat", squat));
+			String body = "[" + weightlifting("squat") + "," + weightlifting("squat", "zzz", "aaa") + "]";
+
+			List<BulkWorkoutResultDto> results = service(50).createWorkouts(TEAM_ID, json(body),
+					accessAs(TeamRole.COACH));
+
+			assertThat(results.get(0).success()).isTrue();
+			assertThat(results.get(1).error()).isEqualTo("Exercício não encontrado: aaa, zzz");
+			verify(exerciseCatalog, times(1)).findAllById(any());
+
+			WorkoutEntity saved = writtenChunks.getFirst().getFirst();
+			assertThat(saved.getExercises()).hasSize(1);
+			assertThat(saved.getExercises().getFirst().getExercise()).isSameAs(squat);
+			assertThat(saved.getExercises().getFirst().getSets()).hasSize(1);
+		}
+
+		@Test
+		void whenChunkFailsToSave_marksItsItemsAsFailed() throws Exception {
+			doThrow(new IllegalStateException("falhou")).when(bulkWriter).persistAll(any());
+			String body = "[" + running("A") + "," + running("B") + "]";
+
+			List<BulkWorkoutResultDto> results = service(50).createWorkouts(TEAM_ID, json(body),
+					accessAs(TeamRole.COACH));
+
+			assertThat(results).extracting(BulkWorkoutResultDto::success).containsExactly(false, false);
+			verifyNoInteractions(calendarCache);
+		}
+
+		@Test
+		void whenJsonBreaksMidway_keepsWrittenChunksAndReportsWhereItStopped() throws Exception {
+			stubWriter();
+			String body = "[" + running("A") + "," + running("B") + ", {\"modality\": ";
+
+			List<BulkWorkoutResultDto> results = service(1).createWorkouts(TEAM_ID, json(body),
+					accessAs(TeamRole.COACH));
+
+			assertThat(results).extracting(BulkWorkoutResultDto::index, BulkWorkoutResultDto::success)
+							   .containsExactly(tuple(0, true), tuple(1, true), tuple(2, false));
+		}
+
+	}
+
+}
@@ -0,0 +1,181 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.WorkoutCalendarDayDto;
+import com.hydra.core.dtos.WorkoutCalendarDto;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.repository.WorkoutRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutCalendarCacheTest {
+
+	private static final String TEAM_ID = "team-1";
+	private static final YearMonth MARCH = YearMonth.of(2025, 3);
+	private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+	@Mock
+	private WorkoutRepository workoutRepository;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private WorkoutCalendarCache cache(Clock clock, int maxEntries) {
+		return new WorkoutCalendarCache(workoutRepository, clock, maxEntries, Duration.ofMinutes(5), meterRegistry);
+	}
+
+	private WorkoutCalendarCache cache() {
+		return cache(Clock.fixed(NOW, ZoneOffset.UTC), 100);
+	}
+
+	private WorkoutRepository.CalendarDayView row(int day, WorkoutModality modality, long count, long duration) {
+		LocalDate date = MARCH.atDay(day);
+		return new WorkoutRepository.CalendarDayView() {
+
+			@Override
+			public LocalDate getScheduledDate() {
+				return date;
+			}
+
+			@Override
+			public WorkoutModality getModality() {
+				return modality;
+			}
+
+			@Override
+			public long getWorkoutCount() {
+				return count;
+			}
+
+			@Override
+			public long getTotalDurationMinutes() {
+				return duration;
+			}
+		};
+	}
+
+	private void stubMarch(WorkoutRepository.CalendarDayView... rows) {
+		when(workoutRepository.findCalendarDays(TEAM_ID, MARCH.atDay(1), MARCH.atEndOfMonth())).thenReturn(
+				List.of(rows));
+	}
+
+	@Test
+	void get_groupsRowsByDay() {
+		stubMarch(row(2, WorkoutModality.RUNNING, 2, 90), row(2, WorkoutModality.SWIMMING, 1, 45),
+				row(5, WorkoutModality.WEIGHTLIFTING, 1, 60));
+
+		WorkoutCalendarDto calendar = cache().get(TEAM_ID, MARCH);
+
+		assertThat(calendar.month()).isEqualTo(MARCH);
+		assertThat(calendar.days()).containsExactly(
+				new WorkoutCalendarDayDto(MARCH.atDay(2),
+						Map.of(WorkoutModality.RUNNING, 2L, WorkoutModality.SWIMMING, 1L), 135),
+				new WorkoutCalendarDayDto(MARCH.atDay(5), Map.of(WorkoutModality.WEIGHTLIFTING, 1L), 60));
+	}
+
+	@Test
+	void get_answersRepeatedMonthFromMemory() {
+		stubMarch(row(2, WorkoutModality.RUNNING, 1, 30));
+		WorkoutCalendarCache cache = cache();
+
+		WorkoutCalendarDto first = cache.get(TEAM_ID, MARCH);
+		WorkoutCalendarDto second = cache.get(TEAM_ID, MARCH);
+
+		assertThat(second).isSameAs(first);
+		verify(workoutRepository, times(1)).findCalendarDays(any(), any(), any());
+		assertThat(meterRegistry.get("workouts.calendar_cache.lookups").tag("result", "hit").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void workoutChanged_invalidatesOnlyThatMonth() {
+		stubMarch(row(2, WorkoutModality.RUNNING, 1, 30));
+		YearMonth april = MARCH.plusMonths(1);
+		when(workoutRepository.findCalendarDays(TEAM_ID, april.atDay(1), april.atEndOfMonth())).thenReturn(List.of());
+		WorkoutCalendarCache cache = cache();
+		cache.get(TEAM_ID, MARCH);
+		cache.get(TEAM_ID, april);
+
+		cache.workoutChanged(TEAM_ID, MARCH.atDay(20));
+		cache.get(TEAM_ID, MARCH);
+		cache.get(TEAM_ID, april);
+
+		verify(workoutRepository, times(2)).findCalendarDays(TEAM_ID, MARCH.atDay(1), MARCH.atEndOfMonth());
+		verify(workoutRepository, times(1)).findCalendarDays(TEAM_ID, april.atDay(1), april.atEndOfMonth());
+	}
+
+	@Test
+	void workoutChanged_ignoresUnscheduledWorkouts() {
+		stubMarch();
+		WorkoutCalendarCache cache = cache();
+		cache.get(TEAM_ID, MARCH);
+
+		cache.workoutChanged(TEAM_ID, null);
+
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void get_reloadsAfterTtl() {
+		stubMarch();
+		MutableClock clock = new MutableClock(NOW);
+		WorkoutCalendarCache cache = cache(clock, 100);
+
+		cache.get(TEAM_ID, MARCH);
+		clock.advance(Duration.ofMinutes(5));
+		cache.get(TEAM_ID, MARCH);
+
+		verify(workoutRepository, times(2)).findCalendarDays(any(), any(), any());
+	}
+
+	@Test
+	void get_keepsSizeBounded() {
+		when(workoutRepository.findCalendarDays(any(), any(), any())).thenReturn(List.of());
+		WorkoutCalendarCache cache = cache(Clock.fixed(NOW, ZoneOffset.UTC), 3);
+
+		for (int i = 0; i < 10; i++) {
+			cache.get("team-" + i, MARCH);
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(3);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+	}
+
+}
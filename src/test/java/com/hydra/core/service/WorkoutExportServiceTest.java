@@ -0,0 +1,222 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydra.core.entity.UserEntity;
+import com.hydra.core.entity.WorkoutEntity;
+import com.hydra.core.enums.TeamRole;
+import com.hydra.core.enums.WorkoutExportFormat;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidDateRangeException;
+import com.hydra.core.exceptions.UnauthorizedException;
+import com.hydra.core.exceptions.WorkoutExportBusyException;
+import com.hydra.core.mappers.WorkoutMapper;
+import com.hydra.core.models.WorkoutQuery;
+import com.hydra.core.repository.TeamMemberRepository;
+import com.hydra.core.repository.WorkoutRepository;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutExportServiceTest {
+
+	private static final String TEAM_ID = "team-1";
+	private static final int FETCH_SIZE = 2;
+	private static final int MAX_CONCURRENT = 2;
+	private static final long RETRY_AFTER_SECONDS = 30;
+
+	@Mock
+	private WorkoutRepository workoutRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final TeamAccess athlete = new TeamAccess("user-1", Map.of(TEAM_ID, TeamRole.ATHLETE), 0);
+	private final WorkoutQuery query = new WorkoutQuery(TEAM_ID, null, null, null, null, null, null, 0);
+
+	private WorkoutExportService exportService;
+
+	@BeforeEach
+	void setUp() {
+		exportService = new WorkoutExportService(workoutRepository, new WorkoutMapper(), entityManager,
+				new TeamAuthorization(teamMemberRepository), transactionManager, objectMapper, FETCH_SIZE,
+				MAX_CONCURRENT, RETRY_AFTER_SECONDS, meterRegistry);
+	}
+
+	private static WorkoutEntity workout(int i, String title) {
+		UserEntity coach = new UserEntity();
+		coach.setId("coach-1");
+		coach.setName("Ana");
+		return WorkoutEntity.builder().id("w" + i).title(title).modality(WorkoutModality.WEIGHTLIFTING)
+							.scheduledDate(LocalDate.of(2025, 3, 10)).createdBy(coach).itemCount(2).totalSets(6)
+							.totalTonnageKg(new BigDecimal("1500.00")).build();
+	}
+
+	private String export(WorkoutExportFormat format) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportTeamWorkouts(query, format, athlete).writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Nested
+	class Validation {
+
+		@Test
+		void whenNotMember_throwsBeforeStreaming() {
+			TeamAccess outsider = new TeamAccess("user-2", Map.of(), 0);
+
+			assertThatThrownBy(() -> exportService.exportTeamWorkouts(query, WorkoutExportFormat.CSV,
+					outsider)).isInstanceOf(UnauthorizedException.class);
+			verifyNoInteractions(workoutRepository, transactionManager);
+		}
+
+		@Test
+		void whenFromIsAfterTo_throwsBeforeStreaming() {
+			WorkoutQuery inverted = new WorkoutQuery(TEAM_ID, null, null, null, LocalDate.of(2025, 3, 10),
+					LocalDate.of(2025, 3, 1), null, 0);
+
+			assertThatThrownBy(() -> exportService.exportTeamWorkouts(inverted, WorkoutExportFormat.NDJSON,
+					athlete)).isInstanceOf(InvalidDateRangeException.class);
+			verifyNoInteractions(workoutRepository, transactionManager);
+		}
+
+	}
+
+	@Nested
+	class Streaming {
+
+		@Test
+		void ndjson_writesOneObjectPerLine() throws IOException {
+			when(workoutRepository.streamTeamWorkouts(query, FETCH_SIZE)).thenReturn(
+					Stream.of(workout(1, "Treino A"), workout(2, "Treino B")));
+
+			List<String> lines = export(WorkoutExportFormat.NDJSON).lines().toList();
+
+			assertThat(lines).hasSize(2);
+			JsonNode first = objectMapper.readTree(lines.getFirst());
+			assertThat(first.get("id").asText()).isEqualTo("w1");
+			assertThat(first.get("scheduledDate").asText()).isEqualTo("2025-03-10");
+			assertThat(first.get("createdByName").asText()).isEqualTo("Ana");
+			assertThat(first.get("metrics").get("totalSets").asInt()).isEqualTo(6);
+			assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("Treino B");
+		}
+
+		@Test
+		void csv_writesHeaderAndEscapesText() throws IOException {
+			when(workoutRepository.streamTeamWorkouts(query, FETCH_SIZE)).thenReturn(
+					Stream.of(workout(1, "Peito, \"pesado\""), workout(2, "=HYPERLINK(\"x\")")));
+
+			List<String> lines = export(WorkoutExportFormat.CSV).lines().toList();
+
+			assertThat(lines).hasSize(3);
+			assertThat(lines.getFirst()).isEqualTo(WorkoutExportService.CSV_HEADER);
+			assertThat(lines.get(1)).isEqualTo(
+					"w1,\"Peito, \"\"pesado\"\"\",,WEIGHTLIFTING,2025-03-10,,,,,coach-1,Ana,2,6,1500.00,0,0,,");
+			// Texto que seria lido como fórmula pela planilha
+			assertThat(lines.get(2)).startsWith("w2,\"'=HYPERLINK(\"\"x\"\")\",");
+		}
+
+		@Test
+		void clearsPersistenceContextEveryFetch_andClosesTheCursor() throws IOException {
+			AtomicBoolean closed = new AtomicBoolean();
+			Stream<WorkoutEntity> workouts = IntStream.rangeClosed(1, 5).mapToObj(i -> workout(i, "Treino " + i))
+													  .onClose(() -> closed.set(true));
+			when(workoutRepository.streamTeamWorkouts(query, FETCH_SIZE)).thenReturn(workouts);
+
+			export(WorkoutExportFormat.NDJSON);
+
+			verify(entityManager, times(2)).clear();
+			assertThat(closed).isTrue();
+			verify(transactionManager).getTransaction(any());
+		}
+
+		@Test
+		void emptyTeam_writesOnlyTheCsvHeader() throws IOException {
+			when(workoutRepository.streamTeamWorkouts(query, FETCH_SIZE)).thenAnswer(_ -> Stream.empty());
+
+			assertThat(export(WorkoutExportFormat.CSV)).isEqualTo(WorkoutExportService.CSV_HEADER + "\n");
+			assertThat(export(WorkoutExportFormat.NDJSON)).isEmpty();
+		}
+
+	}
+
+	@Nested
+	class Concurrency {
+
+		private StreamingResponseBody start() {
+			return exportService.exportTeamWorkouts(query, WorkoutExportFormat.NDJSON, athlete);
+		}
+
+		@Test
+		void aboveTheLimit_rejectsBeforeTouchingTheDatabase() {
+			start();
+			start();
+
+			assertThatThrownBy(this::start).isInstanceOf(WorkoutExportBusyException.class)
+										   .extracting("retryAfterSeconds").isEqualTo(RETRY_AFTER_SECONDS);
+			verifyNoInteractions(workoutRepository, transactionManager);
+			assertThat(meterRegistry.get("workouts.export.rejected").counter().count()).isEqualTo(1);
+			assertThat(meterRegistry.get("workouts.export.running").gauge().value()).isEqualTo(MAX_CONCURRENT);
+		}
+
+		@Test
+		void finishedExport_freesItsSlot() throws IOException {
+			when(workoutRepository.streamTeamWorkouts(query, FETCH_SIZE)).thenAnswer(_ -> Stream.empty());
+			StreamingResponseBody first = start();
+			start();
+
+			first.writeTo(new ByteArrayOutputStream());
+
+			assertThat(start()).isNotNull();
+		}
+
+		@Test
+		void failedExport_freesItsSlot() {
+			when(workoutRepository.streamTeamWorkouts(query, FETCH_SIZE)).thenThrow(new IllegalStateException("falhou"));
+			StreamingResponseBody first = start();
+			start();
+
+			assertThatThrownBy(() -> first.writeTo(new ByteArrayOutputStream())).isInstanceOf(
+					IllegalStateException.class);
+
+			assertThat(start()).isNotNull();
+		}
+
+	}
+
+}
@@ -0,0 +1,238 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydra.core.dtos.ResponseDto;
+import com.hydra.core.dtos.WorkoutDto;
+import com.hydra.core.dtos.WorkoutMetricsDto;
+import com.hydra.core.dtos.WorkoutPageDto;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.models.CachedWorkoutJson;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.models.WorkoutJsonPage;
+import com.hydra.core.models.WorkoutJsonResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkoutJsonCacheTest {
+
+	private static final String TEAM_ID = "team-1";
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final MutableClock clock = new MutableClock(Instant.parse("2025-03-10T12:00:00Z"));
+
+	private WorkoutJsonCache cache(DataSize maxBytes) {
+		return new WorkoutJsonCache(objectMapper, clock, maxBytes, TTL, new SimpleMeterRegistry());
+	}
+
+	private static WorkoutDto workout(String id, String title) {
+		return new WorkoutDto(id, TEAM_ID, "Hydra FC", "user-1", "Coach \"Ana\"", title, null,
+				WorkoutModality.RUNNING, LocalDate.of(2025, 3, 10), null, 45, null, "Água: 500ml", List.of(),
+				List.of(), List.of(), new WorkoutMetricsDto(0, BigDecimal.ZERO, 0, 0), LocalDateTime.of(2025, 3, 1, 8, 0),
+				LocalDateTime.of(2025, 3, 1, 8, 0));
+	}
+
+	private static WorkoutCursor cursor(String id) {
+		return WorkoutCursor.of(LocalDate.of(2025, 3, 10), null, id);
+	}
+
+	private static byte[] bytes(CachedWorkoutJson json) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		json.writeTo(out);
+		return out.toByteArray();
+	}
+
+	private static byte[] bytes(WorkoutJsonResponse response) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.writeTo(out);
+		assertThat(response.contentLength()).isEqualTo(out.size());
+		return out.toByteArray();
+	}
+
+	@Test
+	void put_storesJsonOffHeapAndServesItOnGet() throws IOException {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		WorkoutDto workout = workout("w1", "Rodagem");
+
+		CachedWorkoutJson stored = cache.put(workout, cursor("w1"), cache.stamp("w1"));
+		CachedWorkoutJson cached = cache.get("w1");
+
+		assertThat(cached).isSameAs(stored);
+		assertThat(cached.isOffHeap()).isTrue();
+		assertThat(cached.teamId()).isEqualTo(TEAM_ID);
+		assertThat(bytes(cached)).isEqualTo(objectMapper.writeValueAsBytes(workout));
+		assertThat(cache.usedBytes()).isEqualTo(cached.size());
+	}
+
+	@Test
+	void get_withTheRevisionReadFromTheDatabase_servesOnlyThatRevision() {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		WorkoutDto workout = workout("w1", "Rodagem");
+		CachedWorkoutJson stored = cache.put(workout, cursor("w1"), cache.stamp("w1"));
+
+		assertThat(cache.get("w1", workout.updatedAt())).isSameAs(stored);
+
+		// Alterado em outro nó: a entrada antiga não sai mais, nem pela leitura de um treino só
+		assertThat(cache.get("w1", workout.updatedAt().plusSeconds(1))).isNull();
+		assertThat(cache.get("w1")).isNull();
+		assertThat(cache.usedBytes()).isZero();
+	}
+
+	@Test
+	void put_afterAWrite_returnsJsonWithoutCachingIt() throws IOException {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		long stamp = cache.stamp("w1");
+		cache.workoutChanged("w1");
+
+		CachedWorkoutJson json = cache.put(workout("w1", "Rodagem"), cursor("w1"), stamp);
+
+		assertThat(json.isOffHeap()).isFalse();
+		assertThat(bytes(json)).isEqualTo(objectMapper.writeValueAsBytes(workout("w1", "Rodagem")));
+		assertThat(cache.get("w1")).isNull();
+	}
+
+	@Test
+	void put_afterAWriteToAnotherWorkout_stillCaches() {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		long stamp = cache.stamp("w1");
+		cache.workoutChanged("w2");
+
+		CachedWorkoutJson json = cache.put(workout("w1", "Rodagem"), cursor("w1"), stamp);
+
+		assertThat(json.isOffHeap()).isTrue();
+		assertThat(cache.get("w1")).isSameAs(json);
+	}
+
+	@Test
+	void get_afterTtl_dropsTheEntryAndItsBytes() {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		cache.put(workout("w1", "Rodagem"), cursor("w1"), cache.stamp("w1"));
+
+		clock.advance(TTL.minusSeconds(1));
+		assertThat(cache.get("w1")).isNotNull();
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(cache.get("w1")).isNull();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.usedBytes()).isZero();
+	}
+
+	@Test
+	void put_whenFull_dropsExpiredEntriesFirst() {
+		WorkoutJsonCache sizing = cache(DataSize.ofMegabytes(1));
+		long entrySize = sizing.put(workout("w0", "Treino 0"), cursor("w0"), sizing.stamp("w0")).size();
+		WorkoutJsonCache cache = cache(DataSize.ofBytes(entrySize * 2));
+		cache.put(workout("w1", "Treino 1"), cursor("w1"), cache.stamp("w1"));
+		clock.advance(TTL.dividedBy(2));
+		cache.put(workout("w2", "Treino 2"), cursor("w2"), cache.stamp("w2"));
+		clock.advance(TTL.dividedBy(2));
+
+		cache.put(workout("w3", "Treino 3"), cursor("w3"), cache.stamp("w3"));
+
+		assertThat(cache.get("w2")).isNotNull();
+		assertThat(cache.get("w3")).isNotNull();
+		assertThat(cache.usedBytes()).isEqualTo(entrySize * 2);
+	}
+
+	@Test
+	void workoutChanged_dropsTheEntryAndItsBytes() {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		cache.put(workout("w1", "Rodagem"), cursor("w1"), cache.stamp("w1"));
+
+		cache.workoutChanged("w1");
+
+		assertThat(cache.get("w1")).isNull();
+		assertThat(cache.usedBytes()).isZero();
+	}
+
+	@Test
+	void put_evictsUntilTheNewEntryFits() {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		long entrySize = cache.put(workout("w0", "Treino 0"), cursor("w0"), cache.stamp("w0")).size();
+		WorkoutJsonCache bounded = cache(DataSize.ofBytes(entrySize * 3));
+
+		for (int i = 0; i < 10; i++)
+			bounded.put(workout("w" + i, "Treino " + i), cursor("w" + i), bounded.stamp("w" + i));
+
+		assertThat(bounded.size()).isEqualTo(3);
+		assertThat(bounded.usedBytes()).isEqualTo(entrySize * 3);
+		assertThat(bounded.get("w9")).isNotNull();
+	}
+
+	@Test
+	void singleResponse_matchesTheJacksonEnvelope() throws IOException {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		WorkoutDto workout = workout("w1", "Rodagem");
+		CachedWorkoutJson json = cache.put(workout, cursor("w1"), cache.stamp("w1"));
+
+		byte[] written = bytes(WorkoutJsonResponse.single("Treino \"encontrado\"!", json));
+
+		assertThat(objectMapper.readTree(written)).isEqualTo(
+				objectMapper.valueToTree(new ResponseDto("Treino \"encontrado\"!", workout)));
+	}
+
+	@Test
+	void pageResponse_matchesTheJacksonEnvelope() throws IOException {
+		WorkoutJsonCache cache = cache(DataSize.ofMegabytes(1));
+		WorkoutDto first = workout("w1", "Rodagem");
+		WorkoutDto second = workout("w2", "Tiros");
+		List<CachedWorkoutJson> json = List.of(cache.put(first, cursor("w1"), cache.stamp("w1")),
+				cache.put(second, cursor("w2"), cache.stamp("w2")));
+
+		byte[] lastPage = bytes(WorkoutJsonResponse.page("ok", new WorkoutJsonPage(json, null)));
+		byte[] withCursor = bytes(WorkoutJsonResponse.page("ok", new WorkoutJsonPage(json, "abc")));
+		byte[] empty = bytes(WorkoutJsonResponse.page("ok", new WorkoutJsonPage(List.of(), null)));
+
+		assertThat(objectMapper.readTree(lastPage)).isEqualTo(
+				objectMapper.valueToTree(new ResponseDto("ok", new WorkoutPageDto<>(List.of(first, second), null))));
+		assertThat(objectMapper.readTree(withCursor)).isEqualTo(
+				objectMapper.valueToTree(new ResponseDto("ok", new WorkoutPageDto<>(List.of(first, second), "abc"))));
+		assertThat(objectMapper.readTree(empty)).isEqualTo(
+				objectMapper.valueToTree(new ResponseDto("ok", new WorkoutPageDto<>(List.of(), null))));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.hydra.core.service;
+
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.WorkoutModality;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkoutMetricsTest {
+
+	private static WorkoutEntity workout(WorkoutModality modality) {
+		return WorkoutEntity.builder().modality(modality).build();
+	}
+
+	private static WorkoutExerciseSetEntity set(int reps, String weight, Integer restSeconds) {
+		WorkoutExerciseSetEntity set = new WorkoutExerciseSetEntity();
+		set.setReps(reps);
+		set.setWeight(weight != null ? new BigDecimal(weight) : null);
+		set.setRestSeconds(restSeconds);
+		return set;
+	}
+
+	@Test
+	void weightlifting_sumsTonnageAndSets_usingExerciseRestAsDefault() {
+		WorkoutEntity workout = workout(WorkoutModality.WEIGHTLIFTING);
+		WorkoutExerciseEntity squat = new WorkoutExerciseEntity();
+		squat.setRestBetweenSetsSeconds(90);
+		squat.getSets().add(set(10, "100.00", null));
+		squat.getSets().add(set(8, "110.50", 120));
+		WorkoutExerciseEntity plank = new WorkoutExerciseEntity();
+		plank.getSets().add(set(1, null, null));
+		workout.getExercises().add(squat);
+		workout.getExercises().add(plank);
+
+		WorkoutMetrics.apply(workout);
+
+		assertThat(workout.getItemCount()).isEqualTo(2);
+		assertThat(workout.getTotalSets()).isEqualTo(3);
+		assertThat(workout.getTotalTonnageKg()).isEqualByComparingTo("1884");
+		assertThat(workout.getTotalDistanceMeters()).isZero();
+		assertThat(workout.getEstimatedDurationSeconds()).isEqualTo((40 + 90) + (32 + 120) + 4);
+	}
+
+	@Test
+	void running_estimatesMissingDurationFromPace() {
+		WorkoutEntity workout = workout(WorkoutModality.RUNNING);
+		WorkoutRunningSegmentEntity timed = new WorkoutRunningSegmentEntity();
+		timed.setDistanceMeters(1000);
+		timed.setDurationSeconds(300);
+		WorkoutRunningSegmentEntity paced = new WorkoutRunningSegmentEntity();
+		paced.setDistanceMeters(2000);
+		paced.setTargetPaceSeconds(330);
+		WorkoutRunningSegmentEntity empty = new WorkoutRunningSegmentEntity();
+		workout.getRunningSegments().add(timed);
+		workout.getRunningSegments().add(paced);
+		workout.getRunningSegments().add(empty);
+
+		WorkoutMetrics.apply(workout);
+
+		assertThat(workout.getItemCount()).isEqualTo(3);
+		assertThat(workout.getTotalSets()).isZero();
+		assertThat(workout.getTotalDistanceMeters()).isEqualTo(3000);
+		assertThat(workout.getEstimatedDurationSeconds()).isEqualTo(300 + 660);
+	}
+
+	@Test
+	void swimming_countsEveryRepetition() {
+		WorkoutEntity workout = workout(WorkoutModality.SWIMMING);
+		WorkoutSwimmingSetEntity set = new WorkoutSwimmingSetEntity();
+		set.setDistanceMeters(100);
+		set.setRepetitions(4);
+		set.setTargetPaceSeconds(90);
+		set.setRestSeconds(20);
+		workout.getSwimmingSets().add(set);
+
+		WorkoutMetrics.apply(workout);
+
+		assertThat(workout.getItemCount()).isEqualTo(1);
+		assertThat(workout.getTotalSets()).isEqualTo(4);
+		assertThat(workout.getTotalDistanceMeters()).isEqualTo(400);
+		assertThat(workout.getEstimatedDurationSeconds()).isEqualTo(4 * 110);
+	}
+
+	@Test
+	void recalculating_replacesPreviousValues() {
+		WorkoutEntity workout = workout(WorkoutModality.SWIMMING);
+		workout.setItemCount(5);
+		workout.setTotalDistanceMeters(2500);
+
+		WorkoutMetrics.apply(workout);
+
+		assertThat(workout.getItemCount()).isZero();
+		assertThat(workout.getTotalDistanceMeters()).isZero();
+		assertThat(workout.getTotalTonnageKg()).isEqualByComparingTo("0");
+	}
+
+}
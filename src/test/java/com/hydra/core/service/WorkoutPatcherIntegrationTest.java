@@ -0,0 +1,168 @@
+package com.hydra.core.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.RunningSegmentType;
+import com.hydra.core.enums.WorkoutModality;
+import com.hydra.core.exceptions.InvalidPatchException;
+import com.hydra.core.factory.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ TestDataFactory.class, WorkoutPatcher.class, ExerciseCatalog.class, SimpleMeterRegistry.class })
+class WorkoutPatcherIntegrationTest {
+
+	@Autowired
+	private WorkoutPatcher patcher;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	private TeamEntity team;
+	private UserEntity coach;
+
+	@BeforeEach
+	void setUp() {
+		coach = entityManager.persist(factory.createUser());
+		team = entityManager.persist(factory.createTeam(coach));
+	}
+
+	private WorkoutEntity runningWorkout(int segments) {
+		WorkoutEntity workout = factory.createWorkout(team, coach, WorkoutModality.RUNNING, LocalDate.of(2025, 3, 10));
+		workout.setDescription("Base aeróbica");
+		workout.setNotes("Hidratar");
+		for (int i = 1; i <= segments; i++)
+			factory.addRunningSegment(workout, RunningSegmentType.CONTINUOUS, 1000 * i);
+		entityManager.persist(workout);
+		entityManager.flush();
+		entityManager.clear();
+		return workout;
+	}
+
+	private WorkoutEntity patch(String workoutId, String json) throws Exception {
+		WorkoutEntity workout = entityManager.find(WorkoutEntity.class, workoutId);
+		patcher.apply(workout, objectMapper.readTree(json));
+		entityManager.flush();
+		entityManager.clear();
+		return entityManager.find(WorkoutEntity.class, workoutId);
+	}
+
+	@Test
+	@DisplayName("Should reorder, update, insert and delete segments while keeping the ids of the kept ones")
+	void shouldDiffRunningSegments() throws Exception {
+		WorkoutEntity workout = runningWorkout(3);
+		String first = workout.getRunningSegments().get(0).getId();
+		String third = workout.getRunningSegments().get(2).getId();
+
+		// O terceiro vai para o início, o primeiro para o meio, o segundo sai e um novo entra no fim
+		WorkoutEntity patched = patch(workout.getId(), """
+				{"title": "Intervalado", "notes": null, "segments": [
+				  {"id": "%s", "segmentType": "INTERVAL", "distanceMeters": 400},
+				  {"id": "%s", "segmentType": "CONTINUOUS", "distanceMeters": 1000},
+				  {"segmentType": "COOLDOWN", "durationSeconds": 600}
+				]}""".formatted(third, first));
+
+		assertThat(patched.getTitle()).isEqualTo("Intervalado");
+		assertThat(patched.getNotes()).isNull();
+		assertThat(patched.getDescription()).isEqualTo("Base aeróbica");
+		assertThat(patched.getRunningSegments()).extracting(WorkoutRunningSegmentEntity::getOrderIndex,
+																 WorkoutRunningSegmentEntity::getSegmentType,
+																 WorkoutRunningSegmentEntity::getDistanceMeters)
+												.containsExactly(tuple(1, RunningSegmentType.INTERVAL, 400),
+														tuple(2, RunningSegmentType.CONTINUOUS, 1000),
+														tuple(3, RunningSegmentType.COOLDOWN, null));
+		assertThat(patched.getRunningSegments().get(0).getId()).isEqualTo(third);
+		assertThat(patched.getRunningSegments().get(1).getId()).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("Should match items without id by position and leave untouched lists alone")
+	void shouldMatchByPositionWhenIdIsAbsent() throws Exception {
+		WorkoutEntity workout = runningWorkout(2);
+		String second = workout.getRunningSegments().get(1).getId();
+
+		WorkoutEntity patched = patch(workout.getId(), """
+				{"segments": [{"segmentType": "WARMUP"}, {"segmentType": "CONTINUOUS", "distanceMeters": 5000}]}""");
+
+		assertThat(patched.getRunningSegments()).extracting(WorkoutRunningSegmentEntity::getDistanceMeters)
+												.containsExactly(null, 5000);
+		assertThat(patched.getRunningSegments().get(1).getId()).isEqualTo(second);
+
+		WorkoutEntity untouched = patch(workout.getId(), """
+				{"durationMinutes": 45}""");
+
+		assertThat(untouched.getDurationMinutes()).isEqualTo(45);
+		assertThat(untouched.getRunningSegments()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Should diff exercise sets by set number")
+	void shouldDiffExerciseSetsBySetNumber() throws Exception {
+		ExerciseEntity squat = entityManager.persist(factory.createExercise());
+		WorkoutEntity workout = factory.createWorkout(team, coach, WorkoutModality.WEIGHTLIFTING, null);
+		WorkoutExerciseEntity exercise = factory.addExercise(workout, squat, 2, 10, null);
+		entityManager.persist(workout);
+		entityManager.flush();
+		entityManager.clear();
+		String secondSet = exercise.getSets().get(1).getId();
+
+		WorkoutEntity patched = patch(workout.getId(), """
+				{"exercises": [{"id": "%s", "exerciseId": "%s", "sets": [
+				  {"setNumber": 2, "reps": 5}, {"setNumber": 3, "reps": 3}
+				]}]}""".formatted(exercise.getId(), squat.getId()));
+
+		WorkoutExerciseEntity patchedExercise = patched.getExercises().getFirst();
+		assertThat(patchedExercise.getId()).isEqualTo(exercise.getId());
+		assertThat(patchedExercise.getSets()).extracting(WorkoutExerciseSetEntity::getSetNumber,
+														 WorkoutExerciseSetEntity::getReps)
+											 .containsExactly(tuple(2, 5), tuple(3, 3));
+		assertThat(patchedExercise.getSets().getFirst().getId()).isEqualTo(secondSet);
+	}
+
+	@Test
+	@DisplayName("Should reject changes to the modality, lists of another modality and unknown child ids")
+	void shouldRejectInvalidPatches() throws Exception {
+		WorkoutEntity workout = entityManager.find(WorkoutEntity.class, runningWorkout(1).getId());
+
+		JsonNode modality = objectMapper.readTree("{\"modality\": \"SWIMMING\"}");
+		JsonNode otherList = objectMapper.readTree("{\"exercises\": []}");
+		JsonNode unknownId = objectMapper.readTree("{\"segments\": [{\"id\": \"nao-existe\"}]}");
+		JsonNode noTitle = objectMapper.readTree("{\"title\": null}");
+
+		assertThatThrownBy(() -> patcher.apply(workout, modality)).isInstanceOf(InvalidPatchException.class);
+		assertThatThrownBy(() -> patcher.apply(workout, otherList)).isInstanceOf(InvalidPatchException.class);
+		assertThatThrownBy(() -> patcher.apply(workout, unknownId)).isInstanceOf(InvalidPatchException.class)
+																	.hasMessageContaining("nao-existe");
+		assertThatThrownBy(() -> patcher.apply(workout, noTitle)).isInstanceOf(InvalidPatchException.class);
+	}
+
+}
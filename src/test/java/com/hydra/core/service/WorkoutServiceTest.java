@@ -1,17 +1,29 @@
 package com.hydra.core.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.hydra.core.dtos.*;
 import com.hydra.core.entity.*;
 import com.hydra.core.enums.*;
+import com.hydra.core.exceptions.InvalidBulkPayloadException;
+import com.hydra.core.exceptions.InvalidCursorException;
 import com.hydra.core.exceptions.UnauthorizedException;
 import com.hydra.core.mappers.WorkoutMapper;
+import com.hydra.core.models.CachedWorkoutJson;
+import com.hydra.core.models.WorkoutCloneTarget;
+import com.hydra.core.models.WorkoutCursor;
+import com.hydra.core.models.WorkoutJsonPage;
+import com.hydra.core.models.WorkoutQuery;
 import com.hydra.core.repository.*;
+import com.hydra.core.security.TeamAccess;
+import com.hydra.core.security.TeamAuthorization;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,12 +31,16 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +50,7 @@ class WorkoutServiceTest {
 	private static final String USER_ID = "user-1";
 	private static final String WORKOUT_ID = "workout-1";
 	private static final String EXERCISE_ID = "exercise-1";
+	private static final WorkoutMetricsDto NO_METRICS = new WorkoutMetricsDto(0, BigDecimal.ZERO, 0, 0);
 
 	@Mock
 	private WorkoutRepository workoutRepository;
@@ -45,17 +62,41 @@ class WorkoutServiceTest {
 	private UserRepository userRepository;
 
 	@Mock
-	private ExerciseRepository exerciseRepository;
+	private ExerciseCatalog exerciseCatalog;
 
 	@Mock
-	private TeamMemberRepository teamMemberRepository;
+	private WorkoutMapper workoutMapper;
 
 	@Mock
-	private WorkoutMapper workoutMapper;
+	private WorkoutTreeLoader workoutTreeLoader;
+
+	@Mock
+	private WorkoutCalendarCache calendarCache;
+
+	@Mock
+	private WorkoutPatcher workoutPatcher;
+
+	@Mock
+	private WorkoutJsonCache jsonCache;
+
+	@Mock
+	private TeamVersions teamVersions;
+
+	@Mock
+	private TrainingLoadRepository trainingLoadRepository;
+
+	@Mock
+	private TeamMemberRepository teamMemberRepository;
 
-	@InjectMocks
 	private WorkoutService workoutService;
 
+	@BeforeEach
+	void setUp() {
+		workoutService = new WorkoutService(workoutRepository, teamRepository, userRepository, exerciseCatalog,
+				workoutMapper, workoutTreeLoader, calendarCache, workoutPatcher, jsonCache, teamVersions,
+				trainingLoadRepository, new TeamAuthorization(teamMemberRepository));
+	}
+
 	private UserEntity userEntity() {
 		UserEntity u = new UserEntity();
 		u.setId(USER_ID);
@@ -70,12 +111,12 @@ class WorkoutServiceTest {
 		return t;
 	}
 
-	private TeamMemberEntity memberOf(TeamRole role) {
-		TeamMemberEntity m = new TeamMemberEntity();
-		m.setUser(userEntity());
-		m.setTeam(teamEntity());
-		m.setRole(role);
-		return m;
+	private TeamAccess accessAs(TeamRole role) {
+		return new TeamAccess(USER_ID, Map.of(TEAM_ID, role), 0);
+	}
+
+	private TeamAccess noAccess() {
+		return new TeamAccess(USER_ID, Map.of(), 0);
 	}
 
 	private ExerciseEntity exerciseEntity() {
@@ -90,19 +131,27 @@ class WorkoutServiceTest {
 							.modality(WorkoutModality.WEIGHTLIFTING).createdAt(LocalDateTime.now()).build();
 	}
 
+	private record Schedule(String getId, String getTeamId, LocalDate getScheduledDate)
+			implements WorkoutRepository.ScheduleView {
+
+	}
+
 	private WorkoutDto workoutDto() {
 		return new WorkoutDto(WORKOUT_ID, TEAM_ID, "Hydra FC", USER_ID, "Coach Ana", "Treino A", null,
 				WorkoutModality.WEIGHTLIFTING, null, null, null, null, null, List.of(), List.of(), List.of(),
-				LocalDateTime.now(), LocalDateTime.now());
+				NO_METRICS, LocalDateTime.now(), LocalDateTime.now());
 	}
 
 	/** Mocks comuns para o caminho feliz de criação de qualquer tipo de treino */
 	private void mockHappyPathBase() {
 		when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 		when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-		when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-				Optional.of(memberOf(TeamRole.COACH)));
-		when(workoutRepository.save(any(WorkoutEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		// Como no persist, o id é gerado ao salvar
+		when(workoutRepository.save(any(WorkoutEntity.class))).thenAnswer(invocation -> {
+			WorkoutEntity workout = invocation.getArgument(0);
+			workout.setId(WORKOUT_ID);
+			return workout;
+		});
 		when(workoutMapper.toDto(any(WorkoutEntity.class))).thenReturn(workoutDto());
 	}
 
@@ -123,7 +172,8 @@ class WorkoutServiceTest {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, USER_ID)).isInstanceOf(
+			var access = accessAs(TeamRole.COACH);
+			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, access)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Time não encontrado");
 		}
 
@@ -133,7 +183,8 @@ class WorkoutServiceTest {
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, USER_ID)).isInstanceOf(
+			var access = accessAs(TeamRole.COACH);
+			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, access)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Usuário não encontrado");
 		}
 
@@ -141,10 +192,9 @@ class WorkoutServiceTest {
 		void whenUserNotMember_throwsUnauthorizedException() {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.empty());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, noAccess())).isInstanceOf(
 					UnauthorizedException.class).hasMessageContaining("não é membro");
 		}
 
@@ -152,11 +202,10 @@ class WorkoutServiceTest {
 		void whenUserIsAthlete_throwsUnauthorizedException() {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.ATHLETE)));
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, USER_ID)).isInstanceOf(
+			var access = accessAs(TeamRole.ATHLETE);
+			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, access)).isInstanceOf(
 					UnauthorizedException.class).hasMessageContaining("coaches e donos");
 		}
 
@@ -164,21 +213,39 @@ class WorkoutServiceTest {
 		void whenExerciseNotFound_throwsEntityNotFoundException() {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.COACH)));
-			when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.empty());
+			when(exerciseCatalog.findAllById(List.of(EXERCISE_ID))).thenReturn(Map.of());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, USER_ID)).isInstanceOf(
+			var access = accessAs(TeamRole.COACH);
+			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, access)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Exercício não encontrado");
 		}
 
+		@Test
+		void whenSeveralExercisesAreUnknown_reportsAllOfThemAtOnce() {
+			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
+			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
+			CreateWorkoutSetDto set = new CreateWorkoutSetDto(1, 10, null, null, null, null);
+			List<CreateWorkoutExerciseDto> exercises = List.of(
+					new CreateWorkoutExerciseDto("ghost-1", ExerciseTechnique.NORMAL, 60, null, List.of(set)),
+					new CreateWorkoutExerciseDto(EXERCISE_ID, ExerciseTechnique.NORMAL, 60, null, List.of(set)),
+					new CreateWorkoutExerciseDto("ghost-2", ExerciseTechnique.NORMAL, 60, null, List.of(set)));
+			var dto = new CreateWeightliftingWorkoutDto(TEAM_ID, "Treino", null, null, null, 60, null, null, exercises);
+			var access = accessAs(TeamRole.COACH);
+			when(exerciseCatalog.findAllById(List.of("ghost-1", EXERCISE_ID, "ghost-2"))).thenReturn(
+					Map.of(EXERCISE_ID, exerciseEntity()));
+
+			assertThatThrownBy(() -> workoutService.createWeightliftingWorkout(dto, access)).isInstanceOf(
+					EntityNotFoundException.class).hasMessage("Exercício não encontrado: ghost-1, ghost-2");
+			verify(workoutRepository, never()).save(any());
+		}
+
 		@Test
 		void whenValidAsCoach_savesWorkoutWithExercisesAndSets() {
 			mockHappyPathBase();
-			when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.of(exerciseEntity()));
+			when(exerciseCatalog.findAllById(List.of(EXERCISE_ID))).thenReturn(Map.of(EXERCISE_ID, exerciseEntity()));
 
-			WorkoutDto result = workoutService.createWeightliftingWorkout(validDto(), USER_ID);
+			WorkoutDto result = workoutService.createWeightliftingWorkout(validDto(), accessAs(TeamRole.COACH));
 
 			assertThat(result).isNotNull();
 			assertThat(result.id()).isEqualTo(WORKOUT_ID);
@@ -191,19 +258,17 @@ class WorkoutServiceTest {
 			assertThat(saved.getExercises()).hasSize(1);
 			assertThat(saved.getExercises().getFirst().getSets()).hasSize(1);
 			assertThat(saved.getExercises().getFirst().getOrderIndex()).isEqualTo(1);
+			verify(calendarCache).workoutChanged(TEAM_ID, saved.getScheduledDate());
+			verify(teamVersions).bump(TEAM_ID);
+			verify(trainingLoadRepository).addWorkouts(List.of(WORKOUT_ID));
 		}
 
 		@Test
 		void whenValidAsOwner_savesWorkout() {
-			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
-			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.OWNER)));
-			when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.of(exerciseEntity()));
-			when(workoutRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-			when(workoutMapper.toDto(any())).thenReturn(workoutDto());
+			mockHappyPathBase();
+			when(exerciseCatalog.findAllById(List.of(EXERCISE_ID))).thenReturn(Map.of(EXERCISE_ID, exerciseEntity()));
 
-			WorkoutDto result = workoutService.createWeightliftingWorkout(validDto(), USER_ID);
+			WorkoutDto result = workoutService.createWeightliftingWorkout(validDto(), accessAs(TeamRole.OWNER));
 
 			assertThat(result).isNotNull();
 		}
@@ -222,9 +287,9 @@ class WorkoutServiceTest {
 					LocalDate.now(), LocalTime.of(8, 0), 60, WorkoutIntensity.HIGH, null, List.of(ex1, ex2));
 
 			mockHappyPathBase();
-			when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.of(exerciseEntity()));
+			when(exerciseCatalog.findAllById(List.of(EXERCISE_ID))).thenReturn(Map.of(EXERCISE_ID, exerciseEntity()));
 
-			workoutService.createWeightliftingWorkout(dto, USER_ID);
+			workoutService.createWeightliftingWorkout(dto, accessAs(TeamRole.COACH));
 
 			ArgumentCaptor<WorkoutEntity> captor = ArgumentCaptor.forClass(WorkoutEntity.class);
 			verify(workoutRepository).save(captor.capture());
@@ -235,6 +300,13 @@ class WorkoutServiceTest {
 			assertThat(exercises.get(1).getOrderIndex()).isEqualTo(2);
 			assertThat(exercises.getFirst().getSets()).hasSize(2);
 			assertThat(exercises.get(1).getSets()).hasSize(1);
+
+			// Métricas gravadas junto: 3 séries de 8 x 100 kg, cada uma com 8 x 4 s + 60 s de descanso
+			WorkoutEntity saved = captor.getValue();
+			assertThat(saved.getItemCount()).isEqualTo(2);
+			assertThat(saved.getTotalSets()).isEqualTo(3);
+			assertThat(saved.getTotalTonnageKg()).isEqualByComparingTo("2400");
+			assertThat(saved.getEstimatedDurationSeconds()).isEqualTo(3 * (8 * 4 + 60));
 		}
 
 	}
@@ -254,7 +326,7 @@ class WorkoutServiceTest {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createRunningWorkout(dto, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.createRunningWorkout(dto, accessAs(TeamRole.COACH))).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Time não encontrado");
 		}
 
@@ -262,10 +334,9 @@ class WorkoutServiceTest {
 		void whenUserNotMember_throwsUnauthorizedException() {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.empty());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createRunningWorkout(dto, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.createRunningWorkout(dto, noAccess())).isInstanceOf(
 					UnauthorizedException.class);
 		}
 
@@ -273,11 +344,9 @@ class WorkoutServiceTest {
 		void whenUserIsAthlete_throwsUnauthorizedException() {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.ATHLETE)));
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createRunningWorkout(dto, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.createRunningWorkout(dto, accessAs(TeamRole.ATHLETE))).isInstanceOf(
 					UnauthorizedException.class);
 		}
 
@@ -292,7 +361,7 @@ class WorkoutServiceTest {
 
 			mockHappyPathBase();
 
-			workoutService.createRunningWorkout(dto, USER_ID);
+			workoutService.createRunningWorkout(dto, accessAs(TeamRole.COACH));
 
 			ArgumentCaptor<WorkoutEntity> captor = ArgumentCaptor.forClass(WorkoutEntity.class);
 			verify(workoutRepository).save(captor.capture());
@@ -310,7 +379,7 @@ class WorkoutServiceTest {
 		void whenValid_mapsAllSegmentFields() {
 			mockHappyPathBase();
 
-			workoutService.createRunningWorkout(validDto(), USER_ID);
+			workoutService.createRunningWorkout(validDto(), accessAs(TeamRole.COACH));
 
 			ArgumentCaptor<WorkoutEntity> captor = ArgumentCaptor.forClass(WorkoutEntity.class);
 			verify(workoutRepository).save(captor.capture());
@@ -341,7 +410,7 @@ class WorkoutServiceTest {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.empty());
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createSwimmingWorkout(dto, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.createSwimmingWorkout(dto, accessAs(TeamRole.COACH))).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Time não encontrado");
 		}
 
@@ -349,11 +418,10 @@ class WorkoutServiceTest {
 		void whenUserIsAthlete_throwsUnauthorizedException() {
 			when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(teamEntity()));
 			when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.ATHLETE)));
 
 			var dto = validDto();
-			assertThatThrownBy(() -> workoutService.createSwimmingWorkout(dto, USER_ID)).isInstanceOf(
+			var access = accessAs(TeamRole.ATHLETE);
+			assertThatThrownBy(() -> workoutService.createSwimmingWorkout(dto, access)).isInstanceOf(
 					UnauthorizedException.class);
 		}
 
@@ -368,7 +436,7 @@ class WorkoutServiceTest {
 
 			mockHappyPathBase();
 
-			workoutService.createSwimmingWorkout(dto, USER_ID);
+			workoutService.createSwimmingWorkout(dto, accessAs(TeamRole.COACH));
 
 			ArgumentCaptor<WorkoutEntity> captor = ArgumentCaptor.forClass(WorkoutEntity.class);
 			verify(workoutRepository).save(captor.capture());
@@ -384,7 +452,7 @@ class WorkoutServiceTest {
 		void whenValid_mapsAllSwimmingSetFields() {
 			mockHappyPathBase();
 
-			workoutService.createSwimmingWorkout(validDto(), USER_ID);
+			workoutService.createSwimmingWorkout(validDto(), accessAs(TeamRole.COACH));
 
 			ArgumentCaptor<WorkoutEntity> captor = ArgumentCaptor.forClass(WorkoutEntity.class);
 			verify(workoutRepository).save(captor.capture());
@@ -404,26 +472,156 @@ class WorkoutServiceTest {
 	@Nested
 	class GetTeamWorkouts {
 
+		private WorkoutQuery query(int limit) {
+			return new WorkoutQuery(TEAM_ID, null, null, null, null, null, null, limit);
+		}
+
+		private WorkoutEntity workout(String id, LocalDate date) {
+			WorkoutEntity w = workoutEntity();
+			w.setId(id);
+			w.setScheduledDate(date);
+			return w;
+		}
+
+		private WorkoutSummaryDto summary(String id, LocalDate date, LocalTime time, long itemCount) {
+			return new WorkoutSummaryDto(id, "Treino", WorkoutModality.RUNNING, date, time, 60,
+					WorkoutIntensity.MODERATE, itemCount, NO_METRICS);
+		}
+
 		@Test
-		void whenTeamHasWorkouts_returnsMappedList() {
-			WorkoutEntity w1 = workoutEntity();
-			WorkoutEntity w2 = workoutEntity();
-			when(workoutRepository.findByTeamIdOrderByScheduledDateDesc(TEAM_ID)).thenReturn(List.of(w1, w2));
-			when(workoutMapper.toDto(any(WorkoutEntity.class))).thenReturn(workoutDto());
+		void whenNotMember_throwsUnauthorized() {
+			var query = query(20);
+			var access = noAccess();
+
+			assertThatThrownBy(() -> workoutService.getTeamWorkouts(query, access)).isInstanceOf(
+					UnauthorizedException.class);
+			verifyNoInteractions(workoutRepository);
+		}
+
+		@Test
+		void whenMoreThanLimit_returnsPageWithCursorOfLastWorkout() {
+			WorkoutEntity w1 = workout("w1", LocalDate.of(2025, 3, 2));
+			WorkoutEntity w2 = workout("w2", LocalDate.of(2025, 3, 1));
+			WorkoutQuery query = query(2);
+			when(workoutRepository.findTeamWorkoutIds(query, 3)).thenReturn(List.of("w1", "w2", "w3"));
+			// O IN devolve em qualquer ordem
+			when(workoutRepository.findWithTeamAndCreatorByIdIn(List.of("w1", "w2"))).thenReturn(List.of(w2, w1));
+			when(workoutTreeLoader.toDtos(List.of(w1, w2))).thenReturn(List.of(workoutDto(), workoutDto()));
+
+			WorkoutPageDto<WorkoutDto> page = workoutService.getTeamWorkouts(query, accessAs(TeamRole.ATHLETE));
+
+			assertThat(page.workouts()).hasSize(2);
+			assertThat(WorkoutCursor.decode(page.nextCursor())).isEqualTo(
+					new WorkoutCursor(LocalDate.of(2025, 3, 1), WorkoutCursor.NO_TIME, "w2"));
+			verify(workoutMapper, never()).toDto(any(WorkoutEntity.class));
+		}
 
-			List<WorkoutDto> result = workoutService.getTeamWorkouts(TEAM_ID);
+		@Test
+		void whenLastPage_returnsNoCursor() {
+			WorkoutEntity w1 = workout("w1", null);
+			WorkoutQuery query = query(2);
+			when(workoutRepository.findTeamWorkoutIds(query, 3)).thenReturn(List.of("w1"));
+			when(workoutRepository.findWithTeamAndCreatorByIdIn(List.of("w1"))).thenReturn(List.of(w1));
+			when(workoutTreeLoader.toDtos(List.of(w1))).thenReturn(List.of(workoutDto()));
+
+			WorkoutPageDto<WorkoutDto> page = workoutService.getTeamWorkouts(query, accessAs(TeamRole.ATHLETE));
+
+			assertThat(page.workouts()).hasSize(1);
+			assertThat(page.nextCursor()).isNull();
+		}
+
+		@Test
+		void whenTeamHasNoWorkouts_returnsEmptyPage() {
+			WorkoutQuery query = query(20);
+			when(workoutRepository.findTeamWorkoutIds(query, 21)).thenReturn(List.of());
 
-			assertThat(result).hasSize(2);
-			verify(workoutMapper, times(2)).toDto(any(WorkoutEntity.class));
+			WorkoutPageDto<WorkoutDto> page = workoutService.getTeamWorkouts(query, accessAs(TeamRole.ATHLETE));
+
+			assertThat(page.workouts()).isEmpty();
+			assertThat(page.nextCursor()).isNull();
+			verifyNoInteractions(workoutTreeLoader);
+		}
+
+		@Test
+		void summaries_whenNotMember_throwsUnauthorized() {
+			var query = query(20);
+			var access = noAccess();
+
+			assertThatThrownBy(() -> workoutService.getTeamWorkoutSummaries(query, access)).isInstanceOf(
+					UnauthorizedException.class);
+			verifyNoInteractions(workoutRepository);
+		}
+
+		@Test
+		void summaries_whenMoreThanLimit_returnsPageWithCursorOfLastSummary() {
+			WorkoutSummaryDto s1 = summary("w1", LocalDate.of(2025, 3, 2), LocalTime.of(7, 0), 4);
+			WorkoutSummaryDto s2 = summary("w2", null, null, 0);
+			WorkoutSummaryDto s3 = summary("w3", null, null, 0);
+			WorkoutQuery query = query(2);
+			when(workoutRepository.findTeamWorkoutSummaries(query, 3)).thenReturn(List.of(s1, s2, s3));
+
+			WorkoutPageDto<WorkoutSummaryDto> page = workoutService.getTeamWorkoutSummaries(query,
+					accessAs(TeamRole.ATHLETE));
+
+			assertThat(page.workouts()).containsExactly(s1, s2);
+			assertThat(WorkoutCursor.decode(page.nextCursor())).isEqualTo(
+					new WorkoutCursor(WorkoutCursor.NO_DATE, WorkoutCursor.NO_TIME, "w2"));
+			verifyNoInteractions(workoutTreeLoader);
+		}
+
+		@Test
+		void summaries_whenLastPage_returnsNoCursor() {
+			WorkoutSummaryDto s1 = summary("w1", null, null, 2);
+			WorkoutQuery query = query(2);
+			when(workoutRepository.findTeamWorkoutSummaries(query, 3)).thenReturn(List.of(s1));
+
+			WorkoutPageDto<WorkoutSummaryDto> page = workoutService.getTeamWorkoutSummaries(query,
+					accessAs(TeamRole.ATHLETE));
+
+			assertThat(page.workouts()).containsExactly(s1);
+			assertThat(page.nextCursor()).isNull();
+		}
+
+		@Test
+		void json_loadsOnlyUncachedWorkoutsAndKeepsKeysetOrder() {
+			LocalDate day = LocalDate.of(2025, 3, 10);
+			CachedWorkoutJson first = CachedWorkoutJson.onHeap(TEAM_ID, WorkoutCursor.of(day.plusDays(2), null, "w1"),
+					"{}".getBytes());
+			CachedWorkoutJson second = CachedWorkoutJson.onHeap(TEAM_ID, WorkoutCursor.of(day.plusDays(1), null, "w2"),
+					"{}".getBytes());
+			WorkoutEntity secondEntity = workout("w2", day.plusDays(1));
+			WorkoutDto secondDto = new WorkoutDto("w2", TEAM_ID, "Hydra FC", USER_ID, "Coach Ana", "Treino B", null,
+					WorkoutModality.RUNNING, day.plusDays(1), null, null, null, null, List.of(), List.of(), List.of(),
+					NO_METRICS, LocalDateTime.now(), LocalDateTime.now());
+			LocalDateTime revision = LocalDateTime.of(2025, 3, 1, 8, 0);
+			when(workoutRepository.findTeamWorkoutRevisions(any(), eq(3))).thenReturn(
+					List.of(new WorkoutRepository.WorkoutRevision("w1", revision),
+							new WorkoutRepository.WorkoutRevision("w2", revision),
+							new WorkoutRepository.WorkoutRevision("w3", revision)));
+			when(jsonCache.get("w1", revision)).thenReturn(first);
+			when(workoutRepository.findWithTeamAndCreatorByIdIn(List.of("w2"))).thenReturn(List.of(secondEntity));
+			when(workoutTreeLoader.toDtos(List.of(secondEntity))).thenReturn(List.of(secondDto));
+			when(jsonCache.put(eq(secondDto), any(), anyLong())).thenReturn(second);
+
+			WorkoutJsonPage page = workoutService.getTeamWorkoutsJson(query(2), accessAs(TeamRole.ATHLETE));
+
+			assertThat(page.workouts()).containsExactly(first, second);
+			assertThat(WorkoutCursor.decode(page.nextCursor())).isEqualTo(second.cursor());
 		}
 
 		@Test
-		void whenTeamHasNoWorkouts_returnsEmptyList() {
-			when(workoutRepository.findByTeamIdOrderByScheduledDateDesc(TEAM_ID)).thenReturn(List.of());
+		void query_clampsLimit() {
+			assertThat(query(0).limit()).isEqualTo(WorkoutQuery.DEFAULT_LIMIT);
+			assertThat(query(10_000).limit()).isEqualTo(WorkoutQuery.MAX_LIMIT);
+		}
 
-			List<WorkoutDto> result = workoutService.getTeamWorkouts(TEAM_ID);
+		@Test
+		void cursor_roundTripsAndRejectsGarbage() {
+			WorkoutCursor cursor = new WorkoutCursor(LocalDate.of(2025, 1, 31), LocalTime.of(6, 30), "abc-123");
 
-			assertThat(result).isEmpty();
+			assertThat(WorkoutCursor.decode(cursor.encode())).isEqualTo(cursor);
+			assertThatThrownBy(() -> WorkoutCursor.decode("não-é-cursor")).isInstanceOf(
+					InvalidCursorException.class);
 		}
 
 	}
@@ -435,27 +633,33 @@ class WorkoutServiceTest {
 		void whenWorkoutNotFound_throwsEntityNotFoundException() {
 			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> workoutService.getWorkoutById(WORKOUT_ID, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.getWorkoutById(WORKOUT_ID, accessAs(TeamRole.COACH))).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Treino não encontrado");
 		}
 
 		@Test
 		void whenUserNotMember_throwsUnauthorizedException() {
 			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workoutEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> workoutService.getWorkoutById(WORKOUT_ID, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.getWorkoutById(WORKOUT_ID, noAccess())).isInstanceOf(
 					UnauthorizedException.class).hasMessageContaining("permissão");
 		}
 
+		@Test
+		void whenMembershipIsNewerThanToken_confirmsWithDatabase() {
+			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workoutEntity()));
+			when(teamMemberRepository.existsByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(true);
+			when(workoutMapper.toDto(any(WorkoutEntity.class))).thenReturn(workoutDto());
+
+			assertThat(workoutService.getWorkoutById(WORKOUT_ID, noAccess())).isNotNull();
+		}
+
 		@Test
 		void whenValid_returnsMappedDto() {
 			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workoutEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.ATHLETE)));
 			when(workoutMapper.toDto(any(WorkoutEntity.class))).thenReturn(workoutDto());
 
-			WorkoutDto result = workoutService.getWorkoutById(WORKOUT_ID, USER_ID);
+			WorkoutDto result = workoutService.getWorkoutById(WORKOUT_ID, accessAs(TeamRole.ATHLETE));
 
 			assertThat(result.id()).isEqualTo(WORKOUT_ID);
 		}
@@ -463,69 +667,287 @@ class WorkoutServiceTest {
 		@Test
 		void whenUserIsCoach_canViewWorkout() {
 			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workoutEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.COACH)));
 			when(workoutMapper.toDto(any(WorkoutEntity.class))).thenReturn(workoutDto());
 
-			assertThat(workoutService.getWorkoutById(WORKOUT_ID, USER_ID)).isNotNull();
+			assertThat(workoutService.getWorkoutById(WORKOUT_ID, accessAs(TeamRole.COACH))).isNotNull();
 		}
 
 	}
 
 	@Nested
-	class DeleteWorkout {
+	class GetWorkoutJson {
+
+		private final CachedWorkoutJson cached = CachedWorkoutJson.onHeap(TEAM_ID,
+				WorkoutCursor.of(null, null, WORKOUT_ID), "{}".getBytes());
+
+		@Test
+		void whenCached_skipsTheDatabase() {
+			when(jsonCache.get(WORKOUT_ID)).thenReturn(cached);
+
+			assertThat(workoutService.getWorkoutJson(WORKOUT_ID, accessAs(TeamRole.ATHLETE))).isSameAs(cached);
+			verifyNoInteractions(workoutRepository, workoutTreeLoader, workoutMapper);
+		}
+
+		@Test
+		void whenCachedButNotMember_throwsUnauthorized() {
+			when(jsonCache.get(WORKOUT_ID)).thenReturn(cached);
+			var access = noAccess();
+
+			assertThatThrownBy(() -> workoutService.getWorkoutJson(WORKOUT_ID, access)).isInstanceOf(
+					UnauthorizedException.class).hasMessageContaining("permissão");
+		}
+
+		@Test
+		void whenNotCached_loadsTreeAndStoresIt() {
+			WorkoutEntity workout = workoutEntity();
+			WorkoutDto dto = workoutDto();
+			when(jsonCache.stamp(WORKOUT_ID)).thenReturn(7L);
+			when(workoutRepository.findWithTeamAndCreatorByIdIn(List.of(WORKOUT_ID))).thenReturn(List.of(workout));
+			when(workoutTreeLoader.toDtos(List.of(workout))).thenReturn(List.of(dto));
+			when(jsonCache.put(dto, WorkoutCursor.of(workout), 7L)).thenReturn(cached);
+
+			assertThat(workoutService.getWorkoutJson(WORKOUT_ID, accessAs(TeamRole.ATHLETE))).isSameAs(cached);
+		}
 
 		@Test
 		void whenWorkoutNotFound_throwsEntityNotFoundException() {
-			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.empty());
+			when(workoutRepository.findWithTeamAndCreatorByIdIn(List.of(WORKOUT_ID))).thenReturn(List.of());
+			var access = accessAs(TeamRole.COACH);
 
-			assertThatThrownBy(() -> workoutService.deleteWorkout(WORKOUT_ID, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.getWorkoutJson(WORKOUT_ID, access)).isInstanceOf(
 					EntityNotFoundException.class).hasMessageContaining("Treino não encontrado");
 		}
 
+	}
+
+	@Nested
+	class GetTeamCalendar {
+
 		@Test
-		void whenUserNotMember_throwsUnauthorizedException() {
-			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workoutEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(Optional.empty());
+		void whenNotMember_throwsUnauthorized() {
+			var month = YearMonth.of(2025, 3);
+			var access = noAccess();
 
-			assertThatThrownBy(() -> workoutService.deleteWorkout(WORKOUT_ID, USER_ID)).isInstanceOf(
-					UnauthorizedException.class).hasMessageContaining("não é membro");
+			assertThatThrownBy(() -> workoutService.getTeamCalendar(TEAM_ID, month, access)).isInstanceOf(
+					UnauthorizedException.class);
+			verifyNoInteractions(calendarCache);
+		}
+
+		@Test
+		void whenMember_returnsCachedCalendar() {
+			YearMonth month = YearMonth.of(2025, 3);
+			WorkoutCalendarDto calendar = new WorkoutCalendarDto(TEAM_ID, month, List.of());
+			when(calendarCache.get(TEAM_ID, month)).thenReturn(calendar);
+
+			assertThat(workoutService.getTeamCalendar(TEAM_ID, month, accessAs(TeamRole.ATHLETE))).isSameAs(calendar);
+		}
+
+	}
+
+	@Nested
+	class CloneWorkouts {
+
+		private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+		private CloneWorkoutsDto cloneOf(CloneWorkoutTargetDto... targets) {
+			return new CloneWorkoutsDto(List.of(WORKOUT_ID), List.of(targets));
+		}
+
+		@Test
+		void whenAthlete_throwsUnauthorized() {
+			var dto = cloneOf(new CloneWorkoutTargetDto(null, null, 7));
+			var access = accessAs(TeamRole.ATHLETE);
+
+			assertThatThrownBy(() -> workoutService.cloneWorkouts(TEAM_ID, dto, access)).isInstanceOf(
+					UnauthorizedException.class);
+			verifyNoInteractions(workoutRepository);
+		}
+
+		@Test
+		void whenNoTargets_throwsInvalidPayload() {
+			var dto = cloneOf();
+			var access = accessAs(TeamRole.COACH);
+
+			assertThatThrownBy(() -> workoutService.cloneWorkouts(TEAM_ID, dto, access)).isInstanceOf(
+					InvalidBulkPayloadException.class);
+		}
+
+		@Test
+		void whenSourceBelongsToAnotherTeam_throwsEntityNotFound() {
+			when(workoutRepository.findSchedulesByIdIn(List.of(WORKOUT_ID))).thenReturn(
+					List.of(new Schedule(WORKOUT_ID, "outro-time", MONDAY)));
+			var dto = cloneOf(new CloneWorkoutTargetDto(null, null, 7));
+			var access = accessAs(TeamRole.COACH);
+
+			assertThatThrownBy(() -> workoutService.cloneWorkouts(TEAM_ID, dto, access)).isInstanceOf(
+					EntityNotFoundException.class).hasMessageContaining("Treino não encontrado");
+			verify(workoutRepository, never()).cloneWorkouts(any(), any(), any(), any());
+		}
+
+		@Test
+		void whenCannotManageTargetTeam_throwsUnauthorized() {
+			when(workoutRepository.findSchedulesByIdIn(List.of(WORKOUT_ID))).thenReturn(
+					List.of(new Schedule(WORKOUT_ID, TEAM_ID, MONDAY)));
+			var dto = cloneOf(new CloneWorkoutTargetDto("team-2", null, null));
+			var access = new TeamAccess(USER_ID, Map.of(TEAM_ID, TeamRole.COACH, "team-2", TeamRole.ATHLETE), 0);
+
+			assertThatThrownBy(() -> workoutService.cloneWorkouts(TEAM_ID, dto, access)).isInstanceOf(
+					UnauthorizedException.class);
+			verify(workoutRepository, never()).cloneWorkouts(any(), any(), any(), any());
+		}
+
+		@Test
+		void whenValid_clonesInOneCallAndReturnsDerivedIds() {
+			when(workoutRepository.findSchedulesByIdIn(List.of(WORKOUT_ID))).thenReturn(
+					List.of(new Schedule(WORKOUT_ID, TEAM_ID, MONDAY)));
+			var dto = cloneOf(new CloneWorkoutTargetDto(null, null, 7),
+					new CloneWorkoutTargetDto(null, LocalDate.of(2025, 4, 1), 7));
+
+			List<ClonedWorkoutDto> clones = workoutService.cloneWorkouts(TEAM_ID, dto, accessAs(TeamRole.COACH));
+
+			ArgumentCaptor<String> batchId = ArgumentCaptor.forClass(String.class);
+			verify(workoutRepository).cloneWorkouts(batchId.capture(), eq(List.of(WORKOUT_ID)),
+					eq(List.of(new WorkoutCloneTarget(TEAM_ID, null, 7),
+							new WorkoutCloneTarget(TEAM_ID, LocalDate.of(2025, 4, 1), 7))), eq(USER_ID));
+
+			assertThat(clones).extracting(ClonedWorkoutDto::workoutId).containsExactly(
+					WorkoutRepositoryCustom.cloneId(batchId.getValue(), WORKOUT_ID, 0),
+					WorkoutRepositoryCustom.cloneId(batchId.getValue(), WORKOUT_ID, 1));
+			assertThat(clones).extracting(ClonedWorkoutDto::scheduledDate).containsExactly(MONDAY.plusDays(7),
+					LocalDate.of(2025, 4, 1));
+			verify(calendarCache).workoutChanged(TEAM_ID, MONDAY.plusDays(7));
+			verify(calendarCache).workoutChanged(TEAM_ID, LocalDate.of(2025, 4, 1));
+			verify(teamVersions, times(1)).bump(TEAM_ID);
+			verify(trainingLoadRepository).addWorkouts(
+					clones.stream().map(ClonedWorkoutDto::workoutId).toList());
+		}
+
+		@Test
+		void cloneId_isAUuidStableForTheSameInput() {
+			String id = WorkoutRepositoryCustom.cloneId("lote", WORKOUT_ID, 0);
+
+			assertThat(id).matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}")
+						  .isEqualTo(WorkoutRepositoryCustom.cloneId("lote", WORKOUT_ID, 0))
+						  .isNotEqualTo(WorkoutRepositoryCustom.cloneId("lote", WORKOUT_ID, 1));
+		}
+
+	}
+
+	@Nested
+	class PatchWorkout {
+
+		private final JsonNode patch = JsonNodeFactory.instance.objectNode().put("scheduledDate", "2025-03-12");
+
+		@Test
+		void whenWorkoutNotFound_throwsEntityNotFoundException() {
+			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.empty());
+			var access = accessAs(TeamRole.COACH);
+
+			assertThatThrownBy(() -> workoutService.patchWorkout(WORKOUT_ID, patch, access)).isInstanceOf(
+					EntityNotFoundException.class);
+			verifyNoInteractions(workoutPatcher);
 		}
 
 		@Test
 		void whenUserIsAthlete_throwsUnauthorizedException() {
 			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workoutEntity()));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.ATHLETE)));
+			var access = accessAs(TeamRole.ATHLETE);
 
-			assertThatThrownBy(() -> workoutService.deleteWorkout(WORKOUT_ID, USER_ID)).isInstanceOf(
+			assertThatThrownBy(() -> workoutService.patchWorkout(WORKOUT_ID, patch, access)).isInstanceOf(
 					UnauthorizedException.class).hasMessageContaining("coaches e donos");
+			verifyNoInteractions(workoutPatcher, calendarCache);
 		}
 
 		@Test
-		void whenUserIsCoach_deletesWorkout() {
+		void whenValid_appliesPatchAndInvalidatesBothDates() {
 			WorkoutEntity workout = workoutEntity();
+			workout.setScheduledDate(LocalDate.of(2025, 3, 10));
 			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workout));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.COACH)));
+			doAnswer(invocation -> {
+				workout.setScheduledDate(LocalDate.of(2025, 3, 12));
+				return null;
+			}).when(workoutPatcher).apply(workout, patch);
+			when(workoutMapper.toDto(workout)).thenReturn(workoutDto());
 
-			workoutService.deleteWorkout(WORKOUT_ID, USER_ID);
+			WorkoutDto result = workoutService.patchWorkout(WORKOUT_ID, patch, accessAs(TeamRole.COACH));
 
-			verify(workoutRepository).delete(workout);
+			assertThat(result.id()).isEqualTo(WORKOUT_ID);
+			assertThat(workout.getUpdatedAt()).isNotNull();
+			verify(calendarCache).workoutChanged(TEAM_ID, LocalDate.of(2025, 3, 10));
+			verify(calendarCache).workoutChanged(TEAM_ID, LocalDate.of(2025, 3, 12));
+			verify(jsonCache).workoutChanged(WORKOUT_ID);
+			verify(teamVersions).bump(TEAM_ID);
+			verify(workoutRepository, never()).delete(any());
+
+			// Carga da data antiga sai antes do patch, a da nova entra depois
+			InOrder load = inOrder(trainingLoadRepository, workoutPatcher);
+			load.verify(trainingLoadRepository).subtractWorkouts(List.of(WORKOUT_ID));
+			load.verify(workoutPatcher).apply(workout, patch);
+			load.verify(trainingLoadRepository).addWorkouts(List.of(WORKOUT_ID));
+		}
+
+	}
+
+	@Nested
+	class DeleteWorkout {
+
+		private final Schedule schedule = new Schedule(WORKOUT_ID, TEAM_ID, LocalDate.of(2025, 3, 10));
+
+		@Test
+		void whenWorkoutNotFound_throwsEntityNotFoundException() {
+			when(workoutRepository.findScheduleById(WORKOUT_ID)).thenReturn(Optional.empty());
+
+			assertThatThrownBy(() -> workoutService.deleteWorkout(WORKOUT_ID, accessAs(TeamRole.COACH))).isInstanceOf(
+					EntityNotFoundException.class).hasMessageContaining("Treino não encontrado");
+			verify(workoutRepository, never()).bulkDeleteById(any());
+		}
+
+		@Test
+		void whenUserNotMember_throwsUnauthorizedException() {
+			when(workoutRepository.findScheduleById(WORKOUT_ID)).thenReturn(Optional.of(schedule));
+
+			assertThatThrownBy(() -> workoutService.deleteWorkout(WORKOUT_ID, noAccess())).isInstanceOf(
+					UnauthorizedException.class).hasMessageContaining("não é membro");
+			verify(workoutRepository, never()).bulkDeleteById(any());
+		}
+
+		@Test
+		void whenUserIsAthlete_throwsUnauthorizedException() {
+			when(workoutRepository.findScheduleById(WORKOUT_ID)).thenReturn(Optional.of(schedule));
+
+			assertThatThrownBy(() -> workoutService.deleteWorkout(WORKOUT_ID, accessAs(TeamRole.ATHLETE))).isInstanceOf(
+					UnauthorizedException.class).hasMessageContaining("coaches e donos");
+			verify(workoutRepository, never()).bulkDeleteById(any());
+			verifyNoInteractions(calendarCache, teamVersions, trainingLoadRepository);
+		}
+
+		@Test
+		void whenUserIsCoach_deletesWorkoutWithoutLoadingIt() {
+			when(workoutRepository.findScheduleById(WORKOUT_ID)).thenReturn(Optional.of(schedule));
+
+			workoutService.deleteWorkout(WORKOUT_ID, accessAs(TeamRole.COACH));
+
+			verify(workoutRepository).bulkDeleteById(WORKOUT_ID);
+			verify(workoutRepository, never()).findById(any());
+			verify(workoutRepository, never()).delete(any());
+			verify(calendarCache).workoutChanged(TEAM_ID, schedule.getScheduledDate());
+			verify(jsonCache).workoutChanged(WORKOUT_ID);
+			verify(teamVersions).bump(TEAM_ID);
+
+			InOrder delete = inOrder(trainingLoadRepository, workoutRepository);
+			delete.verify(trainingLoadRepository).subtractWorkouts(List.of(WORKOUT_ID));
+			delete.verify(workoutRepository).bulkDeleteById(WORKOUT_ID);
 		}
 
 		@Test
 		void whenUserIsOwner_deletesWorkout() {
-			WorkoutEntity workout = workoutEntity();
-			when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workout));
-			when(teamMemberRepository.findByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(
-					Optional.of(memberOf(TeamRole.OWNER)));
+			when(workoutRepository.findScheduleById(WORKOUT_ID)).thenReturn(Optional.of(schedule));
 
-			workoutService.deleteWorkout(WORKOUT_ID, USER_ID);
+			workoutService.deleteWorkout(WORKOUT_ID, accessAs(TeamRole.OWNER));
 
-			verify(workoutRepository).delete(workout);
+			verify(workoutRepository).bulkDeleteById(WORKOUT_ID);
 		}
 
 	}
 
-}
\ No newline at end of file
+}
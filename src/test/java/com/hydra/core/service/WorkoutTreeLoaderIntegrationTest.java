@@ -0,0 +1,170 @@
+package com.hydra.core.service;
+
+import com.hydra.core.dtos.WorkoutDto;
+import com.hydra.core.entity.*;
+import com.hydra.core.enums.*;
+import com.hydra.core.factory.TestDataFactory;
+import com.hydra.core.mappers.WorkoutMapper;
+import com.hydra.core.models.WorkoutQuery;
+import com.hydra.core.repository.WorkoutRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TestDataFactory.class, WorkoutTreeLoader.class, WorkoutMapper.class })
+class WorkoutTreeLoaderIntegrationTest {
+
+	// Treinos (com time e criador), exercícios, séries, segmentos de corrida e sets de natação
+	private static final long EXPECTED_STATEMENTS = 5;
+
+	@Autowired
+	private WorkoutTreeLoader workoutTreeLoader;
+
+	@Autowired
+	private WorkoutRepository workoutRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TestDataFactory factory;
+
+	private Statistics statistics;
+	private UserEntity coach;
+	private ExerciseEntity squat;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+								  .getStatistics();
+
+		coach = entityManager.persist(factory.createUser());
+
+		squat = entityManager.persist(factory.createExercise());
+	}
+
+	private TeamEntity teamWithWorkouts(int workoutsPerModality) {
+		TeamEntity team = entityManager.persist(factory.createTeam(coach));
+
+		for (int i = 0; i < workoutsPerModality; i++) {
+			entityManager.persist(weightliftingWorkout(team, i));
+			entityManager.persist(runningWorkout(team, i));
+			entityManager.persist(swimmingWorkout(team, i));
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+		return team;
+	}
+
+	private WorkoutEntity baseWorkout(TeamEntity team, WorkoutModality modality, int day) {
+		return factory.createWorkout(team, coach, modality, LocalDate.of(2025, 1, 1).plusDays(day));
+	}
+
+	private WorkoutEntity weightliftingWorkout(TeamEntity team, int day) {
+		WorkoutEntity workout = baseWorkout(team, WorkoutModality.WEIGHTLIFTING, day);
+		factory.addExercise(workout, squat, 3, 10, BigDecimal.valueOf(60));
+		factory.addExercise(workout, squat, 3, 10, BigDecimal.valueOf(60));
+		return workout;
+	}
+
+	private WorkoutEntity runningWorkout(TeamEntity team, int day) {
+		WorkoutEntity workout = baseWorkout(team, WorkoutModality.RUNNING, day);
+		factory.addRunningSegment(workout, RunningSegmentType.CONTINUOUS, 5_000);
+		return workout;
+	}
+
+	private WorkoutEntity swimmingWorkout(TeamEntity team, int day) {
+		WorkoutEntity workout = baseWorkout(team, WorkoutModality.SWIMMING, day);
+		factory.addSwimmingSet(workout, 100, 4);
+		return workout;
+	}
+
+	// Primeira página do time, como na listagem; só a carga dos treinos e da árvore entra na contagem
+	private List<WorkoutDto> loadTeamWorkouts(TeamEntity team) {
+		WorkoutQuery query = new WorkoutQuery(team.getId(), null, null, null, null, null, null,
+				WorkoutQuery.MAX_LIMIT);
+		List<String> ids = workoutRepository.findTeamWorkoutIds(query, query.limit());
+		statistics.clear();
+
+		// O IN não preserva a ordem do keyset
+		Map<String, WorkoutEntity> byId = workoutRepository.findWithTeamAndCreatorByIdIn(ids).stream().collect(
+				Collectors.toMap(WorkoutEntity::getId, Function.identity()));
+		return workoutTreeLoader.toDtos(ids.stream().map(byId::get).toList());
+	}
+
+	@Test
+	@DisplayName("Should load the whole workout tree with a fixed number of statements")
+	void shouldLoadTreeWithFixedStatementCount() {
+		TeamEntity small = teamWithWorkouts(1);
+		TeamEntity large = teamWithWorkouts(100);
+
+		loadTeamWorkouts(small);
+		long smallStatements = statistics.getPrepareStatementCount();
+
+		List<WorkoutDto> workouts = loadTeamWorkouts(large);
+		long largeStatements = statistics.getPrepareStatementCount();
+
+		assertThat(workouts).hasSize(WorkoutQuery.MAX_LIMIT);
+		assertThat(smallStatements).isEqualTo(EXPECTED_STATEMENTS);
+		assertThat(largeStatements).isEqualTo(EXPECTED_STATEMENTS);
+	}
+
+	@Test
+	@DisplayName("Should assemble children in order under the right workout")
+	void shouldAssembleTree() {
+		TeamEntity team = teamWithWorkouts(2);
+
+		List<WorkoutDto> workouts = loadTeamWorkouts(team);
+
+		assertThat(workouts).extracting(WorkoutDto::scheduledDate).isSortedAccordingTo((a, b) -> b.compareTo(a));
+		assertThat(workouts).allSatisfy(workout -> {
+			assertThat(workout.teamName()).isEqualTo("Team Test");
+			assertThat(workout.createdByName()).isEqualTo("User Test");
+
+			switch (workout.modality()) {
+				case WEIGHTLIFTING -> {
+					assertThat(workout.exercises()).extracting(e -> e.orderIndex()).containsExactly(1, 2);
+					assertThat(workout.exercises()).allSatisfy(e -> {
+						assertThat(e.exerciseName()).isEqualTo("Agachamento");
+						assertThat(e.sets()).extracting(s -> s.setNumber()).containsExactly(1, 2, 3);
+					});
+				}
+				case RUNNING -> assertThat(workout.runningSegments()).hasSize(1);
+				case SWIMMING -> assertThat(workout.swimmingSets()).hasSize(1);
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("Should not query children when there are no workouts")
+	void shouldNotQueryWithoutWorkouts() {
+		statistics.clear();
+
+		assertThat(workoutTreeLoader.toDtos(List.of())).isEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+}
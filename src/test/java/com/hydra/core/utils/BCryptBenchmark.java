@@ -0,0 +1,67 @@
+package com.hydra.core.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o {@link BCrypt} otimizado com o jBCrypt original ({@link LegacyBCrypt}) em latência e alocação por
+ * operação (gc.alloc.rate.norm), com 1 e com 4 threads. Não roda com os testes; execute pela IDE ou com
+ * {@code mvn test-compile exec:java -Dexec.mainClass=com.hydra.core.utils.BCryptBenchmark
+ * -Dexec.classpathScope=test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+	private static final String PASSWORD = "senha-de-benchmark";
+
+	@Param({ "10", "12" })
+	int cost;
+
+	String hashed;
+
+	@Setup
+	public void setup() {
+		hashed = LegacyBCrypt.hashpw(PASSWORD, LegacyBCrypt.gensalt(cost));
+	}
+
+	@Benchmark
+	public boolean legacyCheckpw() {
+		return LegacyBCrypt.checkpw(PASSWORD, hashed);
+	}
+
+	@Benchmark
+	public boolean optimizedCheckpw() {
+		return BCrypt.checkpw(PASSWORD, hashed);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean legacyCheckpwContended() {
+		return LegacyBCrypt.checkpw(PASSWORD, hashed);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean optimizedCheckpwContended() {
+		return BCrypt.checkpw(PASSWORD, hashed);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(BCryptBenchmark.class.getSimpleName())
+											  .addProfiler(GCProfiler.class)
+											  .build();
+		new Runner(options).run();
+	}
+
+}
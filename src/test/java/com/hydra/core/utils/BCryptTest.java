@@ -0,0 +1,132 @@
+package com.hydra.core.utils;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BCryptTest {
+
+	@Nested
+	class KnownVectors {
+
+		@ParameterizedTest
+		@CsvSource({ "'', $2a$06$DCq7YPn5Rq63x1Lad4cll., $2a$06$DCq7YPn5Rq63x1Lad4cll.TV4S6ytwfsfvkgY8jIucDrjc8deX1s.",
+				"abc, $2a$06$If6bvum7DFjUnE9p2uDeDu, $2a$06$If6bvum7DFjUnE9p2uDeDu0YHzrHM6tf.iqN8.yx.jNN1ILEf7h0i" })
+		void hashpw_matchesReferenceHash(String password, String salt, String expected) {
+			assertThat(BCrypt.hashpw(password, salt)).isEqualTo(expected);
+			assertThat(BCrypt.checkpw(password, expected)).isTrue();
+		}
+
+	}
+
+	@Nested
+	class CompatibilityWithLegacy {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "a", "senha123", "sença", "😀 emoji", "\ud83d sem par", "~!@#$%^&*()      ~!@#$%^&*()",
+				"uma senha bem longa que passa de setenta e dois bytes e por isso é truncada pelo algoritmo" })
+		void hashpw_producesSameOutputAsLegacy(String password) {
+			String salt = BCrypt.gensalt(4);
+
+			assertThat(BCrypt.hashpw(password, salt)).isEqualTo(LegacyBCrypt.hashpw(password, salt));
+		}
+
+		@Test
+		void hashpw_producesSameOutputAsLegacy_forRandomPasswordsAndSalts() {
+			Random random = new Random(42);
+
+			for (int i = 0; i < 100; i++) {
+				String password = randomPassword(random);
+				String salt = i % 4 == 0 ? LegacyBCrypt.gensalt(4).replace("$2a$", "$2$") : BCrypt.gensalt(4 + i % 2);
+
+				assertThat(BCrypt.hashpw(password, salt)).as("senha #%d", i)
+														 .isEqualTo(LegacyBCrypt.hashpw(password, salt));
+			}
+		}
+
+		@Test
+		void checkpw_acceptsLegacyHashes() {
+			String hashed = LegacyBCrypt.hashpw("senha123", LegacyBCrypt.gensalt(4));
+
+			assertThat(BCrypt.checkpw("senha123", hashed)).isTrue();
+			assertThat(BCrypt.checkpw("senha124", hashed)).isFalse();
+		}
+
+		private String randomPassword(Random random) {
+			StringBuilder sb = new StringBuilder();
+			int length = 1 + random.nextInt(80);
+			for (int i = 0; i < length; i++) {
+				sb.append((char) (random.nextBoolean() ? 32 + random.nextInt(95) : random.nextInt(0x10000)));
+			}
+			return sb.toString();
+		}
+
+	}
+
+	@Nested
+	class Checkpw {
+
+		@Test
+		void returnsFalse_whenHashHasExtraCharacters() {
+			String hashed = BCrypt.hashpw("senha123", BCrypt.gensalt(4));
+
+			assertThat(BCrypt.checkpw("senha123", hashed + "x")).isFalse();
+		}
+
+		@Test
+		void throws_whenHashIsNotBcrypt() {
+			assertThatThrownBy(() -> BCrypt.checkpw("senha123", "$2b$04$abc")).isInstanceOf(
+					IllegalArgumentException.class);
+		}
+
+	}
+
+	@Nested
+	class Cost {
+
+		@ParameterizedTest
+		@CsvSource({ "$2a$04$abcdefghijklmnopqrstuv, 4", "$2a$12$, 12", "$2$10$DCq7YPn5Rq63x1Lad4cll., 10" })
+		void extractsLogRounds(String hashed, int expected) {
+			assertThat(BCrypt.cost(hashed)).isEqualTo(expected);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "", "plain-text", "$2b$10$abc", "$2a$1x$abc", "$2a$10abc" })
+		void returnsMinusOne_whenNotBcrypt(String hashed) {
+			assertThat(BCrypt.cost(hashed)).isEqualTo(-1);
+		}
+
+		@Test
+		void matchesGeneratedSalt() {
+			assertThat(BCrypt.cost(BCrypt.hashpw("senha", BCrypt.gensalt(5)))).isEqualTo(5);
+		}
+
+	}
+
+	@Nested
+	class Gensalt {
+
+		@Test
+		void encodesRoundsAndSalt() {
+			assertThat(BCrypt.gensalt(4)).hasSize(29).startsWith("$2a$04$");
+			assertThat(BCrypt.gensalt(12)).hasSize(29).startsWith("$2a$12$");
+		}
+
+		@Test
+		void rejectsInvalidRounds() {
+			String salt = BCrypt.gensalt(3);
+
+			assertThatThrownBy(() -> BCrypt.hashpw("senha", salt)).isInstanceOf(IllegalArgumentException.class)
+																  .hasMessage("Bad number of rounds");
+		}
+
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.hydra.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+	@Test
+	void mightContain_neverReturnsFalseForInsertedValues() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+		IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@test.com"));
+
+		assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i + "@test.com"));
+	}
+
+	@Test
+	void mightContain_keepsFalsePositiveRateNearConfigured() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+		long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("other" + i)).count();
+
+		assertThat(falsePositives).isLessThan(2_000);
+	}
+
+	@Test
+	void emptyFilter_containsNothing() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+
+		assertThat(filter.mightContain("anything")).isFalse();
+		assertThat(filter.mightContain("")).isFalse();
+	}
+
+	@Test
+	void sizesBitsAndHashFunctionsFromParameters() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+		// ~9.6 bits por elemento e 7 funções de hash para 1%
+		assertThat(filter.bitSize()).isBetween(9_585L, 9_585L + 64);
+		assertThat(filter.hashFunctions()).isEqualTo(7);
+	}
+
+	@Test
+	void rejectsInvalidParameters() {
+		assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new BloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.hydra.core.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionUtilsTest {
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void shouldThrowExceptionWhenInstantiating() {
+		assertThrows(IllegalStateException.class, TransactionUtils::new);
+	}
+
+	@Test
+	void afterCommit_withoutTransaction_runsImmediately() {
+		AtomicInteger runs = new AtomicInteger();
+
+		TransactionUtils.afterCommit(runs::incrementAndGet);
+
+		assertThat(runs.get()).isEqualTo(1);
+	}
+
+	@Test
+	void afterCommit_insideTransaction_waitsForCommit() {
+		AtomicInteger runs = new AtomicInteger();
+		TransactionSynchronizationManager.initSynchronization();
+
+		TransactionUtils.afterCommit(runs::incrementAndGet);
+		assertThat(runs.get()).isZero();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertThat(runs.get()).isEqualTo(1);
+	}
+
+	@Test
+	void afterCommit_insideRolledBackTransaction_neverRuns() {
+		AtomicInteger runs = new AtomicInteger();
+		TransactionSynchronizationManager.initSynchronization();
+
+		TransactionUtils.afterCommit(runs::incrementAndGet);
+		TransactionSynchronizationManager.getSynchronizations().forEach(
+				sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(runs.get()).isZero();
+	}
+
+}